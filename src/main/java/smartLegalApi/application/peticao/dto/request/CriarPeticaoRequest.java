@@ -31,5 +31,8 @@ public class CriarPeticaoRequest {
     @NotBlank(message = "Título é obrigatório")
     @Schema(description = "Título da petição", example = "Ação de Cobrança - Petição Inicial")
     private String titulo;
+    
+    @Schema(description = "Modelo do mesmo tipo para preencher a petição sem IA (opcional)", example = "1")
+    private Long idModelo;
 }
 
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
 
 @Data
 @Builder
@@ -20,5 +21,11 @@ public class GerarComIARequest {
     
     @Schema(description = "Detalhes adicionais", example = "Incluir fundamentos do CDC e jurisprudência recente")
     private String detalhesAdicionais;
+    
+    @Schema(description = "Ignora respostas em cache e gera um rascunho novo", example = "false")
+    private Boolean ignorarCache;
+    
+    @Schema(description = "Nível de latência: RAPIDA, PADRAO (automático) ou QUALIDADE", example = "PADRAO")
+    private NivelLatencia nivelLatencia;
 }
 
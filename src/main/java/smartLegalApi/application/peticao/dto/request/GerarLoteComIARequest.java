@@ -0,0 +1,48 @@
+package smartLegalApi.application.peticao.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para gerar um lote de petições com IA")
+public class GerarLoteComIARequest {
+    
+    @NotEmpty(message = "O lote deve conter ao menos uma petição")
+    @Valid
+    @Schema(description = "Petições a serem geradas")
+    private List<Item> itens;
+    
+    @Schema(description = "Ignora respostas em cache e gera rascunhos novos", example = "false")
+    private Boolean ignorarCache;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Petição do lote")
+    public static class Item {
+        
+        @NotNull(message = "ID da petição é obrigatório")
+        @Schema(description = "ID da petição", example = "1")
+        private Long idPeticao;
+        
+        @NotBlank(message = "Contexto é obrigatório")
+        @Schema(description = "Contexto do caso", example = "Consumidor cobrado por serviço não contratado...")
+        private String contexto;
+        
+        @Schema(description = "Detalhes adicionais", example = "Contestar com base no art. 42 do CDC")
+        private String detalhesAdicionais;
+    }
+}
@@ -0,0 +1,33 @@
+package smartLegalApi.application.peticao.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para criar ou atualizar modelo de petição")
+public class ModeloPeticaoRequest {
+    
+    @NotNull(message = "Tipo da petição é obrigatório")
+    @Schema(description = "Tipo de petição que o modelo preenche (não é alterado na atualização)", example = "MANIFESTACAO")
+    private TipoPeticao tipo;
+    
+    @NotBlank(message = "Nome é obrigatório")
+    @Size(max = 150, message = "Nome deve ter no máximo 150 caracteres")
+    @Schema(description = "Nome do modelo", example = "Juntada de documentos")
+    private String nome;
+    
+    @NotBlank(message = "Conteúdo é obrigatório")
+    @Schema(description = "Texto do modelo com campos entre chaves duplas",
+        example = "Processo nº {{processo.numero}}\n\n{{cliente.nome}}, já qualificado(a) nos autos...")
+    private String conteudo;
+}
@@ -0,0 +1,20 @@
+package smartLegalApi.application.peticao.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para regenerar uma seção da petição com IA")
+public class RegenerarSecaoRequest {
+    
+    @Size(max = 2000, message = "Orientações devem ter no máximo 2000 caracteres")
+    @Schema(description = "Orientações para a nova versão da seção", example = "Inclua a jurisprudência do STJ sobre o tema")
+    private String instrucoes;
+}
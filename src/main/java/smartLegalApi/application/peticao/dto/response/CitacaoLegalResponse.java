@@ -0,0 +1,35 @@
+package smartLegalApi.application.peticao.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.infrastructure.ai.citacoes.SituacaoCitacao;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Artigo de lei citado no conteúdo de uma petição")
+public class CitacaoLegalResponse {
+    
+    @Schema(description = "Posição do número do artigo no conteúdo", example = "1532")
+    private Integer inicio;
+    
+    @Schema(description = "Posição logo após o número do artigo", example = "1535")
+    private Integer fim;
+    
+    @Schema(description = "Lei citada", example = "CPC")
+    private String lei;
+    
+    @Schema(description = "Artigo citado", example = "319")
+    private String artigo;
+    
+    @Schema(description = "Situação do artigo no índice de legislação", example = "VALIDA")
+    private SituacaoCitacao situacao;
+    
+    @Schema(description = "Endereço do artigo no texto oficial (nulo se o artigo não existe)",
+        example = "https://www.planalto.gov.br/ccivil_03/_ato2015-2018/2015/lei/l13105.htm#art319")
+    private String url;
+}
@@ -0,0 +1,52 @@
+package smartLegalApi.application.peticao.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resposta com o andamento de um job de geração com IA")
+public class JobGeracaoIAResponse {
+    
+    @Schema(description = "ID do job", example = "42")
+    private Long id;
+    
+    @Schema(description = "ID do lote, quando o job foi enviado em lote", example = "3f2b8c1e-7a4d-4c5e-9b1a-2d6e8f0a1b2c")
+    private String idLote;
+    
+    @Schema(description = "ID da petição", example = "1")
+    private Long idPeticao;
+    
+    @Schema(description = "Indica se a geração ignora respostas em cache", example = "false")
+    private Boolean ignorarCache;
+    
+    @Schema(description = "Nível de latência solicitado", example = "PADRAO")
+    private NivelLatencia nivelLatencia;
+    
+    @Schema(description = "Status do job", example = "PENDENTE")
+    private StatusJobGeracao status;
+    
+    @Schema(description = "Número de tentativas de execução", example = "1")
+    private Integer tentativas;
+    
+    @Schema(description = "Mensagem de erro, quando o job falha")
+    private String mensagemErro;
+    
+    @Schema(description = "Data de enfileiramento", example = "2024-01-15T10:30:00")
+    private LocalDateTime dataCriacao;
+    
+    @Schema(description = "Data de início da execução", example = "2024-01-15T10:30:02")
+    private LocalDateTime dataInicio;
+    
+    @Schema(description = "Data de conclusão", example = "2024-01-15T10:30:40")
+    private LocalDateTime dataConclusao;
+}
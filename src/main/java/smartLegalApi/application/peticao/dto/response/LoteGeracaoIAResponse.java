@@ -0,0 +1,61 @@
+package smartLegalApi.application.peticao.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resposta com o progresso de um lote de gerações com IA")
+public class LoteGeracaoIAResponse {
+    
+    @Schema(description = "ID do lote", example = "3f2b8c1e-7a4d-4c5e-9b1a-2d6e8f0a1b2c")
+    private String id;
+    
+    @Schema(description = "Número de jobs do lote", example = "30")
+    private Integer total;
+    
+    @Schema(description = "Jobs aguardando execução", example = "20")
+    private Long pendentes;
+    
+    @Schema(description = "Jobs em execução", example = "2")
+    private Long executando;
+    
+    @Schema(description = "Jobs concluídos", example = "7")
+    private Long concluidos;
+    
+    @Schema(description = "Jobs que falharam", example = "1")
+    private Long falhas;
+    
+    @Schema(description = "Jobs cancelados", example = "0")
+    private Long cancelados;
+    
+    @Schema(description = "Indica se todos os jobs do lote terminaram", example = "false")
+    private Boolean finalizado;
+    
+    @Schema(description = "Andamento de cada petição do lote")
+    private List<JobGeracaoIAResponse> jobs;
+    
+    @Schema(description = "Petições recusadas no envio do lote")
+    private List<ItemRejeitado> rejeitados;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Petição recusada no envio do lote")
+    public static class ItemRejeitado {
+        
+        @Schema(description = "ID da petição", example = "5")
+        private Long idPeticao;
+        
+        @Schema(description = "Motivo da recusa", example = "Já existe uma geração em andamento para a petição 5")
+        private String motivo;
+    }
+}
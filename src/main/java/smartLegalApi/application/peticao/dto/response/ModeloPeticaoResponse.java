@@ -0,0 +1,36 @@
+package smartLegalApi.application.peticao.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resposta com dados do modelo de petição")
+public class ModeloPeticaoResponse {
+    
+    @Schema(description = "ID do modelo", example = "1")
+    private Long id;
+    
+    @Schema(description = "Tipo de petição que o modelo preenche", example = "MANIFESTACAO")
+    private TipoPeticao tipo;
+    
+    @Schema(description = "Nome do modelo", example = "Juntada de documentos")
+    private String nome;
+    
+    @Schema(description = "Texto do modelo com campos entre chaves duplas")
+    private String conteudo;
+    
+    @Schema(description = "Data de criação", example = "2024-01-15T14:30:00")
+    private LocalDateTime dataCriacao;
+    
+    @Schema(description = "Data da última alteração", example = "2024-01-15T14:35:00")
+    private LocalDateTime dataAtualizacao;
+}
@@ -47,12 +47,21 @@ public class PeticaoResponse {
     @Schema(description = "Caminho do documento gerado", example = "./uploads/peticoes/peticao_1_20240115.docx")
     private String caminhoDocumento;
     
+    @Schema(description = "Citações de lei do conteúdo com artigo inexistente ou revogado (detalhes em GET /api/peticoes/{id}/citacoes)", example = "0")
+    private Integer citacoesInvalidas;
+    
     @Schema(description = "Data de criação", example = "2024-01-15T10:30:00")
     private LocalDateTime dataCriacao;
     
     @Schema(description = "Data da última atualização", example = "2024-01-15T14:45:00")
     private LocalDateTime dataAtualizacao;
     
+    @Schema(description = "Data da solicitação de protocolo; o documento é gerado em segundo plano até a data do protocolo", example = "2024-01-16T08:59:58")
+    private LocalDateTime dataSolicitacaoProtocolo;
+    
+    @Schema(description = "Falhas na geração do documento de protocolo; esgotadas as tentativas, a solicitação é cancelada", example = "0")
+    private Integer tentativasProtocolo;
+    
     @Schema(description = "Data do protocolo", example = "2024-01-16T09:00:00")
     private LocalDateTime dataProtocolo;
 }
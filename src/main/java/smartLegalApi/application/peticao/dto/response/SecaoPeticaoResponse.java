@@ -0,0 +1,24 @@
+package smartLegalApi.application.peticao.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Seção do conteúdo de uma petição")
+public class SecaoPeticaoResponse {
+    
+    @Schema(description = "Índice da seção, usado na regeneração", example = "2")
+    private Integer indice;
+    
+    @Schema(description = "Título da seção (nulo para o texto antes do primeiro título)", example = "DOS FATOS")
+    private String titulo;
+    
+    @Schema(description = "Texto da seção, incluindo o título")
+    private String texto;
+}
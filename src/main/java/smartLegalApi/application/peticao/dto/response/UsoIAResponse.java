@@ -0,0 +1,41 @@
+package smartLegalApi.application.peticao.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Consumo da IA de um advogado no dia e no mês corrente")
+public class UsoIAResponse {
+    
+    @Schema(description = "ID do advogado", example = "1")
+    private Long idAdvogado;
+    
+    @Schema(description = "Dia de referência", example = "2026-10-18")
+    private LocalDate data;
+    
+    @Schema(description = "Chamadas ao provedor no dia (respostas em cache não contam)", example = "12")
+    private Long requisicoesDia;
+    
+    @Schema(description = "Tokens (entrada + saída) consumidos no dia", example = "48000")
+    private Long tokensDia;
+    
+    @Schema(description = "Tokens (entrada + saída) consumidos no mês", example = "730000")
+    private Long tokensMes;
+    
+    @Schema(description = "Cota diária de chamadas (0 = sem cota)", example = "300")
+    private Long cotaRequisicoesDiaria;
+    
+    @Schema(description = "Cota diária de tokens (0 = sem cota)", example = "200000")
+    private Long cotaTokensDiaria;
+    
+    @Schema(description = "Cota mensal de tokens (0 = sem cota)", example = "3000000")
+    private Long cotaTokensMensal;
+}
@@ -0,0 +1,8 @@
+package smartLegalApi.application.peticao.event;
+
+/**
+ * Evento publicado quando um job de geração com IA é gravado na fila
+ * Consumido após o commit da transação para despachar o job aos workers
+ */
+public record JobGeracaoIAEnfileiradoEvent(Long idJob) {
+}
@@ -0,0 +1,8 @@
+package smartLegalApi.application.peticao.event;
+
+/**
+ * Evento publicado quando um lote de gerações com IA é gravado na fila
+ * Consumido após o commit da transação para despachar os jobs do lote aos workers
+ */
+public record LoteGeracaoIAEnfileiradoEvent(String idLote) {
+}
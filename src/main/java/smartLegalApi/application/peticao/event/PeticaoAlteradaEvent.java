@@ -0,0 +1,10 @@
+package smartLegalApi.application.peticao.event;
+
+import smartLegalApi.domain.peticao.entity.Peticao;
+
+/**
+ * Evento publicado quando o status ou o conteúdo de uma petição muda (aprovação, protocolo, edição)
+ * Consumido após o commit da transação para atualizar o índice de referências
+ */
+public record PeticaoAlteradaEvent(Peticao peticao) {
+}
@@ -0,0 +1,8 @@
+package smartLegalApi.application.peticao.event;
+
+/**
+ * Evento publicado quando uma petição é aprovada
+ * Consumido após o commit da transação para pré-renderizar o documento do protocolo
+ */
+public record PeticaoAprovadaEvent(Long idPeticao) {
+}
@@ -0,0 +1,8 @@
+package smartLegalApi.application.peticao.event;
+
+/**
+ * Evento publicado quando uma petição é excluída
+ * Consumido após o commit da transação para retirá-la do índice de referências
+ */
+public record PeticaoExcluidaEvent(Long idPeticao) {
+}
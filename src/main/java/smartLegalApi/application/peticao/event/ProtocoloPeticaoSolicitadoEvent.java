@@ -0,0 +1,8 @@
+package smartLegalApi.application.peticao.event;
+
+/**
+ * Evento publicado quando o protocolo de uma petição é solicitado
+ * Consumido após o commit da transação para gerar o documento em segundo plano
+ */
+public record ProtocoloPeticaoSolicitadoEvent(Long idPeticao) {
+}
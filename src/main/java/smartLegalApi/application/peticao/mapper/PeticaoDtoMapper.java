@@ -1,8 +1,23 @@
 package smartLegalApi.application.peticao.mapper;
 
 import org.springframework.stereotype.Component;
+import smartLegalApi.application.peticao.dto.response.CitacaoLegalResponse;
+import smartLegalApi.application.peticao.dto.response.JobGeracaoIAResponse;
+import smartLegalApi.application.peticao.dto.response.LoteGeracaoIAResponse;
+import smartLegalApi.application.peticao.dto.response.ModeloPeticaoResponse;
 import smartLegalApi.application.peticao.dto.response.PeticaoResponse;
+import smartLegalApi.application.peticao.dto.response.SecaoPeticaoResponse;
+import smartLegalApi.application.peticao.dto.response.UsoIAResponse;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.LoteGeracaoIA;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
 import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.valueobject.SecaoPeticao;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.infrastructure.ai.citacoes.CitacaoLegal;
+import smartLegalApi.infrastructure.ai.uso.ConsumoIA;
+
+import java.util.stream.Collectors;
 
 /**
  * Mapper entre entidade de domínio Petição e DTOs
@@ -24,10 +39,105 @@ public class PeticaoDtoMapper {
             .promptUtilizado(peticao.getPromptUtilizado())
             .status(peticao.getStatus())
             .caminhoDocumento(peticao.getCaminhoDocumento())
+            .citacoesInvalidas(peticao.getCitacoesInvalidas())
             .dataCriacao(peticao.getDataCriacao())
             .dataAtualizacao(peticao.getDataAtualizacao())
+            .dataSolicitacaoProtocolo(peticao.getDataSolicitacaoProtocolo())
+            .tentativasProtocolo(peticao.getTentativasProtocolo())
             .dataProtocolo(peticao.getDataProtocolo())
             .build();
     }
+    
+    public JobGeracaoIAResponse toResponse(JobGeracaoIA job) {
+        if (job == null) return null;
+        
+        return JobGeracaoIAResponse.builder()
+            .id(job.getId())
+            .idLote(job.getIdLote())
+            .idPeticao(job.getIdPeticao())
+            .ignorarCache(job.isIgnorarCache())
+            .nivelLatencia(job.getNivelLatencia())
+            .status(job.getStatus())
+            .tentativas(job.getTentativas())
+            .mensagemErro(job.getMensagemErro())
+            .dataCriacao(job.getDataCriacao())
+            .dataInicio(job.getDataInicio())
+            .dataConclusao(job.getDataConclusao())
+            .build();
+    }
+    
+    public LoteGeracaoIAResponse toResponse(LoteGeracaoIA lote) {
+        if (lote == null) return null;
+        
+        return LoteGeracaoIAResponse.builder()
+            .id(lote.getId())
+            .total(lote.getJobs().size())
+            .pendentes(lote.contar(StatusJobGeracao.PENDENTE))
+            .executando(lote.contar(StatusJobGeracao.EXECUTANDO))
+            .concluidos(lote.contar(StatusJobGeracao.CONCLUIDO))
+            .falhas(lote.contar(StatusJobGeracao.FALHOU))
+            .cancelados(lote.contar(StatusJobGeracao.CANCELADO))
+            .finalizado(lote.isFinalizado())
+            .jobs(lote.getJobs().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()))
+            .rejeitados(lote.getRejeitados().entrySet().stream()
+                .map(rejeitado -> LoteGeracaoIAResponse.ItemRejeitado.builder()
+                    .idPeticao(rejeitado.getKey())
+                    .motivo(rejeitado.getValue())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+    
+    public SecaoPeticaoResponse toResponse(SecaoPeticao secao) {
+        if (secao == null) return null;
+        
+        return SecaoPeticaoResponse.builder()
+            .indice(secao.indice())
+            .titulo(secao.titulo())
+            .texto(secao.texto())
+            .build();
+    }
+    
+    public CitacaoLegalResponse toResponse(CitacaoLegal citacao) {
+        if (citacao == null) return null;
+        
+        return CitacaoLegalResponse.builder()
+            .inicio(citacao.inicio())
+            .fim(citacao.fim())
+            .lei(citacao.lei())
+            .artigo(citacao.artigo())
+            .situacao(citacao.situacao())
+            .url(citacao.url())
+            .build();
+    }
+    
+    public ModeloPeticaoResponse toResponse(ModeloPeticao modelo) {
+        if (modelo == null) return null;
+        
+        return ModeloPeticaoResponse.builder()
+            .id(modelo.getId())
+            .tipo(modelo.getTipo())
+            .nome(modelo.getNome())
+            .conteudo(modelo.getConteudo())
+            .dataCriacao(modelo.getDataCriacao())
+            .dataAtualizacao(modelo.getDataAtualizacao())
+            .build();
+    }
+    
+    public UsoIAResponse toResponse(ConsumoIA consumo) {
+        if (consumo == null) return null;
+        
+        return UsoIAResponse.builder()
+            .idAdvogado(consumo.idAdvogado())
+            .data(consumo.data())
+            .requisicoesDia(consumo.requisicoesDia())
+            .tokensDia(consumo.tokensDia())
+            .tokensMes(consumo.tokensMes())
+            .cotaRequisicoesDiaria(consumo.cotaRequisicoesDiaria())
+            .cotaTokensDiaria(consumo.cotaTokensDiaria())
+            .cotaTokensMensal(consumo.cotaTokensMensal())
+            .build();
+    }
 }
-
@@ -2,8 +2,11 @@ package smartLegalApi.application.peticao.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.PeticaoAlteradaEvent;
+import smartLegalApi.application.peticao.event.PeticaoAprovadaEvent;
 import smartLegalApi.domain.peticao.entity.Peticao;
 import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
 import smartLegalApi.domain.peticao.repository.PeticaoRepository;
@@ -17,6 +20,7 @@ import smartLegalApi.domain.peticao.repository.PeticaoRepository;
 public class AprovarPeticaoUseCase {
     
     private final PeticaoRepository peticaoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Peticao executar(Long idPeticao) {
@@ -28,6 +32,8 @@ public class AprovarPeticaoUseCase {
         peticao.aprovar();
         
         Peticao updated = peticaoRepository.update(peticao);
+        eventPublisher.publishEvent(new PeticaoAlteradaEvent(updated));
+        eventPublisher.publishEvent(new PeticaoAprovadaEvent(updated.getId()));
         log.info("Petição aprovada com sucesso. ID: {}", idPeticao);
         
         return updated;
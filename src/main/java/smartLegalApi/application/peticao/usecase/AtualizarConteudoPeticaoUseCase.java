@@ -2,11 +2,14 @@ package smartLegalApi.application.peticao.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.PeticaoAlteradaEvent;
 import smartLegalApi.domain.peticao.entity.Peticao;
 import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
 import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.infrastructure.ai.citacoes.VerificadorCitacoes;
 
 /**
  * Caso de uso: Atualizar Conteúdo da Petição
@@ -17,6 +20,8 @@ import smartLegalApi.domain.peticao.repository.PeticaoRepository;
 public class AtualizarConteudoPeticaoUseCase {
     
     private final PeticaoRepository peticaoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VerificadorCitacoes verificadorCitacoes;
     
     @Transactional
     public Peticao executar(Long idPeticao, String novoConteudo) {
@@ -26,8 +31,10 @@ public class AtualizarConteudoPeticaoUseCase {
             .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
         
         peticao.atualizarConteudo(novoConteudo);
+        peticao.registrarVerificacaoCitacoes(verificadorCitacoes.contarInvalidas(novoConteudo));
         
         Peticao updated = peticaoRepository.update(peticao);
+        eventPublisher.publishEvent(new PeticaoAlteradaEvent(updated));
         log.info("Conteúdo atualizado com sucesso. ID: {}", idPeticao);
         
         return updated;
@@ -0,0 +1,38 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.exception.ModeloPeticaoNaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.ModeloPeticaoRepository;
+import smartLegalApi.infrastructure.document.modelo.MotorModelosPeticao;
+
+/**
+ * Caso de uso: Atualizar Modelo de Petição
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AtualizarModeloPeticaoUseCase {
+    
+    private final ModeloPeticaoRepository modeloRepository;
+    private final MotorModelosPeticao motorModelos;
+    
+    @Transactional
+    public ModeloPeticao executar(Long id, String nome, String conteudo) {
+        log.info("Atualizando modelo de petição ID: {}", id);
+        
+        ModeloPeticao modelo = modeloRepository.findById(id)
+            .orElseThrow(() -> new ModeloPeticaoNaoEncontradoException(id));
+        
+        modelo.atualizar(nome, conteudo);
+        motorModelos.validar(conteudo);
+        
+        ModeloPeticao updated = modeloRepository.update(modelo);
+        log.info("Modelo de petição atualizado com sucesso. ID: {}", id);
+        
+        return updated;
+    }
+}
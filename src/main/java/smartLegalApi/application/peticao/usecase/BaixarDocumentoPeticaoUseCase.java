@@ -0,0 +1,36 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.infrastructure.document.service.DocumentoPeticao;
+import smartLegalApi.infrastructure.document.service.DocumentoWordService;
+
+/**
+ * Caso de uso: Baixar o Documento Word da Petição
+ * 
+ * Petições protocoladas servem o arquivo gravado no protocolo; as demais têm o documento
+ * gerado diretamente na resposta.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BaixarDocumentoPeticaoUseCase {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final DocumentoWordService documentoWordService;
+    
+    @Transactional(readOnly = true)
+    public DocumentoPeticao executar(Long idPeticao) {
+        log.info("Baixando documento da petição ID: {}", idPeticao);
+        
+        Peticao peticao = peticaoRepository.findById(idPeticao)
+            .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
+        
+        return documentoWordService.abrirDocumento(peticao);
+    }
+}
@@ -0,0 +1,28 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.exception.JobGeracaoIANaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+
+/**
+ * Caso de uso: Buscar Job de geração com IA por ID
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BuscarJobGeracaoIAUseCase {
+    
+    private final JobGeracaoIARepository jobRepository;
+    
+    @Transactional(readOnly = true)
+    public JobGeracaoIA executar(Long idJob) {
+        log.debug("Buscando job de geração ID: {}", idJob);
+        
+        return jobRepository.findById(idJob)
+            .orElseThrow(() -> new JobGeracaoIANaoEncontradoException(idJob));
+    }
+}
@@ -0,0 +1,34 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.LoteGeracaoIA;
+import smartLegalApi.domain.peticao.exception.LoteGeracaoIANaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+
+import java.util.List;
+
+/**
+ * Caso de uso: Buscar Lote de geração com IA (progresso por petição)
+ */
+@Service
+@RequiredArgsConstructor
+public class BuscarLoteGeracaoIAUseCase {
+    
+    private final JobGeracaoIARepository jobRepository;
+    
+    @Transactional(readOnly = true)
+    public LoteGeracaoIA executar(String idLote) {
+        List<JobGeracaoIA> jobs = jobRepository.findByLote(idLote);
+        if (jobs.isEmpty()) {
+            throw new LoteGeracaoIANaoEncontradoException(idLote);
+        }
+        
+        return LoteGeracaoIA.builder()
+            .id(idLote)
+            .jobs(jobs)
+            .build();
+    }
+}
@@ -0,0 +1,36 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.exception.JobGeracaoIANaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+
+/**
+ * Caso de uso: Cancelar Job de geração com IA
+ * Jobs pendentes não chegam a ser executados; jobs em execução têm o resultado descartado
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CancelarJobGeracaoIAUseCase {
+    
+    private final JobGeracaoIARepository jobRepository;
+    
+    @Transactional
+    public JobGeracaoIA executar(Long idJob) {
+        log.info("Cancelando job de geração ID: {}", idJob);
+        
+        JobGeracaoIA job = jobRepository.findByIdComTrava(idJob)
+            .orElseThrow(() -> new JobGeracaoIANaoEncontradoException(idJob));
+        
+        job.cancelar();
+        
+        JobGeracaoIA updated = jobRepository.update(job);
+        log.info("Job de geração cancelado. ID: {}", idJob);
+        
+        return updated;
+    }
+}
@@ -0,0 +1,50 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.LoteGeracaoIA;
+import smartLegalApi.domain.peticao.exception.LoteGeracaoIANaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso: Cancelar Lote de geração com IA
+ * Cancela os jobs ainda ativos do lote; os já finalizados permanecem como estão
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CancelarLoteGeracaoIAUseCase {
+    
+    private final JobGeracaoIARepository jobRepository;
+    
+    @Transactional
+    public LoteGeracaoIA executar(String idLote) {
+        log.info("Cancelando lote de geração: {}", idLote);
+        
+        List<JobGeracaoIA> jobs = jobRepository.findByLote(idLote);
+        if (jobs.isEmpty()) {
+            throw new LoteGeracaoIANaoEncontradoException(idLote);
+        }
+        
+        List<JobGeracaoIA> atualizados = jobs.stream()
+            .map(job -> {
+                if (!job.getStatus().isAtivo()) {
+                    return job;
+                }
+                job.cancelar();
+                return jobRepository.update(job);
+            })
+            .collect(Collectors.toList());
+        
+        return LoteGeracaoIA.builder()
+            .id(idLote)
+            .jobs(atualizados)
+            .build();
+    }
+}
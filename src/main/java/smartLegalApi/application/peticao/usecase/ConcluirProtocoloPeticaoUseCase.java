@@ -0,0 +1,80 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.PeticaoAlteradaEvent;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+
+import java.util.Objects;
+
+/**
+ * Caso de uso: Concluir Protocolo da Petição com o documento já gerado
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConcluirProtocoloPeticaoUseCase {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Marca a petição como protocolada com o documento gerado a partir de {@code renderizada}.
+     * Retorna false, sem alterar a petição, se o protocolo não estiver mais pendente ou se o
+     * conteúdo mudou durante a geração; nesse caso o documento deve ser descartado
+     */
+    @Transactional
+    public boolean executar(Peticao renderizada, String caminhoDocumento) {
+        Peticao peticao = peticaoRepository.findById(renderizada.getId()).orElse(null);
+        if (peticao == null || !peticao.isProtocoloPendente()) {
+            log.info("Protocolo da petição ID: {} não está mais pendente. Documento descartado", renderizada.getId());
+            return false;
+        }
+        
+        if (!isMesmoDocumento(peticao, renderizada)) {
+            log.info("Petição ID: {} alterada durante a geração do documento. Gerando novamente", peticao.getId());
+            return false;
+        }
+        
+        peticao.protocolar(caminhoDocumento);
+        
+        Peticao updated = peticaoRepository.update(peticao);
+        eventPublisher.publishEvent(new PeticaoAlteradaEvent(updated));
+        log.info("Petição protocolada com sucesso. ID: {}, Documento: {}", peticao.getId(), caminhoDocumento);
+        
+        return true;
+    }
+    
+    /**
+     * Registra uma falha na geração do documento; retorna true se as tentativas se esgotaram
+     * e a solicitação de protocolo foi cancelada
+     */
+    @Transactional
+    public boolean registrarFalha(Long idPeticao, int maximoTentativas) {
+        Peticao peticao = peticaoRepository.findById(idPeticao).orElse(null);
+        if (peticao == null || !peticao.isProtocoloPendente()) {
+            return false;
+        }
+        
+        boolean esgotado = peticao.registrarFalhaProtocolo(maximoTentativas);
+        Peticao updated = peticaoRepository.update(peticao);
+        if (esgotado) {
+            eventPublisher.publishEvent(new PeticaoAlteradaEvent(updated));
+            log.error("Protocolo da petição ID: {} cancelado após {} falhas na geração do documento",
+                idPeticao, peticao.getTentativasProtocolo());
+        }
+        
+        return esgotado;
+    }
+    
+    private static boolean isMesmoDocumento(Peticao atual, Peticao renderizada) {
+        return Objects.equals(atual.getTitulo(), renderizada.getTitulo())
+            && atual.getTipo() == renderizada.getTipo()
+            && Objects.equals(atual.getConteudo(), renderizada.getConteudo())
+            && (atual.getConteudoGeradoIA() != null) == (renderizada.getConteudoGeradoIA() != null);
+    }
+}
@@ -0,0 +1,31 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.advogado.exception.AdvogadoNaoEncontradoException;
+import smartLegalApi.domain.advogado.repository.AdvogadoRepository;
+import smartLegalApi.infrastructure.ai.uso.ConsumoIA;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+
+/**
+ * Caso de uso: Consultar o consumo da IA de um advogado
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConsultarUsoIAUseCase {
+    
+    private final AdvogadoRepository advogadoRepository;
+    private final ContabilizadorUsoIA contabilizadorUso;
+    
+    public ConsumoIA executar(Long idAdvogado) {
+        log.debug("Consultando consumo da IA do advogado ID: {}", idAdvogado);
+        
+        if (advogadoRepository.findById(idAdvogado).isEmpty()) {
+            throw new AdvogadoNaoEncontradoException(idAdvogado);
+        }
+        
+        return contabilizadorUso.consultar(idAdvogado);
+    }
+}
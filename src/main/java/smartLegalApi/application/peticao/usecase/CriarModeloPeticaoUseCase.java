@@ -0,0 +1,37 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.repository.ModeloPeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.modelo.MotorModelosPeticao;
+
+/**
+ * Caso de uso: Criar Modelo de Petição
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CriarModeloPeticaoUseCase {
+    
+    private final ModeloPeticaoRepository modeloRepository;
+    private final MotorModelosPeticao motorModelos;
+    
+    @Transactional
+    public ModeloPeticao executar(TipoPeticao tipo, String nome, String conteudo) {
+        log.info("Criando modelo de petição: {} ({})", nome, tipo);
+        
+        ModeloPeticao modelo = ModeloPeticao.criar(tipo, nome, conteudo);
+        
+        // Campos desconhecidos são recusados aqui, não no preenchimento
+        motorModelos.validar(conteudo);
+        
+        ModeloPeticao saved = modeloRepository.save(modelo);
+        log.info("Modelo de petição criado com sucesso. ID: {}", saved.getId());
+        
+        return saved;
+    }
+}
@@ -12,7 +12,7 @@ import smartLegalApi.domain.processo.repository.ProcessoRepository;
 import smartLegalApi.domain.shared.exception.NotFoundException;
 
 /**
- * Caso de uso: Criar Petição
+ * Caso de uso: Criar Petição, em rascunho ou já preenchida com um modelo
  */
 @Service
 @RequiredArgsConstructor
@@ -22,9 +22,15 @@ public class CriarPeticaoUseCase {
     private final PeticaoRepository peticaoRepository;
     private final ProcessoRepository processoRepository;
     private final AdvogadoRepository advogadoRepository;
+    private final PreencherPeticaoComModeloUseCase preencherComModeloUseCase;
     
     @Transactional
     public Peticao executar(Long idProcesso, Long idAdvogado, TipoPeticao tipo, String titulo) {
+        return executar(idProcesso, idAdvogado, tipo, titulo, null);
+    }
+    
+    @Transactional
+    public Peticao executar(Long idProcesso, Long idAdvogado, TipoPeticao tipo, String titulo, Long idModelo) {
         log.info("Criando petição para processo ID: {}", idProcesso);
         
         // Valida processo existe
@@ -41,6 +47,10 @@ public class CriarPeticaoUseCase {
         Peticao saved = peticaoRepository.save(peticao);
         log.info("Petição criada com sucesso. ID: {}", saved.getId());
         
+        if (idModelo != null) {
+            return preencherComModeloUseCase.executar(saved.getId(), idModelo);
+        }
+        
         return saved;
     }
 }
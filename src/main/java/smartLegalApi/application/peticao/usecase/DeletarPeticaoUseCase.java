@@ -2,8 +2,10 @@ package smartLegalApi.application.peticao.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.PeticaoExcluidaEvent;
 import smartLegalApi.domain.peticao.entity.Peticao;
 import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
 import smartLegalApi.domain.peticao.repository.PeticaoRepository;
@@ -19,6 +21,7 @@ public class DeletarPeticaoUseCase {
     
     private final PeticaoRepository peticaoRepository;
     private final DocumentoWordService documentoWordService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public void executar(Long idPeticao) {
@@ -33,6 +36,7 @@ public class DeletarPeticaoUseCase {
         }
         
         peticaoRepository.deleteById(idPeticao);
+        eventPublisher.publishEvent(new PeticaoExcluidaEvent(idPeticao));
         log.info("Petição deletada com sucesso. ID: {}", idPeticao);
     }
 }
@@ -0,0 +1,36 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.exception.ModeloPeticaoNaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.ModeloPeticaoRepository;
+import smartLegalApi.infrastructure.document.modelo.MotorModelosPeticao;
+
+/**
+ * Caso de uso: Desativar Modelo de Petição
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DesativarModeloPeticaoUseCase {
+    
+    private final ModeloPeticaoRepository modeloRepository;
+    private final MotorModelosPeticao motorModelos;
+    
+    @Transactional
+    public void executar(Long id) {
+        log.info("Desativando modelo de petição ID: {}", id);
+        
+        ModeloPeticao modelo = modeloRepository.findById(id)
+            .orElseThrow(() -> new ModeloPeticaoNaoEncontradoException(id));
+        
+        modelo.desativar();
+        modeloRepository.update(modelo);
+        motorModelos.descartar(id);
+        
+        log.info("Modelo de petição desativado com sucesso. ID: {}", id);
+    }
+}
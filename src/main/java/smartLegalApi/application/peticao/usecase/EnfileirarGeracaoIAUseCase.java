@@ -0,0 +1,91 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.JobGeracaoIAEnfileiradoEvent;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.FilaGeracaoIACheiaException;
+import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+
+/**
+ * Caso de uso: Enfileirar geração de petição com IA
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnfileirarGeracaoIAUseCase {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final JobGeracaoIARepository jobRepository;
+    private final GeminiProperties geminiProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContabilizadorUsoIA contabilizadorUso;
+    
+    @Transactional
+    public JobGeracaoIA executar(Long idPeticao, String contexto, String detalhesAdicionais,
+                                 boolean ignorarCache) {
+        return executar(idPeticao, contexto, detalhesAdicionais, ignorarCache, NivelLatencia.PADRAO);
+    }
+    
+    @Transactional
+    public JobGeracaoIA executar(Long idPeticao, String contexto, String detalhesAdicionais,
+                                 boolean ignorarCache, NivelLatencia nivelLatencia) {
+        log.info("Enfileirando geração com IA para petição ID: {}", idPeticao);
+        
+        validarPeticao(idPeticao);
+        validarCapacidade(1);
+        
+        JobGeracaoIA novoJob = JobGeracaoIA.criar(idPeticao, contexto, detalhesAdicionais, ignorarCache);
+        if (nivelLatencia != null) {
+            novoJob.setNivelLatencia(nivelLatencia);
+        }
+        JobGeracaoIA job = jobRepository.save(novoJob);
+        
+        // Despachado aos workers somente após o commit
+        eventPublisher.publishEvent(new JobGeracaoIAEnfileiradoEvent(job.getId()));
+        
+        log.info("Job de geração enfileirado. Job ID: {}, Petição ID: {}", job.getId(), idPeticao);
+        return job;
+    }
+    
+    /**
+     * Verifica se a petição existe, está em rascunho ou revisão, não possui geração em andamento
+     * e se o advogado ainda tem cota de uso da IA. A petição fica travada até o fim da transação,
+     * de modo que duas requisições concorrentes não passam ambas pela verificação
+     */
+    public void validarPeticao(Long idPeticao) {
+        Peticao peticao = peticaoRepository.findByIdComTrava(idPeticao)
+            .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
+        
+        if (peticao.getStatus() != StatusPeticao.RASCUNHO && peticao.getStatus() != StatusPeticao.REVISAO) {
+            throw new BusinessRuleException("Só é possível gerar IA para petições em rascunho ou revisão");
+        }
+        
+        if (jobRepository.existsAtivoPorPeticao(idPeticao)) {
+            throw new BusinessRuleException("Já existe uma geração em andamento para a petição " + idPeticao);
+        }
+        
+        contabilizadorUso.verificarCota(peticao.getIdAdvogado());
+    }
+    
+    /**
+     * Verifica se a fila comporta mais jobs
+     */
+    public void validarCapacidade(int novosJobs) {
+        long capacidade = geminiProperties.getFila().getCapacidade();
+        if (jobRepository.countAtivos() + novosJobs > capacidade) {
+            throw new FilaGeracaoIACheiaException(capacidade);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.LoteGeracaoIAEnfileiradoEvent;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.LoteGeracaoIA;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.domain.shared.exception.DomainException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Caso de uso: Enfileirar lote de gerações com IA
+ * 
+ * Cada petição é validada individualmente: as recusadas são devolvidas com o motivo e
+ * as demais seguem para a fila. A concorrência de execução do lote é limitada pelos workers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnfileirarLoteGeracaoIAUseCase {
+    
+    private static final Comparator<ItemLote> ORDEM_DE_TRAVA =
+        Comparator.comparing(ItemLote::idPeticao, Comparator.nullsLast(Comparator.naturalOrder()));
+    
+    private final EnfileirarGeracaoIAUseCase enfileirarGeracaoIAUseCase;
+    private final JobGeracaoIARepository jobRepository;
+    private final GeminiProperties geminiProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Item do lote: petição a ser gerada e o contexto informado pelo advogado
+     */
+    public record ItemLote(Long idPeticao, String contexto, String detalhesAdicionais) {
+    }
+    
+    @Transactional
+    public LoteGeracaoIA executar(List<ItemLote> itens, boolean ignorarCache) {
+        int tamanhoMaximo = geminiProperties.getLote().getTamanhoMaximo();
+        if (itens == null || itens.isEmpty()) {
+            throw new BusinessRuleException("O lote deve conter ao menos uma petição");
+        }
+        if (itens.size() > tamanhoMaximo) {
+            throw new BusinessRuleException("O lote excede o limite de " + tamanhoMaximo + " petições");
+        }
+        
+        LoteGeracaoIA lote = LoteGeracaoIA.builder()
+            .id(UUID.randomUUID().toString())
+            .build();
+        
+        log.info("Enfileirando lote de geração com IA. Lote: {}, Itens: {}", lote.getId(), itens.size());
+        
+        // Cada validação trava a petição até o commit; travar em ordem de ID evita deadlock entre
+        // lotes concorrentes com petições em comum. Os jobs mantêm a ordem de envio
+        Set<Long> peticoesDoLote = new HashSet<>();
+        Set<ItemLote> validos = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ItemLote item : itens.stream().sorted(ORDEM_DE_TRAVA).toList()) {
+            if (validarItem(item, peticoesDoLote, lote)) {
+                validos.add(item);
+            }
+        }
+        List<ItemLote> aceitos = itens.stream().filter(validos::contains).toList();
+        
+        if (!aceitos.isEmpty()) {
+            enfileirarGeracaoIAUseCase.validarCapacidade(aceitos.size());
+            
+            for (ItemLote item : aceitos) {
+                lote.getJobs().add(jobRepository.save(JobGeracaoIA.criarEmLote(
+                    lote.getId(),
+                    item.idPeticao(),
+                    item.contexto(),
+                    item.detalhesAdicionais(),
+                    ignorarCache
+                )));
+            }
+            
+            // Despachado aos workers somente após o commit
+            eventPublisher.publishEvent(new LoteGeracaoIAEnfileiradoEvent(lote.getId()));
+        }
+        
+        log.info("Lote de geração enfileirado. Lote: {}, Aceitos: {}, Rejeitados: {}",
+            lote.getId(), lote.getJobs().size(), lote.getRejeitados().size());
+        return lote;
+    }
+    
+    /**
+     * Valida um item; em caso de recusa registra o motivo no lote em vez de abortar o envio
+     */
+    private boolean validarItem(ItemLote item, Set<Long> peticoesDoLote, LoteGeracaoIA lote) {
+        try {
+            if (item.contexto() == null || item.contexto().isBlank()) {
+                throw new DomainException("Contexto é obrigatório");
+            }
+            if (!peticoesDoLote.add(item.idPeticao())) {
+                throw new BusinessRuleException("Petição informada mais de uma vez no lote");
+            }
+            
+            enfileirarGeracaoIAUseCase.validarPeticao(item.idPeticao());
+            return true;
+            
+        } catch (DomainException e) {
+            lote.getRejeitados().put(item.idPeticao(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -6,12 +6,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import smartLegalApi.domain.peticao.entity.Peticao;
 import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
 import smartLegalApi.domain.peticao.repository.PeticaoRepository;
-import smartLegalApi.infrastructure.ai.service.GeminiService;
-import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.infrastructure.ai.citacoes.VerificadorCitacoes;
+import smartLegalApi.infrastructure.ai.contexto.MontadorContextoPeticao;
+import smartLegalApi.infrastructure.ai.service.AiTextGenerator;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+
+import java.util.function.Consumer;
 
 /**
  * Caso de uso: Gerar Petição com IA
+ * 
+ * Não é transacional de ponta a ponta: a chamada à IA pode levar dezenas de segundos e
+ * não deve manter uma conexão do pool aberta. Cada etapa (iniciar, finalizar, reverter)
+ * grava a petição em uma transação curta própria.
  */
 @Service
 @RequiredArgsConstructor
@@ -19,45 +32,119 @@ import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
 public class GerarPeticaoComIAUseCase {
     
     private final PeticaoRepository peticaoRepository;
-    private final GeminiService geminiService;
-    private final PeticaoPromptService promptService;
+    private final JobGeracaoIARepository jobRepository;
+    private final AiTextGenerator aiTextGenerator;
+    private final MontadorContextoPeticao montadorContexto;
+    private final ContabilizadorUsoIA contabilizadorUso;
+    private final VerificadorCitacoes verificadorCitacoes;
     
-    @Transactional
     public Peticao executar(Long idPeticao, String contexto, String detalhesAdicionais) {
         log.info("Gerando petição com IA. ID: {}", idPeticao);
         
-        Peticao peticao = peticaoRepository.findById(idPeticao)
+        Peticao peticao = iniciarGeracao(idPeticao, contexto, detalhesAdicionais);
+        
+        try {
+            // Chama o provedor de IA
+            String prompt = peticao.getPromptUtilizado();
+            PerfilGeracao perfil = PerfilGeracao.de(peticao, NivelLatencia.PADRAO);
+            String conteudoGerado = contabilizadorUso.executar(
+                perfil, prompt, tokens -> aiTextGenerator.gerarConteudo(prompt, perfil, tokens));
+            
+            return finalizarGeracao(idPeticao, conteudoGerado);
+            
+        } catch (Exception e) {
+            log.error("Erro ao gerar petição com IA", e);
+            reverterGeracao(idPeticao);
+            throw e;
+        }
+    }
+    
+    /**
+     * Primeira etapa do streaming, executada antes de abrir a conexão SSE: aplica as mesmas
+     * regras do enfileiramento (status da petição e nenhum job ativo) e marca a petição como GERANDO,
+     * com a petição travada entre a verificação e a gravação
+     */
+    @Transactional
+    public Peticao iniciarGeracaoStreaming(Long idPeticao, String contexto, String detalhesAdicionais) {
+        Peticao peticao = peticaoRepository.findByIdComTrava(idPeticao)
             .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
         
-        // Constrói o prompt especializado
-        String prompt = promptService.construirPrompt(
-            peticao.getTipo(),
-            contexto,
-            detalhesAdicionais
-        );
+        if (peticao.getStatus() != StatusPeticao.RASCUNHO && peticao.getStatus() != StatusPeticao.REVISAO) {
+            throw new BusinessRuleException("Só é possível gerar IA para petições em rascunho ou revisão");
+        }
         
-        // Inicia geração
-        peticao.iniciarGeracao(prompt);
-        peticaoRepository.update(peticao);
+        if (jobRepository.existsAtivoPorPeticao(idPeticao)) {
+            throw new BusinessRuleException("Já existe uma geração em andamento para a petição " + idPeticao);
+        }
+        
+        return iniciarGeracao(idPeticao, contexto, detalhesAdicionais);
+    }
+    
+    /**
+     * Gera em modo streaming a petição iniciada por {@link #iniciarGeracaoStreaming}, repassando
+     * cada trecho recebido da IA ao consumidor. O texto final é persistido somente após o término do streaming.
+     */
+    public Peticao executarComStreaming(Peticao peticao, Consumer<String> onTrecho) {
+        Long idPeticao = peticao.getId();
+        log.info("Gerando petição com IA (streaming). ID: {}", idPeticao);
         
         try {
-            // Chama a API do Gemini
-            String conteudoGerado = geminiService.gerarConteudo(prompt);
+            String prompt = peticao.getPromptUtilizado();
+            PerfilGeracao perfil = PerfilGeracao.de(peticao, NivelLatencia.PADRAO);
+            String conteudoGerado = contabilizadorUso.executar(
+                perfil, prompt, tokens -> aiTextGenerator.gerarConteudoStream(prompt, perfil, onTrecho, tokens));
             
-            // Finaliza geração
-            peticao.finalizarGeracao(conteudoGerado);
+            return finalizarGeracao(idPeticao, conteudoGerado);
             
         } catch (Exception e) {
-            log.error("Erro ao gerar petição com IA", e);
-            // Volta para rascunho em caso de erro
-            peticao.voltarParaRevisao();
+            log.error("Erro ao gerar petição com IA (streaming)", e);
+            reverterGeracao(idPeticao);
             throw e;
-        } finally {
-            peticaoRepository.update(peticao);
         }
+    }
+    
+    /**
+     * Constrói o prompt especializado (com os dados do processo, dentro do orçamento de tokens)
+     * e marca a petição como GERANDO
+     */
+    public Peticao iniciarGeracao(Long idPeticao, String contexto, String detalhesAdicionais) {
+        Peticao peticao = buscarPeticao(idPeticao);
+        
+        String prompt = montadorContexto.montarPrompt(peticao, contexto, detalhesAdicionais);
+        
+        peticao.iniciarGeracao(prompt);
+        return peticaoRepository.update(peticao);
+    }
+    
+    /**
+     * Grava o conteúdo gerado e leva a petição para revisão, com as citações de lei conferidas
+     * contra o índice de legislação
+     */
+    public Peticao finalizarGeracao(Long idPeticao, String conteudoGerado) {
+        Peticao peticao = buscarPeticao(idPeticao);
+        
+        peticao.finalizarGeracao(conteudoGerado);
+        peticao.registrarVerificacaoCitacoes(verificadorCitacoes.verificarConteudoGerado(conteudoGerado));
+        Peticao updated = peticaoRepository.update(peticao);
         
         log.info("Petição gerada com sucesso. ID: {}", idPeticao);
-        return peticao;
+        return updated;
+    }
+    
+    /**
+     * Devolve para revisão uma petição cuja geração falhou ou foi cancelada
+     */
+    public void reverterGeracao(Long idPeticao) {
+        peticaoRepository.findById(idPeticao)
+            .filter(peticao -> peticao.getStatus() == StatusPeticao.GERANDO)
+            .ifPresent(peticao -> {
+                peticao.voltarParaRevisao();
+                peticaoRepository.update(peticao);
+            });
+    }
+    
+    private Peticao buscarPeticao(Long idPeticao) {
+        return peticaoRepository.findById(idPeticao)
+            .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
     }
 }
-
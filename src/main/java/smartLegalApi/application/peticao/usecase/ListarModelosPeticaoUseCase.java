@@ -0,0 +1,33 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.repository.ModeloPeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+import java.util.List;
+
+/**
+ * Caso de uso: Listar Modelos de Petição ativos, opcionalmente de um tipo
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListarModelosPeticaoUseCase {
+    
+    private final ModeloPeticaoRepository modeloRepository;
+    
+    @Transactional(readOnly = true)
+    public List<ModeloPeticao> executar(TipoPeticao tipo) {
+        log.info("Listando modelos de petição. Tipo: {}", tipo);
+        
+        if (tipo != null) {
+            return modeloRepository.findAtivosByTipo(tipo);
+        }
+        
+        return modeloRepository.findAtivos();
+    }
+}
@@ -0,0 +1,85 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.PeticaoAlteradaEvent;
+import smartLegalApi.domain.advogado.entity.Advogado;
+import smartLegalApi.domain.advogado.repository.AdvogadoRepository;
+import smartLegalApi.domain.cliente.entity.Cliente;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.ModeloPeticaoNaoEncontradoException;
+import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
+import smartLegalApi.domain.peticao.repository.ModeloPeticaoRepository;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.infrastructure.ai.citacoes.VerificadorCitacoes;
+import smartLegalApi.infrastructure.document.modelo.CampoModelo;
+import smartLegalApi.infrastructure.document.modelo.DadosModelo;
+import smartLegalApi.infrastructure.document.modelo.ModeloCompilado;
+import smartLegalApi.infrastructure.document.modelo.MotorModelosPeticao;
+
+import java.time.LocalDate;
+
+/**
+ * Caso de uso: Preencher Petição com Modelo
+ * 
+ * Alternativa à geração com IA para petições padronizadas: o modelo do tipo da petição é
+ * preenchido com os dados do processo, do cliente e do advogado e a petição vai para revisão.
+ * Cliente e advogado só são buscados se o modelo usa algum campo deles.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PreencherPeticaoComModeloUseCase {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final ModeloPeticaoRepository modeloRepository;
+    private final ProcessoRepository processoRepository;
+    private final ClienteRepository clienteRepository;
+    private final AdvogadoRepository advogadoRepository;
+    private final MotorModelosPeticao motorModelos;
+    private final VerificadorCitacoes verificadorCitacoes;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public Peticao executar(Long idPeticao, Long idModelo) {
+        log.info("Preenchendo petição ID: {} com modelo ID: {}", idPeticao, idModelo);
+        
+        Peticao peticao = peticaoRepository.findById(idPeticao)
+            .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
+        
+        ModeloPeticao modelo = modeloRepository.findById(idModelo)
+            .orElseThrow(() -> new ModeloPeticaoNaoEncontradoException(idModelo));
+        modelo.validarUso(peticao.getTipo());
+        
+        ModeloCompilado compilado = motorModelos.compilar(modelo);
+        
+        Processo processo = processoRepository.findById(peticao.getIdProcesso())
+            .orElseThrow(() -> new ProcessoNaoEncontradoException(peticao.getIdProcesso()));
+        Cliente cliente = compilado.usa(CampoModelo.Origem.CLIENTE) && processo.getIdCliente() != null
+            ? clienteRepository.findById(processo.getIdCliente()).orElse(null)
+            : null;
+        Advogado advogado = compilado.usa(CampoModelo.Origem.ADVOGADO)
+            ? advogadoRepository.findById(peticao.getIdAdvogado()).orElse(null)
+            : null;
+        
+        String conteudo = motorModelos.renderizar(compilado,
+            new DadosModelo(peticao, processo, cliente, advogado, LocalDate.now()));
+        
+        peticao.preencherComModelo(conteudo);
+        peticao.registrarVerificacaoCitacoes(verificadorCitacoes.contarInvalidas(conteudo));
+        
+        Peticao updated = peticaoRepository.update(peticao);
+        eventPublisher.publishEvent(new PeticaoAlteradaEvent(updated));
+        log.info("Petição preenchida com modelo com sucesso. ID: {}", idPeticao);
+        
+        return updated;
+    }
+}
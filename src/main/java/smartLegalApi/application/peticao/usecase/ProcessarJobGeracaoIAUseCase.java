@@ -0,0 +1,127 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.JobGeracaoIANaoEncontradoException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.infrastructure.ai.cache.CacheRespostaIAService;
+import smartLegalApi.infrastructure.ai.secoes.GeradorPeticaoPorSecoes;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+
+import java.util.Optional;
+
+/**
+ * Caso de uso: Processar Job de geração com IA (executado pelos workers da fila)
+ * 
+ * Etapas: montagem do prompt → chamada ao Gemini (única ou por seções) → finalização. Cada transição de estado
+ * roda em uma transação curta com a linha do job travada, de modo que só uma instância assume um job
+ * pendente e a recuperação por lease não se cruza com a finalização; a chamada à IA acontece sem
+ * conexão com o banco.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessarJobGeracaoIAUseCase {
+    
+    private final JobGeracaoIARepository jobRepository;
+    private final GerarPeticaoComIAUseCase gerarPeticaoComIAUseCase;
+    private final CacheRespostaIAService cacheRespostaIAService;
+    private final GeradorPeticaoPorSecoes geradorPorSecoes;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * Executa o job em nome da instância informada; retorna vazio se ele não estava mais pendente
+     * (cancelado ou já executado)
+     */
+    public Optional<JobGeracaoIA> executar(Long idJob, String instancia) {
+        JobGeracaoIA job = transactionTemplate.execute(status -> iniciarJob(idJob, instancia));
+        if (job == null) {
+            return Optional.empty();
+        }
+        
+        log.info("Processando job de geração ID: {}, Petição ID: {}", idJob, job.getIdPeticao());
+        
+        try {
+            Peticao peticao = transactionTemplate.execute(status -> gerarPeticaoComIAUseCase.iniciarGeracao(
+                job.getIdPeticao(),
+                job.getContexto(),
+                job.getDetalhesAdicionais()
+            ));
+            String prompt = peticao.getPromptUtilizado();
+            PerfilGeracao perfil = PerfilGeracao.de(peticao, job.getNivelLatencia());
+            
+            // Tipos longos podem ser gerados seção a seção, em paralelo; cada seção passa pelo cache
+            String conteudoGerado = geradorPorSecoes.isAplicavel(peticao.getTipo())
+                ? geradorPorSecoes.gerar(peticao.getTipo(), prompt,
+                    promptSecao -> cacheRespostaIAService.gerarConteudo(promptSecao, perfil, job.isIgnorarCache()))
+                : cacheRespostaIAService.gerarConteudo(prompt, perfil, job.isIgnorarCache());
+            
+            return Optional.ofNullable(transactionTemplate.execute(status -> concluirJob(idJob, instancia, conteudoGerado)));
+            
+        } catch (Exception e) {
+            log.error("Erro ao processar job de geração ID: {}", idJob, e);
+            return Optional.ofNullable(transactionTemplate.execute(status -> falharJob(idJob, instancia, e.getMessage())));
+        }
+    }
+    
+    private JobGeracaoIA iniciarJob(Long idJob, String instancia) {
+        JobGeracaoIA job = buscarJob(idJob);
+        
+        if (job.getStatus() != StatusJobGeracao.PENDENTE) {
+            log.debug("Job {} ignorado pelo worker. Status atual: {}", idJob, job.getStatus());
+            return null;
+        }
+        
+        job.iniciar(instancia);
+        return jobRepository.update(job);
+    }
+    
+    private JobGeracaoIA concluirJob(Long idJob, String instancia, String conteudoGerado) {
+        JobGeracaoIA job = buscarJob(idJob);
+        
+        // Cancelado durante a chamada à IA: descarta o resultado
+        if (job.isCancelado()) {
+            log.info("Job {} cancelado durante a execução. Resultado descartado", idJob);
+            gerarPeticaoComIAUseCase.reverterGeracao(job.getIdPeticao());
+            return job;
+        }
+        
+        // Lease expirado durante a chamada: o job e a petição já são de outra execução
+        if (!job.isExecutandoPor(instancia)) {
+            log.warn("Job {} recuperado por outra instância durante a execução. Resultado descartado", idJob);
+            return job;
+        }
+        
+        gerarPeticaoComIAUseCase.finalizarGeracao(job.getIdPeticao(), conteudoGerado);
+        job.concluir();
+        return jobRepository.update(job);
+    }
+    
+    private JobGeracaoIA falharJob(Long idJob, String instancia, String mensagemErro) {
+        JobGeracaoIA job = buscarJob(idJob);
+        
+        if (job.getStatus().isAtivo() && !job.isExecutandoPor(instancia)) {
+            log.warn("Job {} recuperado por outra instância durante a execução. Falha descartada", idJob);
+            return job;
+        }
+        
+        gerarPeticaoComIAUseCase.reverterGeracao(job.getIdPeticao());
+        
+        if (job.getStatus().isAtivo()) {
+            job.falhar(mensagemErro);
+            job = jobRepository.update(job);
+        }
+        
+        return job;
+    }
+    
+    private JobGeracaoIA buscarJob(Long idJob) {
+        return jobRepository.findByIdComTrava(idJob)
+            .orElseThrow(() -> new JobGeracaoIANaoEncontradoException(idJob));
+    }
+}
@@ -2,15 +2,20 @@ package smartLegalApi.application.peticao.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.peticao.event.PeticaoAlteradaEvent;
+import smartLegalApi.application.peticao.event.ProtocoloPeticaoSolicitadoEvent;
 import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.FilaProtocoloCheiaException;
 import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
 import smartLegalApi.domain.peticao.repository.PeticaoRepository;
-import smartLegalApi.infrastructure.document.service.DocumentoWordService;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
 
 /**
- * Caso de uso: Protocolar Petição (gera documento e marca como protocolada)
+ * Caso de uso: Protocolar Petição (registra a solicitação; o documento é gerado em segundo
+ * plano e a petição é marcada como protocolada por {@link ConcluirProtocoloPeticaoUseCase})
  */
 @Service
 @RequiredArgsConstructor
@@ -18,25 +23,41 @@ import smartLegalApi.infrastructure.document.service.DocumentoWordService;
 public class ProtocolarPeticaoUseCase {
     
     private final PeticaoRepository peticaoRepository;
-    private final DocumentoWordService documentoWordService;
+    private final DocumentoProperties documentoProperties;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Peticao executar(Long idPeticao) {
-        log.info("Protocolando petição ID: {}", idPeticao);
+        log.info("Solicitando protocolo da petição ID: {}", idPeticao);
         
         Peticao peticao = peticaoRepository.findById(idPeticao)
             .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
         
-        // Gera documento Word
-        String caminhoDocumento = documentoWordService.gerarDocumento(peticao);
+        if (peticao.isProtocoloPendente()) {
+            log.info("Protocolo da petição ID: {} já solicitado em {}", idPeticao, peticao.getDataSolicitacaoProtocolo());
+            return peticao;
+        }
         
-        // Marca como protocolada
-        peticao.protocolar(caminhoDocumento);
+        peticao.solicitarProtocolo();
+        validarCapacidade();
         
         Peticao updated = peticaoRepository.update(peticao);
-        log.info("Petição protocolada com sucesso. ID: {}, Documento: {}", idPeticao, caminhoDocumento);
+        eventPublisher.publishEvent(new PeticaoAlteradaEvent(updated));
+        
+        // Documento gerado somente após o commit, fora desta transação
+        eventPublisher.publishEvent(new ProtocoloPeticaoSolicitadoEvent(updated.getId()));
+        log.info("Protocolo da petição ID: {} solicitado", idPeticao);
         
         return updated;
     }
+    
+    /**
+     * Verifica se a fila de geração de documentos comporta mais um protocolo
+     */
+    private void validarCapacidade() {
+        long capacidade = documentoProperties.getRenderizacao().getCapacidade();
+        if (peticaoRepository.countProtocoloPendente() >= capacidade) {
+            throw new FilaProtocoloCheiaException(capacidade);
+        }
+    }
 }
-
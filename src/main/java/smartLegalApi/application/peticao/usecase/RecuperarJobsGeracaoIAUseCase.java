@@ -0,0 +1,72 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Caso de uso: Recuperar gerações abandonadas por uma instância que parou (reinício ou queda)
+ *
+ * Só volta para a fila o job em execução cujo heartbeat ficou mais antigo que gemini.fila.lease-ms;
+ * jobs de outras instâncias ativas continuam com elas. Petições em GERANDO sem job ativo (endpoint
+ * de streaming) só voltam para revisão depois do tempo máximo do stream somado ao lease.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecuperarJobsGeracaoIAUseCase {
+    
+    private final JobGeracaoIARepository jobRepository;
+    private final PeticaoRepository peticaoRepository;
+    private final GeminiProperties geminiProperties;
+    
+    @Transactional
+    public int executar() {
+        LocalDateTime agora = LocalDateTime.now();
+        long leaseMs = geminiProperties.getFila().getLeaseMs();
+        
+        List<JobGeracaoIA> abandonados = jobRepository.findExecutandoComHeartbeatAnterior(agora.minus(Duration.ofMillis(leaseMs)));
+        for (JobGeracaoIA job : abandonados) {
+            log.warn("Job de geração {} sem heartbeat da instância {} desde {}. Reenfileirando",
+                job.getId(), job.getInstancia(), job.getDataHeartbeat());
+            job.reenfileirar();
+            jobRepository.update(job);
+            
+            // A nova execução precisa da petição fora de GERANDO para montar o prompt de novo
+            peticaoRepository.findById(job.getIdPeticao())
+                .filter(peticao -> peticao.getStatus() == StatusPeticao.GERANDO)
+                .ifPresent(this::voltarParaRevisao);
+        }
+        
+        // Petições geradas pelo endpoint de streaming, que não passam pela fila
+        LocalDateTime limiteStream = agora.minus(Duration.ofMillis(geminiProperties.getStreamTimeoutMs() + leaseMs));
+        List<Peticao> presas = peticaoRepository.findByStatus(StatusPeticao.GERANDO).stream()
+            .filter(peticao -> peticao.getDataAtualizacao() == null || peticao.getDataAtualizacao().isBefore(limiteStream))
+            .filter(peticao -> !jobRepository.existsAtivoPorPeticao(peticao.getId()))
+            .toList();
+        presas.forEach(this::voltarParaRevisao);
+        
+        if (!abandonados.isEmpty() || !presas.isEmpty()) {
+            log.warn("Recuperação da fila de geração: {} job(s) reenfileirado(s), {} petição(ões) devolvida(s) para revisão",
+                abandonados.size(), presas.size());
+        }
+        
+        return abandonados.size();
+    }
+    
+    private void voltarParaRevisao(Peticao peticao) {
+        peticao.voltarParaRevisao();
+        peticaoRepository.update(peticao);
+    }
+}
@@ -0,0 +1,71 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.SecaoPeticao;
+import smartLegalApi.infrastructure.ai.cache.CacheRespostaIAService;
+import smartLegalApi.infrastructure.ai.citacoes.VerificadorCitacoes;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+
+/**
+ * Caso de uso: Regenerar uma Seção da Petição com IA
+ * 
+ * Apenas a seção escolhida é enviada na íntegra; as demais vão resumidas como contexto,
+ * o que reduz tokens e latência em relação a gerar a petição inteira de novo. Como em
+ * GerarPeticaoComIAUseCase, a chamada à IA acontece fora de transação.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegenerarSecaoPeticaoUseCase {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final CacheRespostaIAService cacheRespostaIAService;
+    private final PeticaoPromptService promptService;
+    private final VerificadorCitacoes verificadorCitacoes;
+    private final TransactionTemplate transactionTemplate;
+    
+    public Peticao executar(Long idPeticao, int indice, String instrucoes) {
+        log.info("Regenerando seção {} da petição ID: {}", indice, idPeticao);
+        
+        Peticao peticao = buscarPeticao(idPeticao);
+        SecaoPeticao secao = peticao.secaoParaRegenerar(indice);
+        
+        String prompt = promptService.construirPromptRegeneracaoSecao(
+            peticao.getTipo(),
+            peticao.listarSecoes(),
+            indice,
+            instrucoes
+        );
+        
+        // Pedir a regeneração de novo deve trazer outra versão, não a resposta em cache
+        String novoTexto = cacheRespostaIAService.gerarConteudo(
+            prompt, PerfilGeracao.de(peticao, NivelLatencia.PADRAO), true);
+        
+        // Relê a petição com trava até o update: a seção só é substituída se o texto dela
+        // (título e corpo) não mudou durante a geração, e nenhuma escrita concorrente se perde
+        Peticao updated = transactionTemplate.execute(status -> {
+            Peticao atual = peticaoRepository.findByIdComTrava(idPeticao)
+                .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
+            atual.substituirSecao(indice, secao, novoTexto);
+            atual.registrarVerificacaoCitacoes(verificadorCitacoes.contarInvalidas(atual.getConteudo()));
+            return peticaoRepository.update(atual);
+        });
+        
+        log.info("Seção {} da petição ID {} regenerada. Tamanho: {} → {} caracteres",
+            indice, idPeticao, secao.texto().length(), novoTexto.length());
+        return updated;
+    }
+    
+    private Peticao buscarPeticao(Long idPeticao) {
+        return peticaoRepository.findById(idPeticao)
+            .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
+    }
+}
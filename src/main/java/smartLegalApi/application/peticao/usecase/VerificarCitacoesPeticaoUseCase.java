@@ -0,0 +1,38 @@
+package smartLegalApi.application.peticao.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.PeticaoNaoEncontradaException;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.infrastructure.ai.citacoes.CitacaoLegal;
+import smartLegalApi.infrastructure.ai.citacoes.VerificadorCitacoes;
+
+import java.util.List;
+
+/**
+ * Caso de uso: Verificar Citações de Lei da Petição
+ * 
+ * Lista os artigos citados no conteúdo atual com a situação de cada um no índice de
+ * legislação, para o advogado conferir os inexistentes e abrir os válidos no texto oficial.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VerificarCitacoesPeticaoUseCase {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final VerificadorCitacoes verificadorCitacoes;
+    
+    @Transactional(readOnly = true)
+    public List<CitacaoLegal> executar(Long idPeticao) {
+        log.info("Verificando citações de lei da petição ID: {}", idPeticao);
+        
+        Peticao peticao = peticaoRepository.findById(idPeticao)
+            .orElseThrow(() -> new PeticaoNaoEncontradaException(idPeticao));
+        
+        return verificadorCitacoes.verificar(peticao.getConteudo());
+    }
+}
@@ -0,0 +1,32 @@
+package smartLegalApi.application.processo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resumo do processo gerado com IA a partir dos andamentos")
+public class ResumoProcessoResponse {
+    
+    @Schema(description = "ID do processo", example = "1")
+    private Long idProcesso;
+    
+    @Schema(description = "Texto do resumo; nulo enquanto o primeiro resumo é gerado")
+    private String texto;
+    
+    @Schema(description = "Andamentos incorporados ao resumo", example = "12")
+    private Integer andamentosResumidos;
+    
+    @Schema(description = "Indica que há andamentos novos ou alterados ainda não incorporados", example = "false")
+    private Boolean desatualizado;
+    
+    @Schema(description = "Data da última atualização do texto", example = "2024-01-15T14:35:00")
+    private LocalDateTime dataAtualizacao;
+}
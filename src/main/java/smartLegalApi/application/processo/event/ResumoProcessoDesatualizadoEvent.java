@@ -0,0 +1,9 @@
+package smartLegalApi.application.processo.event;
+
+/**
+ * Evento publicado quando o resumo de um processo precisa ser atualizado (andamento novo,
+ * alterado ou excluído, ou primeiro pedido de resumo)
+ * Consumido após o commit da transação para agendar a atualização em segundo plano
+ */
+public record ResumoProcessoDesatualizadoEvent(Long idProcesso) {
+}
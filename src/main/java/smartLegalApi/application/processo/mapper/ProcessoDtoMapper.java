@@ -4,9 +4,11 @@ import org.springframework.stereotype.Component;
 import smartLegalApi.application.processo.dto.response.AndamentoResponse;
 import smartLegalApi.application.processo.dto.response.DocumentoResponse;
 import smartLegalApi.application.processo.dto.response.ProcessoResponse;
+import smartLegalApi.application.processo.dto.response.ResumoProcessoResponse;
 import smartLegalApi.domain.processo.entity.Andamento;
 import smartLegalApi.domain.processo.entity.Documento;
 import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
 
 /**
  * Mapper entre entidades de domínio e DTOs de Processo
@@ -59,5 +61,17 @@ public class ProcessoDtoMapper {
             .dataUpload(documento.getDataUpload())
             .build();
     }
+    
+    public ResumoProcessoResponse toResponse(ResumoProcesso resumo) {
+        if (resumo == null) return null;
+        
+        return ResumoProcessoResponse.builder()
+            .idProcesso(resumo.getIdProcesso())
+            .texto(resumo.getTexto())
+            .andamentosResumidos(resumo.getAndamentosResumidos())
+            .desatualizado(resumo.isDesatualizado())
+            .dataAtualizacao(resumo.getDataAtualizacao())
+            .build();
+    }
 }
 
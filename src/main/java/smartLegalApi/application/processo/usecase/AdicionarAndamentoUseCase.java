@@ -2,12 +2,15 @@ package smartLegalApi.application.processo.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.processo.event.ResumoProcessoDesatualizadoEvent;
 import smartLegalApi.domain.processo.entity.Andamento;
 import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
 import smartLegalApi.domain.processo.repository.AndamentoRepository;
 import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
 
 import java.time.LocalDateTime;
 
@@ -21,6 +24,8 @@ public class AdicionarAndamentoUseCase {
     
     private final AndamentoRepository andamentoRepository;
     private final ProcessoRepository processoRepository;
+    private final ResumoProcessoRepository resumoProcessoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Andamento executar(Long idProcesso, LocalDateTime dataAndamento, String descricao, String tipo) {
@@ -34,6 +39,11 @@ public class AdicionarAndamentoUseCase {
         Andamento andamento = Andamento.criar(idProcesso, dataAndamento, descricao, tipo);
         
         Andamento saved = andamentoRepository.save(andamento);
+        
+        // O resumo incorpora o andamento novo em segundo plano, após o commit
+        if (resumoProcessoRepository.marcarDesatualizado(idProcesso)) {
+            eventPublisher.publishEvent(new ResumoProcessoDesatualizadoEvent(idProcesso));
+        }
         log.info("Andamento adicionado com sucesso. ID: {}", saved.getId());
         
         return saved;
@@ -8,9 +8,16 @@ import smartLegalApi.domain.processo.entity.Documento;
 import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
 import smartLegalApi.domain.processo.repository.DocumentoRepository;
 import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
+import smartLegalApi.infrastructure.storage.ArquivoArmazenado;
 
 /**
  * Caso de uso: Anexar Documento ao Processo
+ *
+ * Só documentos anexados com um arquivo gravado pelo armazenamento levam uma referência a ele
+ * (e a devolvem ao serem excluídos). Por isso, caminhos do armazenamento informados pelo cliente
+ * são recusados: copiados de outro documento, liberariam uma referência que não tomaram.
  */
 @Service
 @RequiredArgsConstructor
@@ -19,10 +26,31 @@ public class AnexarDocumentoUseCase {
     
     private final DocumentoRepository documentoRepository;
     private final ProcessoRepository processoRepository;
+    private final ArmazenamentoArquivos armazenamentoArquivos;
     
+    /**
+     * Anexa um arquivo informado pelo cliente (somente metadados)
+     */
     @Transactional
     public Documento executar(Long idProcesso, String nomeDocumento, String caminhoArquivo, 
                               String tipoArquivo, Long tamanhoBytes, String hashArquivo) {
+        if (armazenamentoArquivos.hash(caminhoArquivo).isPresent()) {
+            throw new BusinessRuleException("Arquivos do armazenamento só podem ser anexados pelo envio do arquivo");
+        }
+        
+        return anexar(idProcesso, nomeDocumento, caminhoArquivo, tipoArquivo, tamanhoBytes, hashArquivo);
+    }
+    
+    /**
+     * Anexa um arquivo gravado pelo armazenamento; a referência tomada na gravação passa ao documento
+     */
+    @Transactional
+    public Documento executar(Long idProcesso, String nomeDocumento, String tipoArquivo, ArquivoArmazenado arquivo) {
+        return anexar(idProcesso, nomeDocumento, arquivo.caminho().toString(), tipoArquivo, arquivo.tamanho(), arquivo.hash());
+    }
+    
+    private Documento anexar(Long idProcesso, String nomeDocumento, String caminhoArquivo, 
+                             String tipoArquivo, Long tamanhoBytes, String hashArquivo) {
         log.info("Anexando documento ao processo ID: {}", idProcesso);
         
         // Validar processo existe
@@ -2,10 +2,13 @@ package smartLegalApi.application.processo.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.processo.event.ResumoProcessoDesatualizadoEvent;
 import smartLegalApi.domain.processo.entity.Andamento;
 import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
 import smartLegalApi.domain.shared.exception.NotFoundException;
 
 import java.time.LocalDateTime;
@@ -19,6 +22,8 @@ import java.time.LocalDateTime;
 public class AtualizarAndamentoUseCase {
     
     private final AndamentoRepository andamentoRepository;
+    private final ResumoProcessoRepository resumoProcessoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Andamento executar(Long id, LocalDateTime dataAndamento, String descricao, String tipo) {
@@ -30,6 +35,10 @@ public class AtualizarAndamentoUseCase {
         andamento.atualizar(dataAndamento, descricao, tipo);
         
         Andamento updated = andamentoRepository.update(andamento);
+        
+        if (resumoProcessoRepository.marcarAlteracao(andamento.getIdProcesso(), id)) {
+            eventPublisher.publishEvent(new ResumoProcessoDesatualizadoEvent(andamento.getIdProcesso()));
+        }
         log.info("Andamento atualizado com sucesso. ID: {}", id);
         
         return updated;
@@ -0,0 +1,87 @@
+package smartLegalApi.application.processo.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.processo.entity.Andamento;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.AiTextGenerator;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.service.ResumoProcessoPromptService;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caso de uso: Atualizar o Resumo do Processo com os andamentos ainda não incorporados
+ * 
+ * Executado em segundo plano (AtualizadorResumosProcesso), sem transação em volta das chamadas
+ * à IA. Só os andamentos posteriores ao último incorporado são enviados, em blocos de
+ * gemini.resumo.andamentos-por-chamada; se o resumo foi marcado de novo durante a geração,
+ * o resultado é descartado e a atualização é refeita.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AtualizarResumoProcessoUseCase {
+    
+    static final String SEM_ANDAMENTOS = "Nenhum andamento registrado até o momento.";
+    
+    private final ResumoProcessoRepository resumoProcessoRepository;
+    private final ProcessoRepository processoRepository;
+    private final AndamentoRepository andamentoRepository;
+    private final ResumoProcessoPromptService promptService;
+    private final AiTextGenerator aiTextGenerator;
+    private final ContabilizadorUsoIA contabilizadorUso;
+    private final GeminiProperties geminiProperties;
+    
+    /**
+     * Retorna false se o resumo foi marcado de novo durante a atualização e precisa ser refeito
+     */
+    public boolean executar(Long idProcesso) {
+        Optional<ResumoProcesso> encontrado = resumoProcessoRepository.findByProcesso(idProcesso);
+        if (encontrado.isEmpty() || !encontrado.get().isDesatualizado()) {
+            return true;
+        }
+        
+        Optional<Processo> processo = processoRepository.findById(idProcesso);
+        if (processo.isEmpty()) {
+            return true; // Processo excluído; o resumo é removido junto
+        }
+        
+        ResumoProcesso resumo = encontrado.get();
+        Long versaoLida = resumo.getVersao();
+        if (resumo.isReconstruir()) {
+            log.info("Reconstruindo resumo do processo ID: {}", idProcesso);
+            resumo.reiniciar();
+        }
+        
+        List<Andamento> novos = andamentoRepository.findByProcessoAposId(idProcesso, resumo.getIdUltimoAndamento());
+        int porChamada = geminiProperties.getResumo().getAndamentosPorChamada();
+        PerfilGeracao perfil = new PerfilGeracao(null, NivelLatencia.RAPIDA, processo.get().getIdAdvogado());
+        
+        for (int inicio = 0; inicio < novos.size(); inicio += porChamada) {
+            List<Andamento> bloco = novos.subList(inicio, Math.min(novos.size(), inicio + porChamada));
+            String prompt = promptService.construirPrompt(processo.get(), resumo.getTexto(), bloco);
+            String texto = contabilizadorUso.executar(
+                perfil, prompt, tokens -> aiTextGenerator.gerarConteudo(prompt, perfil, tokens));
+            resumo.incorporar(texto, bloco.get(bloco.size() - 1).getId(), bloco.size());
+        }
+        
+        if (resumo.getTexto() == null) {
+            resumo.incorporar(SEM_ANDAMENTOS, resumo.getIdUltimoAndamento(), 0);
+        }
+        
+        boolean concluida = resumoProcessoRepository.concluirAtualizacao(resumo, versaoLida);
+        log.info("Resumo do processo ID: {} {}: {} andamentos novos", idProcesso,
+            concluida ? "atualizado" : "alterado durante a geração", novos.size());
+        return concluida;
+    }
+}
@@ -0,0 +1,51 @@
+package smartLegalApi.application.processo.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.processo.event.ResumoProcessoDesatualizadoEvent;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
+
+/**
+ * Caso de uso: Buscar o Resumo do Processo
+ * 
+ * Retorna o último resumo gravado, mesmo que desatualizado. Na primeira consulta o resumo
+ * é criado e gerado em segundo plano.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BuscarResumoProcessoUseCase {
+    
+    private final ResumoProcessoRepository resumoProcessoRepository;
+    private final ProcessoRepository processoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public ResumoProcesso executar(Long idProcesso) {
+        processoRepository.findById(idProcesso)
+            .orElseThrow(() -> new ProcessoNaoEncontradoException(idProcesso));
+        
+        return resumoProcessoRepository.findByProcesso(idProcesso)
+            .orElseGet(() -> criar(idProcesso));
+    }
+    
+    /**
+     * Duas primeiras consultas simultâneas podem chegar aqui: só a que inserir o resumo dispara
+     * a geração, e ambas devolvem o registro gravado
+     */
+    private ResumoProcesso criar(Long idProcesso) {
+        if (resumoProcessoRepository.criarSeAusente(ResumoProcesso.criar(idProcesso))) {
+            log.info("Resumo do processo ID: {} criado", idProcesso);
+            eventPublisher.publishEvent(new ResumoProcessoDesatualizadoEvent(idProcesso));
+        }
+        
+        return resumoProcessoRepository.findByProcessoComTrava(idProcesso)
+            .orElseThrow(() -> new ProcessoNaoEncontradoException(idProcesso));
+    }
+}
@@ -2,9 +2,13 @@ package smartLegalApi.application.processo.usecase;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.application.processo.event.ResumoProcessoDesatualizadoEvent;
+import smartLegalApi.domain.processo.entity.Andamento;
 import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
 import smartLegalApi.domain.shared.exception.NotFoundException;
 
 /**
@@ -16,16 +20,21 @@ import smartLegalApi.domain.shared.exception.NotFoundException;
 public class DeletarAndamentoUseCase {
     
     private final AndamentoRepository andamentoRepository;
+    private final ResumoProcessoRepository resumoProcessoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public void executar(Long id) {
         log.info("Deletando andamento ID: {}", id);
         
-        if (!andamentoRepository.findById(id).isPresent()) {
-            throw new NotFoundException("Andamento não encontrado com ID: " + id);
-        }
+        Andamento andamento = andamentoRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Andamento não encontrado com ID: " + id));
         
         andamentoRepository.deleteById(id);
+        
+        if (resumoProcessoRepository.marcarAlteracao(andamento.getIdProcesso(), id)) {
+            eventPublisher.publishEvent(new ResumoProcessoDesatualizadoEvent(andamento.getIdProcesso()));
+        }
         log.info("Andamento deletado com sucesso. ID: {}", id);
     }
 }
@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.processo.entity.Documento;
 import smartLegalApi.domain.processo.repository.DocumentoRepository;
 import smartLegalApi.domain.shared.exception.NotFoundException;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
 
 /**
  * Caso de uso: Deletar Documento
@@ -16,16 +18,19 @@ import smartLegalApi.domain.shared.exception.NotFoundException;
 public class DeletarDocumentoUseCase {
     
     private final DocumentoRepository documentoRepository;
+    private final ArmazenamentoArquivos armazenamentoArquivos;
     
     @Transactional
     public void executar(Long id) {
         log.info("Deletando documento ID: {}", id);
         
-        if (!documentoRepository.findById(id).isPresent()) {
-            throw new NotFoundException("Documento não encontrado com ID: " + id);
-        }
+        Documento documento = documentoRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Documento não encontrado com ID: " + id));
         
         documentoRepository.deleteById(id);
+        
+        // Arquivo compartilhado por conteúdo: sai do armazenamento quando não houver outras referências
+        armazenamentoArquivos.liberar(documento.getCaminhoArquivo());
         log.info("Documento deletado com sucesso. ID: {}", id);
     }
 }
@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.processo.entity.Documento;
 import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
+import smartLegalApi.domain.processo.repository.DocumentoRepository;
 import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
 
 /**
  * Caso de uso: Deletar Processo
@@ -16,6 +19,8 @@ import smartLegalApi.domain.processo.repository.ProcessoRepository;
 public class DeletarProcessoUseCase {
     
     private final ProcessoRepository processoRepository;
+    private final DocumentoRepository documentoRepository;
+    private final ArmazenamentoArquivos armazenamentoArquivos;
     
     @Transactional
     public void executar(Long id) {
@@ -25,6 +30,11 @@ public class DeletarProcessoUseCase {
             throw new ProcessoNaoEncontradoException(id);
         }
         
+        // Os anexos são excluídos em cascata pelo banco; as referências aos arquivos, aqui
+        for (Documento documento : documentoRepository.findByProcesso(id)) {
+            armazenamentoArquivos.liberar(documento.getCaminhoArquivo());
+        }
+        
         processoRepository.deleteById(id);
         log.info("Processo deletado com sucesso. ID: {}", id);
     }
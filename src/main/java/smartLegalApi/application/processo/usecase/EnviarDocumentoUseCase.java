@@ -0,0 +1,84 @@
+package smartLegalApi.application.processo.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.processo.entity.Documento;
+import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
+import smartLegalApi.infrastructure.storage.ArquivoArmazenado;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Caso de uso: Enviar Arquivo e Anexar ao Processo
+ *
+ * O conteúdo é lido do corpo da requisição conforme chega e gravado no armazenamento em uma
+ * única passada, com buffer de tamanho fixo, calculando SHA-256 e tamanho no servidor; só então
+ * o documento é anexado, com esses dados, por {@link AnexarDocumentoUseCase}. A gravação fica
+ * fora da transação, para não segurar conexão com o banco enquanto o arquivo chega.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnviarDocumentoUseCase {
+    
+    private static final int TAMANHO_MAXIMO_NOME = 100;
+    private static final int TAMANHO_MAXIMO_TIPO = 50;
+    
+    private final ProcessoRepository processoRepository;
+    private final ArmazenamentoArquivos armazenamentoArquivos;
+    private final AnexarDocumentoUseCase anexarDocumentoUseCase;
+    
+    /**
+     * @param hashInformado SHA-256 calculado pelo cliente, opcional; se informado, o envio é
+     *                      recusado quando não confere com o conteúdo recebido
+     */
+    public Documento executar(Long idProcesso, String nomeDocumento, String tipoArquivo,
+                              InputStream conteudo, String hashInformado) throws IOException {
+        log.info("Recebendo arquivo para o processo ID: {}", idProcesso);
+        
+        // Validar processo antes de gravar o arquivo
+        processoRepository.findById(idProcesso)
+            .orElseThrow(() -> new ProcessoNaoEncontradoException(idProcesso));
+        
+        if (nomeDocumento == null || nomeDocumento.isBlank()) {
+            throw new BusinessRuleException("Nome do documento é obrigatório");
+        }
+        if (nomeDocumento.length() > TAMANHO_MAXIMO_NOME) {
+            throw new BusinessRuleException("Nome do documento deve ter no máximo " + TAMANHO_MAXIMO_NOME + " caracteres");
+        }
+        
+        // Falhas de leitura (conexão encerrada, limite de tamanho) sobem para o controller
+        ArquivoArmazenado arquivo = armazenamentoArquivos.gravar(conteudo);
+        
+        try {
+            if (hashInformado != null && !hashInformado.isBlank() && !hashInformado.equalsIgnoreCase(arquivo.hash())) {
+                throw new BusinessRuleException("Hash informado não confere com o arquivo recebido");
+            }
+            
+            return anexarDocumentoUseCase.executar(idProcesso, nomeDocumento, tipoArquivo(tipoArquivo, nomeDocumento), arquivo);
+        } catch (RuntimeException e) {
+            // A referência ao arquivo foi gravada; sem o documento, ela é devolvida
+            armazenamentoArquivos.liberar(arquivo.caminho().toString());
+            throw e;
+        }
+    }
+    
+    /**
+     * Content type enviado pelo cliente; se não couber na coluna (tipos do Office), a extensão do nome
+     */
+    private static String tipoArquivo(String contentType, String nomeDocumento) {
+        if (contentType != null && !contentType.isBlank() && contentType.length() <= TAMANHO_MAXIMO_TIPO) {
+            return contentType;
+        }
+        int ponto = nomeDocumento.lastIndexOf('.');
+        return ponto >= 0 && ponto < nomeDocumento.length() - 1
+            ? nomeDocumento.substring(ponto + 1).toLowerCase(Locale.ROOT)
+            : null;
+    }
+}
@@ -4,6 +4,7 @@ import smartLegalApi.domain.cliente.entity.Cliente;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface do repositório de Cliente (Domínio)
@@ -45,6 +46,12 @@ public interface ClienteRepository {
      */
     List<Cliente> findAll();
     
+    /**
+     * Percorre os nomes de todos os clientes (ativos e inativos) em páginas do tamanho informado,
+     * sem carregar os demais dados nem manter todos os clientes em memória
+     */
+    void percorrerNomes(int tamanhoPagina, Consumer<String> consumidor);
+    
     /**
      * Verifica se já existe cliente com esse CPF/CNPJ
      */
@@ -51,7 +51,7 @@ public class CpfCnpj {
         return valor.replaceAll("[^0-9]", "");
     }
 
-    private boolean isValidCPF(String cpf) {
+    private static boolean isValidCPF(String cpf) {
         // Verifica se todos os dígitos são iguais
         if (cpf.matches("(\\d)\\1{10}")) {
             return false;
@@ -74,7 +74,10 @@ public class CpfCnpj {
                Character.getNumericValue(cpf.charAt(10)) == digito2;
     }
 
-    private boolean isValidCNPJ(String cnpj) {
+    /**
+     * Verifica os dígitos verificadores de um CNPJ com 14 dígitos, sem formatação
+     */
+    public static boolean isValidCNPJ(String cnpj) {
         // Primeiro dígito verificador
         int soma = 0;
         int peso = 2;
@@ -0,0 +1,183 @@
+package smartLegalApi.domain.peticao.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.domain.shared.exception.DomainException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade de domínio: Job de geração de petição com IA
+ * Representa uma solicitação de geração enfileirada para execução assíncrona
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobGeracaoIA {
+    
+    private static final int TAMANHO_MAXIMO_ERRO = 500;
+    
+    private Long id;
+    private String idLote;
+    private Long idPeticao;
+    private String contexto;
+    private String detalhesAdicionais;
+    private Boolean ignorarCache;
+    private NivelLatencia nivelLatencia;
+    private StatusJobGeracao status;
+    private Integer tentativas;
+    private String instancia;
+    private String mensagemErro;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataInicio;
+    private LocalDateTime dataHeartbeat;
+    private LocalDateTime dataConclusao;
+    
+    /**
+     * Cria um novo job pendente
+     */
+    public static JobGeracaoIA criar(Long idPeticao, String contexto, String detalhesAdicionais,
+                                     boolean ignorarCache) {
+        if (idPeticao == null) {
+            throw new DomainException("ID da petição é obrigatório");
+        }
+        
+        if (contexto == null || contexto.isBlank()) {
+            throw new DomainException("Contexto é obrigatório");
+        }
+        
+        return JobGeracaoIA.builder()
+            .idPeticao(idPeticao)
+            .contexto(contexto)
+            .detalhesAdicionais(detalhesAdicionais)
+            .ignorarCache(ignorarCache)
+            .nivelLatencia(NivelLatencia.PADRAO)
+            .status(StatusJobGeracao.PENDENTE)
+            .tentativas(0)
+            .dataCriacao(LocalDateTime.now())
+            .build();
+    }
+    
+    /**
+     * Cria um novo job pendente pertencente a um lote
+     */
+    public static JobGeracaoIA criarEmLote(String idLote, Long idPeticao, String contexto,
+                                           String detalhesAdicionais, boolean ignorarCache) {
+        if (idLote == null || idLote.isBlank()) {
+            throw new DomainException("ID do lote é obrigatório");
+        }
+        
+        JobGeracaoIA job = criar(idPeticao, contexto, detalhesAdicionais, ignorarCache);
+        job.setIdLote(idLote);
+        return job;
+    }
+    
+    /**
+     * Marca o início da execução por um worker da instância informada, que passa a renovar
+     * o heartbeat do job enquanto o executa
+     */
+    public void iniciar(String instancia) {
+        if (this.status != StatusJobGeracao.PENDENTE) {
+            throw new DomainException("Só é possível iniciar jobs pendentes");
+        }
+        
+        if (instancia == null || instancia.isBlank()) {
+            throw new DomainException("Instância é obrigatória");
+        }
+        
+        this.status = StatusJobGeracao.EXECUTANDO;
+        this.tentativas = this.tentativas == null ? 1 : this.tentativas + 1;
+        this.instancia = instancia;
+        this.dataInicio = LocalDateTime.now();
+        this.dataHeartbeat = this.dataInicio;
+    }
+    
+    /**
+     * Marca o job como concluído
+     */
+    public void concluir() {
+        if (this.status != StatusJobGeracao.EXECUTANDO) {
+            throw new DomainException("Só é possível concluir jobs em execução");
+        }
+        
+        this.status = StatusJobGeracao.CONCLUIDO;
+        this.dataConclusao = LocalDateTime.now();
+    }
+    
+    /**
+     * Marca o job como falho, registrando a mensagem de erro
+     */
+    public void falhar(String mensagemErro) {
+        if (!this.status.isAtivo()) {
+            throw new DomainException("Job já foi finalizado");
+        }
+        
+        this.status = StatusJobGeracao.FALHOU;
+        this.mensagemErro = mensagemErro != null && mensagemErro.length() > TAMANHO_MAXIMO_ERRO
+            ? mensagemErro.substring(0, TAMANHO_MAXIMO_ERRO)
+            : mensagemErro;
+        this.dataConclusao = LocalDateTime.now();
+    }
+    
+    /**
+     * Cancela o job. Se já estiver em execução, o resultado da IA será descartado
+     */
+    public void cancelar() {
+        if (!this.status.isAtivo()) {
+            throw new BusinessRuleException("Job já foi finalizado com status " + this.status);
+        }
+        
+        this.status = StatusJobGeracao.CANCELADO;
+        this.dataConclusao = LocalDateTime.now();
+    }
+    
+    /**
+     * Devolve para a fila um job cuja instância parou de renovar o heartbeat
+     * (ex: reinício ou queda da aplicação durante a execução)
+     */
+    public void reenfileirar() {
+        if (this.status != StatusJobGeracao.EXECUTANDO) {
+            throw new DomainException("Só é possível reenfileirar jobs em execução");
+        }
+        
+        this.status = StatusJobGeracao.PENDENTE;
+        this.instancia = null;
+        this.dataInicio = null;
+        this.dataHeartbeat = null;
+    }
+    
+    /**
+     * Verifica se o job continua em execução pela instância informada
+     * (não foi cancelado, finalizado nem recuperado por outra instância)
+     */
+    public boolean isExecutandoPor(String instancia) {
+        return this.status == StatusJobGeracao.EXECUTANDO && instancia != null && instancia.equals(this.instancia);
+    }
+    
+    /**
+     * Verifica se a geração deve ignorar respostas em cache
+     */
+    public boolean isIgnorarCache() {
+        return Boolean.TRUE.equals(this.ignorarCache);
+    }
+    
+    /**
+     * Nível de latência solicitado; jobs anteriores ao campo usam PADRAO
+     */
+    public NivelLatencia getNivelLatencia() {
+        return this.nivelLatencia != null ? this.nivelLatencia : NivelLatencia.PADRAO;
+    }
+    
+    /**
+     * Verifica se o job foi cancelado
+     */
+    public boolean isCancelado() {
+        return this.status == StatusJobGeracao.CANCELADO;
+    }
+}
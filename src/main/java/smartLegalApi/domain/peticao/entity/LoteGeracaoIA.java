@@ -0,0 +1,49 @@
+package smartLegalApi.domain.peticao.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lote de gerações com IA: conjunto de jobs enfileirados juntos e acompanhados pelo mesmo ID.
+ * Petições recusadas no envio (status inválido, geração já em andamento) ficam em rejeitados
+ * e não impedem o processamento das demais.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteGeracaoIA {
+    
+    private String id;
+    
+    @Builder.Default
+    private List<JobGeracaoIA> jobs = new ArrayList<>();
+    
+    /**
+     * Petições recusadas no envio do lote, com o motivo (ID da petição → motivo)
+     */
+    @Builder.Default
+    private Map<Long, String> rejeitados = new LinkedHashMap<>();
+    
+    /**
+     * Conta os jobs do lote com o status informado
+     */
+    public long contar(StatusJobGeracao status) {
+        return jobs.stream().filter(job -> job.getStatus() == status).count();
+    }
+    
+    /**
+     * Verifica se todos os jobs do lote já terminaram (com sucesso, falha ou cancelamento)
+     */
+    public boolean isFinalizado() {
+        return jobs.stream().noneMatch(job -> job.getStatus().isAtivo());
+    }
+}
@@ -0,0 +1,102 @@
+package smartLegalApi.domain.peticao.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.domain.shared.exception.DomainException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade de domínio: Modelo de Petição
+ * 
+ * Texto padrão de um tipo de petição com campos entre chaves duplas ({{processo.numero}},
+ * {{cliente.nome}}, {{advogado.oab}}) preenchidos com os dados do processo, do cliente e do
+ * advogado, sem chamada à IA.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModeloPeticao {
+    
+    private Long id;
+    private TipoPeticao tipo;
+    private String nome;
+    private String conteudo;
+    private Boolean ativo;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
+    
+    /**
+     * Cria um novo modelo ativo
+     */
+    public static ModeloPeticao criar(TipoPeticao tipo, String nome, String conteudo) {
+        if (tipo == null) {
+            throw new DomainException("Tipo da petição é obrigatório");
+        }
+        validarTexto(nome, conteudo);
+        
+        return ModeloPeticao.builder()
+            .tipo(tipo)
+            .nome(nome.trim())
+            .conteudo(conteudo)
+            .ativo(true)
+            .dataCriacao(LocalDateTime.now())
+            .build();
+    }
+    
+    /**
+     * Atualiza o nome e o texto do modelo
+     */
+    public void atualizar(String nome, String conteudo) {
+        validarTexto(nome, conteudo);
+        
+        this.nome = nome.trim();
+        this.conteudo = conteudo;
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+    
+    /**
+     * Desativa o modelo; petições já preenchidas não são afetadas
+     */
+    public void desativar() {
+        this.ativo = false;
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+    
+    /**
+     * Valida que o modelo pode preencher uma petição do tipo informado
+     */
+    public void validarUso(TipoPeticao tipoPeticao) {
+        if (!isAtivo()) {
+            throw new BusinessRuleException("Modelo de petição " + id + " está desativado");
+        }
+        
+        if (this.tipo != tipoPeticao) {
+            throw new BusinessRuleException("Modelo de " + tipo.getDescricao()
+                + " não pode ser usado em petição do tipo " + tipoPeticao.getDescricao());
+        }
+    }
+    
+    public boolean isAtivo() {
+        return Boolean.TRUE.equals(this.ativo);
+    }
+    
+    private static void validarTexto(String nome, String conteudo) {
+        if (nome == null || nome.isBlank()) {
+            throw new DomainException("Nome do modelo é obrigatório");
+        }
+        
+        if (nome.length() > 150) {
+            throw new DomainException("Nome do modelo não pode ter mais de 150 caracteres");
+        }
+        
+        if (conteudo == null || conteudo.isBlank()) {
+            throw new DomainException("Conteúdo do modelo é obrigatório");
+        }
+    }
+}
@@ -4,11 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.SecaoPeticao;
 import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
 import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
 import smartLegalApi.domain.shared.exception.DomainException;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Entidade de domínio: Petição
@@ -29,8 +32,11 @@ public class Peticao {
     private String promptUtilizado;
     private StatusPeticao status;
     private String caminhoDocumento;
+    private Integer citacoesInvalidas;
     private LocalDateTime dataCriacao;
     private LocalDateTime dataAtualizacao;
+    private LocalDateTime dataSolicitacaoProtocolo;
+    private Integer tentativasProtocolo;
     private LocalDateTime dataProtocolo;
     
     /**
@@ -84,6 +90,23 @@ public class Peticao {
         this.dataAtualizacao = LocalDateTime.now();
     }
     
+    /**
+     * Preenche a petição com o texto de um modelo, sem IA, e a envia para revisão
+     */
+    public void preencherComModelo(String conteudoModelo) {
+        if (this.status != StatusPeticao.RASCUNHO && this.status != StatusPeticao.REVISAO) {
+            throw new DomainException("Só é possível aplicar modelo a petições em rascunho ou revisão");
+        }
+        
+        if (conteudoModelo == null || conteudoModelo.isBlank()) {
+            throw new DomainException("Conteúdo do modelo não pode ser vazio");
+        }
+        
+        this.conteudo = conteudoModelo;
+        this.status = StatusPeticao.REVISAO;
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+    
     /**
      * Atualiza o conteúdo da petição (edição manual)
      */
@@ -100,6 +123,80 @@ public class Peticao {
         this.dataAtualizacao = LocalDateTime.now();
     }
     
+    /**
+     * Seções do conteúdo atual, delimitadas pelos títulos do texto
+     */
+    public List<SecaoPeticao> listarSecoes() {
+        return SecaoPeticao.extrair(this.conteudo);
+    }
+    
+    /**
+     * Retorna a seção a ser regenerada com IA, validando o estado da petição
+     */
+    public SecaoPeticao secaoParaRegenerar(int indice) {
+        if (this.status != StatusPeticao.REVISAO) {
+            throw new DomainException("Só é possível regenerar seções de petições em revisão");
+        }
+        
+        List<SecaoPeticao> secoes = listarSecoes();
+        if (indice < 0 || indice >= secoes.size()) {
+            throw new DomainException("Seção " + indice + " não existe no conteúdo da petição");
+        }
+        
+        return secoes.get(indice);
+    }
+    
+    /**
+     * Substitui uma seção regenerada com IA no conteúdo e, se a seção de mesmo título ainda existir,
+     * também no conteúdo gerado pela IA. A seção precisa estar exatamente como foi lida antes da
+     * geração (título e corpo): se foi editada nesse meio-tempo, a regeneração é recusada
+     */
+    public void substituirSecao(int indice, SecaoPeticao secaoLida, String novoTexto) {
+        if (novoTexto == null || novoTexto.isBlank()) {
+            throw new DomainException("Conteúdo gerado não pode ser vazio");
+        }
+        
+        SecaoPeticao secao = secaoParaRegenerar(indice);
+        if (!Objects.equals(secao.texto(), secaoLida.texto())) {
+            throw new DomainException("O conteúdo da petição foi alterado durante a regeneração da seção");
+        }
+        
+        String textoFinal = manterTitulo(secao, novoTexto);
+        
+        List<SecaoPeticao> secoesIA = SecaoPeticao.extrair(this.conteudoGeradoIA);
+        if (indice < secoesIA.size() && Objects.equals(secoesIA.get(indice).titulo(), secaoLida.titulo())) {
+            this.conteudoGeradoIA = secoesIA.get(indice).substituirEm(this.conteudoGeradoIA, textoFinal);
+        }
+        
+        this.conteudo = secao.substituirEm(this.conteudo, textoFinal);
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+    
+    /**
+     * Recoloca a linha de título original quando o texto novo não começa com um título
+     */
+    private static String manterTitulo(SecaoPeticao secao, String novoTexto) {
+        if (!secao.possuiTitulo()) {
+            return novoTexto.strip();
+        }
+        
+        List<SecaoPeticao> secoesNovas = SecaoPeticao.extrair(novoTexto);
+        if (!secoesNovas.isEmpty() && secoesNovas.get(0).possuiTitulo()) {
+            return novoTexto.strip();
+        }
+        
+        String linhaTitulo = secao.texto().lines().findFirst().orElse(secao.titulo());
+        return linhaTitulo + "\n\n" + novoTexto.strip();
+    }
+    
+    /**
+     * Registra quantas citações de lei do conteúdo não conferem com o índice de legislação
+     * (artigo inexistente ou revogado); nulo quando o conteúdo não foi verificado
+     */
+    public void registrarVerificacaoCitacoes(Integer citacoesInvalidas) {
+        this.citacoesInvalidas = citacoesInvalidas;
+    }
+    
     /**
      * Aprova a petição para protocolo
      */
@@ -116,6 +213,48 @@ public class Peticao {
         this.dataAtualizacao = LocalDateTime.now();
     }
     
+    /**
+     * Registra a solicitação de protocolo; o documento é gerado em segundo plano e o protocolo
+     * é concluído com {@link #protocolar(String)}. Solicitar de novo não altera a data original
+     */
+    public void solicitarProtocolo() {
+        if (this.status != StatusPeticao.APROVADA) {
+            throw new DomainException("Só é possível protocolar petições aprovadas");
+        }
+        
+        if (this.dataSolicitacaoProtocolo == null) {
+            this.dataSolicitacaoProtocolo = LocalDateTime.now();
+            this.tentativasProtocolo = 0;
+        }
+    }
+    
+    /**
+     * Registra uma falha na geração do documento de protocolo. Esgotadas as tentativas, a
+     * solicitação é cancelada (a petição continua aprovada e pode ser protocolada de novo)
+     * e retorna true
+     */
+    public boolean registrarFalhaProtocolo(int maximoTentativas) {
+        if (!isProtocoloPendente()) {
+            return false;
+        }
+        
+        this.tentativasProtocolo = (this.tentativasProtocolo != null ? this.tentativasProtocolo : 0) + 1;
+        if (this.tentativasProtocolo < maximoTentativas) {
+            return false;
+        }
+        
+        this.dataSolicitacaoProtocolo = null;
+        this.dataAtualizacao = LocalDateTime.now();
+        return true;
+    }
+    
+    /**
+     * Protocolo solicitado e ainda não concluído
+     */
+    public boolean isProtocoloPendente() {
+        return this.status == StatusPeticao.APROVADA && this.dataSolicitacaoProtocolo != null;
+    }
+    
     /**
      * Registra o protocolo da petição
      */
@@ -143,6 +282,7 @@ public class Peticao {
         }
         
         this.status = StatusPeticao.REVISAO;
+        this.dataSolicitacaoProtocolo = null;
         this.dataAtualizacao = LocalDateTime.now();
     }
     
@@ -0,0 +1,21 @@
+package smartLegalApi.domain.peticao.exception;
+
+import lombok.Getter;
+import smartLegalApi.domain.shared.exception.DomainException;
+
+/**
+ * Exception lançada sem chamar o provedor de IA quando o advogado esgotou sua cota diária ou mensal
+ */
+@Getter
+public class CotaIAExcedidaException extends DomainException {
+    
+    /**
+     * Segundos até a cota ser renovada (virada do dia ou do mês)
+     */
+    private final long segundosParaNovaTentativa;
+    
+    public CotaIAExcedidaException(Long idAdvogado, String cota, long segundosParaNovaTentativa) {
+        super("Cota " + cota + " de uso da IA esgotada para o advogado " + idAdvogado);
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+}
@@ -0,0 +1,13 @@
+package smartLegalApi.domain.peticao.exception;
+
+import smartLegalApi.domain.shared.exception.DomainException;
+
+/**
+ * Exception lançada quando a fila de geração com IA atingiu sua capacidade máxima
+ */
+public class FilaGeracaoIACheiaException extends DomainException {
+    
+    public FilaGeracaoIACheiaException(long capacidade) {
+        super("Fila de geração com IA cheia (capacidade: " + capacidade + "). Tente novamente em instantes");
+    }
+}
@@ -0,0 +1,13 @@
+package smartLegalApi.domain.peticao.exception;
+
+import smartLegalApi.domain.shared.exception.DomainException;
+
+/**
+ * Exception lançada quando há protocolos pendentes demais aguardando a geração do documento
+ */
+public class FilaProtocoloCheiaException extends DomainException {
+    
+    public FilaProtocoloCheiaException(long capacidade) {
+        super("Fila de protocolo cheia (capacidade: " + capacidade + "). Tente novamente em instantes");
+    }
+}
@@ -0,0 +1,13 @@
+package smartLegalApi.domain.peticao.exception;
+
+import smartLegalApi.domain.shared.exception.NotFoundException;
+
+/**
+ * Exception para job de geração com IA não encontrado
+ */
+public class JobGeracaoIANaoEncontradoException extends NotFoundException {
+    
+    public JobGeracaoIANaoEncontradoException(Long id) {
+        super("Job de geração não encontrado com ID: " + id);
+    }
+}
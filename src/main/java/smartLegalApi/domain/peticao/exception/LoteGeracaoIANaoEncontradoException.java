@@ -0,0 +1,13 @@
+package smartLegalApi.domain.peticao.exception;
+
+import smartLegalApi.domain.shared.exception.NotFoundException;
+
+/**
+ * Exception para lote de geração com IA não encontrado
+ */
+public class LoteGeracaoIANaoEncontradoException extends NotFoundException {
+    
+    public LoteGeracaoIANaoEncontradoException(String id) {
+        super("Lote de geração não encontrado com ID: " + id);
+    }
+}
@@ -0,0 +1,13 @@
+package smartLegalApi.domain.peticao.exception;
+
+import smartLegalApi.domain.shared.exception.NotFoundException;
+
+/**
+ * Exception para modelo de petição não encontrado
+ */
+public class ModeloPeticaoNaoEncontradoException extends NotFoundException {
+    
+    public ModeloPeticaoNaoEncontradoException(Long id) {
+        super("Modelo de petição não encontrado com ID: " + id);
+    }
+}
@@ -0,0 +1,21 @@
+package smartLegalApi.domain.peticao.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception lançada sem chamar o provedor de IA quando ele está marcado como indisponível
+ * (circuito aberto após falhas ou lentidão recorrentes)
+ */
+@Getter
+public class ServicoIAIndisponivelException extends ErroGeracaoIAException {
+    
+    /**
+     * Segundos até o provedor voltar a ser testado
+     */
+    private final long segundosParaNovaTentativa;
+    
+    public ServicoIAIndisponivelException(long segundosParaNovaTentativa) {
+        super("Serviço de IA temporariamente indisponível. Tente novamente em " + segundosParaNovaTentativa + " segundos");
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+}
@@ -0,0 +1,73 @@
+package smartLegalApi.domain.peticao.repository;
+
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório de domínio para Jobs de geração com IA
+ */
+public interface JobGeracaoIARepository {
+    
+    /**
+     * Salva um novo job
+     */
+    JobGeracaoIA save(JobGeracaoIA job);
+    
+    /**
+     * Atualiza um job existente
+     */
+    JobGeracaoIA update(JobGeracaoIA job);
+    
+    /**
+     * Busca job por ID
+     */
+    Optional<JobGeracaoIA> findById(Long id);
+    
+    /**
+     * Busca job por ID travando a linha até o fim da transação (SELECT ... FOR UPDATE),
+     * para que duas instâncias não assumam nem finalizem o mesmo job
+     */
+    Optional<JobGeracaoIA> findByIdComTrava(Long id);
+    
+    /**
+     * Lista jobs por status, do mais antigo para o mais recente
+     */
+    List<JobGeracaoIA> findByStatus(StatusJobGeracao status);
+    
+    /**
+     * Lista jobs em execução cujo último heartbeat é anterior ao limite (lease expirado),
+     * travando as linhas até o fim da transação
+     */
+    List<JobGeracaoIA> findExecutandoComHeartbeatAnterior(LocalDateTime limite);
+    
+    /**
+     * Renova o heartbeat dos jobs informados que continuam em execução pela instância;
+     * retorna quantos foram renovados
+     */
+    int renovarHeartbeat(Collection<Long> ids, String instancia, LocalDateTime agora);
+    
+    /**
+     * Lista os jobs de um lote, na ordem de envio
+     */
+    List<JobGeracaoIA> findByLote(String idLote);
+    
+    /**
+     * Lista os jobs de um lote com o status informado, na ordem de envio
+     */
+    List<JobGeracaoIA> findByLoteAndStatus(String idLote, StatusJobGeracao status);
+    
+    /**
+     * Conta jobs que ainda ocupam a fila (pendentes ou em execução)
+     */
+    long countAtivos();
+    
+    /**
+     * Verifica se a petição já possui job pendente ou em execução
+     */
+    boolean existsAtivoPorPeticao(Long idPeticao);
+}
@@ -0,0 +1,38 @@
+package smartLegalApi.domain.peticao.repository;
+
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório de domínio para Modelo de Petição
+ */
+public interface ModeloPeticaoRepository {
+    
+    /**
+     * Salva um novo modelo
+     */
+    ModeloPeticao save(ModeloPeticao modelo);
+    
+    /**
+     * Atualiza um modelo existente
+     */
+    ModeloPeticao update(ModeloPeticao modelo);
+    
+    /**
+     * Busca modelo por ID
+     */
+    Optional<ModeloPeticao> findById(Long id);
+    
+    /**
+     * Lista os modelos ativos
+     */
+    List<ModeloPeticao> findAtivos();
+    
+    /**
+     * Lista os modelos ativos de um tipo de petição
+     */
+    List<ModeloPeticao> findAtivosByTipo(TipoPeticao tipo);
+}
@@ -4,6 +4,7 @@ import smartLegalApi.domain.peticao.entity.Peticao;
 import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
 import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,17 @@ public interface PeticaoRepository {
      */
     Optional<Peticao> findById(Long id);
     
+    /**
+     * Busca petição por ID travando a linha até o fim da transação (SELECT ... FOR UPDATE);
+     * serializa verificações seguidas de alteração sobre a mesma petição
+     */
+    Optional<Peticao> findByIdComTrava(Long id);
+    
+    /**
+     * Busca petições pelos IDs, em uma única consulta
+     */
+    List<Peticao> findAllById(Collection<Long> ids);
+    
     /**
      * Lista todas as petições
      */
@@ -47,11 +59,26 @@ public interface PeticaoRepository {
      */
     List<Peticao> findByAdvogadoAndStatus(Long idAdvogado, StatusPeticao status);
     
+    /**
+     * Lista petições por status
+     */
+    List<Peticao> findByStatus(StatusPeticao status);
+    
     /**
      * Lista petições por processo e tipo
      */
     List<Peticao> findByProcessoAndTipo(Long idProcesso, TipoPeticao tipo);
     
+    /**
+     * Lista petições aprovadas com protocolo solicitado e ainda não concluído
+     */
+    List<Peticao> findProtocoloPendente();
+    
+    /**
+     * Conta petições aprovadas com protocolo solicitado e ainda não concluído
+     */
+    long countProtocoloPendente();
+    
     /**
      * Deleta uma petição
      */
@@ -0,0 +1,20 @@
+package smartLegalApi.domain.peticao.valueobject;
+
+/**
+ * Nível de latência solicitado para a geração com IA; orienta a escolha do modelo
+ */
+public enum NivelLatencia {
+    RAPIDA("Prioriza o tempo de resposta"),
+    PADRAO("Escolha automática pelo tipo e tamanho da petição"),
+    QUALIDADE("Prioriza a qualidade do texto");
+    
+    private final String descricao;
+    
+    NivelLatencia(String descricao) {
+        this.descricao = descricao;
+    }
+    
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,101 @@
+package smartLegalApi.domain.peticao.valueobject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object: seção do conteúdo de uma petição, delimitada pelos títulos do texto.
+ * 
+ * São títulos as linhas curtas em markdown (# Título ou **Título**) ou inteiramente em maiúsculas
+ * (DOS FATOS, II - DO DIREITO). O texto anterior ao primeiro título forma uma seção sem título.
+ * inicio e fim são posições no conteúdo (fim exclusivo) e o texto inclui a linha do título.
+ */
+public record SecaoPeticao(int indice, String titulo, int inicio, int fim, String texto) {
+    
+    private static final int TAMANHO_MAXIMO_TITULO = 100;
+    private static final Pattern TITULO_MARKDOWN = Pattern.compile("^(#{1,6}\\s+(.+?)|\\*\\*([^*]+)\\*\\*)\\s*:?$");
+    private static final Pattern MINUSCULA = Pattern.compile("\\p{Ll}");
+    private static final Pattern LETRAS = Pattern.compile("\\p{L}{3,}");
+    
+    /**
+     * Divide o conteúdo em seções; conteúdo vazio não tem seções
+     */
+    public static List<SecaoPeticao> extrair(String conteudo) {
+        if (conteudo == null || conteudo.isBlank()) {
+            return Collections.emptyList();
+        }
+        
+        List<SecaoPeticao> secoes = new ArrayList<>();
+        String tituloAtual = null;
+        int inicioAtual = 0;
+        int posicao = 0;
+        
+        while (posicao < conteudo.length()) {
+            int fimLinha = conteudo.indexOf('\n', posicao);
+            if (fimLinha < 0) {
+                fimLinha = conteudo.length();
+            }
+            
+            String titulo = lerTitulo(conteudo.substring(posicao, fimLinha).strip());
+            if (titulo != null) {
+                adicionar(secoes, conteudo, tituloAtual, inicioAtual, posicao);
+                tituloAtual = titulo;
+                inicioAtual = posicao;
+            }
+            
+            posicao = fimLinha + 1;
+        }
+        
+        adicionar(secoes, conteudo, tituloAtual, inicioAtual, conteudo.length());
+        return secoes;
+    }
+    
+    /**
+     * Substitui o trecho da seção no conteúdo, mantendo a separação com a seção seguinte
+     */
+    public String substituirEm(String conteudo, String novoTexto) {
+        String separador = fim < conteudo.length() ? "\n\n" : "";
+        return conteudo.substring(0, inicio) + novoTexto.strip() + separador + conteudo.substring(fim);
+    }
+    
+    public boolean possuiTitulo() {
+        return titulo != null;
+    }
+    
+    private static void adicionar(List<SecaoPeticao> secoes, String conteudo, String titulo, int inicio, int fim) {
+        // Texto solto antes do primeiro título só vira seção se tiver conteúdo
+        if (titulo == null && conteudo.substring(inicio, fim).isBlank()) {
+            return;
+        }
+        
+        // O fim da seção exclui as linhas em branco que a separam da próxima
+        int fimTexto = fim;
+        while (fimTexto > inicio && Character.isWhitespace(conteudo.charAt(fimTexto - 1))) {
+            fimTexto--;
+        }
+        
+        secoes.add(new SecaoPeticao(secoes.size(), titulo, inicio, fim, conteudo.substring(inicio, fimTexto)));
+    }
+    
+    private static String lerTitulo(String linha) {
+        if (linha.isEmpty() || linha.length() > TAMANHO_MAXIMO_TITULO) {
+            return null;
+        }
+        
+        Matcher markdown = TITULO_MARKDOWN.matcher(linha);
+        if (markdown.matches()) {
+            return (markdown.group(2) != null ? markdown.group(2) : markdown.group(3)).strip();
+        }
+        
+        // Linha toda em maiúsculas, com ao menos uma palavra, e que não termina como frase
+        if (!MINUSCULA.matcher(linha).find() && LETRAS.matcher(linha).find()
+            && !linha.endsWith(",") && !linha.endsWith(";")) {
+            return linha;
+        }
+        
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package smartLegalApi.domain.peticao.valueobject;
+
+/**
+ * Status de um job de geração de petição com IA
+ */
+public enum StatusJobGeracao {
+    PENDENTE("Aguardando na fila"),
+    EXECUTANDO("Em execução"),
+    CONCLUIDO("Concluído"),
+    FALHOU("Falhou"),
+    CANCELADO("Cancelado");
+    
+    private final String descricao;
+    
+    StatusJobGeracao(String descricao) {
+        this.descricao = descricao;
+    }
+    
+    public String getDescricao() {
+        return descricao;
+    }
+    
+    /**
+     * Indica se o job ainda ocupa uma posição na fila
+     */
+    public boolean isAtivo() {
+        return this == PENDENTE || this == EXECUTANDO;
+    }
+}
@@ -0,0 +1,86 @@
+package smartLegalApi.domain.processo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.shared.exception.DomainException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade de domínio: Resumo do Processo gerado com IA
+ * 
+ * O resumo é mantido de forma incremental: guarda o último andamento incorporado e, quando
+ * chegam andamentos novos, só eles são resumidos junto com o texto anterior. A alteração ou
+ * exclusão de um andamento já incorporado exige reconstruir o resumo desde o início.
+ * A versão é incrementada a cada marcação, para descartar uma atualização que terminou depois
+ * de um andamento novo ter sido registrado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoProcesso {
+    
+    private Long id;
+    private Long idProcesso;
+    private String texto;
+    private Long idUltimoAndamento;
+    private Integer andamentosResumidos;
+    private Boolean desatualizado;
+    private Boolean reconstruir;
+    private Long versao;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
+    
+    /**
+     * Cria o resumo de um processo, ainda a ser gerado
+     */
+    public static ResumoProcesso criar(Long idProcesso) {
+        if (idProcesso == null) {
+            throw new DomainException("ID do processo é obrigatório");
+        }
+        
+        return ResumoProcesso.builder()
+            .idProcesso(idProcesso)
+            .idUltimoAndamento(0L)
+            .andamentosResumidos(0)
+            .desatualizado(true)
+            .reconstruir(false)
+            .versao(0L)
+            .dataCriacao(LocalDateTime.now())
+            .build();
+    }
+    
+    /**
+     * Descarta o texto para resumir todos os andamentos de novo
+     */
+    public void reiniciar() {
+        this.texto = null;
+        this.idUltimoAndamento = 0L;
+        this.andamentosResumidos = 0;
+    }
+    
+    /**
+     * Substitui o texto pelo resumo que incorpora os andamentos até idUltimoAndamento
+     */
+    public void incorporar(String novoTexto, Long idUltimoAndamento, int quantidade) {
+        if (novoTexto == null || novoTexto.isBlank()) {
+            throw new DomainException("Resumo gerado não pode ser vazio");
+        }
+        
+        this.texto = novoTexto.strip();
+        this.idUltimoAndamento = idUltimoAndamento;
+        this.andamentosResumidos = (this.andamentosResumidos == null ? 0 : this.andamentosResumidos) + quantidade;
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+    
+    public boolean isDesatualizado() {
+        return Boolean.TRUE.equals(this.desatualizado);
+    }
+    
+    public boolean isReconstruir() {
+        return Boolean.TRUE.equals(this.reconstruir);
+    }
+}
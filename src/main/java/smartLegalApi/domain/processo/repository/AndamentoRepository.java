@@ -17,6 +17,11 @@ public interface AndamentoRepository {
     
     List<Andamento> findByProcessoOrdenadoPorData(Long idProcesso);
     
+    /**
+     * Andamentos do processo cadastrados depois do andamento informado, na ordem de cadastro
+     */
+    List<Andamento> findByProcessoAposId(Long idProcesso, Long idAndamento);
+    
     void deleteById(Long id);
 }
 
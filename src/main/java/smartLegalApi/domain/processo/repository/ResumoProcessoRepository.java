@@ -0,0 +1,58 @@
+package smartLegalApi.domain.processo.repository;
+
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório de domínio para o Resumo do Processo
+ */
+public interface ResumoProcessoRepository {
+    
+    /**
+     * Salva um novo resumo
+     */
+    ResumoProcesso save(ResumoProcesso resumo);
+    
+    /**
+     * Cria o resumo se o processo ainda não tiver um, sem falhar quando outra requisição o cria
+     * ao mesmo tempo; retorna false se o resumo já existia
+     */
+    boolean criarSeAusente(ResumoProcesso resumo);
+    
+    /**
+     * Busca o resumo do processo
+     */
+    Optional<ResumoProcesso> findByProcesso(Long idProcesso);
+    
+    /**
+     * Busca o resumo do processo com leitura travada, que enxerga o resumo criado por uma
+     * transação concorrente já confirmada
+     */
+    Optional<ResumoProcesso> findByProcessoComTrava(Long idProcesso);
+    
+    /**
+     * Lista os resumos que aguardam atualização
+     */
+    List<ResumoProcesso> findDesatualizados();
+    
+    /**
+     * Marca o resumo como desatualizado após um andamento novo;
+     * retorna false se o processo ainda não tem resumo
+     */
+    boolean marcarDesatualizado(Long idProcesso);
+    
+    /**
+     * Marca o resumo como desatualizado após a alteração ou exclusão de um andamento; se o
+     * andamento já havia sido incorporado, o resumo será reconstruído.
+     * Retorna false se o processo ainda não tem resumo
+     */
+    boolean marcarAlteracao(Long idProcesso, Long idAndamento);
+    
+    /**
+     * Grava o resumo atualizado se nenhuma marcação aconteceu desde a leitura da versão informada;
+     * retorna false se o resumo foi marcado de novo durante a geração
+     */
+    boolean concluirAtualizacao(ResumoProcesso resumo, Long versaoLida);
+}
@@ -37,13 +37,16 @@ public class CPF {
         return cpf.replaceAll("[^0-9]", "");
     }
 
-    private boolean isValido(String cpf) {
+    /**
+     * Verifica o tamanho e os dígitos verificadores de um CPF sem formatação
+     */
+    public static boolean isValido(String cpf) {
         if (cpf.length() != 11) {
             return false;
         }
         
         // Verifica se todos os dígitos são iguais
-        if (cpf.matches("(\\d)\\1{10}")) {
+        if (cpf.chars().allMatch(c -> c == cpf.charAt(0))) {
             return false;
         }
         
@@ -39,7 +39,10 @@ public class Email {
         this.valor = emailLimpo;
     }
 
-    private boolean isValido(String email) {
+    /**
+     * Verifica o formato de um email já em minúsculas e sem espaços
+     */
+    public static boolean isValido(String email) {
         return EMAIL_PATTERN.matcher(email).matches();
     }
 
@@ -37,7 +37,10 @@ public class Telefone {
         return telefone.replaceAll("[^0-9]", "");
     }
 
-    private boolean isValido(String telefone) {
+    /**
+     * Verifica um telefone sem formatação: DDD + 8 dígitos (fixo) ou DDD + 9 + 8 dígitos (celular)
+     */
+    public static boolean isValido(String telefone) {
         // Aceita telefones com 10 dígitos (fixo) ou 11 dígitos (celular)
         if (telefone.length() != 10 && telefone.length() != 11) {
             return false;
@@ -0,0 +1,175 @@
+package smartLegalApi.infrastructure.ai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.AiTextGenerator;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+import smartLegalApi.infrastructure.persistence.jpa.entity.RespostaIACacheJpaEntity;
+import smartLegalApi.infrastructure.persistence.jpa.repository.RespostaIACacheJpaRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Cache de respostas da IA em dois níveis: Caffeine em memória e tabela cache_respostas_ia.
+ * 
+ * A chave é o SHA-256 de (provedor/modelo, temperatura, maxTokens, prompt), portanto qualquer mudança
+ * de configuração ou de texto do prompt gera uma chave nova. Falhas no nível persistente
+ * não impedem a geração: o cache é apenas uma otimização. Só as chamadas ao provedor contam
+ * para a cota do advogado (ContabilizadorUsoIA).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheRespostaIAService {
+    
+    private static final char SEPARADOR = '\u0000';
+    
+    private final AiTextGenerator aiTextGenerator;
+    private final ContabilizadorUsoIA contabilizadorUso;
+    private final RespostaIACacheJpaRepository cacheRepository;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private Cache<String, String> memoria;
+    
+    @PostConstruct
+    void inicializar() {
+        GeminiProperties.Cache config = geminiProperties.getCache();
+        
+        memoria = Caffeine.newBuilder()
+            .maximumWeight(config.getMaximoCaracteresMemoria())
+            .weigher((String chave, String conteudo) -> conteudo.length())
+            .expireAfterWrite(Duration.ofMinutes(config.getTtlMinutos()))
+            .recordStats()
+            .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, memoria, "gemini.respostas");
+    }
+    
+    /**
+     * Retorna a resposta em cache para o prompt ou chama o Gemini e armazena o resultado.
+     * Com ignorarCache a IA é sempre chamada, mas a resposta nova substitui a anterior.
+     */
+    public String gerarConteudo(String prompt, boolean ignorarCache) {
+        return gerarConteudo(prompt, null, ignorarCache);
+    }
+    
+    /**
+     * Como gerarConteudo(prompt, ignorarCache), repassando o perfil usado na escolha do modelo;
+     * o nível de latência faz parte da chave, já que pode levar a modelos diferentes
+     */
+    public String gerarConteudo(String prompt, PerfilGeracao perfil, boolean ignorarCache) {
+        if (!geminiProperties.getCache().getHabilitado()) {
+            return contabilizadorUso.executar(perfil, prompt, tokens -> aiTextGenerator.gerarConteudo(prompt, perfil, tokens));
+        }
+        
+        String chave = calcularChave(prompt, perfil);
+        
+        if (ignorarCache) {
+            registrar("ignorado");
+        } else {
+            String emMemoria = memoria.getIfPresent(chave);
+            if (emMemoria != null) {
+                registrar("memoria");
+                return emMemoria;
+            }
+            
+            Optional<String> persistido = buscarPersistido(chave);
+            if (persistido.isPresent()) {
+                registrar("banco");
+                memoria.put(chave, persistido.get());
+                return persistido.get();
+            }
+            
+            registrar("miss");
+        }
+        
+        String conteudoGerado = contabilizadorUso.executar(
+            perfil, prompt, tokens -> aiTextGenerator.gerarConteudo(prompt, perfil, tokens));
+        memoria.put(chave, conteudoGerado);
+        persistir(chave, conteudoGerado);
+        
+        return conteudoGerado;
+    }
+    
+    /**
+     * Remove periodicamente as respostas expiradas do nível persistente
+     */
+    @Scheduled(fixedDelayString = "${gemini.cache.limpeza-ms:3600000}")
+    public void limparExpirados() {
+        try {
+            int removidos = cacheRepository.deleteExpirados(LocalDateTime.now());
+            if (removidos > 0) {
+                log.info("Cache de respostas da IA: {} entradas expiradas removidas", removidos);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha ao limpar o cache persistente de respostas da IA", e);
+        }
+    }
+    
+    /**
+     * Calcula a chave do cache: SHA-256 em hexadecimal dos parâmetros que influenciam a resposta
+     */
+    String calcularChave(String prompt, PerfilGeracao perfil) {
+        String material = new StringBuilder()
+            .append(aiTextGenerator.getIdentificador()).append(SEPARADOR)
+            .append(perfil != null ? perfil.nivel() : "").append(SEPARADOR)
+            .append(geminiProperties.getTemperature()).append(SEPARADOR)
+            .append(geminiProperties.getMaxTokens()).append(SEPARADOR)
+            .append(prompt)
+            .toString();
+        
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+    
+    private Optional<String> buscarPersistido(String chave) {
+        try {
+            return cacheRepository.findByChaveAndDataExpiracaoAfter(chave, LocalDateTime.now())
+                .map(RespostaIACacheJpaEntity::getConteudo);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao consultar o cache persistente de respostas da IA", e);
+            return Optional.empty();
+        }
+    }
+    
+    private void persistir(String chave, String conteudo) {
+        LocalDateTime agora = LocalDateTime.now();
+        
+        try {
+            cacheRepository.save(RespostaIACacheJpaEntity.builder()
+                .chave(chave)
+                .modelo(aiTextGenerator.getIdentificador())
+                .conteudo(conteudo)
+                .dataCriacao(agora)
+                .dataExpiracao(agora.plusMinutes(geminiProperties.getCache().getTtlMinutos()))
+                .build());
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar resposta no cache persistente da IA", e);
+        }
+    }
+    
+    private void registrar(String resultado) {
+        meterRegistry.counter("smartlegal.ia.cache.consultas", "resultado", resultado).increment();
+    }
+}
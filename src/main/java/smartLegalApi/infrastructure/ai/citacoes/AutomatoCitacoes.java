@@ -0,0 +1,175 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Autômato de Aho-Corasick sobre os nomes das leis e as palavras que introduzem artigos
+ * ("art.", "artigo"), compilado em uma tabela de transições completa (DFA): cada caractere
+ * custa um acesso a array, sem seguir links de falha durante a varredura.
+ *
+ * O texto é dobrado para um alfabeto de 41 símbolos: letras minúsculas sem acento, dígitos,
+ * espaço, '.', '/', '-' e um símbolo para os demais caracteres, que não aparece em nenhum
+ * padrão e por isso interrompe as ocorrências. º e ° viram 'o'.
+ */
+final class AutomatoCitacoes {
+    
+    static final int ESPACO = 36;
+    static final int OUTRO = 40;
+    private static final int SIMBOLOS = 41;
+    private static final int ALFABETO_LATINO = 0x250;
+    private static final byte[] SIMBOLO = new byte[ALFABETO_LATINO];
+    
+    static {
+        for (char c = 0; c < ALFABETO_LATINO; c++) {
+            SIMBOLO[c] = (byte) simboloDe(c);
+        }
+    }
+    
+    private final int[] transicoes;
+    private final int[] saida;
+    private final int[] proximaSaida;
+    
+    private AutomatoCitacoes(int[] transicoes, int[] saida, int[] proximaSaida) {
+        this.transicoes = transicoes;
+        this.saida = saida;
+        this.proximaSaida = proximaSaida;
+    }
+    
+    /**
+     * Símbolo do alfabeto do autômato para o caractere do texto
+     */
+    static int simbolo(char c) {
+        if (c < ALFABETO_LATINO) {
+            return SIMBOLO[c];
+        }
+        return Character.isWhitespace(c) ? ESPACO : OUTRO;
+    }
+    
+    /**
+     * Padrão dobrado no alfabeto do autômato, com espaços repetidos reduzidos a um
+     */
+    static int[] dobrar(String padrao) {
+        int[] simbolos = new int[padrao.length()];
+        int tamanho = 0;
+        for (int i = 0; i < padrao.length(); i++) {
+            int simbolo = simbolo(padrao.charAt(i));
+            if (simbolo != ESPACO || (tamanho > 0 && simbolos[tamanho - 1] != ESPACO)) {
+                simbolos[tamanho++] = simbolo;
+            }
+        }
+        while (tamanho > 0 && simbolos[tamanho - 1] == ESPACO) {
+            tamanho--;
+        }
+        return Arrays.copyOf(simbolos, tamanho);
+    }
+    
+    /**
+     * Constrói o autômato; a saída de um estado é o índice na lista do padrão mais longo
+     * que termina nele
+     */
+    static AutomatoCitacoes construir(List<int[]> padroes) {
+        int capacidade = 1 + padroes.stream().mapToInt(padrao -> padrao.length).sum();
+        int[] transicoes = new int[capacidade * SIMBOLOS];
+        Arrays.fill(transicoes, -1);
+        int[] saida = new int[capacidade];
+        int[] comprimento = new int[capacidade];
+        Arrays.fill(saida, -1);
+        int estados = 1;
+        
+        for (int p = 0; p < padroes.size(); p++) {
+            int estado = 0;
+            for (int simbolo : padroes.get(p)) {
+                int proximo = transicoes[estado * SIMBOLOS + simbolo];
+                if (proximo < 0) {
+                    proximo = estados++;
+                    transicoes[estado * SIMBOLOS + simbolo] = proximo;
+                    comprimento[proximo] = comprimento[estado] + 1;
+                }
+                estado = proximo;
+            }
+            if (padroes.get(p).length > 0) {
+                saida[estado] = p;
+            }
+        }
+        
+        // Busca em largura: completa as transições ausentes com as do estado de falha
+        int[] falha = new int[estados];
+        int[] proximaSaida = new int[estados];
+        Arrays.fill(proximaSaida, -1);
+        ArrayDeque<Integer> fila = new ArrayDeque<>();
+        for (int simbolo = 0; simbolo < SIMBOLOS; simbolo++) {
+            int filho = transicoes[simbolo];
+            if (filho < 0) {
+                transicoes[simbolo] = 0;
+            } else {
+                fila.add(filho);
+            }
+        }
+        
+        while (!fila.isEmpty()) {
+            int estado = fila.poll();
+            int estadoFalha = falha[estado];
+            proximaSaida[estado] = saida[estadoFalha] >= 0 ? estadoFalha : proximaSaida[estadoFalha];
+            
+            for (int simbolo = 0; simbolo < SIMBOLOS; simbolo++) {
+                int indice = estado * SIMBOLOS + simbolo;
+                int filho = transicoes[indice];
+                if (filho < 0) {
+                    transicoes[indice] = transicoes[estadoFalha * SIMBOLOS + simbolo];
+                } else {
+                    falha[filho] = transicoes[estadoFalha * SIMBOLOS + simbolo];
+                    fila.add(filho);
+                }
+            }
+        }
+        
+        return new AutomatoCitacoes(Arrays.copyOf(transicoes, estados * SIMBOLOS),
+            Arrays.copyOf(saida, estados), proximaSaida);
+    }
+    
+    int avancar(int estado, int simbolo) {
+        return transicoes[estado * SIMBOLOS + simbolo];
+    }
+    
+    /**
+     * Padrão mais longo que termina no estado, ou -1
+     */
+    int saida(int estado) {
+        return saida[estado];
+    }
+    
+    /**
+     * Próximo estado (pelos links de falha) que também termina um padrão, ou -1
+     */
+    int proximaSaida(int estado) {
+        return proximaSaida[estado];
+    }
+    
+    private static int simboloDe(char c) {
+        if (c == 'º' || c == '°') {
+            return 'o' - 'a';
+        }
+        if (Character.isWhitespace(c) || c == '\u00A0') {
+            return ESPACO;
+        }
+        if (c == '.' || c == '/' || c == '-') {
+            return switch (c) {
+                case '.' -> 37;
+                case '/' -> 38;
+                default -> 39;
+            };
+        }
+        
+        char base = Character.toLowerCase(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0));
+        if (base >= 'a' && base <= 'z') {
+            return base - 'a';
+        }
+        if (base >= '0' && base <= '9') {
+            return 26 + base - '0';
+        }
+        return OUTRO;
+    }
+}
@@ -0,0 +1,24 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+/**
+ * Artigo de lei citado no texto
+ * 
+ * @param inicio posição do número do artigo no texto
+ * @param fim posição logo após o número (inclui o ordinal e o sufixo, como em "5º" e "611-A")
+ * @param lei sigla da lei, como no arquivo de legislação (CPC, CF, Lei 8.245/91)
+ * @param artigo artigo normalizado: "5º", "319", "1.048", "611-A"
+ * @param url endereço do artigo no texto oficial da lei; nulo se o artigo não existe
+ */
+public record CitacaoLegal(
+    int inicio,
+    int fim,
+    String lei,
+    String artigo,
+    SituacaoCitacao situacao,
+    String url
+) {
+    
+    public boolean isValida() {
+        return situacao == SituacaoCitacao.VALIDA;
+    }
+}
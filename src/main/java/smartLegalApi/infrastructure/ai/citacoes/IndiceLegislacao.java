@@ -0,0 +1,304 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice imutável das leis carregadas, com o autômato que encontra as citações em uma
+ * única passada pelo texto.
+ *
+ * "art."/"arts."/"artigo(s)" seguido de números abre citações pendentes, que se ligam à
+ * primeira lei mencionada até {@code janela} caracteres depois ("art. 319 do CPC",
+ * "arts. 186 e 927 do Código Civil"). Se a lei vem logo antes e o texto não continua com
+ * "do"/"da" ("CPC, art. 319"), a citação se liga a ela. Artigos sem lei reconhecida
+ * ("art. 5º desta Lei") são ignorados.
+ */
+final class IndiceLegislacao {
+    
+    private static final List<String> GATILHOS = List.of("art", "arts", "artigo", "artigos");
+    private static final Set<String> PREPOSICOES = Set.of("do", "da", "dos", "das", "desta", "deste", "no", "na");
+    private static final int DISTANCIA_LEI_ANTERIOR = 4;
+    private static final int MAXIMO_DIGITOS = 5;
+    
+    private final List<Lei> leis;
+    private final AutomatoCitacoes automato;
+    
+    /** Lei do padrão, ou -1 para os gatilhos */
+    private final int[] leiDoPadrao;
+    private final int[] tamanhoPadrao;
+    
+    /** Siglas curtas (CF, CC, CP) só valem em maiúsculas, para não confundir com "cf." e palavras comuns */
+    private final boolean[] exigeMaiusculas;
+    private final int mascaraAnel;
+    
+    private IndiceLegislacao(List<Lei> leis, AutomatoCitacoes automato, int[] leiDoPadrao,
+                             int[] tamanhoPadrao, boolean[] exigeMaiusculas) {
+        this.leis = leis;
+        this.automato = automato;
+        this.leiDoPadrao = leiDoPadrao;
+        this.tamanhoPadrao = tamanhoPadrao;
+        this.exigeMaiusculas = exigeMaiusculas;
+        
+        int maior = 1;
+        for (int tamanho : tamanhoPadrao) {
+            maior = Math.max(maior, tamanho);
+        }
+        this.mascaraAnel = Integer.highestOneBit(maior * 2 - 1) - 1;
+    }
+    
+    static IndiceLegislacao de(List<Lei> leis) {
+        List<int[]> padroes = new ArrayList<>();
+        List<Integer> leiDoPadrao = new ArrayList<>();
+        List<Boolean> exigeMaiusculas = new ArrayList<>();
+        Map<String, Integer> vistos = new HashMap<>();
+        
+        for (int l = 0; l < leis.size(); l++) {
+            for (String nome : leis.get(l).getNomes()) {
+                int[] dobrado = AutomatoCitacoes.dobrar(nome);
+                String chave = Arrays.toString(dobrado);
+                Integer anterior = vistos.putIfAbsent(chave, l);
+                if (anterior != null) {
+                    if (anterior != l) {
+                        throw new IllegalStateException("'" + nome + "' é nome de " + leis.get(anterior).getSigla()
+                            + " e de " + leis.get(l).getSigla());
+                    }
+                    continue;
+                }
+                padroes.add(dobrado);
+                leiDoPadrao.add(l);
+                exigeMaiusculas.add(nome.length() <= 4 && nome.chars().allMatch(Character::isUpperCase));
+            }
+        }
+        for (String gatilho : GATILHOS) {
+            padroes.add(AutomatoCitacoes.dobrar(gatilho));
+            leiDoPadrao.add(-1);
+            exigeMaiusculas.add(false);
+        }
+        
+        int[] tamanhos = padroes.stream().mapToInt(padrao -> padrao.length).toArray();
+        boolean[] maiusculas = new boolean[exigeMaiusculas.size()];
+        for (int i = 0; i < maiusculas.length; i++) {
+            maiusculas[i] = exigeMaiusculas.get(i);
+        }
+        return new IndiceLegislacao(List.copyOf(leis), AutomatoCitacoes.construir(padroes),
+            leiDoPadrao.stream().mapToInt(Integer::intValue).toArray(), tamanhos, maiusculas);
+    }
+    
+    /**
+     * Citações do texto, em ordem de posição
+     */
+    List<CitacaoLegal> varrer(String texto, int janela) {
+        List<CitacaoLegal> citacoes = new ArrayList<>();
+        if (texto == null || texto.isEmpty()) {
+            return citacoes;
+        }
+        
+        // Posições no texto dos últimos símbolos consumidos (espaços repetidos não são consumidos)
+        int[] anel = new int[mascaraAnel + 1];
+        int consumidos = 0;
+        int estado = 0;
+        int simboloAnterior = AutomatoCitacoes.ESPACO;
+        
+        List<Artigo> pendentes = new ArrayList<>();
+        int fimPendentes = -1;
+        Lei leiAnterior = null;
+        int fimLeiAnterior = -1;
+        
+        for (int i = 0; i < texto.length(); i++) {
+            int simbolo = AutomatoCitacoes.simbolo(texto.charAt(i));
+            if (simbolo == AutomatoCitacoes.ESPACO && simboloAnterior == AutomatoCitacoes.ESPACO) {
+                continue;
+            }
+            simboloAnterior = simbolo;
+            anel[consumidos++ & mascaraAnel] = i;
+            estado = automato.avancar(estado, simbolo);
+            
+            int saida = automato.saida(estado) >= 0 ? estado : automato.proximaSaida(estado);
+            for (; saida >= 0; saida = automato.proximaSaida(saida)) {
+                int padrao = automato.saida(saida);
+                int inicio = anel[(consumidos - tamanhoPadrao[padrao]) & mascaraAnel];
+                int fim = i + 1;
+                if (!isPalavraInteira(texto, inicio, fim)
+                    || (exigeMaiusculas[padrao] && !isMaiusculas(texto, inicio, fim))) {
+                    continue;
+                }
+                
+                if (leiDoPadrao[padrao] >= 0) {
+                    Lei lei = leis.get(leiDoPadrao[padrao]);
+                    if (!pendentes.isEmpty() && inicio - fimPendentes <= janela) {
+                        pendentes.forEach(artigo -> citacoes.add(artigo.citacao(lei)));
+                    }
+                    pendentes.clear();
+                    leiAnterior = lei;
+                    fimLeiAnterior = fim;
+                    continue;
+                }
+                
+                List<Artigo> artigos = new ArrayList<>();
+                int fimArtigos = lerArtigos(texto, fim, artigos);
+                if (artigos.isEmpty()) {
+                    continue;
+                }
+                
+                if (!pendentes.isEmpty() && inicio - fimPendentes > janela) {
+                    pendentes.clear();
+                }
+                if (leiAnterior != null && inicio - fimLeiAnterior <= DISTANCIA_LEI_ANTERIOR
+                    && !isSeguidoDePreposicao(texto, fimArtigos)) {
+                    Lei lei = leiAnterior;
+                    artigos.forEach(artigo -> citacoes.add(artigo.citacao(lei)));
+                } else {
+                    pendentes.addAll(artigos);
+                    fimPendentes = fimArtigos;
+                }
+            }
+        }
+        
+        citacoes.sort(Comparator.comparingInt(CitacaoLegal::inicio));
+        return citacoes;
+    }
+    
+    /**
+     * Lê os números após o gatilho: "319", "5º", "1.048", "611-A" e listas com vírgula, "e" ou "a".
+     * Retorna a posição após o último número lido
+     */
+    private static int lerArtigos(String texto, int posicao, List<Artigo> artigos) {
+        int n = texto.length();
+        int i = posicao;
+        while (i < n && (texto.charAt(i) == '.' || Character.isWhitespace(texto.charAt(i)))) {
+            i++;
+        }
+        
+        int fimUltimo = posicao;
+        while (i < n && isDigito(texto.charAt(i))) {
+            int inicio = i;
+            int numero = 0;
+            int digitos = 0;
+            while (i < n) {
+                char c = texto.charAt(i);
+                if (isDigito(c)) {
+                    numero = numero * 10 + (c - '0');
+                    digitos++;
+                    i++;
+                } else if (c == '.' && i + 4 <= n && isDigito(texto.charAt(i + 1)) && isDigito(texto.charAt(i + 2))
+                    && isDigito(texto.charAt(i + 3)) && (i + 4 == n || !isDigito(texto.charAt(i + 4)))) {
+                    i++; // separador de milhar: 1.048
+                } else {
+                    break;
+                }
+            }
+            if (digitos > MAXIMO_DIGITOS) {
+                break;
+            }
+            
+            if (i < n && (texto.charAt(i) == 'º' || texto.charAt(i) == '°'
+                || (texto.charAt(i) == 'o' && (i + 1 == n || !Character.isLetterOrDigit(texto.charAt(i + 1)))))) {
+                i++;
+            }
+            
+            char letra = 0;
+            if (i + 1 < n && texto.charAt(i) == '-' && isLetraAscii(texto.charAt(i + 1))
+                && (i + 2 == n || !Character.isLetterOrDigit(texto.charAt(i + 2)))) {
+                letra = Character.toUpperCase(texto.charAt(i + 1));
+                i += 2;
+            }
+            if (i < n && Character.isLetterOrDigit(texto.charAt(i))) {
+                break; // "art. 5abc": não é um número de artigo
+            }
+            
+            artigos.add(new Artigo(numero, letra, inicio, i));
+            fimUltimo = i;
+            i = proximoNumero(texto, i);
+        }
+        return fimUltimo;
+    }
+    
+    /**
+     * Posição do próximo número da lista ("5º, 6º e 7º", "arts. 300 a 310"), ou do caractere
+     * que encerra a lista
+     */
+    private static int proximoNumero(String texto, int posicao) {
+        int n = texto.length();
+        int i = pularEspacos(texto, posicao);
+        if (i < n && texto.charAt(i) == ',') {
+            i = pularEspacos(texto, i + 1);
+        }
+        if (i + 1 < n && (texto.charAt(i) == 'e' || texto.charAt(i) == 'a')
+            && Character.isWhitespace(texto.charAt(i + 1))) {
+            i = pularEspacos(texto, i + 1);
+        }
+        return i < n && isDigito(texto.charAt(i)) ? i : posicao;
+    }
+    
+    private static boolean isSeguidoDePreposicao(String texto, int posicao) {
+        int i = pularEspacos(texto, posicao);
+        if (i < texto.length() && texto.charAt(i) == ',') {
+            i = pularEspacos(texto, i + 1);
+        }
+        int fim = i;
+        while (fim < texto.length() && Character.isLetter(texto.charAt(fim)) && fim - i < 6) {
+            fim++;
+        }
+        return PREPOSICOES.contains(texto.substring(i, fim).toLowerCase());
+    }
+    
+    private static int pularEspacos(String texto, int posicao) {
+        int i = posicao;
+        while (i < texto.length() && Character.isWhitespace(texto.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+    
+    private static boolean isPalavraInteira(String texto, int inicio, int fim) {
+        return (inicio == 0 || !Character.isLetterOrDigit(texto.charAt(inicio - 1)))
+            && (fim == texto.length() || !Character.isLetterOrDigit(texto.charAt(fim)));
+    }
+    
+    private static boolean isMaiusculas(String texto, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            if (Character.isLowerCase(texto.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isLetraAscii(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+    
+    /**
+     * Artigo lido no texto, ainda sem a lei
+     */
+    private record Artigo(int numero, char letra, int inicio, int fim) {
+        
+        CitacaoLegal citacao(Lei lei) {
+            SituacaoCitacao situacao = lei.situacao(numero, letra);
+            return new CitacaoLegal(
+                inicio,
+                fim,
+                lei.getSigla(),
+                formatar(),
+                situacao,
+                situacao == SituacaoCitacao.INEXISTENTE ? null : lei.url(numero, letra)
+            );
+        }
+        
+        private String formatar() {
+            String texto = numero < 10 ? numero + "º"
+                : numero < 1000 ? String.valueOf(numero)
+                : (numero / 1000) + "." + String.format("%03d", numero % 1000);
+            return letra == 0 ? texto : texto + "-" + letra;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lei do índice de legislação, lida de um arquivo .properties em resources/legislacao:
+ *
+ *   sigla     – como a lei aparece nas citações verificadas (CPC, Lei 8.245/1991)
+ *   nome      – nome por extenso (documentação do arquivo)
+ *   url       – texto oficial; os artigos são ancorados como #art319, #art611a
+ *   nomes     – formas de citação reconhecidas no texto, separadas por |
+ *   artigos   – faixas e artigos com letra, separados por vírgula (1-1072,611-A)
+ *   revogados – artigos revogados, no mesmo formato (opcional)
+ */
+final class Lei {
+    
+    private static final Pattern FAIXA = Pattern.compile("(\\d+)(?:-(\\d+))?");
+    private static final Pattern COM_LETRA = Pattern.compile("(\\d+)-([A-Z])");
+    private static final Pattern NUMERO_LEI = Pattern.compile("(?i)^(lei|decreto-lei) (\\S+)$");
+    
+    private final String sigla;
+    private final String url;
+    private final List<String> nomes;
+    private final BitSet artigos = new BitSet();
+    private final Set<String> artigosComLetra = new HashSet<>();
+    private final BitSet revogados = new BitSet();
+    private final Set<String> revogadosComLetra = new HashSet<>();
+    
+    private Lei(String sigla, String url, List<String> nomes) {
+        this.sigla = sigla;
+        this.url = url;
+        this.nomes = nomes;
+    }
+    
+    static Lei de(Properties propriedades, String origem) {
+        String sigla = obrigatoria(propriedades, "sigla", origem);
+        Lei lei = new Lei(
+            sigla,
+            obrigatoria(propriedades, "url", origem),
+            expandirNomes(obrigatoria(propriedades, "nomes", origem))
+        );
+        
+        lei.lerArtigos(obrigatoria(propriedades, "artigos", origem), lei.artigos, lei.artigosComLetra, origem);
+        lei.lerArtigos(propriedades.getProperty("revogados", ""), lei.revogados, lei.revogadosComLetra, origem);
+        return lei;
+    }
+    
+    SituacaoCitacao situacao(int numero, char letra) {
+        if (letra == 0) {
+            if (revogados.get(numero)) {
+                return SituacaoCitacao.REVOGADA;
+            }
+            return artigos.get(numero) ? SituacaoCitacao.VALIDA : SituacaoCitacao.INEXISTENTE;
+        }
+        
+        String chave = numero + "-" + letra;
+        if (revogadosComLetra.contains(chave)) {
+            return SituacaoCitacao.REVOGADA;
+        }
+        return artigosComLetra.contains(chave) ? SituacaoCitacao.VALIDA : SituacaoCitacao.INEXISTENTE;
+    }
+    
+    /**
+     * Endereço do artigo no texto oficial
+     */
+    String url(int numero, char letra) {
+        return url + "#art" + numero + (letra == 0 ? "" : String.valueOf(Character.toLowerCase(letra)));
+    }
+    
+    String getSigla() {
+        return sigla;
+    }
+    
+    List<String> getNomes() {
+        return nomes;
+    }
+    
+    private void lerArtigos(String valor, BitSet numeros, Set<String> comLetra, String origem) {
+        for (String item : valor.split(",")) {
+            item = item.trim();
+            if (item.isEmpty()) {
+                continue;
+            }
+            
+            Matcher letra = COM_LETRA.matcher(item);
+            if (letra.matches()) {
+                comLetra.add(Integer.parseInt(letra.group(1)) + "-" + letra.group(2));
+                continue;
+            }
+            
+            Matcher faixa = FAIXA.matcher(item);
+            if (!faixa.matches()) {
+                throw new IllegalStateException("Artigo inválido '" + item + "' em " + origem);
+            }
+            int inicio = Integer.parseInt(faixa.group(1));
+            int fim = faixa.group(2) != null ? Integer.parseInt(faixa.group(2)) : inicio;
+            if (fim < inicio) {
+                throw new IllegalStateException("Faixa de artigos inválida '" + item + "' em " + origem);
+            }
+            numeros.set(inicio, fim + 1);
+        }
+    }
+    
+    /**
+     * "Lei 8.245/91" também é citada como "Lei nº 8.245/91", "Lei n. 8.245/91", "Lei n.º 8.245/91"
+     */
+    private static List<String> expandirNomes(String valor) {
+        List<String> nomes = new ArrayList<>();
+        for (String nome : valor.split("\\|")) {
+            nome = nome.trim().replaceAll("\\s+", " ");
+            if (nome.isEmpty()) {
+                continue;
+            }
+            nomes.add(nome);
+            
+            Matcher numero = NUMERO_LEI.matcher(nome);
+            if (numero.matches()) {
+                for (String abreviacao : List.of("nº", "n.º", "n.", "no")) {
+                    nomes.add(numero.group(1) + " " + abreviacao + " " + numero.group(2));
+                }
+            }
+        }
+        return nomes;
+    }
+    
+    private static String obrigatoria(Properties propriedades, String chave, String origem) {
+        String valor = propriedades.getProperty(chave);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalStateException("Propriedade '" + chave + "' ausente em " + origem);
+        }
+        return valor.trim();
+    }
+}
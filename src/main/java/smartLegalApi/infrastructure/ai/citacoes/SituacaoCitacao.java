@@ -0,0 +1,16 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+/**
+ * Resultado da conferência de um artigo citado contra o índice de legislação
+ */
+public enum SituacaoCitacao {
+    
+    /** O artigo existe na lei citada */
+    VALIDA,
+    
+    /** A lei citada não tem esse artigo (numeração além do último artigo ou sufixo desconhecido) */
+    INEXISTENTE,
+    
+    /** O artigo existiu, mas foi revogado */
+    REVOGADA
+}
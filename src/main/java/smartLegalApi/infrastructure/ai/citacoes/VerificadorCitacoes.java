@@ -0,0 +1,140 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Confere os artigos de lei citados nos textos gerados pela IA contra um índice local de
+ * legislação (resources/legislacao/*.properties): marca artigos inexistentes ou revogados
+ * e liga os válidos ao texto oficial.
+ *
+ * O índice fica em memória e a varredura é uma única passada de um autômato de Aho-Corasick
+ * pelo texto, barata o bastante para rodar junto com a gravação do conteúdo gerado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VerificadorCitacoes {
+    
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private volatile IndiceLegislacao indice;
+    private Timer duracaoVerificacao;
+    private final Map<SituacaoCitacao, Counter> citacoesPorSituacao = new EnumMap<>(SituacaoCitacao.class);
+    
+    @PostConstruct
+    public void inicializar() {
+        duracaoVerificacao = Timer.builder("smartlegal.ia.citacoes.verificacao")
+            .description("Tempo de verificação das citações de lei em um texto")
+            .register(meterRegistry);
+        for (SituacaoCitacao situacao : SituacaoCitacao.values()) {
+            citacoesPorSituacao.put(situacao, Counter.builder("smartlegal.ia.citacoes")
+                .description("Citações de lei encontradas nos textos gerados pela IA")
+                .tag("situacao", situacao.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        
+        if (geminiProperties.getCitacoes().getHabilitado()) {
+            carregar();
+        }
+    }
+    
+    /**
+     * Lê os arquivos de legislação e troca o índice em uso
+     */
+    public void carregar() {
+        List<Lei> leis = lerLeis(geminiProperties.getCitacoes().getArquivos());
+        indice = IndiceLegislacao.de(leis);
+        log.info("Índice de legislação carregado: {} leis ({})", leis.size(),
+            String.join(", ", leis.stream().map(Lei::getSigla).toList()));
+    }
+    
+    static List<Lei> lerLeis(String arquivos) {
+        List<Lei> leis = new ArrayList<>();
+        try {
+            for (Resource recurso : new PathMatchingResourcePatternResolver().getResources(arquivos)) {
+                Properties propriedades = new Properties();
+                try (Reader reader = new InputStreamReader(recurso.getInputStream(), StandardCharsets.UTF_8)) {
+                    propriedades.load(reader);
+                }
+                leis.add(Lei.de(propriedades, recurso.getDescription()));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao ler os arquivos de legislação em " + arquivos, e);
+        }
+        return leis;
+    }
+    
+    /**
+     * Citações de lei do texto, em ordem de posição; vazio se a verificação estiver desabilitada
+     */
+    public List<CitacaoLegal> verificar(String texto) {
+        IndiceLegislacao atual = indice;
+        if (atual == null || texto == null || texto.isEmpty()) {
+            return List.of();
+        }
+        
+        long inicio = System.nanoTime();
+        List<CitacaoLegal> citacoes = atual.varrer(texto, geminiProperties.getCitacoes().getJanela());
+        duracaoVerificacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return citacoes;
+    }
+    
+    /**
+     * Verifica um texto recém-gerado pela IA, contabilizando as citações por situação.
+     * Retorna o número de citações inexistentes ou revogadas, ou nulo se a verificação estiver desabilitada
+     */
+    public Integer verificarConteudoGerado(String texto) {
+        if (indice == null) {
+            return null;
+        }
+        
+        List<CitacaoLegal> citacoes = verificar(texto);
+        
+        int invalidas = 0;
+        for (CitacaoLegal citacao : citacoes) {
+            citacoesPorSituacao.get(citacao.situacao()).increment();
+            if (!citacao.isValida()) {
+                invalidas++;
+                log.debug("Citação {}: art. {} do {}", citacao.situacao(), citacao.artigo(), citacao.lei());
+            }
+        }
+        
+        if (invalidas > 0) {
+            log.warn("{} de {} citações de lei não conferem com o índice de legislação", invalidas, citacoes.size());
+        }
+        return invalidas;
+    }
+    
+    /**
+     * Número de citações inexistentes ou revogadas do texto (após edição manual ou regeneração
+     * de seção), sem contabilizar nas métricas; nulo se a verificação estiver desabilitada
+     */
+    public Integer contarInvalidas(String texto) {
+        if (indice == null) {
+            return null;
+        }
+        
+        return (int) verificar(texto).stream().filter(citacao -> !citacao.isValida()).count();
+    }
+}
@@ -3,6 +3,10 @@ package smartLegalApi.infrastructure.ai.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Propriedades de configuração da API Gemini
@@ -12,6 +16,11 @@ import org.springframework.stereotype.Component;
 @Data
 public class GeminiProperties {
     
+    /**
+     * Provedor de IA: gemini (API real) ou local (API simulada no cliente HTTP, para testes de carga)
+     */
+    private String provider = "gemini";
+    
     /**
      * API Key do Google Gemini
      */
@@ -36,5 +45,552 @@ public class GeminiProperties {
      * URL base da API Gemini
      */
     private String apiUrl = "https://generativelanguage.googleapis.com/v1beta/models";
+    
+    /**
+     * Número de threads dedicadas às gerações em streaming (SSE)
+     */
+    private Integer streamThreads = 8;
+    
+    /**
+     * Tempo máximo de uma conexão SSE de geração, em milissegundos
+     */
+    private Long streamTimeoutMs = 180000L;
+    
+    /**
+     * Configurações da fila assíncrona de geração
+     */
+    private Fila fila = new Fila();
+    
+    /**
+     * Configurações do cache de respostas da IA
+     */
+    private Cache cache = new Cache();
+    
+    /**
+     * Configurações da geração em lote
+     */
+    private Lote lote = new Lote();
+    
+    /**
+     * Limite adaptativo de chamadas simultâneas à API
+     */
+    private Concorrencia concorrencia = new Concorrencia();
+    
+    /**
+     * Retentativa de chamadas com falha transitória
+     */
+    private Retentativa retentativa = new Retentativa();
+    
+    /**
+     * Circuit breaker das chamadas à API
+     */
+    private Circuito circuito = new Circuito();
+    
+    /**
+     * Requisições hedged (segunda chamada após atraso baseado em percentil)
+     */
+    private Hedge hedge = new Hedge();
+    
+    /**
+     * Comportamento do provedor local (gemini.provider=local)
+     */
+    private Local local = new Local();
+    
+    /**
+     * Montagem do contexto do prompt dentro de um orçamento de tokens
+     */
+    private Contexto contexto = new Contexto();
+    
+    /**
+     * Geração por seções em paralelo
+     */
+    private Secoes secoes = new Secoes();
+    
+    /**
+     * Roteamento entre um modelo rápido e um de maior qualidade
+     */
+    private Roteamento roteamento = new Roteamento();
+    
+    /**
+     * Contabilização do consumo e cotas por advogado
+     */
+    private Uso uso = new Uso();
+    
+    /**
+     * Remoção de dados pessoais dos prompts enviados ao provedor
+     */
+    private Anonimizacao anonimizacao = new Anonimizacao();
+    
+    /**
+     * Trechos de petições aprovadas do escritório incluídos no prompt como referência
+     */
+    private Referencias referencias = new Referencias();
+    
+    /**
+     * Verificação dos artigos de lei citados no conteúdo gerado
+     */
+    private Citacoes citacoes = new Citacoes();
+    
+    /**
+     * Resumo incremental dos andamentos do processo
+     */
+    private Resumo resumo = new Resumo();
+    
+    @Data
+    public static class Fila {
+        
+        /**
+         * Número de workers que consomem a fila (chamadas simultâneas ao Gemini)
+         */
+        private Integer workers = 4;
+        
+        /**
+         * Número máximo de jobs pendentes ou em execução
+         */
+        private Integer capacidade = 100;
+        
+        /**
+         * Intervalo da varredura que recupera jobs com lease expirado e redespacha pendentes, em milissegundos
+         */
+        private Long varreduraMs = 15000L;
+        
+        /**
+         * Identificação desta instância nos jobs que ela executa; vazio gera uma por início da aplicação
+         */
+        private String instancia;
+        
+        /**
+         * Intervalo de renovação do heartbeat dos jobs em execução, em milissegundos
+         */
+        private Long heartbeatMs = 10000L;
+        
+        /**
+         * Tempo sem heartbeat após o qual um job em execução é considerado abandonado e volta para a fila,
+         * em milissegundos
+         */
+        private Long leaseMs = 60000L;
+    }
+    
+    @Data
+    public static class Lote {
+        
+        /**
+         * Número máximo de petições por lote
+         */
+        private Integer tamanhoMaximo = 100;
+        
+        /**
+         * Jobs de um mesmo lote executados simultaneamente, para não ocupar todos os workers
+         */
+        private Integer concorrencia = 2;
+    }
+    
+    @Data
+    public static class Concorrencia {
+        
+        /**
+         * Limite no início da aplicação
+         */
+        private Integer limiteInicial = 4;
+        
+        /**
+         * Limite mínimo, mesmo sob sobrecarga contínua
+         */
+        private Integer limiteMinimo = 1;
+        
+        /**
+         * Limite máximo alcançável pelo crescimento aditivo
+         */
+        private Integer limiteMaximo = 32;
+        
+        /**
+         * Fator aplicado ao limite a cada sinal de sobrecarga (429, 503, timeout)
+         */
+        private Double fatorReducao = 0.5;
+        
+        /**
+         * Tempo máximo aguardando uma vaga antes de recusar a chamada, em milissegundos
+         */
+        private Long esperaMaximaMs = 30000L;
+    }
+    
+    @Data
+    public static class Retentativa {
+        
+        /**
+         * Número máximo de tentativas por chamada (incluindo a primeira)
+         */
+        private Integer maxTentativas = 3;
+        
+        /**
+         * Base do backoff exponencial, em milissegundos
+         */
+        private Long esperaInicialMs = 500L;
+        
+        /**
+         * Espera máxima entre tentativas; Retry-After maior que isso encerra as tentativas
+         */
+        private Long esperaMaximaMs = 20000L;
+    }
+    
+    @Data
+    public static class Circuito {
+        
+        /**
+         * Habilita o circuit breaker
+         */
+        private Boolean habilitado = true;
+        
+        /**
+         * Número de chamadas recentes consideradas no cálculo das taxas
+         */
+        private Integer janela = 20;
+        
+        /**
+         * Chamadas mínimas na janela antes de o circuito poder abrir
+         */
+        private Integer minimoChamadas = 10;
+        
+        /**
+         * Percentual de falhas na janela que abre o circuito
+         */
+        private Integer taxaFalhaPercentual = 50;
+        
+        /**
+         * Duração a partir da qual uma chamada unária é considerada lenta, em milissegundos
+         */
+        private Long limiteLentidaoMs = 30000L;
+        
+        /**
+         * Percentual de chamadas lentas na janela que abre o circuito
+         */
+        private Integer taxaLentidaoPercentual = 80;
+        
+        /**
+         * Tempo com o circuito aberto antes de liberar chamadas de teste, em milissegundos
+         */
+        private Long tempoAbertoMs = 30000L;
+        
+        /**
+         * Chamadas de teste no estado semi-aberto
+         */
+        private Integer chamadasTeste = 2;
+    }
+    
+    @Data
+    public static class Hedge {
+        
+        /**
+         * Habilita requisições hedged nas chamadas unárias (aumenta o custo com a API)
+         */
+        private Boolean habilitado = false;
+        
+        /**
+         * Percentil da latência recente usado como atraso do hedge
+         */
+        private Double percentil = 0.95;
+        
+        /**
+         * Atraso mínimo antes do hedge, em milissegundos
+         */
+        private Long atrasoMinimoMs = 2000L;
+        
+        /**
+         * Atraso usado enquanto não há amostras suficientes, em milissegundos
+         */
+        private Long atrasoInicialMs = 20000L;
+        
+        /**
+         * Amostras de latência necessárias para usar o percentil
+         */
+        private Integer amostrasMinimas = 20;
+    }
+    
+    @Data
+    public static class Local {
+        
+        /**
+         * Mediana da latência simulada, em milissegundos
+         */
+        private Long latenciaMedianaMs = 2000L;
+        
+        /**
+         * Percentil 99 da latência simulada, em milissegundos
+         */
+        private Long latenciaP99Ms = 15000L;
+        
+        /**
+         * Fração das chamadas que falham (0.0 a 1.0)
+         */
+        private Double taxaErro = 0.0;
+        
+        /**
+         * Tamanho do texto gerado, em caracteres
+         */
+        private Integer tamanhoSaida = 12000;
+        
+        /**
+         * Número de trechos enviados no streaming
+         */
+        private Integer trechosStream = 40;
+    }
+    
+    @Data
+    public static class Contexto {
+        
+        /**
+         * Orçamento de tokens de entrada do prompt (instruções + contexto)
+         */
+        private Integer orcamentoTokens = 6000;
+        
+        /**
+         * Caracteres por token usados na estimativa antes da calibração pelas contagens reais
+         */
+        private Double caracteresPorToken = 4.0;
+        
+        /**
+         * Número máximo de andamentos recentes incluídos no contexto
+         */
+        private Integer maximoAndamentos = 10;
+        
+        /**
+         * Espaço mínimo restante, em tokens, para incluir uma seção recortada em vez de descartá-la
+         */
+        private Integer minimoTokensSecao = 60;
+    }
+    
+    @Data
+    public static class Secoes {
+        
+        /**
+         * Habilita a geração seção a seção para os tipos configurados
+         */
+        private Boolean habilitado = false;
+        
+        /**
+         * Tipos de petição gerados por seções (os mais longos)
+         */
+        private List<TipoPeticao> tipos = new ArrayList<>(List.of(
+            TipoPeticao.INICIAL, TipoPeticao.CONTESTACAO, TipoPeticao.RECURSO));
+        
+        /**
+         * Seções de uma mesma petição geradas simultaneamente
+         */
+        private Integer paralelismo = 4;
+    }
+    
+    @Data
+    public static class Roteamento {
+        
+        /**
+         * Habilita o roteamento; desabilitado, todas as chamadas usam gemini.model
+         */
+        private Boolean habilitado = false;
+        
+        /**
+         * Modelo de menor latência, usado em petições curtas e no nível RAPIDA
+         */
+        private String modeloRapido = "gemini-1.5-flash";
+        
+        /**
+         * Modelo de maior qualidade, usado nas peças complexas e no nível QUALIDADE
+         */
+        private String modeloQualidade = "gemini-1.5-pro";
+        
+        /**
+         * Tipos de petição que usam o modelo de qualidade no nível PADRAO
+         */
+        private List<TipoPeticao> tiposQualidade = new ArrayList<>(List.of(
+            TipoPeticao.INICIAL, TipoPeticao.CONTESTACAO, TipoPeticao.RECURSO, TipoPeticao.MANDADO_SEGURANCA));
+        
+        /**
+         * Tamanho estimado do prompt, em tokens, acima do qual o nível PADRAO usa o modelo de qualidade
+         */
+        private Integer limiteTokensRapido = 3000;
+        
+        /**
+         * p95 das chamadas bem-sucedidas acima do qual o modelo é considerado degradado, em milissegundos
+         */
+        private Long latenciaMaximaMs = 45000L;
+        
+        /**
+         * Fração de falhas na janela acima da qual o modelo é considerado degradado (0.0 a 1.0)
+         */
+        private Double taxaErroMaxima = 0.3;
+        
+        /**
+         * Amostras mínimas na janela antes de avaliar a saúde do modelo
+         */
+        private Integer amostrasMinimas = 10;
+        
+        /**
+         * Número de chamadas recentes consideradas por modelo
+         */
+        private Integer janela = 50;
+    }
+    
+    @Data
+    public static class Uso {
+        
+        /**
+         * Cota diária de tokens (entrada + saída) por advogado; 0 desativa
+         */
+        private Long cotaTokensDiaria = 0L;
+        
+        /**
+         * Cota mensal de tokens (entrada + saída) por advogado; 0 desativa
+         */
+        private Long cotaTokensMensal = 0L;
+        
+        /**
+         * Cota diária de chamadas ao provedor por advogado; 0 desativa
+         */
+        private Long cotaRequisicoesDiaria = 0L;
+        
+        /**
+         * Intervalo da gravação em lote dos contadores na tabela uso_ia_advogado, em milissegundos
+         */
+        private Long descargaMs = 30000L;
+    }
+    
+    @Data
+    public static class Anonimizacao {
+        
+        /**
+         * Troca CPF, CNPJ, email, telefone e nomes de clientes por marcadores antes do envio
+         */
+        private Boolean habilitado = true;
+        
+        /**
+         * Intervalo da recarga dos nomes de clientes, em milissegundos
+         */
+        private Long atualizacaoNomesMs = 600000L;
+        
+        /**
+         * Nomes lidos por consulta na recarga (só ID e nome, paginados por ID)
+         */
+        private Integer tamanhoPaginaNomes = 1000;
+        
+        /**
+         * Nomes mais curtos que isso não são procurados (evita trocar palavras comuns)
+         */
+        private Integer tamanhoMinimoNome = 5;
+    }
+    
+    @Data
+    public static class Referencias {
+        
+        /**
+         * Habilita o índice de petições aprovadas e protocoladas e a inclusão de trechos no prompt
+         */
+        private Boolean habilitado = true;
+        
+        /**
+         * Número máximo de trechos incluídos no prompt (no máximo um por petição)
+         */
+        private Integer quantidade = 3;
+        
+        /**
+         * Parte do orçamento do contexto, em tokens, que os trechos podem ocupar
+         */
+        private Integer orcamentoTokens = 1200;
+        
+        /**
+         * Tamanho máximo de uma passagem indexada, em caracteres
+         */
+        private Integer tamanhoPassagem = 1500;
+        
+        /**
+         * Passagens mais curtas que isso não são indexadas (títulos soltos, assinaturas)
+         */
+        private Integer tamanhoMinimoPassagem = 200;
+        
+        /**
+         * Saturação da frequência do termo no BM25
+         */
+        private Double k1 = 1.2;
+        
+        /**
+         * Peso da normalização pelo tamanho da passagem no BM25 (0.0 a 1.0)
+         */
+        private Double b = 0.75;
+    }
+    
+    @Data
+    public static class Citacoes {
+        
+        /**
+         * Habilita o índice de legislação e a verificação das citações após a geração
+         */
+        private Boolean habilitado = true;
+        
+        /**
+         * Arquivos de legislação (um .properties por lei)
+         */
+        private String arquivos = "classpath*:legislacao/*.properties";
+        
+        /**
+         * Distância máxima, em caracteres, entre o número do artigo e o nome da lei citada
+         */
+        private Integer janela = 80;
+    }
+    
+    @Data
+    public static class Resumo {
+        
+        /**
+         * Habilita a atualização dos resumos em segundo plano
+         */
+        private Boolean habilitado = true;
+        
+        /**
+         * Threads que atualizam resumos (cada atualização faz uma ou mais chamadas à IA)
+         */
+        private Integer workers = 1;
+        
+        /**
+         * Espera antes de atualizar, em milissegundos, para juntar andamentos cadastrados em sequência
+         */
+        private Long atrasoMs = 5000L;
+        
+        /**
+         * Andamentos novos enviados por chamada à IA; uma reconstrução faz várias chamadas
+         */
+        private Integer andamentosPorChamada = 40;
+        
+        /**
+         * Tamanho máximo pedido para o resumo, em palavras
+         */
+        private Integer tamanhoMaximoPalavras = 400;
+        
+        /**
+         * Intervalo da varredura que agenda resumos desatualizados (falhas e reinícios), em milissegundos
+         */
+        private Long varreduraMs = 60000L;
+    }
+    
+    @Data
+    public static class Cache {
+        
+        /**
+         * Habilita o cache de respostas (memória + banco)
+         */
+        private Boolean habilitado = true;
+        
+        /**
+         * Validade de uma resposta em cache, em minutos
+         */
+        private Long ttlMinutos = 1440L;
+        
+        /**
+         * Limite do nível em memória, medido em caracteres das respostas armazenadas
+         */
+        private Long maximoCaracteresMemoria = 20_000_000L;
+        
+        /**
+         * Intervalo da limpeza de entradas expiradas no banco, em milissegundos
+         */
+        private Long limpezaMs = 3600000L;
+    }
 }
 
@@ -0,0 +1,55 @@
+package smartLegalApi.infrastructure.ai.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuração dos executores usados na geração de petições com IA
+ */
+@Configuration
+@EnableScheduling
+public class GeracaoIAExecutorConfig {
+    
+    /**
+     * Executor para gerações em streaming (SSE)
+     * Libera a thread do Tomcat enquanto a resposta da IA é repassada ao navegador
+     */
+    @Bean(name = "geracaoIAStreamExecutor")
+    public ThreadPoolTaskExecutor geracaoIAStreamExecutor(GeminiProperties geminiProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(geminiProperties.getStreamThreads());
+        executor.setMaxPoolSize(geminiProperties.getStreamThreads());
+        executor.setQueueCapacity(geminiProperties.getStreamThreads() * 4);
+        executor.setThreadNamePrefix("gemini-stream-");
+        // Fila cheia: rejeita em vez de bloquear a thread da requisição
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Executor das seções geradas em paralelo (gemini.secoes)
+     * Fila cheia: a seção roda na própria thread do worker, sem rejeitar a geração
+     */
+    @Bean(name = "geracaoSecoesExecutor")
+    public ThreadPoolTaskExecutor geracaoSecoesExecutor(GeminiProperties geminiProperties) {
+        int threads = geminiProperties.getSecoes().getParalelismo() * geminiProperties.getFila().getWorkers();
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setThreadNamePrefix("gemini-secao-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,144 @@
+package smartLegalApi.infrastructure.ai.contexto;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+/**
+ * Estimativa do número de tokens de um texto, sem depender do tokenizador do provedor.
+ * 
+ * Cada palavra conta ceil(tamanho / caracteresPorToken) tokens e cada sinal de pontuação conta um.
+ * A estimativa bruta é multiplicada por um fator de correção ajustado (média móvel exponencial)
+ * a cada contagem real devolvida pela API, registrada em registrarUsoReal.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EstimadorTokens {
+    
+    private static final double PESO_NOVA_AMOSTRA = 0.1;
+    private static final double FATOR_MINIMO = 0.5;
+    private static final double FATOR_MAXIMO = 2.0;
+    
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private volatile double fatorCorrecao = 1.0;
+    
+    private DistributionSummary tokensEstimados;
+    private DistributionSummary tokensReais;
+    private DistributionSummary razaoRealEstimado;
+    
+    @PostConstruct
+    public void inicializar() {
+        tokensEstimados = DistributionSummary.builder("smartlegal.ia.tokens.prompt")
+            .description("Tokens do prompt por requisição")
+            .tag("origem", "estimado")
+            .register(meterRegistry);
+        tokensReais = DistributionSummary.builder("smartlegal.ia.tokens.prompt")
+            .description("Tokens do prompt por requisição")
+            .tag("origem", "real")
+            .register(meterRegistry);
+        razaoRealEstimado = DistributionSummary.builder("smartlegal.ia.tokens.razao_real_estimado")
+            .description("Tokens reais divididos pelos estimados, por requisição")
+            .scale(100)
+            .baseUnit("percent")
+            .register(meterRegistry);
+        Gauge.builder("smartlegal.ia.tokens.fator_correcao", this, estimador -> estimador.fatorCorrecao)
+            .description("Fator de correção aplicado à estimativa de tokens")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Tokens estimados do texto, já com o fator de correção
+     */
+    public int estimar(String texto) {
+        return (int) Math.ceil(estimarBruto(texto) * fatorCorrecao);
+    }
+    
+    /**
+     * Número aproximado de caracteres que cabem na quantidade de tokens informada
+     */
+    public int caracteresPara(int tokens) {
+        return (int) (tokens * caracteresPorToken() / fatorCorrecao);
+    }
+    
+    /**
+     * Registra a estimativa de um prompt enviado à IA
+     */
+    public void registrarEstimativa(int tokens) {
+        tokensEstimados.record(tokens);
+    }
+    
+    /**
+     * Compara a contagem real da API com a estimativa do mesmo prompt e ajusta o fator de correção
+     */
+    public void registrarUsoReal(String prompt, int tokensReaisPrompt) {
+        if (tokensReaisPrompt <= 0) {
+            return;
+        }
+        
+        double bruto = estimarBruto(prompt);
+        if (bruto == 0) {
+            return;
+        }
+        
+        tokensReais.record(tokensReaisPrompt);
+        razaoRealEstimado.record(tokensReaisPrompt / Math.ceil(bruto * fatorCorrecao));
+        ajustarFator(tokensReaisPrompt / bruto);
+    }
+    
+    public double getFatorCorrecao() {
+        return fatorCorrecao;
+    }
+    
+    private synchronized void ajustarFator(double razao) {
+        double ajustado = fatorCorrecao + PESO_NOVA_AMOSTRA * (razao - fatorCorrecao);
+        fatorCorrecao = Math.max(FATOR_MINIMO, Math.min(FATOR_MAXIMO, ajustado));
+        log.debug("Fator de correção de tokens: {}", fatorCorrecao);
+    }
+    
+    /**
+     * Estimativa sem correção, em uma única passada pelo texto
+     */
+    private double estimarBruto(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return 0;
+        }
+        
+        double caracteresPorToken = caracteresPorToken();
+        double tokens = 0;
+        int tamanhoPalavra = 0;
+        
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                tamanhoPalavra++;
+                continue;
+            }
+            
+            if (tamanhoPalavra > 0) {
+                tokens += Math.ceil(tamanhoPalavra / caracteresPorToken);
+                tamanhoPalavra = 0;
+            }
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        
+        if (tamanhoPalavra > 0) {
+            tokens += Math.ceil(tamanhoPalavra / caracteresPorToken);
+        }
+        
+        return tokens;
+    }
+    
+    private double caracteresPorToken() {
+        return Math.max(1.0, geminiProperties.getContexto().getCaracteresPorToken());
+    }
+}
@@ -0,0 +1,295 @@
+package smartLegalApi.infrastructure.ai.contexto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.cliente.entity.Cliente;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.domain.processo.entity.Andamento;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.referencias.IndiceReferenciasPeticao;
+import smartLegalApi.infrastructure.ai.referencias.PassagemReferencia;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Monta o prompt de uma petição dentro do orçamento de tokens (gemini.contexto.orcamento-tokens).
+ * 
+ * Além do texto informado pelo usuário, busca os dados do Processo, do Cliente e os andamentos
+ * mais recentes. As seções são selecionadas por prioridade: o que não cabe inteiro é recortado
+ * em um limite de parágrafo ou frase, ou descartado quando sobra pouco espaço. O prompt final
+ * mantém a ordem de leitura (referências, processo, partes, andamentos, contexto, detalhes).
+ * O contexto do usuário nunca é descartado em silêncio: se não couber, a montagem falha.
+ * 
+ * As referências são trechos de petições aprovadas do mesmo tipo (IndiceReferenciasPeticao),
+ * com a menor prioridade e limitadas a gemini.referencias.orcamento-tokens.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MontadorContextoPeticao {
+    
+    static final String TITULO_PROCESSO = "DADOS DO PROCESSO";
+    static final String TITULO_CLIENTE = "CLIENTE";
+    static final String TITULO_ANDAMENTOS = "ANDAMENTOS RECENTES (MAIS RECENTE PRIMEIRO)";
+    static final String TITULO_REFERENCIAS =
+        "TRECHOS DE PETIÇÕES JÁ APROVADAS PELO ESCRITÓRIO (REFERÊNCIA DE ESTILO; NÃO COPIE FATOS NEM DADOS DAS PARTES)";
+    
+    private static final String MARCA_RECORTE = " [...]";
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    
+    private final ProcessoRepository processoRepository;
+    private final ClienteRepository clienteRepository;
+    private final AndamentoRepository andamentoRepository;
+    private final IndiceReferenciasPeticao indiceReferencias;
+    private final PeticaoPromptService promptService;
+    private final EstimadorTokens estimadorTokens;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * Constrói o prompt da petição com o contexto que cabe no orçamento
+     */
+    public String montarPrompt(Peticao peticao, String contexto, String detalhesAdicionais) {
+        GeminiProperties.Contexto config = geminiProperties.getContexto();
+        
+        List<SecaoContexto> candidatas = coletarSecoes(peticao, contexto, detalhesAdicionais, config);
+        candidatas.addAll(coletarReferencias(peticao, candidatas, config));
+        int tokensFixos = estimadorTokens.estimar(promptService.construirPrompt(peticao.getTipo(), List.of()));
+        
+        List<SecaoContexto> selecionadas = selecionar(candidatas, config.getOrcamentoTokens() - tokensFixos, config);
+        
+        // O contexto do usuário tem a maior prioridade e é recortável: só fica de fora se as
+        // instruções fixas esgotarem o orçamento, e a geração não segue sem ele
+        if (contexto != null && !contexto.isBlank()
+            && selecionadas.stream().noneMatch(secao -> secao.titulo().equals(PeticaoPromptService.TITULO_CONTEXTO))) {
+            throw new ErroGeracaoIAException(String.format(
+                "Orçamento de tokens do prompt (%d) insuficiente para o contexto informado: as instruções fixas ocupam %d tokens",
+                config.getOrcamentoTokens(), tokensFixos));
+        }
+        
+        selecionadas.sort(Comparator.comparingInt(SecaoContexto::ordem));
+        
+        String prompt = promptService.construirPrompt(peticao.getTipo(), selecionadas);
+        int tokens = estimadorTokens.estimar(prompt);
+        estimadorTokens.registrarEstimativa(tokens);
+        
+        log.debug("Prompt montado: {} tokens estimados, {} de {} seções", tokens, selecionadas.size(), candidatas.size());
+        return prompt;
+    }
+    
+    /**
+     * Seleciona as seções em ordem de prioridade até esgotar o orçamento disponível
+     */
+    List<SecaoContexto> selecionar(List<SecaoContexto> candidatas, int disponivel, GeminiProperties.Contexto config) {
+        List<SecaoContexto> porPrioridade = new ArrayList<>(candidatas);
+        porPrioridade.sort(Comparator.comparingInt(SecaoContexto::prioridade));
+        
+        List<SecaoContexto> selecionadas = new ArrayList<>();
+        List<String> titulosIncluidos = new ArrayList<>();
+        
+        for (SecaoContexto secao : porPrioridade) {
+            // O cabeçalho é pago apenas pela primeira seção de cada título
+            int custoTitulo = titulosIncluidos.contains(secao.titulo()) ? 0 : estimadorTokens.estimar(secao.titulo() + ":");
+            int tokens = custoTitulo + estimadorTokens.estimar(secao.texto());
+            
+            if (tokens <= disponivel) {
+                selecionadas.add(secao);
+                disponivel -= tokens;
+            } else if (secao.recortavel() && disponivel - custoTitulo >= config.getMinimoTokensSecao()) {
+                SecaoContexto recortada = secao.comTexto(recortar(secao.texto(), disponivel - custoTitulo));
+                selecionadas.add(recortada);
+                disponivel -= custoTitulo + estimadorTokens.estimar(recortada.texto());
+                registrarCorte(secao, "recortada");
+            } else {
+                registrarCorte(secao, "descartada");
+                continue;
+            }
+            
+            if (custoTitulo > 0) {
+                titulosIncluidos.add(secao.titulo());
+            }
+        }
+        
+        return selecionadas;
+    }
+    
+    /**
+     * Recorta o texto para caber nos tokens informados, preferindo terminar em parágrafo ou frase
+     */
+    String recortar(String texto, int tokens) {
+        int limite = Math.min(texto.length(), estimadorTokens.caracteresPara(tokens));
+        
+        while (limite > 0) {
+            String recorte = cortarEmLimiteNatural(texto, limite) + MARCA_RECORTE;
+            if (estimadorTokens.estimar(recorte) <= tokens) {
+                return recorte;
+            }
+            limite = limite * 9 / 10;
+        }
+        
+        return MARCA_RECORTE.trim();
+    }
+    
+    private String cortarEmLimiteNatural(String texto, int limite) {
+        String prefixo = texto.substring(0, limite);
+        
+        // Só recua até um limite natural se isso preservar ao menos 70% do espaço
+        int minimo = limite * 7 / 10;
+        int paragrafo = prefixo.lastIndexOf('\n');
+        if (paragrafo >= minimo) {
+            return prefixo.substring(0, paragrafo).stripTrailing();
+        }
+        
+        int frase = Math.max(prefixo.lastIndexOf(". "), prefixo.lastIndexOf("; "));
+        if (frase >= minimo) {
+            return prefixo.substring(0, frase + 1);
+        }
+        
+        int palavra = prefixo.lastIndexOf(' ');
+        return (palavra >= minimo ? prefixo.substring(0, palavra) : prefixo).stripTrailing();
+    }
+    
+    /**
+     * Coleta as seções candidatas. Prioridade: texto do usuário, processo, detalhes, cliente e
+     * andamentos do mais recente ao mais antigo
+     */
+    private List<SecaoContexto> coletarSecoes(Peticao peticao, String contexto, String detalhesAdicionais,
+                                              GeminiProperties.Contexto config) {
+        List<SecaoContexto> secoes = new ArrayList<>();
+        
+        if (contexto != null && !contexto.isBlank()) {
+            secoes.add(new SecaoContexto(PeticaoPromptService.TITULO_CONTEXTO, contexto, 1, 4, true));
+        }
+        
+        if (detalhesAdicionais != null && !detalhesAdicionais.isBlank()) {
+            secoes.add(new SecaoContexto(PeticaoPromptService.TITULO_DETALHES, detalhesAdicionais, 3, 5, true));
+        }
+        
+        Optional<Processo> processo = Optional.ofNullable(peticao.getIdProcesso())
+            .flatMap(processoRepository::findById);
+        if (processo.isEmpty()) {
+            return secoes;
+        }
+        
+        secoes.add(new SecaoContexto(TITULO_PROCESSO, descreverProcesso(processo.get()), 2, 1, true));
+        
+        Optional.ofNullable(processo.get().getIdCliente())
+            .flatMap(clienteRepository::findById)
+            .ifPresent(cliente -> secoes.add(new SecaoContexto(TITULO_CLIENTE, descreverCliente(cliente), 4, 2, true)));
+        
+        List<Andamento> andamentos = andamentoRepository.findByProcessoOrdenadoPorData(processo.get().getId());
+        int limite = Math.min(andamentos.size(), config.getMaximoAndamentos());
+        for (int i = 0; i < limite; i++) {
+            secoes.add(new SecaoContexto(TITULO_ANDAMENTOS, descreverAndamento(andamentos.get(i)), 10 + i, 3, false));
+        }
+        
+        return secoes;
+    }
+    
+    /**
+     * Trechos de petições aprovadas mais próximos do caso (consulta: contexto, detalhes e dados
+     * do processo), até a parte do orçamento reservada a eles
+     */
+    private List<SecaoContexto> coletarReferencias(Peticao peticao, List<SecaoContexto> secoesDoCaso,
+                                                   GeminiProperties.Contexto config) {
+        String consulta = secoesDoCaso.stream()
+            .filter(secao -> !secao.titulo().equals(TITULO_CLIENTE) && !secao.titulo().equals(TITULO_ANDAMENTOS))
+            .map(SecaoContexto::texto)
+            .collect(Collectors.joining("\n"));
+        if (consulta.isBlank()) {
+            return List.of();
+        }
+        
+        List<PassagemReferencia> passagens = indiceReferencias.buscar(peticao.getTipo(), consulta, peticao.getId());
+        List<SecaoContexto> referencias = new ArrayList<>();
+        int disponivel = geminiProperties.getReferencias().getOrcamentoTokens();
+        
+        for (int i = 0; i < passagens.size(); i++) {
+            String texto = "--- Trecho " + (i + 1) + " ---\n" + passagens.get(i).texto().strip();
+            int tokens = estimadorTokens.estimar(texto);
+            if (tokens > disponivel) {
+                if (disponivel < config.getMinimoTokensSecao()) {
+                    break;
+                }
+                texto = recortar(texto, disponivel);
+                tokens = estimadorTokens.estimar(texto);
+            }
+            
+            referencias.add(new SecaoContexto(TITULO_REFERENCIAS, texto, 100 + i, 0, true));
+            disponivel -= tokens;
+        }
+        
+        return referencias;
+    }
+    
+    private String descreverProcesso(Processo processo) {
+        StringBuilder texto = new StringBuilder();
+        texto.append("Número: ").append(processo.getNumeroProcesso()).append('\n');
+        texto.append("Título: ").append(processo.getTitulo()).append('\n');
+        if (processo.getStatus() != null) {
+            texto.append("Situação: ").append(processo.getStatus()).append('\n');
+        }
+        if (processo.getDataAbertura() != null) {
+            texto.append("Data de abertura: ").append(processo.getDataAbertura().format(FORMATO_DATA)).append('\n');
+        }
+        if (processo.getDescricao() != null && !processo.getDescricao().isBlank()) {
+            // A descrição vem por último: é o que o recorte sacrifica primeiro
+            texto.append("Descrição: ").append(processo.getDescricao().strip()).append('\n');
+        }
+        return texto.toString().stripTrailing();
+    }
+    
+    /**
+     * CPF/CNPJ e endereço não são enviados ao modelo externo; a qualificação completa é
+     * preenchida pelo advogado na revisão
+     */
+    private String descreverCliente(Cliente cliente) {
+        StringBuilder texto = new StringBuilder();
+        texto.append("Nome: ").append(cliente.getNomeCompleto()).append('\n');
+        if (cliente.getCpfCnpj() != null) {
+            texto.append("Tipo de pessoa: ").append(cliente.getTipoPessoa()).append('\n');
+        }
+        return texto.toString().stripTrailing();
+    }
+    
+    private String descreverAndamento(Andamento andamento) {
+        StringBuilder texto = new StringBuilder("- ");
+        if (andamento.getDataAndamento() != null) {
+            texto.append(andamento.getDataAndamento().format(FORMATO_DATA)).append(' ');
+        }
+        if (andamento.getTipo() != null && !andamento.getTipo().isBlank()) {
+            texto.append('[').append(andamento.getTipo()).append("] ");
+        }
+        texto.append(andamento.getDescricao().strip());
+        return texto.toString();
+    }
+    
+    private void registrarCorte(SecaoContexto secao, String resultado) {
+        meterRegistry.counter("smartlegal.ia.contexto.secoes_cortadas", "secao", nomeMetrica(secao), "resultado", resultado)
+            .increment();
+    }
+    
+    private String nomeMetrica(SecaoContexto secao) {
+        return switch (secao.titulo()) {
+            case PeticaoPromptService.TITULO_CONTEXTO -> "contexto";
+            case PeticaoPromptService.TITULO_DETALHES -> "detalhes";
+            case TITULO_PROCESSO -> "processo";
+            case TITULO_CLIENTE -> "cliente";
+            case TITULO_REFERENCIAS -> "referencia";
+            default -> "andamento";
+        };
+    }
+}
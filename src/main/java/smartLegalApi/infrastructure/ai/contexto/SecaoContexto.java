@@ -0,0 +1,14 @@
+package smartLegalApi.infrastructure.ai.contexto;
+
+/**
+ * Trecho de contexto candidato a entrar no prompt.
+ * 
+ * prioridade define a ordem de seleção dentro do orçamento (menor entra primeiro);
+ * ordem define a posição no prompt final. Seções com o mesmo título são agrupadas.
+ */
+public record SecaoContexto(String titulo, String texto, int prioridade, int ordem, boolean recortavel) {
+    
+    public SecaoContexto comTexto(String novoTexto) {
+        return new SecaoContexto(titulo, novoTexto, prioridade, ordem, recortavel);
+    }
+}
@@ -0,0 +1,287 @@
+package smartLegalApi.infrastructure.ai.fila;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smartLegalApi.application.peticao.event.JobGeracaoIAEnfileiradoEvent;
+import smartLegalApi.application.peticao.event.LoteGeracaoIAEnfileiradoEvent;
+import smartLegalApi.application.peticao.usecase.ProcessarJobGeracaoIAUseCase;
+import smartLegalApi.application.peticao.usecase.RecuperarJobsGeracaoIAUseCase;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Workers da fila de geração com IA
+ * 
+ * A tabela jobs_geracao_ia é a fonte da verdade; o executor em memória apenas despacha.
+ * Jobs são enviados aos workers após o commit do enfileiramento e, de forma complementar,
+ * por uma varredura periódica que cobre rejeições do executor e reinícios da aplicação.
+ * Cada instância renova o heartbeat dos jobs que executa; a varredura só devolve para a fila
+ * jobs cujo heartbeat expirou (instância parada), nunca os de outra instância ativa. O heartbeat
+ * tem thread própria: no agendador padrão do Spring (uma thread, compartilhada com as demais
+ * varreduras), uma varredura lenta o atrasaria além de gemini.fila.lease-ms.
+ * Jobs de um lote ocupam no máximo gemini.lote.concorrencia workers; ao terminar um deles,
+ * o próximo pendente do mesmo lote é despachado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FilaGeracaoIAWorker {
+    
+    private final ProcessarJobGeracaoIAUseCase processarJobUseCase;
+    private final RecuperarJobsGeracaoIAUseCase recuperarJobsUseCase;
+    private final JobGeracaoIARepository jobRepository;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /** Jobs já entregues ao executor e ainda não finalizados, para evitar despacho duplicado */
+    private final Set<Long> despachados = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pendentesNoBanco = new AtomicLong();
+    
+    /** Jobs despachados por lote, limitados a gemini.lote.concorrencia */
+    private final Map<String, Integer> despachadosPorLote = new ConcurrentHashMap<>();
+    
+    private String instancia;
+    private ThreadPoolExecutor executor;
+    private ThreadPoolTaskScheduler agendadorHeartbeat;
+    private Timer tempoEspera;
+    private Timer tempoExecucao;
+    
+    @PostConstruct
+    void inicializar() {
+        GeminiProperties.Fila config = geminiProperties.getFila();
+        instancia = config.getInstancia() != null && !config.getInstancia().isBlank()
+            ? config.getInstancia()
+            : UUID.randomUUID().toString();
+        log.info("Fila de geração com IA iniciada. Instância: {}", instancia);
+        
+        executor = new ThreadPoolExecutor(
+            config.getWorkers(),
+            config.getWorkers(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(config.getCapacidade()),
+            new CustomizableThreadFactory("gemini-worker-")
+        );
+        
+        agendadorHeartbeat = new ThreadPoolTaskScheduler();
+        agendadorHeartbeat.setPoolSize(1);
+        agendadorHeartbeat.setThreadNamePrefix("gemini-heartbeat-");
+        agendadorHeartbeat.initialize();
+        Duration intervaloHeartbeat = Duration.ofMillis(config.getHeartbeatMs());
+        agendadorHeartbeat.scheduleWithFixedDelay(this::renovarHeartbeat,
+            Instant.now().plus(intervaloHeartbeat), intervaloHeartbeat);
+        
+        Gauge.builder("smartlegal.ia.fila.profundidade", pendentesNoBanco, AtomicLong::get)
+            .description("Jobs de geração pendentes na fila persistente")
+            .register(meterRegistry);
+        Gauge.builder("smartlegal.ia.fila.despachados", executor, e -> e.getQueue().size())
+            .description("Jobs aguardando um worker livre")
+            .register(meterRegistry);
+        Gauge.builder("smartlegal.ia.fila.em_execucao", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Jobs em execução pelos workers")
+            .register(meterRegistry);
+        
+        tempoEspera = Timer.builder("smartlegal.ia.fila.espera")
+            .description("Tempo entre o enfileiramento e o início da execução do job")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        tempoExecucao = Timer.builder("smartlegal.ia.fila.execucao")
+            .description("Tempo de execução do job (prompt, IA e finalização)")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Recupera jobs abandonados e despacha os pendentes sem esperar a primeira varredura
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recuperarAoIniciar() {
+        varrerPendentes();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoEnfileirar(JobGeracaoIAEnfileiradoEvent evento) {
+        pendentesNoBanco.incrementAndGet();
+        despachar(evento.idJob(), null);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoEnfileirarLote(LoteGeracaoIAEnfileiradoEvent evento) {
+        pendentesNoBanco.addAndGet(despacharLote(evento.idLote()));
+    }
+    
+    /**
+     * Renova o heartbeat dos jobs desta instância; os que ainda aguardam um worker estão
+     * pendentes e não são afetados
+     */
+    void renovarHeartbeat() {
+        try {
+            jobRepository.renovarHeartbeat(Set.copyOf(despachados), instancia, LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Erro ao renovar o heartbeat dos jobs de geração", e);
+        }
+    }
+    
+    /**
+     * Devolve para a fila jobs com lease expirado e redespacha jobs pendentes que não estão
+     * no executor (fila em memória cheia ou reinício)
+     */
+    @Scheduled(
+        fixedDelayString = "${gemini.fila.varredura-ms:15000}",
+        initialDelayString = "${gemini.fila.varredura-ms:15000}"
+    )
+    public void varrerPendentes() {
+        try {
+            recuperarJobsUseCase.executar();
+        } catch (Exception e) {
+            log.error("Erro ao recuperar jobs de geração abandonados", e);
+        }
+        
+        try {
+            var pendentes = jobRepository.findByStatus(StatusJobGeracao.PENDENTE);
+            pendentesNoBanco.set(pendentes.size());
+            
+            for (JobGeracaoIA job : pendentes) {
+                if (!despachar(job.getId(), job.getIdLote())) {
+                    break; // Executor saturado; tenta de novo na próxima varredura
+                }
+            }
+        } catch (Exception e) {
+            log.error("Erro na varredura da fila de geração", e);
+        }
+    }
+    
+    /**
+     * Despacha os jobs pendentes de um lote até o limite de concorrência do lote;
+     * retorna quantos jobs do lote estavam pendentes
+     */
+    private int despacharLote(String idLote) {
+        try {
+            var pendentes = jobRepository.findByLoteAndStatus(idLote, StatusJobGeracao.PENDENTE);
+            
+            for (JobGeracaoIA job : pendentes) {
+                if (despachadosPorLote.getOrDefault(idLote, 0) >= geminiProperties.getLote().getConcorrencia()
+                    || !despachar(job.getId(), idLote)) {
+                    break;
+                }
+            }
+            return pendentes.size();
+        } catch (Exception e) {
+            log.error("Erro ao despachar jobs do lote {}", idLote, e);
+            return 0;
+        }
+    }
+    
+    /**
+     * Entrega o job ao executor; retorna false se o executor estiver saturado.
+     * Job de lote sem vaga no limite do lote permanece pendente até outro job do lote terminar.
+     */
+    private boolean despachar(Long idJob, String idLote) {
+        if (idLote != null && !reservarVagaLote(idLote)) {
+            return true;
+        }
+        
+        if (!despachados.add(idJob)) {
+            liberarVagaLote(idLote);
+            return true;
+        }
+        
+        try {
+            executor.execute(() -> processar(idJob, idLote));
+            return true;
+        } catch (RejectedExecutionException e) {
+            despachados.remove(idJob);
+            liberarVagaLote(idLote);
+            log.warn("Executor da fila de geração saturado. Job {} aguardará a próxima varredura", idJob);
+            return false;
+        }
+    }
+    
+    private void processar(Long idJob, String idLote) {
+        try {
+            processarJobUseCase.executar(idJob, instancia).ifPresent(this::registrarMetricas);
+        } catch (Exception e) {
+            log.error("Erro inesperado no worker de geração. Job ID: {}", idJob, e);
+        } finally {
+            despachados.remove(idJob);
+            pendentesNoBanco.updateAndGet(valor -> Math.max(0, valor - 1));
+            
+            if (idLote != null) {
+                liberarVagaLote(idLote);
+                despacharLote(idLote);
+            }
+        }
+    }
+    
+    private boolean reservarVagaLote(String idLote) {
+        int limite = geminiProperties.getLote().getConcorrencia();
+        AtomicBoolean reservada = new AtomicBoolean();
+        
+        despachadosPorLote.compute(idLote, (lote, emExecucao) -> {
+            int atual = emExecucao == null ? 0 : emExecucao;
+            if (atual >= limite) {
+                return emExecucao;
+            }
+            reservada.set(true);
+            return atual + 1;
+        });
+        
+        return reservada.get();
+    }
+    
+    private void liberarVagaLote(String idLote) {
+        if (idLote != null) {
+            despachadosPorLote.computeIfPresent(idLote, (lote, emExecucao) -> emExecucao <= 1 ? null : emExecucao - 1);
+        }
+    }
+    
+    private void registrarMetricas(JobGeracaoIA job) {
+        if (job.getDataInicio() != null && job.getDataCriacao() != null) {
+            tempoEspera.record(Duration.between(job.getDataCriacao(), job.getDataInicio()));
+        }
+        
+        if (job.getDataConclusao() != null && job.getDataInicio() != null) {
+            tempoExecucao.record(Duration.between(job.getDataInicio(), job.getDataConclusao()));
+        }
+        
+        meterRegistry.counter("smartlegal.ia.fila.jobs", "status", job.getStatus().name()).increment();
+    }
+    
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Jobs interrompidos aqui ficam em EXECUTANDO e são recuperados quando o lease expirar
+            executor.shutdownNow();
+        }
+        agendadorHeartbeat.shutdown();
+    }
+}
@@ -0,0 +1,259 @@
+package smartLegalApi.infrastructure.ai.local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Substituto local da API Gemini para testes de carga (gemini.provider=local).
+ *
+ * É um interceptor do cliente OkHttp do GeminiService: responde no lugar da rede com o mesmo
+ * formato da API (generateContent e streamGenerateContent via SSE, com usageMetadata). Assim a
+ * carga percorre o mesmo caminho da produção: roteamento de modelos, anonimização, circuit breaker,
+ * limite adaptativo, retentativas, hedge e contagem de tokens.
+ *
+ * O texto é determinístico para cada requisição; latência (log-normal a partir da mediana e do p99),
+ * taxa de erro e tamanho da saída vêm de gemini.local. Erros simulados são respostas 429 (com
+ * Retry-After) ou 503, tratadas como as do provedor real. Latências e erros são sorteados de forma
+ * independente a cada chamada, sem sequência reproduzível entre execuções.
+ */
+@Component
+@ConditionalOnProperty(name = "gemini.provider", havingValue = "local")
+@RequiredArgsConstructor
+public class ApiGeminiLocal implements Interceptor {
+    
+    /** Quantil 0,99 da normal padrão, para derivar o desvio da log-normal a partir do p99 */
+    private static final double Z_P99 = 2.326;
+    
+    /** Intervalo em que a espera simulada confere se a chamada foi cancelada (perdedora do hedge) */
+    private static final long PASSO_ESPERA_MS = 50;
+    
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final MediaType EVENT_STREAM = MediaType.get("text/event-stream; charset=utf-8");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    private static final String[] FRASES = {
+        "EXCELENTÍSSIMO SENHOR DOUTOR JUIZ DE DIREITO DA VARA CÍVEL DA COMARCA.",
+        "A parte autora, devidamente qualificada nos autos, vem respeitosamente à presença de Vossa Excelência.",
+        "Os fatos narrados demonstram a violação do direito alegado, conforme documentos anexos.",
+        "Nos termos do art. 186 do Código Civil, aquele que causar dano a outrem fica obrigado a repará-lo.",
+        "A jurisprudência dos tribunais superiores é pacífica quanto à matéria aqui discutida.",
+        "Requer a citação da parte contrária para, querendo, apresentar resposta no prazo legal.",
+        "Protesta provar o alegado por todos os meios de prova em direito admitidos.",
+        "Dá-se à causa o valor indicado, para fins fiscais e de alçada."
+    };
+    
+    private final GeminiProperties geminiProperties;
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        GeminiProperties.Local config = geminiProperties.getLocal();
+        
+        Buffer corpo = new Buffer();
+        if (request.body() != null) {
+            request.body().writeTo(corpo);
+        }
+        String requisicao = corpo.readUtf8();
+        
+        long latenciaMs = sortearLatenciaMs(config);
+        Integer statusErro = sortearErro(config);
+        if (statusErro != null) {
+            // Falhas reais também chegam depois de parte da latência
+            aguardar(latenciaMs / 2, chain.call());
+            return resposta(request, statusErro, "Falha simulada do provedor de IA local", JSON,
+                ResponseBody.create("{\"error\":{\"code\":" + statusErro + "}}", JSON),
+                statusErro == 429 ? "1" : null);
+        }
+        
+        String texto = gerarTexto(requisicao, config.getTamanhoSaida());
+        int tokensPrompt = estimarTokens(requisicao);
+        int tokensResposta = estimarTokens(texto);
+        
+        if (request.url().encodedPath().endsWith(":streamGenerateContent")) {
+            List<String> eventos = eventosStream(texto, Math.max(1, config.getTrechosStream()), tokensPrompt, tokensResposta);
+            // A latência total é distribuída entre os trechos, como em um streaming real
+            Source fonte = new FonteEventos(eventos.iterator(), latenciaMs / eventos.size(), chain.call());
+            return resposta(request, 200, "OK", EVENT_STREAM,
+                ResponseBody.create(Okio.buffer(fonte), EVENT_STREAM, -1), null);
+        }
+        
+        aguardar(latenciaMs, chain.call());
+        return resposta(request, 200, "OK", JSON,
+            ResponseBody.create(respostaGemini(texto, tokensPrompt, tokensResposta), JSON), null);
+    }
+    
+    /**
+     * Texto determinístico: a mesma requisição sempre gera a mesma petição
+     */
+    String gerarTexto(String requisicao, int tamanho) {
+        Random porRequisicao = new Random(requisicao.hashCode());
+        StringBuilder texto = new StringBuilder(tamanho + 128);
+        
+        texto.append(FRASES[0]).append("\n\n");
+        while (texto.length() < tamanho) {
+            texto.append(FRASES[1 + porRequisicao.nextInt(FRASES.length - 1)]);
+            texto.append(porRequisicao.nextInt(4) == 0 ? "\n\n" : " ");
+        }
+        
+        texto.setLength(tamanho);
+        return texto.toString();
+    }
+    
+    long sortearLatenciaMs(GeminiProperties.Local config) {
+        double mediana = Math.max(0, config.getLatenciaMedianaMs());
+        if (mediana == 0) {
+            return 0;
+        }
+        
+        double p99 = Math.max(mediana, config.getLatenciaP99Ms());
+        double sigma = Math.log(p99 / mediana) / Z_P99;
+        return Math.round(mediana * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+    
+    /**
+     * Status da falha simulada (429 ou 503, em partes iguais), ou null se a chamada deve ter sucesso
+     */
+    private Integer sortearErro(GeminiProperties.Local config) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        if (aleatorio.nextDouble() >= config.getTaxaErro()) {
+            return null;
+        }
+        return aleatorio.nextBoolean() ? 429 : 503;
+    }
+    
+    private static int estimarTokens(String texto) {
+        return Math.max(1, texto.length() / 4);
+    }
+    
+    /**
+     * GenerateContentResponse com candidates antes de usageMetadata, na ordem da API real;
+     * usageMetadata só é incluído quando há contagens
+     */
+    private static String respostaGemini(String texto, int tokensPrompt, int tokensResposta) {
+        ObjectNode resposta = OBJECT_MAPPER.createObjectNode();
+        resposta.putArray("candidates").addObject()
+            .putObject("content")
+            .putArray("parts").addObject()
+            .put("text", texto);
+        if (tokensPrompt > 0 || tokensResposta > 0) {
+            resposta.putObject("usageMetadata")
+                .put("promptTokenCount", tokensPrompt)
+                .put("candidatesTokenCount", tokensResposta);
+        }
+        return resposta.toString();
+    }
+    
+    /**
+     * Eventos SSE com os trechos do texto; o último traz também o usageMetadata, como na API real
+     */
+    private static List<String> eventosStream(String texto, int trechos, int tokensPrompt, int tokensResposta) {
+        int tamanhoTrecho = Math.max(1, (texto.length() + trechos - 1) / trechos);
+        List<String> eventos = new ArrayList<>(trechos);
+        
+        for (int inicio = 0; inicio < texto.length(); inicio += tamanhoTrecho) {
+            int fim = Math.min(texto.length(), inicio + tamanhoTrecho);
+            boolean ultimo = fim == texto.length();
+            eventos.add("data: " + respostaGemini(texto.substring(inicio, fim),
+                ultimo ? tokensPrompt : 0, ultimo ? tokensResposta : 0) + "\n\n");
+        }
+        
+        return eventos;
+    }
+    
+    private static Response resposta(Request request, int status, String mensagem, MediaType tipo,
+                                     ResponseBody corpo, String retryAfter) {
+        Response.Builder resposta = new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(status)
+            .message(mensagem)
+            .header("Content-Type", tipo.toString())
+            .body(corpo);
+        if (retryAfter != null) {
+            resposta.header("Retry-After", retryAfter);
+        }
+        return resposta.build();
+    }
+    
+    /**
+     * Espera simulada; interrompe com IOException se a chamada for cancelada, como faria o socket
+     */
+    private static void aguardar(long millis, Call call) throws IOException {
+        long fim = System.currentTimeMillis() + Math.max(0, millis);
+        
+        try {
+            long restante;
+            while ((restante = fim - System.currentTimeMillis()) > 0) {
+                if (call.isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                Thread.sleep(Math.min(restante, PASSO_ESPERA_MS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Geração local interrompida");
+        }
+    }
+    
+    /**
+     * Corpo do streaming entregue evento a evento, com a espera antes de cada um
+     */
+    private static final class FonteEventos implements Source {
+        
+        private final Iterator<String> eventos;
+        private final long esperaMs;
+        private final Call call;
+        private final Buffer pendente = new Buffer();
+        
+        FonteEventos(Iterator<String> eventos, long esperaMs, Call call) {
+            this.eventos = eventos;
+            this.esperaMs = esperaMs;
+            this.call = call;
+        }
+        
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            if (pendente.size() == 0) {
+                if (!eventos.hasNext()) {
+                    return -1;
+                }
+                aguardar(esperaMs, call);
+                pendente.writeUtf8(eventos.next());
+            }
+            return pendente.read(sink, Math.min(byteCount, pendente.size()));
+        }
+        
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+        
+        @Override
+        public void close() {
+            pendente.clear();
+        }
+    }
+}
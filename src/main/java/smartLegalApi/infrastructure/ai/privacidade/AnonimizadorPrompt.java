@@ -0,0 +1,89 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remove CPF, CNPJ, email, telefone e nomes de clientes dos prompts antes do envio ao provedor
+ * externo, e devolve os valores no texto gerado.
+ * 
+ * Os nomes vêm de um autômato de Aho-Corasick com todos os clientes cadastrados, reconstruído
+ * periodicamente (gemini.anonimizacao.atualizacao-nomes-ms) e trocado de forma atômica.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnonimizadorPrompt {
+    
+    private final ClienteRepository clienteRepository;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private volatile AutomatoNomes automato = AutomatoNomes.VAZIO;
+    
+    private Timer duracao;
+    private final Map<TipoDadoPessoal, Counter> substituicoes = new EnumMap<>(TipoDadoPessoal.class);
+    
+    @PostConstruct
+    public void inicializar() {
+        duracao = Timer.builder("smartlegal.ia.anonimizacao.duracao")
+            .description("Tempo para remover os dados pessoais de um prompt")
+            .register(meterRegistry);
+        
+        for (TipoDadoPessoal tipo : TipoDadoPessoal.values()) {
+            substituicoes.put(tipo, meterRegistry.counter("smartlegal.ia.anonimizacao.substituicoes",
+                "tipo", tipo.name()));
+        }
+    }
+    
+    /**
+     * Troca os dados pessoais do prompt por marcadores; desabilitado, devolve o prompt como está
+     */
+    public PromptAnonimizado anonimizar(String prompt) {
+        if (!geminiProperties.getAnonimizacao().getHabilitado()) {
+            return PromptAnonimizado.semAlteracao(prompt);
+        }
+        
+        long inicio = System.nanoTime();
+        PromptAnonimizado resultado = DetectorDadosPessoais.anonimizar(prompt, automato);
+        duracao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        
+        resultado.getSubstituicoes().forEach((tipo, quantidade) -> substituicoes.get(tipo).increment(quantidade));
+        return resultado;
+    }
+    
+    /**
+     * Reconstrói o autômato com os nomes dos clientes cadastrados, lidos em páginas só com o nome
+     */
+    @Scheduled(fixedDelayString = "${gemini.anonimizacao.atualizacao-nomes-ms:600000}")
+    public void atualizarNomes() {
+        if (!geminiProperties.getAnonimizacao().getHabilitado()) {
+            return;
+        }
+        
+        try {
+            List<String> nomes = new ArrayList<>();
+            clienteRepository.percorrerNomes(geminiProperties.getAnonimizacao().getTamanhoPaginaNomes(), nomes::add);
+            
+            automato = AutomatoNomes.construir(nomes, geminiProperties.getAnonimizacao().getTamanhoMinimoNome());
+            log.debug("Anonimização: {} nomes de clientes carregados", automato.getTotalNomes());
+        } catch (DataAccessException e) {
+            log.warn("Falha ao carregar os nomes dos clientes para anonimização; mantendo a lista anterior", e);
+        }
+    }
+}
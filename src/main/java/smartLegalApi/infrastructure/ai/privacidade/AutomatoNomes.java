@@ -0,0 +1,280 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Autômato de Aho-Corasick com os nomes dos clientes, para localizar todos eles em uma única
+ * leitura do texto. A comparação ignora maiúsculas e acentos (cada caractere é "dobrado" para
+ * um único caractere, então as posições no texto original se mantêm).
+ * 
+ * Imutável depois de construído; pode ser compartilhado entre threads.
+ */
+final class AutomatoNomes {
+    
+    /** Caracteres com transição direta a partir da raiz (cobre o Latin-1 e o Latin Extended) */
+    private static final int ALFABETO_RAIZ = 0x250;
+    private static final char[] DOBRA = new char[ALFABETO_RAIZ];
+    
+    static {
+        for (char c = 0; c < ALFABETO_RAIZ; c++) {
+            String semAcento = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+            char base = semAcento.length() == 1 ? semAcento.charAt(0) : c;
+            DOBRA[c] = Character.isWhitespace(base) ? ' ' : Character.toLowerCase(base);
+        }
+    }
+    
+    static final AutomatoNomes VAZIO = construir(List.of(), 1);
+    
+    /** Transições da raiz, indexadas pelo caractere dobrado */
+    private final int[] raiz;
+    
+    /** Demais transições em hash de endereçamento aberto: chave (estado << 16 | caractere) */
+    private final long[] chaves;
+    private final int[] destinos;
+    private final int mascara;
+    
+    private final int[] falha;
+    
+    /** Tamanho do maior nome que termina no estado (0 se nenhum) */
+    private final int[] saida;
+    
+    /** Próximo estado da cadeia de falhas que termina um nome, para nomes contidos em outros */
+    private final int[] proximaSaida;
+    
+    private final int totalNomes;
+    
+    private AutomatoNomes(int[] raiz, long[] chaves, int[] destinos, int[] falha, int[] saida,
+                          int[] proximaSaida, int totalNomes) {
+        this.raiz = raiz;
+        this.chaves = chaves;
+        this.destinos = destinos;
+        this.mascara = chaves.length - 1;
+        this.falha = falha;
+        this.saida = saida;
+        this.proximaSaida = proximaSaida;
+        this.totalNomes = totalNomes;
+    }
+    
+    static char dobrar(char c) {
+        return c < ALFABETO_RAIZ ? DOBRA[c] : Character.toLowerCase(c);
+    }
+    
+    /**
+     * Normaliza um nome para o autômato: dobra os caracteres e reduz espaços repetidos
+     */
+    static String normalizar(String nome) {
+        StringBuilder sb = new StringBuilder(nome.length());
+        for (int i = 0; i < nome.length(); i++) {
+            char c = dobrar(nome.charAt(i));
+            if (c != ' ' || (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ')) {
+                sb.append(c);
+            }
+        }
+        
+        int fim = sb.length();
+        while (fim > 0 && sb.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        return sb.substring(0, fim);
+    }
+    
+    /**
+     * Constrói o autômato com os nomes de pelo menos tamanhoMinimo caracteres
+     */
+    static AutomatoNomes construir(Collection<String> nomes, int tamanhoMinimo) {
+        Trie trie = new Trie();
+        int total = 0;
+        for (String nome : nomes) {
+            if (nome == null) {
+                continue;
+            }
+            String normalizado = normalizar(nome);
+            if (normalizado.length() >= tamanhoMinimo && trie.inserir(normalizado)) {
+                total++;
+            }
+        }
+        return trie.compilar(total);
+    }
+    
+    int getTotalNomes() {
+        return totalNomes;
+    }
+    
+    int estadoInicial() {
+        return 0;
+    }
+    
+    /**
+     * Avança o autômato com o próximo caractere do texto (ainda não dobrado)
+     */
+    int avancar(int estado, char c) {
+        char dobrado = dobrar(c);
+        while (true) {
+            int destino = transicao(estado, dobrado);
+            if (destino >= 0) {
+                return destino;
+            }
+            if (estado == 0) {
+                return 0;
+            }
+            estado = falha[estado];
+        }
+    }
+    
+    /**
+     * Tamanho do maior nome que termina neste estado, ou 0
+     */
+    int saida(int estado) {
+        return saida[estado];
+    }
+    
+    /**
+     * Próximo estado (pela cadeia de falhas) em que termina um nome menor, ou 0
+     */
+    int proximaSaida(int estado) {
+        return proximaSaida[estado];
+    }
+    
+    private int transicao(int estado, char c) {
+        if (estado == 0) {
+            return c < ALFABETO_RAIZ ? raiz[c] : buscar(0, c);
+        }
+        return buscar(estado, c);
+    }
+    
+    private int buscar(int estado, char c) {
+        long chave = ((long) estado << 16) | c;
+        int posicao = espalhar(chave) & mascara;
+        while (true) {
+            long atual = chaves[posicao];
+            if (atual == chave) {
+                return destinos[posicao];
+            }
+            if (atual == -1L) {
+                return -1;
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+    }
+    
+    private static int espalhar(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+    
+    /**
+     * Trie mutável usada apenas na construção
+     */
+    private static final class Trie {
+        
+        private final List<Map<Character, Integer>> filhos = new ArrayList<>();
+        private final List<Integer> tamanhos = new ArrayList<>();
+        
+        Trie() {
+            novoEstado();
+        }
+        
+        private int novoEstado() {
+            filhos.add(new HashMap<>());
+            tamanhos.add(0);
+            return filhos.size() - 1;
+        }
+        
+        boolean inserir(String nome) {
+            int estado = 0;
+            for (int i = 0; i < nome.length(); i++) {
+                Integer proximo = filhos.get(estado).get(nome.charAt(i));
+                if (proximo == null) {
+                    proximo = novoEstado();
+                    filhos.get(estado).put(nome.charAt(i), proximo);
+                }
+                estado = proximo;
+            }
+            
+            if (tamanhos.get(estado) > 0) {
+                return false;
+            }
+            tamanhos.set(estado, nome.length());
+            return true;
+        }
+        
+        AutomatoNomes compilar(int totalNomes) {
+            int estados = filhos.size();
+            int transicoes = estados - 1;
+            int capacidade = Integer.highestOneBit(Math.max(4, transicoes * 2 - 1)) << 1;
+            
+            int[] raiz = new int[ALFABETO_RAIZ];
+            Arrays.fill(raiz, -1);
+            long[] chaves = new long[capacidade];
+            Arrays.fill(chaves, -1L);
+            int[] destinos = new int[capacidade];
+            int mascara = capacidade - 1;
+            
+            int[] falha = new int[estados];
+            int[] saida = new int[estados];
+            int[] proximaSaida = new int[estados];
+            
+            // Busca em largura: a falha de um estado depende das falhas dos estados mais rasos
+            Queue<Integer> fila = new ArrayDeque<>();
+            for (Map.Entry<Character, Integer> filho : filhos.get(0).entrySet()) {
+                char c = filho.getKey();
+                int destino = filho.getValue();
+                if (c < ALFABETO_RAIZ) {
+                    raiz[c] = destino;
+                }
+                inserirTransicao(chaves, destinos, mascara, 0, c, destino);
+                fila.add(destino);
+            }
+            saida[0] = 0;
+            
+            while (!fila.isEmpty()) {
+                int estado = fila.poll();
+                saida[estado] = tamanhos.get(estado);
+                
+                for (Map.Entry<Character, Integer> filho : filhos.get(estado).entrySet()) {
+                    char c = filho.getKey();
+                    int destino = filho.getValue();
+                    inserirTransicao(chaves, destinos, mascara, estado, c, destino);
+                    
+                    int f = falha[estado];
+                    Integer alvo;
+                    while ((alvo = filhos.get(f).get(c)) == null && f != 0) {
+                        f = falha[f];
+                    }
+                    falha[destino] = alvo != null && alvo != destino ? alvo : 0;
+                    fila.add(destino);
+                }
+            }
+            
+            // Em ordem de profundidade as falhas já estão resolvidas; calcula a cadeia de saídas
+            Queue<Integer> ordem = new ArrayDeque<>(filhos.get(0).values());
+            while (!ordem.isEmpty()) {
+                int estado = ordem.poll();
+                int f = falha[estado];
+                proximaSaida[estado] = tamanhos.get(f) > 0 ? f : proximaSaida[f];
+                ordem.addAll(filhos.get(estado).values());
+            }
+            
+            return new AutomatoNomes(raiz, chaves, destinos, falha, saida, proximaSaida, totalNomes);
+        }
+        
+        private static void inserirTransicao(long[] chaves, int[] destinos, int mascara, int estado, char c, int destino) {
+            long chave = ((long) estado << 16) | c;
+            int posicao = espalhar(chave) & mascara;
+            while (chaves[posicao] != -1L) {
+                posicao = (posicao + 1) & mascara;
+            }
+            chaves[posicao] = chave;
+            destinos[posicao] = destino;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+import smartLegalApi.domain.cliente.valueobject.CpfCnpj;
+import smartLegalApi.domain.shared.valueobject.CPF;
+import smartLegalApi.domain.shared.valueobject.Email;
+import smartLegalApi.domain.shared.valueobject.Telefone;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Localiza os dados pessoais do texto em uma única leitura e os troca por marcadores.
+ * 
+ * A cada caractere o autômato de nomes avança um passo; números (CPF, CNPJ, telefone) e emails
+ * são reconhecidos no ponto em que começam ('0'-'9', '(') ou no '@', e validados com as regras
+ * dos value objects. Valores repetidos recebem o mesmo marcador.
+ */
+final class DetectorDadosPessoais {
+    
+    private static final TipoDadoPessoal[] TIPOS = TipoDadoPessoal.values();
+    private static final int MAXIMO_DIGITOS = 14;
+    private static final int MAXIMO_PARTE_LOCAL = 64;
+    private static final int MAXIMO_DOMINIO = 255;
+    
+    /** Trechos encontrados: início, fim (exclusivo) e ordinal do tipo, em arrays paralelos */
+    private int[] inicios = new int[16];
+    private int[] fins = new int[16];
+    private int[] tipos = new int[16];
+    private int total;
+    
+    private final String texto;
+    private final AutomatoNomes automato;
+    
+    private DetectorDadosPessoais(String texto, AutomatoNomes automato) {
+        this.texto = texto;
+        this.automato = automato;
+    }
+    
+    static PromptAnonimizado anonimizar(String texto, AutomatoNomes automato) {
+        DetectorDadosPessoais detector = new DetectorDadosPessoais(texto, automato);
+        detector.varrer();
+        return detector.total == 0 ? PromptAnonimizado.semAlteracao(texto) : detector.substituir();
+    }
+    
+    private void varrer() {
+        int n = texto.length();
+        int estado = automato.estadoInicial();
+        int fimNumero = 0;
+        
+        for (int i = 0; i < n; i++) {
+            char c = texto.charAt(i);
+            
+            estado = automato.avancar(estado, c);
+            if (automato.saida(estado) > 0 || automato.proximaSaida(estado) > 0) {
+                registrarNome(estado, i);
+            }
+            
+            if (i >= fimNumero && (isDigito(c) || (c == '(' && i + 1 < n && isDigito(texto.charAt(i + 1))))
+                    && (i == 0 || !Character.isLetterOrDigit(texto.charAt(i - 1)))) {
+                fimNumero = registrarNumero(i);
+            } else if (c == '@') {
+                registrarEmail(i);
+            }
+        }
+    }
+    
+    /**
+     * Registra o maior nome que termina em i e está delimitado por não-letras nos dois lados
+     */
+    private void registrarNome(int estado, int i) {
+        int fim = i + 1;
+        if (fim < texto.length() && Character.isLetterOrDigit(texto.charAt(fim))) {
+            return;
+        }
+        
+        for (int s = estado; s != 0; s = automato.proximaSaida(s)) {
+            int tamanho = automato.saida(s);
+            if (tamanho == 0) {
+                continue;
+            }
+            int inicio = fim - tamanho;
+            if (inicio == 0 || !Character.isLetterOrDigit(texto.charAt(inicio - 1))) {
+                adicionar(inicio, fim, TipoDadoPessoal.NOME);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Lê a sequência de dígitos e separadores que começa em inicio; retorna o fim da sequência
+     * para que os dígitos seguintes não sejam lidos de novo
+     */
+    private int registrarNumero(int inicio) {
+        int n = texto.length();
+        char[] digitos = new char[MAXIMO_DIGITOS];
+        int quantidade = 0;
+        boolean parenteses = texto.charAt(inicio) == '(';
+        int j = parenteses ? inicio + 1 : inicio;
+        int fim = j;
+        
+        while (j < n) {
+            char c = texto.charAt(j);
+            char anterior = texto.charAt(j - 1 < inicio ? inicio : j - 1);
+            
+            if (isDigito(c)) {
+                if (quantidade < MAXIMO_DIGITOS) {
+                    digitos[quantidade] = c;
+                }
+                quantidade++;
+                fim = ++j;
+            } else if ((c == '.' || c == '-' || c == '/') && isDigito(anterior)) {
+                j++;
+            } else if (c == ')' && parenteses && quantidade == 2 && isDigito(anterior)) {
+                j++;
+            } else if (c == ' ' && anterior == ')') {
+                j++;
+            } else {
+                break;
+            }
+        }
+        
+        if (fim < n && Character.isLetter(texto.charAt(fim))) {
+            return fim;
+        }
+        
+        TipoDadoPessoal tipo = classificarNumero(digitos, quantidade, parenteses);
+        if (tipo != null) {
+            adicionar(inicio, fim, tipo);
+        }
+        return fim;
+    }
+    
+    private static TipoDadoPessoal classificarNumero(char[] digitos, int quantidade, boolean parenteses) {
+        if (quantidade == 11) {
+            String valor = new String(digitos, 0, 11);
+            if (!parenteses && CPF.isValido(valor)) {
+                return TipoDadoPessoal.CPF;
+            }
+            return Telefone.isValido(valor) ? TipoDadoPessoal.TELEFONE : null;
+        }
+        if (quantidade == 10) {
+            return Telefone.isValido(new String(digitos, 0, 10)) ? TipoDadoPessoal.TELEFONE : null;
+        }
+        if (quantidade == 14 && !parenteses) {
+            return CpfCnpj.isValidCNPJ(new String(digitos, 0, 14)) ? TipoDadoPessoal.CNPJ : null;
+        }
+        return null;
+    }
+    
+    /**
+     * Recua pela parte local a partir do '@' e avança pelo domínio; valida com a regra de Email
+     */
+    private void registrarEmail(int arroba) {
+        int inicio = arroba;
+        while (inicio > 0 && arroba - inicio < MAXIMO_PARTE_LOCAL && isCaractereLocal(texto.charAt(inicio - 1))) {
+            inicio--;
+        }
+        while (inicio < arroba && texto.charAt(inicio) == '.') {
+            inicio++;
+        }
+        
+        int fim = arroba + 1;
+        while (fim < texto.length() && fim - arroba < MAXIMO_DOMINIO && isCaractereDominio(texto.charAt(fim))) {
+            fim++;
+        }
+        while (fim > arroba + 1 && (texto.charAt(fim - 1) == '.' || texto.charAt(fim - 1) == '-')) {
+            fim--;
+        }
+        
+        if (inicio < arroba && fim > arroba + 1
+                && Email.isValido(texto.substring(inicio, fim).toLowerCase(Locale.ROOT))) {
+            adicionar(inicio, fim, TipoDadoPessoal.EMAIL);
+        }
+    }
+    
+    private void adicionar(int inicio, int fim, TipoDadoPessoal tipo) {
+        if (total == inicios.length) {
+            inicios = Arrays.copyOf(inicios, total * 2);
+            fins = Arrays.copyOf(fins, total * 2);
+            tipos = Arrays.copyOf(tipos, total * 2);
+        }
+        inicios[total] = inicio;
+        fins[total] = fim;
+        tipos[total] = tipo.ordinal();
+        total++;
+    }
+    
+    /**
+     * Monta o texto com os marcadores. Os trechos são ordenados pelo início (o email e os nomes são
+     * encontrados depois do seu começo); em sobreposição vale o que começa antes e, depois, o maior.
+     */
+    private PromptAnonimizado substituir() {
+        Integer[] ordem = new Integer[total];
+        for (int k = 0; k < total; k++) {
+            ordem[k] = k;
+        }
+        Arrays.sort(ordem, (a, b) -> inicios[a] != inicios[b]
+            ? Integer.compare(inicios[a], inicios[b])
+            : Integer.compare(fins[b], fins[a]));
+        
+        StringBuilder sb = new StringBuilder(texto.length() + 16 * total);
+        Map<String, String> marcadorPorChave = new HashMap<>();
+        Map<String, String> originais = new HashMap<>();
+        Map<TipoDadoPessoal, Integer> substituicoes = new EnumMap<>(TipoDadoPessoal.class);
+        int[] sequencia = new int[TIPOS.length];
+        int copiado = 0;
+        
+        for (int k : ordem) {
+            int inicio = inicios[k];
+            int fim = fins[k];
+            if (inicio < copiado) {
+                continue;
+            }
+            
+            TipoDadoPessoal tipo = TIPOS[tipos[k]];
+            String original = texto.substring(inicio, fim);
+            String chave = tipo.name() + ':' + chave(tipo, original);
+            
+            String marcador = marcadorPorChave.get(chave);
+            if (marcador == null) {
+                marcador = "[" + tipo.name() + "_" + (++sequencia[tipo.ordinal()]) + "]";
+                marcadorPorChave.put(chave, marcador);
+                originais.put(marcador, original);
+            }
+            
+            sb.append(texto, copiado, inicio).append(marcador);
+            substituicoes.merge(tipo, 1, Integer::sum);
+            copiado = fim;
+        }
+        
+        sb.append(texto, copiado, texto.length());
+        return new PromptAnonimizado(sb.toString(), originais, substituicoes);
+    }
+    
+    /**
+     * Forma canônica do valor, para que "123.456.789-09" e "12345678909" recebam o mesmo marcador
+     */
+    private static String chave(TipoDadoPessoal tipo, String original) {
+        return switch (tipo) {
+            case EMAIL -> original.toLowerCase(Locale.ROOT);
+            case NOME -> AutomatoNomes.normalizar(original);
+            default -> original.replaceAll("[^0-9]", "");
+        };
+    }
+    
+    private static boolean isDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isCaractereLocal(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigito(c) || c == '+' || c == '_' || c == '.';
+    }
+    
+    private static boolean isCaractereDominio(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigito(c) || c == '-' || c == '.';
+    }
+}
@@ -0,0 +1,135 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Prompt com os dados pessoais trocados por marcadores ([CPF_1], [NOME_2], ...) e o mapa para
+ * desfazer a troca no texto gerado pela IA
+ */
+public final class PromptAnonimizado {
+    
+    /** Tamanho máximo de um marcador, usado para decidir quanto segurar no streaming */
+    static final int TAMANHO_MAXIMO_MARCADOR = 24;
+    
+    private final String texto;
+    private final Map<String, String> originais;
+    private final Map<TipoDadoPessoal, Integer> substituicoes;
+    
+    PromptAnonimizado(String texto, Map<String, String> originais, Map<TipoDadoPessoal, Integer> substituicoes) {
+        this.texto = texto;
+        this.originais = originais;
+        this.substituicoes = substituicoes;
+    }
+    
+    public static PromptAnonimizado semAlteracao(String texto) {
+        return new PromptAnonimizado(texto, Collections.emptyMap(), new EnumMap<>(TipoDadoPessoal.class));
+    }
+    
+    /**
+     * Texto a enviar ao provedor
+     */
+    public String getTexto() {
+        return texto;
+    }
+    
+    public boolean isAlterado() {
+        return !originais.isEmpty();
+    }
+    
+    /**
+     * Ocorrências substituídas por tipo
+     */
+    public Map<TipoDadoPessoal, Integer> getSubstituicoes() {
+        return substituicoes;
+    }
+    
+    /**
+     * Troca os marcadores do texto gerado pelos valores originais
+     */
+    public String restaurar(String gerado) {
+        if (originais.isEmpty() || gerado == null) {
+            return gerado;
+        }
+        
+        int abertura = gerado.indexOf('[');
+        if (abertura < 0) {
+            return gerado;
+        }
+        
+        StringBuilder sb = new StringBuilder(gerado.length() + 64);
+        int copiado = 0;
+        while (abertura >= 0) {
+            int fechamento = gerado.indexOf(']', abertura + 1);
+            if (fechamento < 0) {
+                break;
+            }
+            
+            String original = fechamento - abertura < TAMANHO_MAXIMO_MARCADOR
+                ? originais.get(gerado.substring(abertura, fechamento + 1))
+                : null;
+            if (original != null) {
+                sb.append(gerado, copiado, abertura).append(original);
+                copiado = fechamento + 1;
+                abertura = gerado.indexOf('[', copiado);
+            } else {
+                abertura = gerado.indexOf('[', abertura + 1);
+            }
+        }
+        
+        return sb.append(gerado, copiado, gerado.length()).toString();
+    }
+    
+    /**
+     * Restaurador para streaming: repassa os trechos já restaurados ao destino, segurando apenas
+     * um possível marcador dividido entre dois trechos
+     */
+    public RestauradorStream restaurador(Consumer<String> destino) {
+        return new RestauradorStream(destino);
+    }
+    
+    public final class RestauradorStream implements Consumer<String> {
+        
+        private final Consumer<String> destino;
+        private String pendente = "";
+        
+        private RestauradorStream(Consumer<String> destino) {
+            this.destino = destino;
+        }
+        
+        @Override
+        public void accept(String trecho) {
+            if (originais.isEmpty()) {
+                destino.accept(trecho);
+                return;
+            }
+            
+            String texto = pendente.isEmpty() ? trecho : pendente + trecho;
+            int corte = texto.length();
+            
+            // Um '[' sem ']' perto do fim pode ser o começo de um marcador ainda incompleto
+            int abertura = texto.lastIndexOf('[');
+            if (abertura >= 0 && texto.indexOf(']', abertura) < 0
+                    && texto.length() - abertura < TAMANHO_MAXIMO_MARCADOR) {
+                corte = abertura;
+            }
+            
+            pendente = texto.substring(corte);
+            if (corte > 0) {
+                destino.accept(restaurar(texto.substring(0, corte)));
+            }
+        }
+        
+        /**
+         * Repassa o que ficou pendente ao fim do streaming
+         */
+        public void finalizar() {
+            if (!pendente.isEmpty()) {
+                destino.accept(restaurar(pendente));
+                pendente = "";
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+/**
+ * Dados pessoais substituídos no prompt antes do envio ao provedor de IA
+ */
+public enum TipoDadoPessoal {
+    CPF,
+    CNPJ,
+    EMAIL,
+    TELEFONE,
+    NOME
+}
@@ -0,0 +1,77 @@
+package smartLegalApi.infrastructure.ai.referencias;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Quebra o texto em termos para o índice: minúsculas sem acento, apenas letras e dígitos,
+ * descartando termos curtos e palavras vazias do português
+ */
+final class AnalisadorTexto {
+    
+    private static final int TAMANHO_MINIMO_TERMO = 3;
+    private static final int TAMANHO_MAXIMO_TERMO = 40;
+    private static final int ALFABETO_LATINO = 0x250;
+    private static final char[] DOBRA = new char[ALFABETO_LATINO];
+    
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+        "ante", "apos", "aquela", "aquele", "aquilo", "com", "como", "contra", "cujo", "cuja", "das", "desde",
+        "dessa", "desse", "desta", "deste", "dos", "ela", "elas", "ele", "eles", "entre", "essa", "esse", "esta",
+        "este", "isso", "isto", "mais", "mas", "mesmo", "muito", "nao", "nas", "nem", "nos", "nossa", "nosso",
+        "num", "numa", "onde", "para", "pela", "pelas", "pelo", "pelos", "per", "por", "quais", "qual", "quando",
+        "que", "quem", "sem", "ser", "seu", "seus", "sob", "sobre", "sua", "suas", "tambem", "tem", "ter",
+        "uma", "umas", "uns", "foi", "sao", "seja", "sera", "ainda", "assim", "bem", "cada", "outra", "outro",
+        "pois", "porque", "tal", "tais", "todo", "toda", "todos", "todas", "vez", "via"
+    );
+    
+    static {
+        for (char c = 0; c < ALFABETO_LATINO; c++) {
+            String decomposto = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            DOBRA[c] = Character.isLetterOrDigit(c) ? Character.toLowerCase(decomposto.charAt(0)) : ' ';
+        }
+    }
+    
+    private AnalisadorTexto() {
+    }
+    
+    /**
+     * Termos de texto[inicio, fim), na ordem em que aparecem (com repetições)
+     */
+    static List<String> termos(String texto, int inicio, int fim) {
+        List<String> termos = new ArrayList<>((fim - inicio) / 8);
+        StringBuilder termo = new StringBuilder(TAMANHO_MAXIMO_TERMO);
+        
+        for (int i = inicio; i <= fim; i++) {
+            char c = i < fim ? dobrar(texto.charAt(i)) : ' ';
+            if (c != ' ') {
+                if (termo.length() < TAMANHO_MAXIMO_TERMO) {
+                    termo.append(c);
+                }
+                continue;
+            }
+            
+            if (termo.length() >= TAMANHO_MINIMO_TERMO) {
+                String candidato = termo.toString();
+                if (!PALAVRAS_VAZIAS.contains(candidato)) {
+                    termos.add(candidato);
+                }
+            }
+            termo.setLength(0);
+        }
+        
+        return termos;
+    }
+    
+    static List<String> termos(String texto) {
+        return texto == null ? List.of() : termos(texto, 0, texto.length());
+    }
+    
+    private static char dobrar(char c) {
+        if (c < ALFABETO_LATINO) {
+            return DOBRA[c];
+        }
+        return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ';
+    }
+}
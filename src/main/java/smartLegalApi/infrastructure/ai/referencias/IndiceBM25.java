@@ -0,0 +1,363 @@
+package smartLegalApi.infrastructure.ai.referencias;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice invertido BM25 sobre passagens de petições, mantido em memória.
+ * 
+ * Cada passagem guarda apenas a petição de origem e a sua posição no conteúdo (inicio, fim);
+ * o texto é lido do banco somente para as passagens retornadas. As listas de ocorrências usam
+ * arrays primitivos (id da passagem + frequência em um byte). Remoções marcam a passagem como
+ * excluída e o índice é compactado quando as excluídas passam de um quarto do total; até lá
+ * elas ainda contam na frequência de documentos dos termos, o que só suaviza o idf.
+ * 
+ * A busca usa só os 24 termos mais raros da consulta (os de maior idf; o contexto de um caso
+ * tem facilmente uma centena) e os percorre do mais raro ao mais comum. Os raros (até 1/20 das
+ * passagens, ou 4096 ocorrências em índices pequenos) definem as candidatas; os comuns apenas somam pontos às candidatas, localizadas por
+ * busca exponencial na lista ordenada em vez de percorrê-la inteira. Uma passagem que só contém
+ * termos comuns fica de fora, o que raramente muda as primeiras colocadas e mantém a busca em
+ * poucos milissegundos com centenas de milhares de passagens.
+ * 
+ * Não é thread-safe: o acesso é coordenado por IndiceReferenciasPeticao.
+ */
+final class IndiceBM25 {
+    
+    private static final int CAPACIDADE_INICIAL = 256;
+    private static final int MINIMO_PARA_COMPACTAR = 64;
+    
+    /** Termos presentes em mais que esta fração das passagens só pontuam as candidatas já encontradas */
+    private static final int DIVISOR_TERMO_COMUM = 20;
+    
+    /** Listas até este tamanho são sempre percorridas por inteiro (índice pequeno: busca exata) */
+    private static final int MINIMO_TERMO_COMUM = 4096;
+    
+    /** Termos distintos da consulta considerados, dos mais raros para os mais comuns */
+    private static final int MAXIMO_TERMOS_CONSULTA = 24;
+    
+    private final float k1;
+    private final float b;
+    
+    private final Map<String, Ocorrencias> ocorrencias = new HashMap<>();
+    private final Map<Long, int[]> passagensPorPeticao = new HashMap<>();
+    private final BitSet excluidas = new BitSet();
+    
+    private long[] peticoes = new long[CAPACIDADE_INICIAL];
+    private int[] inicios = new int[CAPACIDADE_INICIAL];
+    private int[] fins = new int[CAPACIDADE_INICIAL];
+    private int[] comprimentos = new int[CAPACIDADE_INICIAL];
+    private int total;
+    private int totalExcluidas;
+    private long somaComprimentos;
+    
+    IndiceBM25(float k1, float b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+    
+    /**
+     * Passagem a indexar: posição no conteúdo da petição e os seus termos
+     */
+    record Passagem(int inicio, int fim, List<String> termos) {
+    }
+    
+    /**
+     * Passagem encontrada na busca
+     */
+    record Resultado(long idPeticao, int inicio, int fim, float pontuacao) {
+    }
+    
+    /**
+     * Indexa as passagens de uma petição, substituindo as que ela já tinha
+     */
+    void adicionar(long idPeticao, List<Passagem> passagens) {
+        remover(idPeticao);
+        if (passagens.isEmpty()) {
+            return;
+        }
+        
+        garantirCapacidade(total + passagens.size());
+        passagensPorPeticao.put(idPeticao, new int[]{total, passagens.size()});
+        
+        Map<String, Integer> frequencias = new HashMap<>();
+        for (Passagem passagem : passagens) {
+            int id = total++;
+            peticoes[id] = idPeticao;
+            inicios[id] = passagem.inicio();
+            fins[id] = passagem.fim();
+            comprimentos[id] = passagem.termos().size();
+            somaComprimentos += passagem.termos().size();
+            
+            frequencias.clear();
+            for (String termo : passagem.termos()) {
+                frequencias.merge(termo, 1, Integer::sum);
+            }
+            frequencias.forEach((termo, frequencia) ->
+                ocorrencias.computeIfAbsent(termo, t -> new Ocorrencias()).adicionar(id, frequencia));
+        }
+    }
+    
+    /**
+     * Retira as passagens de uma petição; não faz nada se ela não estiver indexada
+     */
+    void remover(long idPeticao) {
+        int[] faixa = passagensPorPeticao.remove(idPeticao);
+        if (faixa == null) {
+            return;
+        }
+        
+        for (int id = faixa[0]; id < faixa[0] + faixa[1]; id++) {
+            excluidas.set(id);
+            somaComprimentos -= comprimentos[id];
+        }
+        totalExcluidas += faixa[1];
+        
+        if (totalExcluidas >= MINIMO_PARA_COMPACTAR && totalExcluidas * 4 > total) {
+            compactar();
+        }
+    }
+    
+    /**
+     * As melhores passagens para os termos da consulta, no máximo uma por petição,
+     * da maior para a menor pontuação
+     */
+    List<Resultado> buscar(List<String> termosConsulta, int quantidade, long peticaoIgnorada) {
+        int ativas = total - totalExcluidas;
+        if (ativas == 0 || quantidade <= 0 || termosConsulta.isEmpty()) {
+            return List.of();
+        }
+        
+        float mediaComprimento = (float) somaComprimentos / ativas;
+        float[] pontuacoes = new float[total];
+        int[] tocadas = new int[Math.min(total, 1024)];
+        int totalTocadas = 0;
+        
+        List<Ocorrencias> listas = new ArrayList<>();
+        for (String termo : new HashSet<>(termosConsulta)) {
+            Ocorrencias lista = ocorrencias.get(termo);
+            if (lista != null) {
+                listas.add(lista);
+            }
+        }
+        listas.sort(Comparator.comparingInt(lista -> lista.tamanho));
+        if (listas.size() > MAXIMO_TERMOS_CONSULTA) {
+            listas = listas.subList(0, MAXIMO_TERMOS_CONSULTA);
+        }
+        
+        int limiteComum = Math.max(MINIMO_TERMO_COMUM, total / DIVISOR_TERMO_COMUM);
+        boolean candidatasOrdenadas = false;
+        
+        for (Ocorrencias lista : listas) {
+            float idf = (float) Math.log(1 + (total - lista.tamanho + 0.5) / (lista.tamanho + 0.5));
+            
+            if (lista.tamanho <= limiteComum || totalTocadas == 0) {
+                for (int i = 0; i < lista.tamanho; i++) {
+                    int id = lista.passagens[i];
+                    if (excluidas.get(id)) {
+                        continue;
+                    }
+                    if (pontuacoes[id] == 0) {
+                        if (totalTocadas == tocadas.length) {
+                            tocadas = Arrays.copyOf(tocadas, Math.min(total, tocadas.length * 2));
+                        }
+                        tocadas[totalTocadas++] = id;
+                    }
+                    pontuacoes[id] += pontuar(idf, lista.frequencias[i], comprimentos[id], mediaComprimento);
+                }
+                continue;
+            }
+            
+            // Termo comum: só soma às candidatas; listas e candidatas estão em ordem de id
+            if (!candidatasOrdenadas) {
+                Arrays.sort(tocadas, 0, totalTocadas);
+                candidatasOrdenadas = true;
+            }
+            int posicao = 0;
+            for (int t = 0; t < totalTocadas && posicao < lista.tamanho; t++) {
+                int id = tocadas[t];
+                posicao = lista.localizar(id, posicao);
+                if (posicao < lista.tamanho && lista.passagens[posicao] == id) {
+                    pontuacoes[id] += pontuar(idf, lista.frequencias[posicao], comprimentos[id], mediaComprimento);
+                }
+            }
+        }
+        
+        return melhores(pontuacoes, tocadas, totalTocadas, quantidade, peticaoIgnorada);
+    }
+    
+    private float pontuar(float idf, byte frequenciaTermo, int comprimento, float mediaComprimento) {
+        float frequencia = frequenciaTermo & 0xFF;
+        float normalizacao = k1 * (1 - b + b * comprimento / mediaComprimento);
+        return idf * frequencia * (k1 + 1) / (frequencia + normalizacao);
+    }
+    
+    int getTotalPassagens() {
+        return total - totalExcluidas;
+    }
+    
+    int getTotalPeticoes() {
+        return passagensPorPeticao.size();
+    }
+    
+    /**
+     * Seleção das k melhores com no máximo uma passagem por petição; k é pequeno, então
+     * a busca linear nos arrays de tamanho k é mais barata que um heap com mapa auxiliar
+     */
+    private List<Resultado> melhores(float[] pontuacoes, int[] tocadas, int totalTocadas, int quantidade,
+                                     long peticaoIgnorada) {
+        int[] escolhidas = new int[quantidade];
+        int totalEscolhidas = 0;
+        
+        for (int t = 0; t < totalTocadas; t++) {
+            int id = tocadas[t];
+            long idPeticao = peticoes[id];
+            if (idPeticao == peticaoIgnorada) {
+                continue;
+            }
+            
+            int mesmaPeticao = -1;
+            int pior = -1;
+            for (int i = 0; i < totalEscolhidas; i++) {
+                if (peticoes[escolhidas[i]] == idPeticao) {
+                    mesmaPeticao = i;
+                    break;
+                }
+                if (pior < 0 || pontuacoes[escolhidas[i]] < pontuacoes[escolhidas[pior]]) {
+                    pior = i;
+                }
+            }
+            
+            if (mesmaPeticao >= 0) {
+                if (pontuacoes[id] > pontuacoes[escolhidas[mesmaPeticao]]) {
+                    escolhidas[mesmaPeticao] = id;
+                }
+            } else if (totalEscolhidas < quantidade) {
+                escolhidas[totalEscolhidas++] = id;
+            } else if (pontuacoes[id] > pontuacoes[escolhidas[pior]]) {
+                escolhidas[pior] = id;
+            }
+        }
+        
+        List<Resultado> resultados = new ArrayList<>(totalEscolhidas);
+        for (int i = 0; i < totalEscolhidas; i++) {
+            int id = escolhidas[i];
+            resultados.add(new Resultado(peticoes[id], inicios[id], fins[id], pontuacoes[id]));
+        }
+        resultados.sort((a, c) -> Float.compare(c.pontuacao(), a.pontuacao()));
+        return resultados;
+    }
+    
+    /**
+     * Renumera as passagens ativas e descarta as excluídas das listas de ocorrências
+     */
+    private void compactar() {
+        int[] novoId = new int[total];
+        int ativas = 0;
+        for (int id = 0; id < total; id++) {
+            if (excluidas.get(id)) {
+                novoId[id] = -1;
+                continue;
+            }
+            novoId[id] = ativas;
+            peticoes[ativas] = peticoes[id];
+            inicios[ativas] = inicios[id];
+            fins[ativas] = fins[id];
+            comprimentos[ativas] = comprimentos[id];
+            ativas++;
+        }
+        
+        Iterator<Ocorrencias> listas = ocorrencias.values().iterator();
+        while (listas.hasNext()) {
+            Ocorrencias lista = listas.next();
+            lista.renumerar(novoId);
+            if (lista.tamanho == 0) {
+                listas.remove();
+            }
+        }
+        
+        passagensPorPeticao.replaceAll((idPeticao, faixa) -> new int[]{novoId[faixa[0]], faixa[1]});
+        excluidas.clear();
+        total = ativas;
+        totalExcluidas = 0;
+    }
+    
+    private void garantirCapacidade(int capacidade) {
+        if (capacidade <= peticoes.length) {
+            return;
+        }
+        
+        int novaCapacidade = Math.max(capacidade, peticoes.length * 2);
+        peticoes = Arrays.copyOf(peticoes, novaCapacidade);
+        inicios = Arrays.copyOf(inicios, novaCapacidade);
+        fins = Arrays.copyOf(fins, novaCapacidade);
+        comprimentos = Arrays.copyOf(comprimentos, novaCapacidade);
+    }
+    
+    /**
+     * Lista de ocorrências de um termo, em ordem crescente de passagem
+     */
+    private static final class Ocorrencias {
+        
+        private int[] passagens = new int[4];
+        private byte[] frequencias = new byte[4];
+        private int tamanho;
+        
+        void adicionar(int passagem, int frequencia) {
+            if (tamanho == passagens.length) {
+                passagens = Arrays.copyOf(passagens, tamanho * 2);
+                frequencias = Arrays.copyOf(frequencias, tamanho * 2);
+            }
+            passagens[tamanho] = passagem;
+            frequencias[tamanho] = (byte) Math.min(frequencia, 255);
+            tamanho++;
+        }
+        
+        /**
+         * Primeira posição, a partir de desde, com passagem maior ou igual a id (busca exponencial
+         * seguida de binária, barata quando as candidatas consultadas são esparsas)
+         */
+        int localizar(int id, int desde) {
+            int baixo = desde;
+            int passo = 1;
+            while (baixo + passo < tamanho && passagens[baixo + passo] < id) {
+                baixo += passo;
+                passo <<= 1;
+            }
+            
+            int alto = Math.min(baixo + passo, tamanho);
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (passagens[meio] < id) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+        
+        void renumerar(int[] novoId) {
+            int mantidas = 0;
+            for (int i = 0; i < tamanho; i++) {
+                int id = novoId[passagens[i]];
+                if (id >= 0) {
+                    passagens[mantidas] = id;
+                    frequencias[mantidas] = frequencias[i];
+                    mantidas++;
+                }
+            }
+            tamanho = mantidas;
+            if (tamanho < passagens.length / 4) {
+                passagens = Arrays.copyOf(passagens, Math.max(4, tamanho));
+                frequencias = Arrays.copyOf(frequencias, Math.max(4, tamanho));
+            }
+        }
+    }
+}
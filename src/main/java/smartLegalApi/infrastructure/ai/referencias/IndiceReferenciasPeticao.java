@@ -0,0 +1,252 @@
+package smartLegalApi.infrastructure.ai.referencias;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smartLegalApi.application.peticao.event.PeticaoAlteradaEvent;
+import smartLegalApi.application.peticao.event.PeticaoExcluidaEvent;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.SecaoPeticao;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Índice BM25 em memória com as petições APROVADAS e PROTOCOLADAS, um por tipo de petição,
+ * usado para trazer ao prompt trechos de peças do próprio escritório como referência de estilo.
+ * 
+ * O conteúdo é dividido em passagens pelas seções do texto (seções longas são quebradas em
+ * parágrafos até gemini.referencias.tamanho-passagem). O índice é carregado ao iniciar e
+ * atualizado a cada aprovação, protocolo, edição ou exclusão, após o commit da transação.
+ * Buscas compartilham um lock de leitura; atualizações são raras e usam o de escrita.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceReferenciasPeticao {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<TipoPeticao, IndiceBM25> indices = new EnumMap<>(TipoPeticao.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private Timer duracaoBusca;
+    
+    @PostConstruct
+    public void inicializar() {
+        GeminiProperties.Referencias config = geminiProperties.getReferencias();
+        for (TipoPeticao tipo : TipoPeticao.values()) {
+            indices.put(tipo, new IndiceBM25(config.getK1().floatValue(), config.getB().floatValue()));
+        }
+        
+        duracaoBusca = Timer.builder("smartlegal.ia.referencias.busca")
+            .description("Tempo de busca de passagens de referência no índice")
+            .register(meterRegistry);
+        Gauge.builder("smartlegal.ia.referencias.passagens", this, IndiceReferenciasPeticao::getTotalPassagens)
+            .description("Passagens de petições aprovadas ou protocoladas no índice")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Carrega as petições aprovadas e protocoladas existentes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (!geminiProperties.getReferencias().getHabilitado()) {
+            return;
+        }
+        
+        try {
+            long inicio = System.nanoTime();
+            int total = 0;
+            for (StatusPeticao status : List.of(StatusPeticao.APROVADA, StatusPeticao.PROTOCOLADA)) {
+                for (Peticao peticao : peticaoRepository.findByStatus(status)) {
+                    atualizar(peticao);
+                    total++;
+                }
+            }
+            log.info("Índice de referências carregado: {} petições, {} passagens em {} ms",
+                total, getTotalPassagens(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        } catch (DataAccessException e) {
+            log.error("Erro ao carregar o índice de referências; as petições entram à medida que forem alteradas", e);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoAlterar(PeticaoAlteradaEvent evento) {
+        if (geminiProperties.getReferencias().getHabilitado()) {
+            atualizar(evento.peticao());
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoExcluir(PeticaoExcluidaEvent evento) {
+        lock.writeLock().lock();
+        try {
+            indices.values().forEach(indice -> indice.remover(evento.idPeticao()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Indexa a petição se estiver aprovada ou protocolada; caso contrário, retira-a do índice
+     */
+    public void atualizar(Peticao peticao) {
+        List<IndiceBM25.Passagem> passagens = isIndexavel(peticao) ? dividir(peticao.getConteudo()) : List.of();
+        
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<TipoPeticao, IndiceBM25> indice : indices.entrySet()) {
+                if (indice.getKey() == peticao.getTipo()) {
+                    indice.getValue().adicionar(peticao.getId(), passagens);
+                } else {
+                    indice.getValue().remover(peticao.getId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Passagens mais relevantes para a consulta entre as petições do mesmo tipo, no máximo uma
+     * por petição e sem a própria petição em geração
+     */
+    public List<PassagemReferencia> buscar(TipoPeticao tipo, String consulta, Long idPeticaoIgnorada) {
+        GeminiProperties.Referencias config = geminiProperties.getReferencias();
+        if (!config.getHabilitado() || tipo == null) {
+            return List.of();
+        }
+        
+        List<String> termos = AnalisadorTexto.termos(consulta);
+        long ignorada = idPeticaoIgnorada != null ? idPeticaoIgnorada : -1L;
+        
+        long inicio = System.nanoTime();
+        List<IndiceBM25.Resultado> resultados;
+        lock.readLock().lock();
+        try {
+            resultados = indices.get(tipo).buscar(termos, config.getQuantidade(), ignorada);
+        } finally {
+            lock.readLock().unlock();
+        }
+        duracaoBusca.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        
+        return lerPassagens(resultados);
+    }
+    
+    int getTotalPassagens() {
+        lock.readLock().lock();
+        try {
+            return indices.values().stream().mapToInt(IndiceBM25::getTotalPassagens).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Lê o texto das passagens encontradas, com as petições carregadas em uma única consulta;
+     * petições alteradas ou excluídas depois da busca são ignoradas
+     */
+    private List<PassagemReferencia> lerPassagens(List<IndiceBM25.Resultado> resultados) {
+        if (resultados.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Peticao> peticoes = peticaoRepository.findAllById(
+                resultados.stream().map(IndiceBM25.Resultado::idPeticao).toList()).stream()
+            .collect(Collectors.toMap(Peticao::getId, Function.identity()));
+        
+        List<PassagemReferencia> passagens = new ArrayList<>(resultados.size());
+        for (IndiceBM25.Resultado resultado : resultados) {
+            Optional.ofNullable(peticoes.get(resultado.idPeticao()))
+                .filter(this::isIndexavel)
+                .filter(peticao -> resultado.fim() <= peticao.getConteudo().length())
+                .ifPresent(peticao -> passagens.add(new PassagemReferencia(
+                    peticao.getId(),
+                    peticao.getConteudo().substring(resultado.inicio(), resultado.fim()),
+                    resultado.pontuacao()
+                )));
+        }
+        
+        return passagens;
+    }
+    
+    /**
+     * Divide o conteúdo em passagens: uma por seção, ou blocos de parágrafos quando a seção
+     * é maior que o tamanho configurado. Passagens muito curtas (títulos soltos, assinatura)
+     * ficam de fora
+     */
+    List<IndiceBM25.Passagem> dividir(String conteudo) {
+        GeminiProperties.Referencias config = geminiProperties.getReferencias();
+        List<IndiceBM25.Passagem> passagens = new ArrayList<>();
+        
+        for (SecaoPeticao secao : SecaoPeticao.extrair(conteudo)) {
+            int fimSecao = secao.inicio() + secao.texto().length();
+            int inicio = secao.inicio();
+            
+            while (inicio < fimSecao) {
+                int fim = fimSecao - inicio <= config.getTamanhoPassagem()
+                    ? fimSecao
+                    : limiteNatural(conteudo, inicio, inicio + config.getTamanhoPassagem());
+                
+                if (fim - inicio >= config.getTamanhoMinimoPassagem()) {
+                    passagens.add(new IndiceBM25.Passagem(inicio, fim, AnalisadorTexto.termos(conteudo, inicio, fim)));
+                }
+                
+                inicio = fim;
+                while (inicio < fimSecao && Character.isWhitespace(conteudo.charAt(inicio))) {
+                    inicio++;
+                }
+            }
+        }
+        
+        return passagens;
+    }
+    
+    /**
+     * Último fim de parágrafo, ou de frase, antes do limite; sem nenhum, corta no limite
+     */
+    private int limiteNatural(String conteudo, int inicio, int limite) {
+        int minimo = inicio + (limite - inicio) / 2;
+        
+        int paragrafo = conteudo.lastIndexOf('\n', limite);
+        if (paragrafo > minimo) {
+            return paragrafo;
+        }
+        
+        int frase = conteudo.lastIndexOf(". ", limite);
+        if (frase > minimo) {
+            return frase + 1;
+        }
+        
+        return limite;
+    }
+    
+    private boolean isIndexavel(Peticao peticao) {
+        return (peticao.getStatus() == StatusPeticao.APROVADA || peticao.getStatus() == StatusPeticao.PROTOCOLADA)
+            && peticao.getConteudo() != null && !peticao.getConteudo().isBlank();
+    }
+}
@@ -0,0 +1,7 @@
+package smartLegalApi.infrastructure.ai.referencias;
+
+/**
+ * Trecho de uma petição aprovada ou protocolada, recuperado como referência para o prompt
+ */
+public record PassagemReferencia(Long idPeticao, String texto, float pontuacao) {
+}
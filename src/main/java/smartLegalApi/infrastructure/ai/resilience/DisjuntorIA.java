@@ -0,0 +1,189 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.exception.ServicoIAIndisponivelException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker das chamadas ao provedor de IA.
+ * 
+ * FECHADO: chamadas passam; as últimas N (janela) são registradas como sucesso, falha ou lenta.
+ * Atingidos o mínimo de chamadas e a taxa de falha ou de lentidão, o circuito ABRE e as chamadas
+ * falham imediatamente. Após o tempo aberto, fica SEMI_ABERTO e libera algumas chamadas de teste:
+ * se todas tiverem sucesso o circuito fecha, caso contrário volta a abrir.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DisjuntorIA {
+    
+    /**
+     * Estado do circuito; o código é exportado no gauge de estado
+     */
+    public enum Estado {
+        FECHADO(0),
+        SEMI_ABERTO(1),
+        ABERTO(2);
+        
+        private final int codigo;
+        
+        Estado(int codigo) {
+            this.codigo = codigo;
+        }
+    }
+    
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private volatile Estado estado = Estado.FECHADO;
+    private long abertoDesdeNanos;
+    private int testesEmAndamento;
+    private int testesComSucesso;
+    
+    // Janela deslizante por contagem das últimas chamadas
+    private boolean[] falhas;
+    private boolean[] lentas;
+    private int posicao;
+    private int registradas;
+    
+    @PostConstruct
+    public void inicializar() {
+        int janela = geminiProperties.getCircuito().getJanela();
+        falhas = new boolean[janela];
+        lentas = new boolean[janela];
+        
+        Gauge.builder("smartlegal.ia.circuito.estado", this, disjuntor -> disjuntor.getEstado().codigo)
+            .description("Estado do circuito da IA (0 = fechado, 1 = semi-aberto, 2 = aberto)")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Libera a chamada ou lança ServicoIAIndisponivelException se o circuito estiver aberto
+     */
+    public synchronized void verificarPermissao() {
+        GeminiProperties.Circuito config = geminiProperties.getCircuito();
+        if (!config.getHabilitado()) {
+            return;
+        }
+        
+        if (estado == Estado.ABERTO) {
+            long abertoMs = Duration.ofNanos(System.nanoTime() - abertoDesdeNanos).toMillis();
+            if (abertoMs < config.getTempoAbertoMs()) {
+                rejeitar((config.getTempoAbertoMs() - abertoMs) / 1000 + 1);
+            }
+            transicionar(Estado.SEMI_ABERTO);
+        }
+        
+        if (estado == Estado.SEMI_ABERTO) {
+            if (testesEmAndamento >= config.getChamadasTeste()) {
+                rejeitar(1);
+            }
+            testesEmAndamento++;
+        }
+    }
+    
+    /**
+     * Registra uma chamada concluída com sucesso; acima do limite de lentidão conta como lenta
+     */
+    public synchronized void registrarSucesso(Duration duracao) {
+        boolean lenta = duracao.toMillis() >= geminiProperties.getCircuito().getLimiteLentidaoMs();
+        
+        if (estado == Estado.SEMI_ABERTO) {
+            testesEmAndamento = Math.max(0, testesEmAndamento - 1);
+            if (lenta) {
+                transicionar(Estado.ABERTO);
+            } else if (++testesComSucesso >= geminiProperties.getCircuito().getChamadasTeste()) {
+                transicionar(Estado.FECHADO);
+            }
+            return;
+        }
+        
+        registrar(false, lenta);
+    }
+    
+    /**
+     * Registra uma falha do provedor (5xx, 429, timeout, erro de comunicação)
+     */
+    public synchronized void registrarFalha() {
+        if (estado == Estado.SEMI_ABERTO) {
+            testesEmAndamento = Math.max(0, testesEmAndamento - 1);
+            transicionar(Estado.ABERTO);
+            return;
+        }
+        
+        registrar(true, false);
+    }
+    
+    /**
+     * Libera a vaga de teste de uma chamada cujo desfecho não diz nada sobre o provedor (ex: erro 4xx)
+     */
+    public synchronized void registrarIgnorada() {
+        if (estado == Estado.SEMI_ABERTO) {
+            testesEmAndamento = Math.max(0, testesEmAndamento - 1);
+        }
+    }
+    
+    public Estado getEstado() {
+        return estado;
+    }
+    
+    private void registrar(boolean falha, boolean lenta) {
+        if (estado != Estado.FECHADO) {
+            return; // Chamada iniciada antes da abertura
+        }
+        
+        falhas[posicao] = falha;
+        lentas[posicao] = lenta;
+        posicao = (posicao + 1) % falhas.length;
+        registradas = Math.min(registradas + 1, falhas.length);
+        
+        GeminiProperties.Circuito config = geminiProperties.getCircuito();
+        if (registradas < config.getMinimoChamadas()) {
+            return;
+        }
+        
+        int totalFalhas = 0;
+        int totalLentas = 0;
+        for (int i = 0; i < registradas; i++) {
+            if (falhas[i]) totalFalhas++;
+            if (lentas[i]) totalLentas++;
+        }
+        
+        if (totalFalhas * 100 >= config.getTaxaFalhaPercentual() * registradas
+            || totalLentas * 100 >= config.getTaxaLentidaoPercentual() * registradas) {
+            log.warn("Abrindo circuito da IA. Falhas: {}/{}, lentas: {}/{}",
+                totalFalhas, registradas, totalLentas, registradas);
+            transicionar(Estado.ABERTO);
+        }
+    }
+    
+    private void transicionar(Estado novo) {
+        Estado anterior = estado;
+        estado = novo;
+        testesEmAndamento = 0;
+        testesComSucesso = 0;
+        
+        if (novo == Estado.ABERTO) {
+            abertoDesdeNanos = System.nanoTime();
+        } else if (novo == Estado.FECHADO) {
+            posicao = 0;
+            registradas = 0;
+        }
+        
+        log.info("Circuito da IA: {} -> {}", anterior, novo);
+        meterRegistry.counter("smartlegal.ia.circuito.transicoes", "de", anterior.name(), "para", novo.name())
+            .increment();
+    }
+    
+    private void rejeitar(long segundos) {
+        meterRegistry.counter("smartlegal.ia.circuito.rejeicoes").increment();
+        throw new ServicoIAIndisponivelException(segundos);
+    }
+}
@@ -0,0 +1,160 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Executa chamadas ao provedor de IA sob o circuit breaker e o limite adaptativo de concorrência,
+ * com retentativa exponencial (full jitter) que respeita o cabeçalho Retry-After.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutorResilienteIA {
+    
+    private final LimitadorConcorrenciaAdaptativo limitador;
+    private final DisjuntorIA disjuntor;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * Chamada HTTP ao provedor de IA
+     */
+    @FunctionalInterface
+    public interface ChamadaIA<T> {
+        T executar() throws IOException;
+    }
+    
+    /**
+     * Executa a chamada, repetindo falhas transitórias até o número máximo de tentativas
+     */
+    public <T> T executar(ChamadaIA<T> chamada) {
+        GeminiProperties.Retentativa config = geminiProperties.getRetentativa();
+        
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return executarTentativa(chamada, true);
+            } catch (FalhaChamadaIAException e) {
+                if (!e.isRetentavel() || tentativa >= config.getMaxTentativas()) {
+                    throw e;
+                }
+                
+                Duration espera = calcularEspera(tentativa, e.getRetryAfter());
+                if (espera == null) {
+                    log.warn("Retry-After de {}s excede a espera máxima. Desistindo", e.getRetryAfter().toSeconds());
+                    throw e;
+                }
+                
+                meterRegistry.counter("smartlegal.ia.retentativas", "status", String.valueOf(e.getStatus())).increment();
+                log.warn("Falha transitória na API Gemini ({}). Tentativa {} de {} em {} ms",
+                    e.getMessage(), tentativa + 1, config.getMaxTentativas(), espera.toMillis());
+                aguardar(espera);
+            }
+        }
+    }
+    
+    /**
+     * Executa a chamada uma única vez sob o limite de concorrência (ex: streaming, que não pode ser repetido)
+     */
+    public <T> T executarUmaVez(ChamadaIA<T> chamada) {
+        return executarTentativa(chamada, false);
+    }
+    
+    /**
+     * Executa uma tentativa; a duração só conta para a lentidão do circuito em chamadas unárias,
+     * já que um streaming longo é esperado
+     */
+    private <T> T executarTentativa(ChamadaIA<T> chamada, boolean medirLentidao) {
+        disjuntor.verificarPermissao();
+        
+        try {
+            adquirirVaga();
+        } catch (RuntimeException e) {
+            disjuntor.registrarIgnorada();
+            throw e;
+        }
+        
+        long inicio = System.nanoTime();
+        LimitadorConcorrenciaAdaptativo.Resultado resultado = LimitadorConcorrenciaAdaptativo.Resultado.IGNORADO;
+        boolean falhaProvedor = false;
+        try {
+            T valor = chamada.executar();
+            resultado = LimitadorConcorrenciaAdaptativo.Resultado.SUCESSO;
+            return valor;
+        } catch (FalhaChamadaIAException e) {
+            falhaProvedor = e.isRetentavel();
+            if (e.isSobrecarga()) {
+                resultado = LimitadorConcorrenciaAdaptativo.Resultado.SOBRECARGA;
+            }
+            throw e;
+        } catch (InterruptedIOException e) {
+            // Timeout de leitura/conexão: sinal de sobrecarga do provedor
+            falhaProvedor = true;
+            resultado = LimitadorConcorrenciaAdaptativo.Resultado.SOBRECARGA;
+            throw new FalhaChamadaIAException("Tempo esgotado ao chamar API Gemini", 0, null, true, true, e);
+        } catch (IOException e) {
+            falhaProvedor = true;
+            throw new FalhaChamadaIAException("Erro de comunicação com API Gemini", 0, null, false, true, e);
+        } finally {
+            limitador.liberar(resultado);
+            
+            if (resultado == LimitadorConcorrenciaAdaptativo.Resultado.SUCESSO) {
+                disjuntor.registrarSucesso(medirLentidao ? Duration.ofNanos(System.nanoTime() - inicio) : Duration.ZERO);
+            } else if (falhaProvedor) {
+                disjuntor.registrarFalha();
+            } else {
+                disjuntor.registrarIgnorada();
+            }
+        }
+    }
+    
+    /**
+     * Espera antes da próxima tentativa; null quando o Retry-After excede a espera máxima
+     */
+    Duration calcularEspera(int tentativa, Duration retryAfter) {
+        GeminiProperties.Retentativa config = geminiProperties.getRetentativa();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        if (retryAfter != null) {
+            if (retryAfter.toMillis() > config.getEsperaMaximaMs()) {
+                return null;
+            }
+            // Jitter pequeno para que clientes limitados juntos não voltem todos no mesmo instante
+            return retryAfter.plusMillis(random.nextLong(config.getEsperaInicialMs() + 1));
+        }
+        
+        long teto = Math.min(config.getEsperaMaximaMs(), config.getEsperaInicialMs() << Math.min(tentativa - 1, 20));
+        return Duration.ofMillis(random.nextLong(teto + 1));
+    }
+    
+    private void adquirirVaga() {
+        Duration espera = Duration.ofMillis(geminiProperties.getConcorrencia().getEsperaMaximaMs());
+        
+        try {
+            if (!limitador.adquirir(espera)) {
+                throw new ErroGeracaoIAException("Limite de chamadas simultâneas à API Gemini atingido. Tente novamente");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ErroGeracaoIAException("Chamada à API Gemini interrompida", e);
+        }
+    }
+    
+    private void aguardar(Duration espera) {
+        try {
+            Thread.sleep(espera.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ErroGeracaoIAException("Retentativa da chamada à API Gemini interrompida", e);
+        }
+    }
+}
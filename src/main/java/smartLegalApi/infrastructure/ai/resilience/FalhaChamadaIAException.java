@@ -0,0 +1,80 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import lombok.Getter;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Falha em uma chamada ao provedor de IA, classificada para retentativa e controle de concorrência
+ */
+@Getter
+public class FalhaChamadaIAException extends ErroGeracaoIAException {
+    
+    /** Status HTTP que costumam se resolver sozinhos */
+    private static final Set<Integer> STATUS_RETENTAVEIS = Set.of(429, 500, 502, 503, 504);
+    
+    /** Status HTTP que indicam provedor sobrecarregado (reduzem o limite de concorrência) */
+    private static final Set<Integer> STATUS_SOBRECARGA = Set.of(429, 503, 504);
+    
+    /**
+     * Status HTTP da resposta; 0 quando a falha ocorreu antes de haver resposta
+     */
+    private final int status;
+    
+    /**
+     * Espera solicitada pelo provedor no cabeçalho Retry-After, se houver
+     */
+    private final Duration retryAfter;
+    
+    private final boolean sobrecarga;
+    private final boolean retentavel;
+    
+    public FalhaChamadaIAException(String mensagem, int status, Duration retryAfter,
+                                   boolean sobrecarga, boolean retentavel, Throwable causa) {
+        super(mensagem, causa);
+        this.status = status;
+        this.retryAfter = retryAfter;
+        this.sobrecarga = sobrecarga;
+        this.retentavel = retentavel;
+    }
+    
+    /**
+     * Cria a falha a partir do status HTTP e do cabeçalho Retry-After da resposta
+     */
+    public static FalhaChamadaIAException deStatus(int status, String retryAfter) {
+        return new FalhaChamadaIAException(
+            "Erro ao chamar API Gemini: " + status,
+            status,
+            lerRetryAfter(retryAfter),
+            STATUS_SOBRECARGA.contains(status),
+            STATUS_RETENTAVEIS.contains(status),
+            null
+        );
+    }
+    
+    /**
+     * Interpreta o cabeçalho Retry-After, em segundos ou como data HTTP
+     */
+    static Duration lerRetryAfter(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(valor.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime data = ZonedDateTime.parse(valor.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration espera = Duration.between(ZonedDateTime.now(data.getZone()), data);
+                return espera.isNegative() ? Duration.ZERO : espera;
+            } catch (DateTimeParseException ignorado) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import org.springframework.stereotype.Component;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Requisições "hedged" ao provedor de IA: se a primeira chamada não responder dentro do
+ * percentil configurado da latência recente, uma segunda chamada idêntica é disparada.
+ * A primeira resposta válida vence e a outra é cancelada com Call.cancel().
+ * 
+ * A chamada extra só é disparada se houver vaga no limite adaptativo de concorrência.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HedgeRequisicoesIA {
+    
+    private static final int AMOSTRAS = 200;
+    
+    private final LimitadorConcorrenciaAdaptativo limitador;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /** Latências recentes (ms) de chamadas bem-sucedidas, em buffer circular */
+    private final long[] latencias = new long[AMOSTRAS];
+    private int proximaAmostra;
+    private int totalAmostras;
+    
+    /**
+     * Converte a resposta HTTP no resultado; deve lançar exceção para respostas de erro
+     */
+    @FunctionalInterface
+    public interface ProcessadorResposta<T> {
+        T processar(Response response) throws IOException;
+    }
+    
+    public boolean isHabilitado() {
+        return geminiProperties.getHedge().getHabilitado();
+    }
+    
+    /**
+     * Executa a requisição com hedge; novaChamada deve criar uma Call nova a cada invocação
+     */
+    public <T> T executar(Supplier<Call> novaChamada, ProcessadorResposta<T> processador) throws IOException {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        AtomicInteger emAndamento = new AtomicInteger(1);
+        Call[] chamadas = new Call[2];
+        
+        chamadas[0] = novaChamada.get();
+        disparar(chamadas[0], processador, resultado, emAndamento, "primaria", false);
+        
+        try {
+            try {
+                return resultado.get(calcularAtraso().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                dispararHedge(novaChamada, processador, resultado, emAndamento, chamadas);
+            }
+            
+            return resultado.get();
+            
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException io) throw io;
+            if (causa instanceof RuntimeException runtime) throw runtime;
+            throw new IOException(causa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Chamada à API Gemini interrompida");
+        } finally {
+            // Cancela a chamada perdedora (ou ambas, se a espera foi interrompida)
+            Arrays.stream(chamadas)
+                .filter(chamada -> chamada != null && !chamada.isCanceled())
+                .forEach(Call::cancel);
+        }
+    }
+    
+    private <T> void dispararHedge(Supplier<Call> novaChamada, ProcessadorResposta<T> processador,
+                                   CompletableFuture<T> resultado, AtomicInteger emAndamento, Call[] chamadas) {
+        if (resultado.isDone() || !limitador.tentarAdquirir()) {
+            return;
+        }
+        
+        emAndamento.incrementAndGet();
+        chamadas[1] = novaChamada.get();
+        meterRegistry.counter("smartlegal.ia.hedge.disparos").increment();
+        disparar(chamadas[1], processador, resultado, emAndamento, "hedge", true);
+    }
+    
+    private <T> void disparar(Call chamada, ProcessadorResposta<T> processador, CompletableFuture<T> resultado,
+                              AtomicInteger emAndamento, String origem, boolean liberarVaga) {
+        long inicio = System.nanoTime();
+        
+        chamada.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    T valor = processador.processar(response);
+                    registrarLatencia(Duration.ofNanos(System.nanoTime() - inicio).toMillis());
+                    
+                    // Contabiliza o vencedor antes de completar, para a métrica já refletir a chamada ao retornar
+                    synchronized (resultado) {
+                        if (!resultado.isDone()) {
+                            meterRegistry.counter("smartlegal.ia.hedge.vencedor", "origem", origem).increment();
+                            resultado.complete(valor);
+                        }
+                    }
+                } catch (Exception e) {
+                    falhar(resultado, emAndamento, e);
+                } finally {
+                    liberar(liberarVaga);
+                }
+            }
+            
+            @Override
+            public void onFailure(Call call, IOException e) {
+                try {
+                    if (!call.isCanceled()) {
+                        falhar(resultado, emAndamento, e);
+                    }
+                } finally {
+                    liberar(liberarVaga);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Só propaga a falha se nenhuma outra chamada ainda puder responder
+     */
+    private <T> void falhar(CompletableFuture<T> resultado, AtomicInteger emAndamento, Exception e) {
+        if (emAndamento.decrementAndGet() == 0) {
+            resultado.completeExceptionally(e);
+        }
+    }
+    
+    private void liberar(boolean liberarVaga) {
+        if (liberarVaga) {
+            limitador.liberar(LimitadorConcorrenciaAdaptativo.Resultado.IGNORADO);
+        }
+    }
+    
+    /**
+     * Atraso até o hedge: percentil da latência recente, ou o atraso inicial enquanto há poucas amostras
+     */
+    synchronized Duration calcularAtraso() {
+        GeminiProperties.Hedge config = geminiProperties.getHedge();
+        if (totalAmostras < config.getAmostrasMinimas()) {
+            return Duration.ofMillis(config.getAtrasoInicialMs());
+        }
+        
+        long[] ordenadas = Arrays.copyOf(latencias, totalAmostras);
+        Arrays.sort(ordenadas);
+        int indice = (int) Math.ceil(config.getPercentil() * totalAmostras) - 1;
+        long percentil = ordenadas[Math.max(0, Math.min(indice, totalAmostras - 1))];
+        
+        return Duration.ofMillis(Math.max(config.getAtrasoMinimoMs(), percentil));
+    }
+    
+    private synchronized void registrarLatencia(long millis) {
+        latencias[proximaAmostra] = millis;
+        proximaAmostra = (proximaAmostra + 1) % AMOSTRAS;
+        totalAmostras = Math.min(totalAmostras + 1, AMOSTRAS);
+    }
+}
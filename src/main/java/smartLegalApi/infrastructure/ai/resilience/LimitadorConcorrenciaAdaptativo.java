@@ -0,0 +1,138 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite adaptativo de chamadas simultâneas ao provedor de IA (AIMD).
+ * 
+ * Cada sucesso com o limite em uso soma 1/limite (cerca de +1 por ciclo completo de chamadas);
+ * cada sinal de sobrecarga (429, 503, timeout) multiplica o limite pelo fator de redução.
+ * Chamadas acima do limite aguardam uma vaga até o tempo máximo configurado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LimitadorConcorrenciaAdaptativo {
+    
+    /**
+     * Desfecho de uma chamada, usado para ajustar o limite
+     */
+    public enum Resultado {
+        SUCESSO,
+        SOBRECARGA,
+        IGNORADO
+    }
+    
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition vagaLiberada = lock.newCondition();
+    
+    private volatile double limite;
+    private volatile int emVoo;
+    private Counter rejeicoes;
+    
+    @PostConstruct
+    public void inicializar() {
+        limite = geminiProperties.getConcorrencia().getLimiteInicial();
+        
+        Gauge.builder("smartlegal.ia.concorrencia.limite", this, LimitadorConcorrenciaAdaptativo::getLimite)
+            .description("Limite atual de chamadas simultâneas à IA")
+            .register(meterRegistry);
+        Gauge.builder("smartlegal.ia.concorrencia.em_voo", this, LimitadorConcorrenciaAdaptativo::getEmVoo)
+            .description("Chamadas à IA em andamento")
+            .register(meterRegistry);
+        rejeicoes = Counter.builder("smartlegal.ia.concorrencia.rejeicoes")
+            .description("Chamadas recusadas por falta de vaga dentro do tempo máximo de espera")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Aguarda uma vaga; retorna false se nenhuma vaga for liberada dentro da espera
+     */
+    public boolean adquirir(Duration espera) throws InterruptedException {
+        long restanteNanos = espera.toNanos();
+        
+        lock.lock();
+        try {
+            while (emVoo >= getLimite()) {
+                if (restanteNanos <= 0) {
+                    rejeicoes.increment();
+                    return false;
+                }
+                restanteNanos = vagaLiberada.awaitNanos(restanteNanos);
+            }
+            
+            emVoo++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Ocupa uma vaga somente se houver uma livre agora, sem aguardar nem contar rejeição
+     */
+    public boolean tentarAdquirir() {
+        lock.lock();
+        try {
+            if (emVoo >= getLimite()) {
+                return false;
+            }
+            emVoo++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Libera a vaga e ajusta o limite conforme o desfecho da chamada
+     */
+    public void liberar(Resultado resultado) {
+        GeminiProperties.Concorrencia config = geminiProperties.getConcorrencia();
+        
+        lock.lock();
+        try {
+            // Só cresce quando o limite está de fato em uso; evita inflar o limite com tráfego baixo
+            boolean limiteEmUso = emVoo >= limite / 2;
+            emVoo--;
+            
+            double anterior = limite;
+            if (resultado == Resultado.SUCESSO && limiteEmUso) {
+                limite = Math.min(config.getLimiteMaximo(), limite + 1.0 / limite);
+            } else if (resultado == Resultado.SOBRECARGA) {
+                limite = Math.max(config.getLimiteMinimo(), limite * config.getFatorReducao());
+                log.warn("Sobrecarga da IA detectada. Limite de concorrência: {} -> {}",
+                    (int) anterior, getLimite());
+            }
+            
+            vagaLiberada.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Limite atual, em número inteiro de chamadas simultâneas
+     */
+    public int getLimite() {
+        return (int) limite;
+    }
+    
+    public int getEmVoo() {
+        return emVoo;
+    }
+}
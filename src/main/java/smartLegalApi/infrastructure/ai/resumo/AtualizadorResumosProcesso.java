@@ -0,0 +1,141 @@
+package smartLegalApi.infrastructure.ai.resumo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smartLegalApi.application.processo.event.ResumoProcessoDesatualizadoEvent;
+import smartLegalApi.application.processo.usecase.AtualizarResumoProcessoUseCase;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atualiza em segundo plano os resumos de processo marcados como desatualizados
+ * 
+ * A marcação no banco é a fonte da verdade: cada andamento registrado agenda a atualização
+ * do resumo após o commit, com um atraso (gemini.resumo.atraso-ms) que junta andamentos
+ * cadastrados em sequência em uma única chamada à IA. Cada processo tem no máximo uma
+ * atualização agendada; marcações durante a execução fazem a atualização ser repetida ao
+ * final. Uma varredura periódica cobre falhas e reinícios da aplicação.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AtualizadorResumosProcesso {
+    
+    private final AtualizarResumoProcessoUseCase atualizarResumoUseCase;
+    private final ResumoProcessoRepository resumoProcessoRepository;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /** Processos com atualização agendada ou em execução */
+    private final Set<Long> agendados = ConcurrentHashMap.newKeySet();
+    
+    /** Processos marcados de novo enquanto a atualização executava */
+    private final Set<Long> repetir = ConcurrentHashMap.newKeySet();
+    
+    private ScheduledThreadPoolExecutor executor;
+    private Timer tempoAtualizacao;
+    
+    @PostConstruct
+    public void inicializar() {
+        executor = new ScheduledThreadPoolExecutor(
+            geminiProperties.getResumo().getWorkers(),
+            new CustomizableThreadFactory("resumo-processo-")
+        );
+        executor.setRemoveOnCancelPolicy(true);
+        
+        Gauge.builder("smartlegal.ia.resumo.pendentes", agendados, Set::size)
+            .description("Resumos de processo aguardando atualização")
+            .register(meterRegistry);
+        tempoAtualizacao = Timer.builder("smartlegal.ia.resumo.atualizacao")
+            .description("Tempo de atualização de um resumo de processo (leitura, IA e gravação)")
+            .register(meterRegistry);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoDesatualizar(ResumoProcessoDesatualizadoEvent evento) {
+        agendar(evento.idProcesso());
+    }
+    
+    /**
+     * Agenda os resumos desatualizados que não estão no executor (falhas ou reinício)
+     */
+    @Scheduled(
+        fixedDelayString = "${gemini.resumo.varredura-ms:60000}",
+        initialDelayString = "${gemini.resumo.varredura-ms:60000}"
+    )
+    public void varrerDesatualizados() {
+        if (!geminiProperties.getResumo().getHabilitado()) {
+            return;
+        }
+        
+        try {
+            for (ResumoProcesso resumo : resumoProcessoRepository.findDesatualizados()) {
+                agendar(resumo.getIdProcesso());
+            }
+        } catch (Exception e) {
+            log.error("Erro na varredura de resumos de processo", e);
+        }
+    }
+    
+    /**
+     * Agenda a atualização do resumo; se já houver uma em execução, ela será repetida ao terminar
+     */
+    public void agendar(Long idProcesso) {
+        if (!geminiProperties.getResumo().getHabilitado()) {
+            return;
+        }
+        
+        if (!agendados.add(idProcesso)) {
+            repetir.add(idProcesso);
+            return;
+        }
+        executor.schedule(() -> atualizar(idProcesso), geminiProperties.getResumo().getAtrasoMs(), TimeUnit.MILLISECONDS);
+    }
+    
+    private void atualizar(Long idProcesso) {
+        // Marcações anteriores ao início já são vistas por esta execução
+        repetir.remove(idProcesso);
+        
+        String resultado = "erro";
+        try {
+            boolean concluida = tempoAtualizacao.recordCallable(() -> atualizarResumoUseCase.executar(idProcesso));
+            resultado = concluida ? "concluida" : "refeita";
+        } catch (Exception e) {
+            // Permanece desatualizado e é agendado de novo pela varredura
+            log.error("Erro ao atualizar resumo do processo ID: {}", idProcesso, e);
+        } finally {
+            meterRegistry.counter("smartlegal.ia.resumo", "resultado", resultado).increment();
+            agendados.remove(idProcesso);
+        }
+        
+        if (repetir.remove(idProcesso) || "refeita".equals(resultado)) {
+            agendar(idProcesso);
+        }
+    }
+    
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        // Agendamentos pendentes são descartados; a varredura os retoma no próximo início
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package smartLegalApi.infrastructure.ai.roteamento;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escolhe entre o modelo rápido e o de qualidade para cada chamada ao Gemini.
+ * 
+ * A preferência vem do nível de latência pedido, do tipo da petição e do tamanho estimado do prompt;
+ * em seguida a saúde recente de cada modelo (taxa de erro e p95 em janela deslizante) pode inverter
+ * a escolha. O modelo não escolhido fica como alternativa em caso de falha.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoteadorModelosIA {
+    
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, JanelaModelo> janelas = new ConcurrentHashMap<>();
+    
+    /**
+     * Modelos a tentar, em ordem: o escolhido e, se houver, a alternativa
+     */
+    public List<String> escolher(PerfilGeracao perfil, int tokensEstimados) {
+        GeminiProperties.Roteamento config = geminiProperties.getRoteamento();
+        if (!config.getHabilitado()) {
+            return List.of(geminiProperties.getModel());
+        }
+        
+        String rapido = config.getModeloRapido();
+        String qualidade = config.getModeloQualidade();
+        NivelLatencia nivel = perfil != null ? perfil.nivel() : NivelLatencia.PADRAO;
+        
+        String preferido;
+        String motivo;
+        if (nivel == NivelLatencia.RAPIDA) {
+            preferido = rapido;
+            motivo = "nivel";
+        } else if (nivel == NivelLatencia.QUALIDADE) {
+            preferido = qualidade;
+            motivo = "nivel";
+        } else if (perfil != null && config.getTiposQualidade().contains(perfil.tipo())) {
+            preferido = qualidade;
+            motivo = "tipo";
+        } else if (tokensEstimados > config.getLimiteTokensRapido()) {
+            preferido = qualidade;
+            motivo = "tamanho";
+        } else {
+            preferido = rapido;
+            motivo = "tamanho";
+        }
+        
+        String alternativo = preferido.equals(rapido) ? qualidade : rapido;
+        
+        // Modelo degradado cede a vez ao outro, desde que o outro esteja saudável
+        String degradacao = avaliarDegradacao(preferido);
+        if (degradacao != null && avaliarDegradacao(alternativo) == null) {
+            log.warn("Modelo {} degradado ({}). Roteando para {}", preferido, degradacao, alternativo);
+            String anterior = preferido;
+            preferido = alternativo;
+            alternativo = anterior;
+            motivo = degradacao;
+        }
+        
+        meterRegistry.counter("smartlegal.ia.roteamento.decisoes", "modelo", preferido, "motivo", motivo).increment();
+        
+        if (preferido.equals(alternativo)) {
+            return List.of(preferido);
+        }
+        return List.of(preferido, alternativo);
+    }
+    
+    /**
+     * Registra o resultado de uma chamada a um modelo (latência em histograma e janela de saúde)
+     */
+    public void registrar(String modelo, Duration duracao, boolean sucesso) {
+        Timer.builder("smartlegal.ia.modelo.latencia")
+            .description("Latência das chamadas por modelo")
+            .tag("modelo", modelo)
+            .tag("resultado", sucesso ? "sucesso" : "falha")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(duracao.toNanos(), TimeUnit.NANOSECONDS);
+        
+        janelas.computeIfAbsent(modelo, m -> new JanelaModelo(geminiProperties.getRoteamento().getJanela()))
+            .registrar(duracao.toMillis(), sucesso);
+    }
+    
+    /**
+     * Registra a troca para o modelo alternativo após uma falha
+     */
+    public void registrarFallback(String de, String para) {
+        meterRegistry.counter("smartlegal.ia.roteamento.fallback", "de", de, "para", para).increment();
+    }
+    
+    /**
+     * Motivo da degradação do modelo ("saude" ou "latencia"); null se saudável ou sem amostras suficientes
+     */
+    String avaliarDegradacao(String modelo) {
+        JanelaModelo janela = janelas.get(modelo);
+        if (janela == null) {
+            return null;
+        }
+        
+        GeminiProperties.Roteamento config = geminiProperties.getRoteamento();
+        return janela.avaliar(config.getAmostrasMinimas(), config.getTaxaErroMaxima(), config.getLatenciaMaximaMs());
+    }
+    
+    /**
+     * Resultados recentes de um modelo, em buffer circular
+     */
+    private static final class JanelaModelo {
+        
+        private final long[] latencias;
+        private final boolean[] sucessos;
+        private int proxima;
+        private int total;
+        
+        JanelaModelo(int tamanho) {
+            this.latencias = new long[tamanho];
+            this.sucessos = new boolean[tamanho];
+        }
+        
+        synchronized void registrar(long latenciaMs, boolean sucesso) {
+            latencias[proxima] = latenciaMs;
+            sucessos[proxima] = sucesso;
+            proxima = (proxima + 1) % latencias.length;
+            total = Math.min(total + 1, latencias.length);
+        }
+        
+        synchronized String avaliar(int amostrasMinimas, double taxaErroMaxima, long latenciaMaximaMs) {
+            if (total < amostrasMinimas) {
+                return null;
+            }
+            
+            int falhas = 0;
+            int bemSucedidas = 0;
+            long[] duracoes = new long[total];
+            for (int i = 0; i < total; i++) {
+                if (sucessos[i]) {
+                    duracoes[bemSucedidas++] = latencias[i];
+                } else {
+                    falhas++;
+                }
+            }
+            
+            if ((double) falhas / total > taxaErroMaxima) {
+                return "saude";
+            }
+            
+            // p95 considera só as chamadas bem-sucedidas; falhas rápidas não devem baixar a latência
+            if (bemSucedidas > 0) {
+                long[] ordenadas = Arrays.copyOf(duracoes, bemSucedidas);
+                Arrays.sort(ordenadas);
+                long p95 = ordenadas[Math.min(bemSucedidas - 1, (int) Math.ceil(bemSucedidas * 0.95) - 1)];
+                if (p95 > latenciaMaximaMs) {
+                    return "latencia";
+                }
+            }
+            
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package smartLegalApi.infrastructure.ai.secoes;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Geração de petições longas seção a seção.
+ * 
+ * O plano de seções vem das instruções do tipo (PeticaoPromptService.planoSecoes). Cada seção é
+ * gerada em uma chamada própria, com até gemini.secoes.paralelismo chamadas simultâneas por petição,
+ * e o texto final é unido na ordem do plano. Como a latência da IA cresce com o tamanho da saída,
+ * várias saídas curtas em paralelo terminam bem antes de uma única saída longa.
+ * 
+ * Custo: cada seção reenvia o contexto do caso (sem as instruções da petição inteira), então os
+ * tokens de entrada crescem com o número de seções; cada chamada passa pelo cache e é
+ * contabilizada na cota do advogado como qualquer outra.
+ * 
+ * A passada de consistência ao final é local (sem nova chamada à IA, que custaria uma saída do
+ * tamanho da petição inteira): remove endereçamentos e fechos repetidos pelas seções
+ * intermediárias e parágrafos duplicados entre seções.
+ */
+@Service
+@Slf4j
+public class GeradorPeticaoPorSecoes {
+    
+    private static final int TAMANHO_MINIMO_PARAGRAFO_DUPLICADO = 80;
+    private static final Pattern ENDERECAMENTO = Pattern.compile("^(EXCELENT[ÍI]SSIM[OA]|EXMO|EGR[ÉE]GIO|COLENDA)",
+        Pattern.CASE_INSENSITIVE);
+    private static final Pattern FECHO = Pattern.compile(
+        "^(nestes termos|neste termos|termos em que|n\\. termos|pede deferimento|p\\. deferimento)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LINHAS_EM_BRANCO_EXTRAS = Pattern.compile("\\n{3,}");
+    
+    private final PeticaoPromptService promptService;
+    private final GeminiProperties geminiProperties;
+    private final TaskExecutor executor;
+    private final Timer duracao;
+    
+    public GeradorPeticaoPorSecoes(PeticaoPromptService promptService,
+                                   GeminiProperties geminiProperties,
+                                   @Qualifier("geracaoSecoesExecutor") TaskExecutor executor,
+                                   MeterRegistry meterRegistry) {
+        this.promptService = promptService;
+        this.geminiProperties = geminiProperties;
+        this.executor = executor;
+        this.duracao = Timer.builder("smartlegal.ia.secoes.duracao")
+            .description("Tempo total da geração por seções, incluindo a consolidação")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Indica se o tipo de petição deve ser gerado por seções
+     */
+    public boolean isAplicavel(TipoPeticao tipo) {
+        GeminiProperties.Secoes config = geminiProperties.getSecoes();
+        return Boolean.TRUE.equals(config.getHabilitado()) && config.getTipos().contains(tipo)
+            && promptService.planoSecoes(tipo).size() > 1;
+    }
+    
+    /**
+     * Gera cada seção do plano com a chamada informada (normalmente o cache de respostas) e
+     * devolve o texto consolidado; a falha de qualquer seção falha a geração inteira
+     */
+    public String gerar(TipoPeticao tipo, String promptBase, Function<String, String> chamada) {
+        List<String> plano = promptService.planoSecoes(tipo);
+        log.info("Gerando {} por seções: {} seções", tipo, plano.size());
+        
+        return duracao.record(() -> {
+            List<String> prompts = new ArrayList<>(plano.size());
+            List<CompletableFuture<String>> secoes = new ArrayList<>(plano.size());
+            for (int i = 0; i < plano.size(); i++) {
+                prompts.add(promptService.construirPromptSecao(tipo, promptBase, plano, i));
+                secoes.add(new CompletableFuture<>());
+            }
+            
+            // Janela deslizante: cada seção concluída dispara a próxima, sem bloquear threads do executor
+            AtomicInteger proxima = new AtomicInteger();
+            int paralelismo = Math.min(plano.size(), Math.max(1, geminiProperties.getSecoes().getParalelismo()));
+            for (int i = 0; i < paralelismo; i++) {
+                dispararProxima(prompts, secoes, proxima, chamada);
+            }
+            
+            List<String> textos = new ArrayList<>(plano.size());
+            for (CompletableFuture<String> secao : secoes) {
+                textos.add(aguardar(secao, secoes));
+            }
+            
+            return consolidar(textos);
+        });
+    }
+    
+    /**
+     * Passada de consistência: une as seções na ordem do plano sem repetições
+     */
+    String consolidar(List<String> textos) {
+        StringBuilder resultado = new StringBuilder();
+        Set<String> paragrafosLongos = new HashSet<>();
+        
+        for (int i = 0; i < textos.size(); i++) {
+            boolean primeira = i == 0;
+            boolean ultima = i == textos.size() - 1;
+            
+            for (String paragrafo : textos.get(i).strip().split("\\n\\s*\\n")) {
+                String limpo = paragrafo.strip();
+                if (limpo.isEmpty()
+                    || (!primeira && ENDERECAMENTO.matcher(limpo).find())
+                    || (!ultima && FECHO.matcher(limpo).find())
+                    || (limpo.length() >= TAMANHO_MINIMO_PARAGRAFO_DUPLICADO && !paragrafosLongos.add(normalizar(limpo)))) {
+                    continue;
+                }
+                
+                resultado.append(limpo).append("\n\n");
+            }
+        }
+        
+        return LINHAS_EM_BRANCO_EXTRAS.matcher(resultado.toString().strip()).replaceAll("\n\n");
+    }
+    
+    private void dispararProxima(List<String> prompts, List<CompletableFuture<String>> secoes,
+                                 AtomicInteger proxima, Function<String, String> chamada) {
+        int indice = proxima.getAndIncrement();
+        if (indice >= prompts.size() || secoes.get(indice).isDone()) {
+            return;
+        }
+        
+        CompletableFuture.supplyAsync(() -> chamada.apply(prompts.get(indice)), executor)
+            .whenComplete((texto, erro) -> {
+                if (erro != null) {
+                    secoes.get(indice).completeExceptionally(erro instanceof CompletionException ? erro.getCause() : erro);
+                    return;
+                }
+                
+                secoes.get(indice).complete(texto);
+                dispararProxima(prompts, secoes, proxima, chamada);
+            });
+    }
+    
+    private String aguardar(CompletableFuture<String> secao, List<CompletableFuture<String>> todas) {
+        try {
+            return secao.join();
+        } catch (CompletionException e) {
+            // Uma seção falhou: as que ainda não começaram não são disparadas
+            todas.forEach(outra -> outra.cancel(false));
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new ErroGeracaoIAException("Erro ao gerar seção da petição: " + e.getMessage(), e);
+        }
+    }
+    
+    private String normalizar(String paragrafo) {
+        return Normalizer.normalize(paragrafo, Normalizer.Form.NFD)
+            .replaceAll("[^\\p{Alnum}]", "")
+            .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,57 @@
+package smartLegalApi.infrastructure.ai.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Provedor de geração de texto por IA.
+ * 
+ * Implementação: GeminiService. Com gemini.provider=local, as chamadas HTTP do GeminiService são
+ * respondidas pelo ApiGeminiLocal, que simula a API sem rede para testes de carga.
+ */
+public interface AiTextGenerator {
+    
+    /**
+     * Gera o texto completo para o prompt
+     */
+    String gerarConteudo(String prompt);
+    
+    /**
+     * Gera o texto repassando cada trecho ao consumidor assim que fica disponível; retorna o texto completo
+     */
+    String gerarConteudoStream(String prompt, Consumer<String> onTrecho);
+    
+    /**
+     * Gera o texto completo considerando o perfil da geração; provedores sem escolha de modelo o ignoram
+     */
+    default String gerarConteudo(String prompt, PerfilGeracao perfil) {
+        return gerarConteudo(prompt);
+    }
+    
+    /**
+     * Versão em streaming de gerarConteudo(prompt, perfil)
+     */
+    default String gerarConteudoStream(String prompt, PerfilGeracao perfil, Consumer<String> onTrecho) {
+        return gerarConteudoStream(prompt, onTrecho);
+    }
+    
+    /**
+     * Como gerarConteudo(prompt, perfil), registrando em tokens as contagens cobradas pelo provedor;
+     * provedores que não as informam deixam tokens vazio
+     */
+    default String gerarConteudo(String prompt, PerfilGeracao perfil, TokensConsumidos tokens) {
+        return gerarConteudo(prompt, perfil);
+    }
+    
+    /**
+     * Versão em streaming de gerarConteudo(prompt, perfil, tokens)
+     */
+    default String gerarConteudoStream(String prompt, PerfilGeracao perfil, Consumer<String> onTrecho,
+                                       TokensConsumidos tokens) {
+        return gerarConteudoStream(prompt, perfil, onTrecho);
+    }
+    
+    /**
+     * Identificador do provedor/modelo, usado para separar respostas em cache
+     */
+    String getIdentificador();
+}
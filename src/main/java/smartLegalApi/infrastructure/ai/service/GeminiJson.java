@@ -0,0 +1,174 @@
+package smartLegalApi.infrastructure.ai.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Leitura e escrita do JSON da API Gemini em streaming (Jackson Streaming API).
+ * 
+ * A requisição é escrita direto no sink do OkHttp e a resposta é lida direto do source,
+ * sem montar mapas nem árvores intermediárias e sem copiar o corpo para uma String:
+ * apenas o texto de candidates[0].content.parts[0].text é materializado.
+ */
+final class GeminiJson {
+    
+    static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
+    private GeminiJson() {
+    }
+    
+    /**
+     * Corpo da requisição generateContent; pode ser escrito mais de uma vez (retentativas e hedge)
+     */
+    static RequestBody corpoRequisicao(String prompt, Double temperature, Integer maxOutputTokens) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+            
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                escreverRequisicao(sink.outputStream(), prompt, temperature, maxOutputTokens);
+            }
+        };
+    }
+    
+    /**
+     * Escreve {"contents":[{"parts":[{"text":...}]}],"generationConfig":{...}}
+     */
+    static void escreverRequisicao(OutputStream saida, String prompt, Double temperature,
+                                   Integer maxOutputTokens) throws IOException {
+        try (JsonGenerator gerador = JSON_FACTORY.createGenerator(saida)) {
+            // O stream pertence ao OkHttp; apenas descarrega o buffer do gerador ao final
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            
+            gerador.writeStartObject();
+            
+            gerador.writeArrayFieldStart("contents");
+            gerador.writeStartObject();
+            gerador.writeArrayFieldStart("parts");
+            gerador.writeStartObject();
+            gerador.writeStringField("text", prompt);
+            gerador.writeEndObject();
+            gerador.writeEndArray();
+            gerador.writeEndObject();
+            gerador.writeEndArray();
+            
+            gerador.writeObjectFieldStart("generationConfig");
+            if (temperature != null) {
+                gerador.writeNumberField("temperature", temperature);
+            }
+            if (maxOutputTokens != null) {
+                gerador.writeNumberField("maxOutputTokens", maxOutputTokens);
+            }
+            gerador.writeEndObject();
+            
+            gerador.writeEndObject();
+        }
+    }
+    
+    /**
+     * Texto gerado e contagem de tokens informada pela API (usageMetadata); contagens ausentes valem 0
+     */
+    record Resposta(String texto, int tokensPrompt, int tokensResposta) {
+    }
+    
+    /**
+     * Extrai candidates[0].content.parts[0].text e o usageMetadata de uma resposta completa; o texto
+     * é null se a resposta não o tiver (os tokens podem ter sido cobrados mesmo assim)
+     */
+    static Resposta extrairResposta(InputStream entrada) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(entrada)) {
+            return extrairResposta(parser);
+        }
+    }
+    
+    /**
+     * Extrai o texto de um trecho do streaming; o texto é null se o trecho não o tiver
+     * (o último trecho costuma trazer apenas finishReason/usageMetadata)
+     */
+    static Resposta extrairTrecho(String trecho) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(trecho)) {
+            return extrairResposta(parser);
+        }
+    }
+    
+    private static Resposta extrairResposta(JsonParser parser) throws IOException {
+        String texto = extrairTexto(parser);
+        
+        // usageMetadata vem depois de candidates: segue lendo os tokens restantes sem materializá-los
+        int tokensPrompt = 0;
+        int tokensResposta = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token != JsonToken.FIELD_NAME) {
+                continue;
+            }
+            
+            String campo = parser.currentName();
+            if ("promptTokenCount".equals(campo) && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                tokensPrompt = parser.getIntValue();
+            } else if ("candidatesTokenCount".equals(campo) && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                tokensResposta = parser.getIntValue();
+            }
+        }
+        
+        return new Resposta(texto, tokensPrompt, tokensResposta);
+    }
+    
+    private static String extrairTexto(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ErroGeracaoIAException("Resposta da API em formato inesperado");
+        }
+        
+        // raiz → candidates[0] → content → parts[0] → text
+        if (!avancarAteCampo(parser, "candidates") || !entrarNoPrimeiroElemento(parser)) {
+            return null;
+        }
+        if (!avancarAteCampo(parser, "content") || parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        if (!avancarAteCampo(parser, "parts") || !entrarNoPrimeiroElemento(parser)) {
+            return null;
+        }
+        if (!avancarAteCampo(parser, "text") || parser.nextToken() != JsonToken.VALUE_STRING) {
+            return null;
+        }
+        
+        return parser.getText();
+    }
+    
+    /**
+     * Percorre os campos do objeto atual até o campo informado, pulando os valores dos demais
+     */
+    private static boolean avancarAteCampo(JsonParser parser, String campo) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (campo.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+    
+    /**
+     * Posiciona o parser dentro do primeiro objeto do array do campo atual
+     */
+    private static boolean entrarNoPrimeiroElemento(JsonParser parser) throws IOException {
+        return parser.nextToken() == JsonToken.START_ARRAY && parser.nextToken() == JsonToken.START_OBJECT;
+    }
+}
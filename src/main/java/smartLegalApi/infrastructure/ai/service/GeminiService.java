@@ -1,88 +1,215 @@
 package smartLegalApi.infrastructure.ai.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
+import okio.BufferedSource;
 import org.springframework.stereotype.Service;
 import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
 import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.local.ApiGeminiLocal;
+import smartLegalApi.infrastructure.ai.privacidade.AnonimizadorPrompt;
+import smartLegalApi.infrastructure.ai.privacidade.PromptAnonimizado;
+import smartLegalApi.infrastructure.ai.resilience.ExecutorResilienteIA;
+import smartLegalApi.infrastructure.ai.resilience.FalhaChamadaIAException;
+import smartLegalApi.infrastructure.ai.resilience.HedgeRequisicoesIA;
+import smartLegalApi.infrastructure.ai.roteamento.RoteadorModelosIA;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Serviço de integração com Google Gemini API
+ * As chamadas passam pelo ExecutorResilienteIA (circuit breaker, limite adaptativo e retentativas);
+ * chamadas unárias podem ainda usar requisições hedged (HedgeRequisicoesIA).
+ * O modelo de cada chamada é escolhido pelo RoteadorModelosIA, e os dados pessoais do prompt
+ * são trocados por marcadores (AnonimizadorPrompt) e restaurados no texto gerado.
+ * Com gemini.provider=local, o ApiGeminiLocal responde no lugar da rede, abaixo de todas essas camadas
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GeminiService {
+public class GeminiService implements AiTextGenerator {
     
     private final GeminiProperties geminiProperties;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorResilienteIA executorResiliente;
+    private final HedgeRequisicoesIA hedgeRequisicoes;
+    private final EstimadorTokens estimadorTokens;
+    private final RoteadorModelosIA roteadorModelos;
+    private final AnonimizadorPrompt anonimizador;
+    private final Optional<ApiGeminiLocal> apiLocal;
     
-    private final OkHttpClient httpClient = new OkHttpClient.Builder()
-        .connectTimeout(60, TimeUnit.SECONDS)
-        .readTimeout(60, TimeUnit.SECONDS)
-        .writeTimeout(60, TimeUnit.SECONDS)
-        .build();
+    private OkHttpClient httpClient;
     
     /**
-     * Gera conteúdo usando o Gemini
+     * O Dispatcher padrão do OkHttp executa só 5 chamadas assíncronas por host e enfileira o resto
+     * sem aviso; com o hedge, isso inflaria as latências que alimentam o limite adaptativo e o
+     * atraso do hedge. O limite é dimensionado para o máximo do limitador mais uma chamada de hedge
+     * por chamada, e quem restringe a concorrência continua sendo o LimitadorConcorrenciaAdaptativo.
      */
+    @PostConstruct
+    public void inicializar() {
+        int maximoChamadas = geminiProperties.getConcorrencia().getLimiteMaximo() * 2;
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maximoChamadas);
+        dispatcher.setMaxRequestsPerHost(maximoChamadas);
+        
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maximoChamadas, 5, TimeUnit.MINUTES))
+            .connectTimeout(60, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .writeTimeout(60, TimeUnit.SECONDS);
+        apiLocal.ifPresent(local -> {
+            log.warn("gemini.provider=local: chamadas à API Gemini respondidas pelo simulador local");
+            builder.addInterceptor(local);
+        });
+        httpClient = builder.build();
+    }
+    
+    @Override
     public String gerarConteudo(String prompt) {
-        log.info("Gerando conteúdo com Gemini API");
+        return gerarConteudo(prompt, (PerfilGeracao) null);
+    }
+    
+    /**
+     * Gera conteúdo usando o Gemini, no modelo escolhido pelo roteador; se o modelo falhar
+     * após as retentativas, tenta o alternativo
+     */
+    @Override
+    public String gerarConteudo(String prompt, PerfilGeracao perfil) {
+        return gerarConteudo(prompt, perfil, new TokensConsumidos());
+    }
+    
+    @Override
+    public String gerarConteudo(String prompt, PerfilGeracao perfil, TokensConsumidos tokens) {
+        List<String> modelos = roteadorModelos.escolher(perfil, estimadorTokens.estimar(prompt));
+        PromptAnonimizado anonimizado = anonimizador.anonimizar(prompt);
+        
+        for (int i = 0; ; i++) {
+            String modelo = modelos.get(i);
+            long inicio = System.nanoTime();
+            try {
+                String texto = gerarComModelo(anonimizado.getTexto(), modelo, tokens);
+                roteadorModelos.registrar(modelo, Duration.ofNanos(System.nanoTime() - inicio), true);
+                return anonimizado.restaurar(texto);
+            } catch (FalhaChamadaIAException e) {
+                roteadorModelos.registrar(modelo, Duration.ofNanos(System.nanoTime() - inicio), false);
+                if (i + 1 >= modelos.size()) {
+                    throw e;
+                }
+                
+                log.warn("Falha no modelo {} ({}). Tentando {}", modelo, e.getMessage(), modelos.get(i + 1));
+                roteadorModelos.registrarFallback(modelo, modelos.get(i + 1));
+            }
+        }
+    }
+    
+    @Override
+    public String gerarConteudoStream(String prompt, Consumer<String> onTrecho) {
+        return gerarConteudoStream(prompt, null, onTrecho);
+    }
+    
+    /**
+     * Gera conteúdo em streaming no modelo escolhido pelo roteador; o alternativo só é tentado
+     * se a falha ocorrer antes do primeiro trecho, já que trechos enviados não podem ser desfeitos
+     */
+    @Override
+    public String gerarConteudoStream(String prompt, PerfilGeracao perfil, Consumer<String> onTrecho) {
+        return gerarConteudoStream(prompt, perfil, onTrecho, new TokensConsumidos());
+    }
+    
+    @Override
+    public String gerarConteudoStream(String prompt, PerfilGeracao perfil, Consumer<String> onTrecho,
+                                      TokensConsumidos tokens) {
+        List<String> modelos = roteadorModelos.escolher(perfil, estimadorTokens.estimar(prompt));
+        PromptAnonimizado anonimizado = anonimizador.anonimizar(prompt);
+        PromptAnonimizado.RestauradorStream restaurador = anonimizado.restaurador(onTrecho);
+        AtomicBoolean trechoEnviado = new AtomicBoolean(false);
+        Consumer<String> repassar = trecho -> {
+            trechoEnviado.set(true);
+            restaurador.accept(trecho);
+        };
+        
+        for (int i = 0; ; i++) {
+            String modelo = modelos.get(i);
+            long inicio = System.nanoTime();
+            try {
+                String texto = gerarStreamComModelo(anonimizado.getTexto(), modelo, repassar, tokens);
+                roteadorModelos.registrar(modelo, Duration.ofNanos(System.nanoTime() - inicio), true);
+                restaurador.finalizar();
+                return anonimizado.restaurar(texto);
+            } catch (FalhaChamadaIAException e) {
+                roteadorModelos.registrar(modelo, Duration.ofNanos(System.nanoTime() - inicio), false);
+                if (trechoEnviado.get() || i + 1 >= modelos.size()) {
+                    throw e;
+                }
+                
+                log.warn("Falha no modelo {} antes do primeiro trecho ({}). Tentando {}",
+                    modelo, e.getMessage(), modelos.get(i + 1));
+                roteadorModelos.registrarFallback(modelo, modelos.get(i + 1));
+            }
+        }
+    }
+    
+    @Override
+    public String getIdentificador() {
+        // Respostas simuladas não podem ser servidas do cache para o provedor real, e vice-versa
+        String provedor = apiLocal.isPresent() ? "local:" : "gemini:";
+        GeminiProperties.Roteamento roteamento = geminiProperties.getRoteamento();
+        if (roteamento.getHabilitado()) {
+            return provedor + roteamento.getModeloRapido() + "|" + roteamento.getModeloQualidade();
+        }
+        return provedor + geminiProperties.getModel();
+    }
+    
+    /**
+     * Gera conteúdo com o modelo informado, registrando os tokens cobrados
+     */
+    private String gerarComModelo(String prompt, String modelo, TokensConsumidos tokens) {
+        log.info("Gerando conteúdo com Gemini API ({})", modelo);
         
         try {
             String url = String.format(
                 "%s/%s:generateContent?key=%s",
                 geminiProperties.getApiUrl(),
-                geminiProperties.getModel(),
+                modelo,
                 geminiProperties.getApiKey()
             );
             
-            // Monta o corpo da requisição
-            Map<String, Object> requestBody = buildRequestBody(prompt);
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-            
             log.debug("Request URL: {}", url.replace(geminiProperties.getApiKey(), "***"));
-            log.debug("Request Body: {}", jsonBody);
+            log.debug("Prompt: {} caracteres", prompt.length());
             
-            // Cria a requisição HTTP
+            // Cria a requisição HTTP; o corpo JSON é escrito direto no socket
             Request request = new Request.Builder()
                 .url(url)
-                .post(RequestBody.create(
-                    jsonBody,
-                    MediaType.parse("application/json; charset=utf-8")
-                ))
-                .addHeader("Content-Type", "application/json")
+                .post(criarCorpoRequisicao(prompt))
                 .build();
             
-            // Executa a requisição
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "Sem detalhes";
-                    log.error("Erro na API Gemini. Status: {}, Body: {}", response.code(), errorBody);
-                    throw new ErroGeracaoIAException("Erro ao chamar API Gemini: " + response.code());
-                }
-                
-                String responseBody = response.body().string();
-                log.debug("Response Body: {}", responseBody);
-                
-                // Extrai o texto gerado
-                String generatedText = extractGeneratedText(responseBody);
-                log.info("Conteúdo gerado com sucesso. Tamanho: {} caracteres", generatedText.length());
-                
-                return generatedText;
+            // Executa a requisição (com retentativa de falhas transitórias) e extrai o texto gerado
+            GeminiJson.Resposta resposta = executorResiliente.executar(() -> executarRequisicao(request));
+            if (resposta.tokensPrompt() > 0 || resposta.tokensResposta() > 0) {
+                // Cobrados mesmo quando a resposta vem sem texto (bloqueio por segurança, por exemplo)
+                tokens.registrar(resposta.tokensPrompt(), resposta.tokensResposta());
+            }
+            if (resposta.texto() == null) {
+                throw new ErroGeracaoIAException("Resposta da API não contém texto");
             }
+            estimadorTokens.registrarUsoReal(prompt, resposta.tokensPrompt());
+            log.info("Conteúdo gerado com sucesso. Tamanho: {} caracteres, {} tokens de entrada",
+                resposta.texto().length(), resposta.tokensPrompt());
             
-        } catch (IOException e) {
-            log.error("Erro de I/O ao chamar API Gemini", e);
-            throw new ErroGeracaoIAException("Erro de comunicação com API Gemini", e);
+            return resposta.texto();
+            
+        } catch (ErroGeracaoIAException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Erro inesperado ao gerar conteúdo", e);
             throw new ErroGeracaoIAException("Erro ao gerar conteúdo com IA: " + e.getMessage(), e);
@@ -90,66 +217,156 @@ public class GeminiService {
     }
     
     /**
-     * Monta o corpo da requisição para a API Gemini
+     * Gera conteúdo usando o endpoint de streaming do Gemini (streamGenerateContent via SSE).
+     * Cada trecho recebido é repassado ao consumidor assim que chega; retorna o texto completo ao final.
      */
-    private Map<String, Object> buildRequestBody(String prompt) {
-        Map<String, Object> requestBody = new HashMap<>();
-        
-        // Conteúdo
-        Map<String, Object> part = new HashMap<>();
-        part.put("text", prompt);
-        
-        Map<String, Object> content = new HashMap<>();
-        content.put("parts", new Object[]{part});
+    private String gerarStreamComModelo(String prompt, String modelo, Consumer<String> onTrecho,
+                                        TokensConsumidos tokens) {
+        log.info("Gerando conteúdo com Gemini API (streaming, {})", modelo);
         
-        requestBody.put("contents", new Object[]{content});
-        
-        // Configurações de geração
-        Map<String, Object> generationConfig = new HashMap<>();
-        generationConfig.put("temperature", geminiProperties.getTemperature());
-        generationConfig.put("maxOutputTokens", geminiProperties.getMaxTokens());
+        try {
+            String url = String.format(
+                "%s/%s:streamGenerateContent?alt=sse&key=%s",
+                geminiProperties.getApiUrl(),
+                modelo,
+                geminiProperties.getApiKey()
+            );
+            
+            Request request = new Request.Builder()
+                .url(url)
+                .post(criarCorpoRequisicao(prompt))
+                .addHeader("Accept", "text/event-stream")
+                .build();
+            
+            // Trechos já repassados ao cliente impedem repetir a chamada: executa uma única vez
+            String generatedText = executorResiliente.executarUmaVez(() -> {
+                try (Response response = httpClient.newCall(request).execute()) {
+                    if (!response.isSuccessful()) {
+                        String errorBody = response.body() != null ? response.body().string() : "Sem detalhes";
+                        log.error("Erro na API Gemini (streaming). Status: {}, Body: {}", response.code(), errorBody);
+                        throw FalhaChamadaIAException.deStatus(response.code(), response.header("Retry-After"));
+                    }
+                    
+                    return lerEventosStream(response.body().source(), onTrecho, prompt, tokens);
+                }
+            });
+            
+            if (generatedText.isBlank()) {
+                throw new ErroGeracaoIAException("Resposta da API não contém texto");
+            }
+            
+            log.info("Streaming concluído. Tamanho: {} caracteres", generatedText.length());
+            return generatedText;
+            
+        } catch (ErroGeracaoIAException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Erro inesperado durante streaming", e);
+            throw new ErroGeracaoIAException("Erro ao gerar conteúdo com IA: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Executa a requisição unária, com hedge quando habilitado
+     */
+    private GeminiJson.Resposta executarRequisicao(Request request) throws IOException {
+        if (hedgeRequisicoes.isHabilitado()) {
+            return hedgeRequisicoes.executar(() -> httpClient.newCall(request), this::lerResposta);
+        }
         
-        requestBody.put("generationConfig", generationConfig);
+        try (Response response = httpClient.newCall(request).execute()) {
+            return lerResposta(response);
+        }
+    }
+    
+    /**
+     * Extrai o texto gerado lendo o corpo em streaming; respostas de erro viram
+     * FalhaChamadaIAException com o status e o Retry-After
+     */
+    private GeminiJson.Resposta lerResposta(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            String errorBody = response.body() != null ? response.body().string() : "Sem detalhes";
+            log.error("Erro na API Gemini. Status: {}, Body: {}", response.code(), errorBody);
+            throw FalhaChamadaIAException.deStatus(response.code(), response.header("Retry-After"));
+        }
         
-        return requestBody;
+        return GeminiJson.extrairResposta(response.body().byteStream());
     }
     
     /**
-     * Extrai o texto gerado da resposta JSON
+     * Lê os eventos SSE linha a linha conforme chegam, extraindo o texto de cada trecho;
+     * a contagem de tokens do último trecho é registrada ao final, também se a leitura for interrompida
      */
-    private String extractGeneratedText(String responseBody) {
+    private String lerEventosStream(BufferedSource source, Consumer<String> onTrecho, String prompt,
+                                    TokensConsumidos tokens) throws IOException {
+        StringBuilder textoCompleto = new StringBuilder();
+        StringBuilder dadosEvento = new StringBuilder();
+        int[] contagens = {0, 0};
+        
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            
-            // Navega na estrutura JSON: candidates[0].content.parts[0].text
-            JsonNode candidates = root.get("candidates");
-            if (candidates == null || !candidates.isArray() || candidates.isEmpty()) {
-                throw new ErroGeracaoIAException("Resposta da API não contém candidatos");
-            }
-            
-            JsonNode firstCandidate = candidates.get(0);
-            JsonNode content = firstCandidate.get("content");
-            if (content == null) {
-                throw new ErroGeracaoIAException("Resposta da API não contém conteúdo");
-            }
-            
-            JsonNode parts = content.get("parts");
-            if (parts == null || !parts.isArray() || parts.isEmpty()) {
-                throw new ErroGeracaoIAException("Resposta da API não contém partes");
+            String linha;
+            while ((linha = source.readUtf8Line()) != null) {
+                if (linha.isEmpty()) {
+                    // Linha em branco encerra o evento atual
+                    processarEventoStream(dadosEvento, textoCompleto, onTrecho, contagens);
+                    continue;
+                }
+                
+                if (linha.startsWith("data:")) {
+                    if (dadosEvento.length() > 0) {
+                        dadosEvento.append('\n');
+                    }
+                    dadosEvento.append(linha, linha.startsWith("data: ") ? 6 : 5, linha.length());
+                }
             }
             
-            JsonNode firstPart = parts.get(0);
-            JsonNode text = firstPart.get("text");
-            if (text == null) {
-                throw new ErroGeracaoIAException("Resposta da API não contém texto");
+            // Último evento pode não ser seguido de linha em branco
+            processarEventoStream(dadosEvento, textoCompleto, onTrecho, contagens);
+        } finally {
+            if (contagens[0] > 0 || contagens[1] > 0) {
+                tokens.registrar(contagens[0], contagens[1]);
+            } else if (textoCompleto.length() > 0) {
+                // Interrompido antes de qualquer usageMetadata: o texto recebido já foi cobrado
+                tokens.registrar(estimadorTokens.estimar(prompt), estimadorTokens.estimar(textoCompleto.toString()));
             }
-            
-            return text.asText();
-            
-        } catch (Exception e) {
-            log.error("Erro ao extrair texto da resposta: {}", responseBody, e);
-            throw new ErroGeracaoIAException("Erro ao processar resposta da API", e);
+        }
+        
+        estimadorTokens.registrarUsoReal(prompt, contagens[0]);
+        return textoCompleto.toString();
+    }
+    
+    /**
+     * Processa um evento SSE completo (um GenerateContentResponse parcial); contagens recebe
+     * os tokens de entrada e de saída acumulados até o trecho
+     */
+    private void processarEventoStream(StringBuilder dadosEvento, StringBuilder textoCompleto,
+                                       Consumer<String> onTrecho, int[] contagens) throws IOException {
+        if (dadosEvento.length() == 0) {
+            return;
+        }
+        
+        GeminiJson.Resposta trecho = GeminiJson.extrairTrecho(dadosEvento.toString());
+        dadosEvento.setLength(0);
+        
+        if (trecho.tokensPrompt() > 0) {
+            contagens[0] = trecho.tokensPrompt();
+        }
+        if (trecho.tokensResposta() > 0) {
+            contagens[1] = trecho.tokensResposta();
+        }
+        
+        String texto = trecho.texto();
+        // O último trecho pode trazer apenas finishReason/usageMetadata, sem texto
+        if (texto != null && !texto.isEmpty()) {
+            textoCompleto.append(texto);
+            onTrecho.accept(texto);
         }
     }
+    
+    /**
+     * Monta o corpo da requisição para a API Gemini
+     */
+    private RequestBody criarCorpoRequisicao(String prompt) {
+        return GeminiJson.corpoRequisicao(prompt, geminiProperties.getTemperature(), geminiProperties.getMaxTokens());
+    }
 }
-
@@ -0,0 +1,30 @@
+package smartLegalApi.infrastructure.ai.service;
+
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+/**
+ * Características da geração usadas na escolha do modelo (tipo da petição e nível de latência)
+ * e na contabilização do consumo (advogado responsável)
+ */
+public record PerfilGeracao(TipoPeticao tipo, NivelLatencia nivel, Long idAdvogado) {
+    
+    public PerfilGeracao {
+        if (nivel == null) {
+            nivel = NivelLatencia.PADRAO;
+        }
+    }
+    
+    public PerfilGeracao(TipoPeticao tipo, NivelLatencia nivel) {
+        this(tipo, nivel, null);
+    }
+    
+    public static PerfilGeracao padrao(TipoPeticao tipo) {
+        return new PerfilGeracao(tipo, NivelLatencia.PADRAO);
+    }
+    
+    public static PerfilGeracao de(Peticao peticao, NivelLatencia nivel) {
+        return new PerfilGeracao(peticao.getTipo(), nivel, peticao.getIdAdvogado());
+    }
+}
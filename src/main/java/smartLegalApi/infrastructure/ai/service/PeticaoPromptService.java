@@ -2,7 +2,14 @@ package smartLegalApi.infrastructure.ai.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import smartLegalApi.domain.peticao.valueobject.SecaoPeticao;
 import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.contexto.SecaoContexto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Serviço para construção de prompts específicos para petições jurídicas
@@ -11,10 +18,38 @@ import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
 @Slf4j
 public class PeticaoPromptService {
     
+    public static final String TITULO_CONTEXTO = "CONTEXTO DO CASO";
+    public static final String TITULO_DETALHES = "DETALHES ADICIONAIS";
+    
+    private static final String INSTRUCAO_FINAL = "Agora, redija a petição completa:";
+    private static final String TITULO_FORMATACAO = "INSTRUÇÕES DE FORMATAÇÃO:";
+    private static final Pattern ITEM_INSTRUCAO = Pattern.compile("^\\s*\\d+\\.\\s+(.+?)\\s*$", Pattern.MULTILINE);
+    private static final int TAMANHO_RESUMO_SECAO = 240;
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern OBSERVACAO_ENTRE_PARENTESES = Pattern.compile("\\s*\\([^)]*\\)");
+    
     /**
      * Constrói um prompt detalhado para geração de petição
      */
     public String construirPrompt(TipoPeticao tipo, String contexto, String detalhesAdicionais) {
+        List<SecaoContexto> secoes = new ArrayList<>();
+        
+        if (contexto != null && !contexto.isBlank()) {
+            secoes.add(new SecaoContexto(TITULO_CONTEXTO, contexto, 1, 1, true));
+        }
+        
+        if (detalhesAdicionais != null && !detalhesAdicionais.isBlank()) {
+            secoes.add(new SecaoContexto(TITULO_DETALHES, detalhesAdicionais, 2, 2, true));
+        }
+        
+        return construirPrompt(tipo, secoes);
+    }
+    
+    /**
+     * Constrói o prompt com seções de contexto já selecionadas (ver MontadorContextoPeticao),
+     * na ordem recebida; seções consecutivas com o mesmo título ficam sob um único cabeçalho
+     */
+    public String construirPrompt(TipoPeticao tipo, List<SecaoContexto> secoes) {
         log.debug("Construindo prompt para tipo: {}", tipo);
         
         StringBuilder prompt = new StringBuilder();
@@ -28,22 +63,24 @@ public class PeticaoPromptService {
         prompt.append(getInstrucoesEspecificasTipo(tipo));
         prompt.append("\n\n");
         
-        // Contexto do caso
-        if (contexto != null && !contexto.isBlank()) {
-            prompt.append("CONTEXTO DO CASO:\n");
-            prompt.append(contexto);
-            prompt.append("\n\n");
+        // Contexto do caso (dados do processo, partes, andamentos e texto do usuário)
+        String tituloAtual = null;
+        for (SecaoContexto secao : secoes) {
+            if (!secao.titulo().equals(tituloAtual)) {
+                if (tituloAtual != null) {
+                    prompt.append("\n");
+                }
+                prompt.append(secao.titulo()).append(":\n");
+                tituloAtual = secao.titulo();
+            }
+            prompt.append(secao.texto()).append("\n");
         }
-        
-        // Detalhes adicionais
-        if (detalhesAdicionais != null && !detalhesAdicionais.isBlank()) {
-            prompt.append("DETALHES ADICIONAIS:\n");
-            prompt.append(detalhesAdicionais);
-            prompt.append("\n\n");
+        if (tituloAtual != null) {
+            prompt.append("\n");
         }
         
         // Instruções de formatação
-        prompt.append("INSTRUÇÕES DE FORMATAÇÃO:\n");
+        prompt.append(TITULO_FORMATACAO).append("\n");
         prompt.append("- Utilize linguagem técnica e formal\n");
         prompt.append("- Cite artigos de lei quando aplicável\n");
         prompt.append("- Estruture o texto em tópicos claros\n");
@@ -51,11 +88,135 @@ public class PeticaoPromptService {
         prompt.append("- Finalize com pedido e requerimentos\n");
         prompt.append("- Use parágrafos e espaçamento adequados\n\n");
         
-        prompt.append("Agora, redija a petição completa:");
+        prompt.append(INSTRUCAO_FINAL);
+        
+        return prompt.toString();
+    }
+    
+    /**
+     * Plano de seções da petição, derivado dos itens numerados das instruções específicas do tipo
+     */
+    public List<String> planoSecoes(TipoPeticao tipo) {
+        Matcher item = ITEM_INSTRUCAO.matcher(getInstrucoesEspecificasTipo(tipo));
+        List<String> plano = new ArrayList<>();
+        
+        while (item.find()) {
+            plano.add(OBSERVACAO_ENTRE_PARENTESES.matcher(item.group(1)).replaceAll("").trim());
+        }
+        
+        return plano;
+    }
+    
+    /**
+     * Prompt de uma única seção: só o contexto do caso compartilhado do prompt da petição, o plano
+     * de partes e a instrução da parte indicada. As instruções por tipo e de formatação da petição
+     * inteira ficam de fora; ainda assim o contexto é reenviado a cada seção, e cada chamada é
+     * contabilizada na cota de uso separadamente
+     */
+    public String construirPromptSecao(TipoPeticao tipo, String promptBase, List<String> plano, int indice) {
+        String contexto = extrairContexto(tipo, promptBase);
+        StringBuilder prompt = new StringBuilder(contexto.length() + 1024);
+        
+        prompt.append("Você é um assistente jurídico especializado em direito brasileiro. ");
+        prompt.append("Sua tarefa é redigir uma parte de uma ").append(tipo.getDescricao()).append(", ");
+        prompt.append("seguindo as normas do Código de Processo Civil, com linguagem técnica e formal ");
+        prompt.append("e citando artigos de lei quando aplicável.\n\n");
+        
+        prompt.append(contexto);
+        
+        prompt.append("A petição será redigida por partes, nesta ordem:\n");
+        for (int i = 0; i < plano.size(); i++) {
+            prompt.append(i + 1).append(". ").append(plano.get(i)).append("\n");
+        }
+        prompt.append("\n");
+        
+        prompt.append("Redija APENAS a parte ").append(indice + 1).append(" (").append(plano.get(indice)).append("). ");
+        prompt.append("Não redija as demais partes");
+        if (indice > 0) {
+            prompt.append(", não repita o endereçamento nem a qualificação das partes");
+        }
+        if (indice < plano.size() - 1) {
+            prompt.append(" e não inclua fecho, local, data ou assinatura");
+        }
+        prompt.append(". Comece pelo título da parte em letras maiúsculas:");
         
         return prompt.toString();
     }
     
+    /**
+     * Seções de contexto do prompt montado por construirPrompt (entre as instruções do tipo e as de
+     * formatação); se o prompt não seguir esse formato, ele é usado inteiro, sem a instrução final
+     */
+    private String extrairContexto(TipoPeticao tipo, String promptBase) {
+        String instrucoesTipo = getInstrucoesEspecificasTipo(tipo) + "\n\n";
+        int inicio = promptBase.indexOf(instrucoesTipo);
+        int fim = promptBase.lastIndexOf(TITULO_FORMATACAO);
+        
+        if (inicio >= 0 && fim >= inicio + instrucoesTipo.length()) {
+            return promptBase.substring(inicio + instrucoesTipo.length(), fim);
+        }
+        
+        String semInstrucaoFinal = promptBase.endsWith(INSTRUCAO_FINAL)
+            ? promptBase.substring(0, promptBase.length() - INSTRUCAO_FINAL.length())
+            : promptBase;
+        return semInstrucaoFinal.strip() + "\n\n";
+    }
+    
+    /**
+     * Prompt para regenerar uma única seção de uma petição já redigida. As demais seções entram
+     * apenas como contexto compacto (título e início do texto); a seção alvo vai na íntegra
+     */
+    public String construirPromptRegeneracaoSecao(TipoPeticao tipo, List<SecaoPeticao> secoes, int indice,
+                                                 String instrucoes) {
+        SecaoPeticao alvo = secoes.get(indice);
+        StringBuilder prompt = new StringBuilder(alvo.texto().length() + secoes.size() * (TAMANHO_RESUMO_SECAO + 64) + 1024);
+        
+        prompt.append("Você é um assistente jurídico especializado em direito brasileiro. ");
+        prompt.append("Uma ").append(tipo.getDescricao()).append(" já foi redigida e uma de suas seções ");
+        prompt.append("deve ser reescrita, mantendo coerência com o restante do texto.\n\n");
+        
+        prompt.append("DEMAIS SEÇÕES DA PETIÇÃO (resumo):\n");
+        for (SecaoPeticao secao : secoes) {
+            if (secao.indice() == indice) {
+                prompt.append("- [SEÇÃO A REESCREVER]\n");
+                continue;
+            }
+            prompt.append("- ").append(secao.possuiTitulo() ? secao.titulo() : "(início)").append(": ");
+            prompt.append(resumir(secao)).append("\n");
+        }
+        prompt.append("\n");
+        
+        prompt.append("SEÇÃO A REESCREVER:\n");
+        prompt.append(alvo.texto()).append("\n\n");
+        
+        if (instrucoes != null && !instrucoes.isBlank()) {
+            prompt.append("ORIENTAÇÕES DO ADVOGADO:\n");
+            prompt.append(instrucoes.strip()).append("\n\n");
+        }
+        
+        prompt.append("Reescreva somente esta seção, com linguagem técnica e formal");
+        if (alvo.possuiTitulo()) {
+            prompt.append(", começando pelo mesmo título");
+        }
+        prompt.append(". Não repita as demais seções nem inclua comentários:");
+        
+        return prompt.toString();
+    }
+    
+    /**
+     * Início da seção, sem o título e em uma única linha
+     */
+    private String resumir(SecaoPeticao secao) {
+        String corpo = secao.texto();
+        if (secao.possuiTitulo()) {
+            int fimTitulo = corpo.indexOf('\n');
+            corpo = fimTitulo < 0 ? "" : corpo.substring(fimTitulo + 1);
+        }
+        
+        corpo = ESPACOS.matcher(corpo).replaceAll(" ").strip();
+        return corpo.length() <= TAMANHO_RESUMO_SECAO ? corpo : corpo.substring(0, TAMANHO_RESUMO_SECAO) + "...";
+    }
+    
     /**
      * Retorna instruções específicas para cada tipo de petição
      */
@@ -0,0 +1,73 @@
+package smartLegalApi.infrastructure.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.processo.entity.Andamento;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Serviço para construção dos prompts do resumo do processo.
+ * 
+ * O prompt leva apenas os andamentos ainda não resumidos e o resumo anterior, que a IA
+ * reescreve incorporando as novidades; o custo de cada atualização não cresce com o
+ * histórico do processo.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumoProcessoPromptService {
+    
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    
+    private final GeminiProperties geminiProperties;
+    
+    /**
+     * Constrói o prompt que atualiza o resumo com os andamentos novos, em ordem cronológica
+     */
+    public String construirPrompt(Processo processo, String resumoAnterior, List<Andamento> novos) {
+        StringBuilder prompt = new StringBuilder();
+        
+        prompt.append("Você é um assistente jurídico especializado em direito brasileiro. ");
+        prompt.append("Sua tarefa é manter um resumo atualizado do andamento de um processo judicial, ");
+        prompt.append("para consulta rápida pelo advogado responsável.\n\n");
+        
+        prompt.append("DADOS DO PROCESSO:\n");
+        prompt.append("Número: ").append(processo.getNumeroProcesso()).append("\n");
+        prompt.append("Título: ").append(processo.getTitulo()).append("\n");
+        if (processo.getDescricao() != null && !processo.getDescricao().isBlank()) {
+            prompt.append("Descrição: ").append(processo.getDescricao()).append("\n");
+        }
+        prompt.append("Status: ").append(processo.getStatus()).append("\n\n");
+        
+        if (resumoAnterior != null && !resumoAnterior.isBlank()) {
+            prompt.append("RESUMO ATUAL:\n").append(resumoAnterior).append("\n\n");
+            prompt.append("ANDAMENTOS REGISTRADOS DESDE O RESUMO ATUAL:\n");
+        } else {
+            prompt.append("ANDAMENTOS:\n");
+        }
+        for (Andamento andamento : novos) {
+            prompt.append("- ").append(andamento.getDataAndamento().format(FORMATO_DATA));
+            if (andamento.getTipo() != null && !andamento.getTipo().isBlank()) {
+                prompt.append(" [").append(andamento.getTipo()).append("]");
+            }
+            prompt.append(" ").append(andamento.getDescricao()).append("\n");
+        }
+        prompt.append("\n");
+        
+        prompt.append("INSTRUÇÕES:\n");
+        if (resumoAnterior != null && !resumoAnterior.isBlank()) {
+            prompt.append("- Reescreva o resumo atual incorporando os andamentos acima\n");
+        }
+        prompt.append("- Destaque a fase atual do processo, decisões relevantes e prazos pendentes\n");
+        prompt.append("- Não invente fatos que não constem dos dados acima\n");
+        prompt.append("- Use no máximo ").append(geminiProperties.getResumo().getTamanhoMaximoPalavras())
+            .append(" palavras, em texto corrido, sem títulos\n\n");
+        
+        prompt.append("Responda apenas com o resumo:");
+        
+        return prompt.toString();
+    }
+}
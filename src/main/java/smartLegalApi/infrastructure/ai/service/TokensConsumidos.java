@@ -0,0 +1,34 @@
+package smartLegalApi.infrastructure.ai.service;
+
+/**
+ * Tokens cobrados pelo provedor nas chamadas de uma geração, como informados na resposta
+ * (usageMetadata). Preenchido pelo AiTextGenerator, inclusive em chamadas que falham depois
+ * de cobradas; fica vazio quando o provedor não informa as contagens.
+ */
+public class TokensConsumidos {
+    
+    private int entrada;
+    private int saida;
+    private boolean informado;
+    
+    /**
+     * Soma os tokens de uma chamada ao provedor
+     */
+    public synchronized void registrar(int entrada, int saida) {
+        this.entrada += entrada;
+        this.saida += saida;
+        this.informado = true;
+    }
+    
+    public synchronized int getEntrada() {
+        return entrada;
+    }
+    
+    public synchronized int getSaida() {
+        return saida;
+    }
+    
+    public synchronized boolean isInformado() {
+        return informado;
+    }
+}
@@ -0,0 +1,87 @@
+package smartLegalApi.infrastructure.ai.uso;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumo de um advogado em um dia.
+ * 
+ * Os incrementos vão para LongAdders (sem disputa entre os workers da fila); a descarga drena
+ * os pendentes com sumThenReset e os soma aos valores já gravados. Durante a descarga a leitura
+ * pode ficar momentaneamente abaixo do real, o que é aceitável para uma cota.
+ */
+final class AcumuladorUsoIA {
+    
+    /** Tokens dos dias anteriores do mesmo mês, lidos do banco na criação */
+    private final long tokensMesAnteriores;
+    
+    private final AtomicLong requisicoesGravadas;
+    private final AtomicLong tokensGravados;
+    
+    private final LongAdder requisicoesPendentes = new LongAdder();
+    private final LongAdder tokensEntradaPendentes = new LongAdder();
+    private final LongAdder tokensSaidaPendentes = new LongAdder();
+    
+    /**
+     * Quantidades drenadas para gravação
+     */
+    record Descarga(long requisicoes, long tokensEntrada, long tokensSaida) {
+        
+        boolean isVazia() {
+            return requisicoes == 0 && tokensEntrada == 0 && tokensSaida == 0;
+        }
+    }
+    
+    AcumuladorUsoIA(long requisicoesGravadas, long tokensGravados, long tokensMesAnteriores) {
+        this.requisicoesGravadas = new AtomicLong(requisicoesGravadas);
+        this.tokensGravados = new AtomicLong(tokensGravados);
+        this.tokensMesAnteriores = tokensMesAnteriores;
+    }
+    
+    void registrar(int tokensEntrada, int tokensSaida) {
+        requisicoesPendentes.increment();
+        tokensEntradaPendentes.add(tokensEntrada);
+        tokensSaidaPendentes.add(tokensSaida);
+    }
+    
+    long requisicoesDia() {
+        return requisicoesGravadas.get() + requisicoesPendentes.sum();
+    }
+    
+    long tokensDia() {
+        return tokensGravados.get() + tokensEntradaPendentes.sum() + tokensSaidaPendentes.sum();
+    }
+    
+    long tokensMes() {
+        return tokensMesAnteriores + tokensDia();
+    }
+    
+    /**
+     * Retira os incrementos pendentes, já contando-os como gravados
+     */
+    Descarga drenar() {
+        Descarga descarga = new Descarga(
+            requisicoesPendentes.sumThenReset(),
+            tokensEntradaPendentes.sumThenReset(),
+            tokensSaidaPendentes.sumThenReset()
+        );
+        requisicoesGravadas.addAndGet(descarga.requisicoes());
+        tokensGravados.addAndGet(descarga.tokensEntrada() + descarga.tokensSaida());
+        return descarga;
+    }
+    
+    /**
+     * Devolve uma descarga que não pôde ser gravada, para a próxima tentativa
+     */
+    void devolver(Descarga descarga) {
+        requisicoesGravadas.addAndGet(-descarga.requisicoes());
+        tokensGravados.addAndGet(-(descarga.tokensEntrada() + descarga.tokensSaida()));
+        requisicoesPendentes.add(descarga.requisicoes());
+        tokensEntradaPendentes.add(descarga.tokensEntrada());
+        tokensSaidaPendentes.add(descarga.tokensSaida());
+    }
+    
+    boolean possuiPendentes() {
+        return requisicoesPendentes.sum() > 0;
+    }
+}
@@ -0,0 +1,18 @@
+package smartLegalApi.infrastructure.ai.uso;
+
+import java.time.LocalDate;
+
+/**
+ * Consumo atual da IA de um advogado, com as cotas configuradas (0 = sem cota)
+ */
+public record ConsumoIA(
+    Long idAdvogado,
+    LocalDate data,
+    long requisicoesDia,
+    long tokensDia,
+    long tokensMes,
+    long cotaRequisicoesDiaria,
+    long cotaTokensDiaria,
+    long cotaTokensMensal
+) {
+}
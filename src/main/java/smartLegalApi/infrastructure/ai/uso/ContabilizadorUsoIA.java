@@ -0,0 +1,239 @@
+package smartLegalApi.infrastructure.ai.uso;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import smartLegalApi.domain.peticao.exception.CotaIAExcedidaException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.service.TokensConsumidos;
+import smartLegalApi.infrastructure.persistence.jpa.entity.UsoIAAdvogadoJpaEntity;
+import smartLegalApi.infrastructure.persistence.jpa.repository.UsoIAAdvogadoJpaRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Contabiliza chamadas e tokens da IA por advogado e aplica as cotas diária e mensal.
+ * 
+ * Os contadores ficam em memória (um AcumuladorUsoIA por advogado e dia) e são gravados em lote
+ * na tabela uso_ia_advogado a cada gemini.uso.descarga-ms, somando ao registro do dia. A cota é
+ * verificada antes de cada chamada ao provedor; respostas servidas pelo cache não contam.
+ * Os tokens são os cobrados pelo provedor (usageMetadata), inclusive os de chamadas que falharam
+ * depois de cobradas; sem essas contagens, os estimados pelo EstimadorTokens.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContabilizadorUsoIA {
+    
+    private final UsoIAAdvogadoJpaRepository usoRepository;
+    private final EstimadorTokens estimadorTokens;
+    private final GeminiProperties geminiProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<ChaveUso, AcumuladorUsoIA> acumuladores = new ConcurrentHashMap<>();
+    
+    private record ChaveUso(Long idAdvogado, LocalDate data) {
+    }
+    
+    /**
+     * Verifica a cota, executa a chamada ao provedor e contabiliza o consumo do advogado do perfil;
+     * sem advogado identificado a chamada é executada sem contabilização. A chamada recebe onde
+     * registrar os tokens cobrados pelo provedor
+     */
+    public String executar(PerfilGeracao perfil, String prompt, Function<TokensConsumidos, String> chamada) {
+        Long idAdvogado = perfil != null ? perfil.idAdvogado() : null;
+        if (idAdvogado == null) {
+            return chamada.apply(new TokensConsumidos());
+        }
+        
+        verificarCota(idAdvogado);
+        TokensConsumidos tokens = new TokensConsumidos();
+        String resposta;
+        try {
+            resposta = chamada.apply(tokens);
+        } catch (RuntimeException e) {
+            // Falhas depois da cobrança (resposta sem texto, streaming interrompido) também contam
+            if (tokens.isInformado()) {
+                registrar(idAdvogado, tokens.getEntrada(), tokens.getSaida());
+            }
+            throw e;
+        }
+        
+        if (tokens.isInformado()) {
+            registrar(idAdvogado, tokens.getEntrada(), tokens.getSaida());
+        } else {
+            registrar(idAdvogado, estimadorTokens.estimar(prompt), estimadorTokens.estimar(resposta));
+        }
+        return resposta;
+    }
+    
+    /**
+     * Lança CotaIAExcedidaException se o advogado já atingiu alguma das cotas configuradas
+     */
+    public void verificarCota(Long idAdvogado) {
+        GeminiProperties.Uso config = geminiProperties.getUso();
+        if (config.getCotaTokensDiaria() <= 0 && config.getCotaTokensMensal() <= 0
+                && config.getCotaRequisicoesDiaria() <= 0) {
+            return;
+        }
+        
+        LocalDate hoje = LocalDate.now();
+        AcumuladorUsoIA acumulador = acumulador(idAdvogado, hoje);
+        
+        if (atingiu(acumulador.requisicoesDia(), config.getCotaRequisicoesDiaria())
+                || atingiu(acumulador.tokensDia(), config.getCotaTokensDiaria())) {
+            recusar(idAdvogado, "diária", hoje.plusDays(1));
+        }
+        if (atingiu(acumulador.tokensMes(), config.getCotaTokensMensal())) {
+            recusar(idAdvogado, "mensal", hoje.withDayOfMonth(1).plusMonths(1));
+        }
+    }
+    
+    /**
+     * Registra uma chamada ao provedor com os tokens de entrada e de saída
+     */
+    public void registrar(Long idAdvogado, int tokensEntrada, int tokensSaida) {
+        acumulador(idAdvogado, LocalDate.now()).registrar(tokensEntrada, tokensSaida);
+        meterRegistry.counter("smartlegal.ia.uso.tokens", "tipo", "entrada").increment(tokensEntrada);
+        meterRegistry.counter("smartlegal.ia.uso.tokens", "tipo", "saida").increment(tokensSaida);
+    }
+    
+    /**
+     * Consumo do dia e do mês corrente, incluindo o que ainda não foi gravado
+     */
+    public ConsumoIA consultar(Long idAdvogado) {
+        GeminiProperties.Uso config = geminiProperties.getUso();
+        LocalDate hoje = LocalDate.now();
+        AcumuladorUsoIA acumulador = acumulador(idAdvogado, hoje);
+        
+        return new ConsumoIA(
+            idAdvogado,
+            hoje,
+            acumulador.requisicoesDia(),
+            acumulador.tokensDia(),
+            acumulador.tokensMes(),
+            config.getCotaRequisicoesDiaria(),
+            config.getCotaTokensDiaria(),
+            config.getCotaTokensMensal()
+        );
+    }
+    
+    /**
+     * Grava em lote os incrementos pendentes; falhas devolvem os valores para a próxima descarga
+     */
+    @Scheduled(fixedDelayString = "${gemini.uso.descarga-ms:30000}")
+    @PreDestroy
+    public void descarregar() {
+        LocalDate hoje = LocalDate.now();
+        int gravados = 0;
+        
+        for (Map.Entry<ChaveUso, AcumuladorUsoIA> entrada : acumuladores.entrySet()) {
+            ChaveUso chave = entrada.getKey();
+            AcumuladorUsoIA acumulador = entrada.getValue();
+            
+            AcumuladorUsoIA.Descarga descarga = acumulador.drenar();
+            if (!descarga.isVazia()) {
+                try {
+                    gravar(chave, descarga);
+                    gravados++;
+                } catch (DataAccessException e) {
+                    log.warn("Falha ao gravar o consumo da IA do advogado {}. Nova tentativa na próxima descarga",
+                        chave.idAdvogado(), e);
+                    acumulador.devolver(descarga);
+                    continue;
+                }
+            }
+            
+            // Dias encerrados saem da memória depois de gravados
+            if (chave.data().isBefore(hoje) && !acumulador.possuiPendentes()) {
+                acumuladores.remove(chave, acumulador);
+            }
+        }
+        
+        if (gravados > 0) {
+            log.debug("Consumo da IA gravado para {} advogado(s)", gravados);
+        }
+    }
+    
+    private void gravar(ChaveUso chave, AcumuladorUsoIA.Descarga descarga) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (incrementar(chave, descarga, agora)) {
+            return;
+        }
+        
+        try {
+            usoRepository.save(UsoIAAdvogadoJpaEntity.builder()
+                .idAdvogado(chave.idAdvogado())
+                .data(chave.data())
+                .requisicoes(descarga.requisicoes())
+                .tokensEntrada(descarga.tokensEntrada())
+                .tokensSaida(descarga.tokensSaida())
+                .dataAtualizacao(agora)
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância criou o registro do dia entre o UPDATE e o INSERT
+            if (!incrementar(chave, descarga, agora)) {
+                throw e;
+            }
+        }
+    }
+    
+    private boolean incrementar(ChaveUso chave, AcumuladorUsoIA.Descarga descarga, LocalDateTime agora) {
+        return usoRepository.incrementar(chave.idAdvogado(), chave.data(), descarga.requisicoes(),
+            descarga.tokensEntrada(), descarga.tokensSaida(), agora) > 0;
+    }
+    
+    /**
+     * Acumulador do advogado no dia; na primeira consulta carrega o que já foi gravado
+     */
+    private AcumuladorUsoIA acumulador(Long idAdvogado, LocalDate data) {
+        ChaveUso chave = new ChaveUso(idAdvogado, data);
+        AcumuladorUsoIA existente = acumuladores.get(chave);
+        if (existente != null) {
+            return existente;
+        }
+        
+        // Carregado fora do mapa para não segurar o lock do ConcurrentHashMap durante a consulta
+        AcumuladorUsoIA carregado = carregar(chave);
+        AcumuladorUsoIA anterior = acumuladores.putIfAbsent(chave, carregado);
+        return anterior != null ? anterior : carregado;
+    }
+    
+    private AcumuladorUsoIA carregar(ChaveUso chave) {
+        try {
+            long tokensMesAnteriores = usoRepository.somarTokens(
+                chave.idAdvogado(), chave.data().withDayOfMonth(1), chave.data());
+            
+            return usoRepository.findByIdAdvogadoAndData(chave.idAdvogado(), chave.data())
+                .map(uso -> new AcumuladorUsoIA(uso.getRequisicoes(),
+                    uso.getTokensEntrada() + uso.getTokensSaida(), tokensMesAnteriores))
+                .orElseGet(() -> new AcumuladorUsoIA(0, 0, tokensMesAnteriores));
+        } catch (DataAccessException e) {
+            // Sem o histórico, a contagem parte de zero em vez de bloquear a geração
+            log.warn("Falha ao carregar o consumo da IA do advogado {}", chave.idAdvogado(), e);
+            return new AcumuladorUsoIA(0, 0, 0);
+        }
+    }
+    
+    private static boolean atingiu(long consumo, long cota) {
+        return cota > 0 && consumo >= cota;
+    }
+    
+    private void recusar(Long idAdvogado, String periodo, LocalDate renovacao) {
+        meterRegistry.counter("smartlegal.ia.uso.cota_excedida", "periodo", periodo).increment();
+        long segundos = Math.max(1, Duration.between(LocalDateTime.now(), renovacao.atStartOfDay()).toSeconds());
+        throw new CotaIAExcedidaException(idAdvogado, periodo, segundos);
+    }
+}
@@ -0,0 +1,104 @@
+package smartLegalApi.infrastructure.document.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades de configuração da geração de documentos
+ */
+@Component
+@ConfigurationProperties(prefix = "documentos")
+@Data
+public class DocumentoProperties {
+    
+    /**
+     * Modelos Word (timbre, estilos, numeração) por tipo de petição
+     */
+    private Modelos modelos = new Modelos();
+    
+    /**
+     * Geração dos documentos de protocolo em segundo plano
+     */
+    private Renderizacao renderizacao = new Renderizacao();
+    
+    /**
+     * Geração antecipada do documento quando a petição é aprovada
+     */
+    private PreRenderizacao preRenderizacao = new PreRenderizacao();
+    
+    @Data
+    public static class Modelos {
+        
+        /**
+         * Local dos modelos: um arquivo <tipo>.docx por tipo de petição (inicial.docx,
+         * contestacao.docx). Tipos sem arquivo usam o modelo padrão, sem timbre
+         */
+        private String local = "classpath:documentos/modelos/";
+    }
+    
+    @Data
+    public static class Renderizacao {
+        
+        /**
+         * Número de threads que geram documentos (POI usa CPU e memória; sem conexão com o banco)
+         */
+        private Integer workers = 2;
+        
+        /**
+         * Número máximo de protocolos pendentes; acima disso a solicitação é recusada (503)
+         */
+        private Integer capacidade = 50;
+        
+        /**
+         * Intervalo da varredura que redespacha protocolos pendentes, em milissegundos
+         */
+        private Long varreduraMs = 30000L;
+        
+        /**
+         * Falhas na geração do documento antes de cancelar a solicitação de protocolo
+         */
+        private Integer maximoTentativas = 5;
+    }
+    
+    @Data
+    public static class PreRenderizacao {
+        
+        /**
+         * Gera o documento na aprovação, para que o protocolo reaproveite o arquivo se o
+         * conteúdo não mudar até lá
+         */
+        private Boolean habilitada = true;
+        
+        /**
+         * Diretório dos documentos pré-renderizados (um por petição e conteúdo)
+         */
+        private String diretorio = "./uploads/peticoes/pre-renderizados";
+        
+        /**
+         * Número de threads da pré-renderização, abaixo das do protocolo por ser especulativa
+         */
+        private Integer workers = 1;
+        
+        /**
+         * Pré-renderizações aguardando thread; acima disso a aprovação não pré-renderiza
+         */
+        private Integer capacidade = 20;
+        
+        /**
+         * Tempo máximo que o protocolo espera uma pré-renderização em andamento do mesmo
+         * conteúdo antes de gerar o documento por conta própria, em milissegundos
+         */
+        private Long esperaMaximaMs = 15000L;
+        
+        /**
+         * Idade, em horas, a partir da qual documentos não protocolados são excluídos
+         */
+        private Integer expiracaoHoras = 72;
+        
+        /**
+         * Intervalo da limpeza de documentos expirados, em milissegundos
+         */
+        private Long limpezaMs = 3600000L;
+    }
+}
@@ -0,0 +1,110 @@
+package smartLegalApi.infrastructure.document.modelo;
+
+import smartLegalApi.domain.cliente.entity.Cliente;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Campos disponíveis nos modelos de petição, escritos como {{processo.numero}}
+ */
+public enum CampoModelo {
+    
+    PETICAO_TITULO("peticao.titulo", Origem.PETICAO, dados -> dados.peticao().getTitulo()),
+    PETICAO_TIPO("peticao.tipo", Origem.PETICAO, dados -> dados.peticao().getTipo().getDescricao()),
+    
+    PROCESSO_NUMERO("processo.numero", Origem.PROCESSO, dados -> texto(dados.processo().getNumeroProcesso())),
+    PROCESSO_TITULO("processo.titulo", Origem.PROCESSO, dados -> dados.processo().getTitulo()),
+    PROCESSO_DESCRICAO("processo.descricao", Origem.PROCESSO, dados -> dados.processo().getDescricao()),
+    PROCESSO_STATUS("processo.status", Origem.PROCESSO, dados -> dados.processo().getStatus().getDescricao()),
+    PROCESSO_DATA_ABERTURA("processo.dataAbertura", Origem.PROCESSO, dados -> data(dados.processo().getDataAbertura())),
+    
+    CLIENTE_NOME("cliente.nome", Origem.CLIENTE, dados -> dados.cliente().getNomeCompleto()),
+    CLIENTE_CPF_CNPJ("cliente.cpfCnpj", Origem.CLIENTE, dados -> formatado(dados.cliente())),
+    CLIENTE_TIPO_PESSOA("cliente.tipoPessoa", Origem.CLIENTE, dados -> dados.cliente().getTipoPessoa()),
+    CLIENTE_EMAIL("cliente.email", Origem.CLIENTE, dados -> texto(dados.cliente().getEmail())),
+    CLIENTE_TELEFONE("cliente.telefone", Origem.CLIENTE,
+        dados -> dados.cliente().getTelefone() == null ? null : dados.cliente().getTelefone().formatado()),
+    CLIENTE_ENDERECO("cliente.endereco", Origem.CLIENTE, dados -> texto(dados.cliente().getEndereco())),
+    
+    ADVOGADO_NOME("advogado.nome", Origem.ADVOGADO, dados -> dados.advogado().getNome()),
+    ADVOGADO_OAB("advogado.oab", Origem.ADVOGADO,
+        dados -> dados.advogado().getOab() == null ? null : dados.advogado().getOab().formatado()),
+    ADVOGADO_CPF("advogado.cpf", Origem.ADVOGADO,
+        dados -> dados.advogado().getCpf() == null ? null : dados.advogado().getCpf().formatado()),
+    ADVOGADO_EMAIL("advogado.email", Origem.ADVOGADO, dados -> texto(dados.advogado().getEmail())),
+    ADVOGADO_TELEFONE("advogado.telefone", Origem.ADVOGADO,
+        dados -> dados.advogado().getTelefone() == null ? null : dados.advogado().getTelefone().formatado()),
+    
+    DATA_HOJE("data.hoje", Origem.DATA, dados -> data(dados.data())),
+    DATA_EXTENSO("data.extenso", Origem.DATA, dados -> porExtenso(dados.data()));
+    
+    /**
+     * Entidade de onde o campo é lido
+     */
+    public enum Origem { PETICAO, PROCESSO, CLIENTE, ADVOGADO, DATA }
+    
+    private static final DateTimeFormatter DATA_NUMERICA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATA_POR_EXTENSO =
+        DateTimeFormatter.ofPattern("d 'de' MMMM 'de' yyyy", Locale.forLanguageTag("pt-BR"));
+    private static final Map<String, CampoModelo> POR_CHAVE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(CampoModelo::getChave, Function.identity()));
+    
+    private final String chave;
+    private final Origem origem;
+    private final Function<DadosModelo, String> leitor;
+    
+    CampoModelo(String chave, Origem origem, Function<DadosModelo, String> leitor) {
+        this.chave = chave;
+        this.origem = origem;
+        this.leitor = leitor;
+    }
+    
+    public String getChave() {
+        return chave;
+    }
+    
+    public Origem getOrigem() {
+        return origem;
+    }
+    
+    /**
+     * Campo escrito como {{chave}}, ou nulo se não existir
+     */
+    public static CampoModelo daChave(String chave) {
+        return POR_CHAVE.get(chave);
+    }
+    
+    /**
+     * Valor do campo, ou nulo se a entidade ou o dado não estiver disponível
+     */
+    String ler(DadosModelo dados) {
+        if (dados.origem(origem) == null) {
+            return null;
+        }
+        String valor = leitor.apply(dados);
+        return valor == null || valor.isBlank() ? null : valor;
+    }
+    
+    private static String texto(Object valor) {
+        return Objects.toString(valor, null);
+    }
+    
+    private static String data(LocalDate data) {
+        return data == null ? null : data.format(DATA_NUMERICA);
+    }
+    
+    private static String porExtenso(LocalDate data) {
+        return data == null ? null : data.format(DATA_POR_EXTENSO);
+    }
+    
+    private static String formatado(Cliente cliente) {
+        return cliente.getCpfCnpj() == null ? null : cliente.getCpfCnpj().formatado();
+    }
+}
@@ -0,0 +1,25 @@
+package smartLegalApi.infrastructure.document.modelo;
+
+import smartLegalApi.domain.advogado.entity.Advogado;
+import smartLegalApi.domain.cliente.entity.Cliente;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.processo.entity.Processo;
+
+import java.time.LocalDate;
+
+/**
+ * Dados que preenchem os campos de um modelo; cliente e advogado podem ser nulos quando o
+ * modelo não os usa (ver {@link ModeloCompilado#usa(CampoModelo.Origem)})
+ */
+public record DadosModelo(Peticao peticao, Processo processo, Cliente cliente, Advogado advogado, LocalDate data) {
+    
+    Object origem(CampoModelo.Origem origem) {
+        return switch (origem) {
+            case PETICAO -> peticao;
+            case PROCESSO -> processo;
+            case CLIENTE -> cliente;
+            case ADVOGADO -> advogado;
+            case DATA -> data;
+        };
+    }
+}
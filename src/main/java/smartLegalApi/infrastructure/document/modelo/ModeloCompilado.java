@@ -0,0 +1,121 @@
+package smartLegalApi.infrastructure.document.modelo;
+
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Plano de preenchimento de um modelo: o texto já dividido em trechos fixos e campos, lido uma
+ * única vez. Preencher é concatenar os trechos com os valores lidos de cada campo, sem
+ * procurar chaves no texto a cada petição.
+ * 
+ * Campo sem valor (cliente sem e-mail, processo sem cliente) é preenchido com
+ * "[chave não informado]", para ficar visível na revisão.
+ */
+public final class ModeloCompilado {
+    
+    private static final String ABERTURA = "{{";
+    private static final String FECHAMENTO = "}}";
+    private static final int TAMANHO_MEDIO_CAMPO = 24;
+    
+    private final String fonte;
+    
+    /** Trechos fixos: trechos[i] antecede campos[i]; o último trecho fecha o texto */
+    private final String[] trechos;
+    private final CampoModelo[] campos;
+    private final Set<CampoModelo.Origem> origens;
+    private final int tamanhoEstimado;
+    
+    private ModeloCompilado(String fonte, String[] trechos, CampoModelo[] campos) {
+        this.fonte = fonte;
+        this.trechos = trechos;
+        this.campos = campos;
+        this.origens = EnumSet.noneOf(CampoModelo.Origem.class);
+        for (CampoModelo campo : campos) {
+            origens.add(campo.getOrigem());
+        }
+        this.tamanhoEstimado = Arrays.stream(trechos).mapToInt(String::length).sum()
+            + campos.length * TAMANHO_MEDIO_CAMPO;
+    }
+    
+    /**
+     * Lê o texto do modelo; lança BusinessRuleException para campo desconhecido ou chaves sem fechamento
+     */
+    public static ModeloCompilado compilar(String fonte) {
+        List<String> trechos = new ArrayList<>();
+        List<CampoModelo> campos = new ArrayList<>();
+        
+        int posicao = 0;
+        int abertura;
+        while ((abertura = fonte.indexOf(ABERTURA, posicao)) >= 0) {
+            int fechamento = fonte.indexOf(FECHAMENTO, abertura + ABERTURA.length());
+            if (fechamento < 0) {
+                throw new BusinessRuleException("Campo sem fechamento '}}' na linha " + linha(fonte, abertura) + " do modelo");
+            }
+            
+            String chave = fonte.substring(abertura + ABERTURA.length(), fechamento).trim();
+            CampoModelo campo = CampoModelo.daChave(chave);
+            if (campo == null) {
+                throw new BusinessRuleException("Campo desconhecido {{" + chave + "}} na linha " + linha(fonte, abertura)
+                    + " do modelo. Campos disponíveis: " + chavesDisponiveis());
+            }
+            
+            trechos.add(fonte.substring(posicao, abertura));
+            campos.add(campo);
+            posicao = fechamento + FECHAMENTO.length();
+        }
+        trechos.add(fonte.substring(posicao));
+        
+        return new ModeloCompilado(fonte, trechos.toArray(String[]::new), campos.toArray(CampoModelo[]::new));
+    }
+    
+    /**
+     * Preenche o modelo com os dados informados
+     */
+    public String renderizar(DadosModelo dados) {
+        StringBuilder texto = new StringBuilder(tamanhoEstimado);
+        for (int i = 0; i < campos.length; i++) {
+            texto.append(trechos[i]);
+            String valor = campos[i].ler(dados);
+            if (valor != null) {
+                texto.append(valor);
+            } else {
+                texto.append('[').append(campos[i].getChave()).append(" não informado]");
+            }
+        }
+        return texto.append(trechos[campos.length]).toString();
+    }
+    
+    /**
+     * Indica se algum campo do modelo é lido da entidade; as que não são usadas não precisam ser carregadas
+     */
+    public boolean usa(CampoModelo.Origem origem) {
+        return origens.contains(origem);
+    }
+    
+    /**
+     * Texto do modelo a partir do qual o plano foi lido
+     */
+    public String getFonte() {
+        return fonte;
+    }
+    
+    private static int linha(String texto, int posicao) {
+        int linha = 1;
+        for (int i = 0; i < posicao; i++) {
+            if (texto.charAt(i) == '\n') {
+                linha++;
+            }
+        }
+        return linha;
+    }
+    
+    private static String chavesDisponiveis() {
+        return Arrays.stream(CampoModelo.values()).map(CampoModelo::getChave).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,70 @@
+package smartLegalApi.infrastructure.document.modelo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preenche petições a partir de modelos, sem IA
+ * 
+ * Cada modelo é lido uma vez e o plano fica em memória por ID. O plano guarda o texto de
+ * origem: se o modelo foi alterado (nesta ou em outra instância), é lido de novo no próximo uso.
+ */
+@Component
+@RequiredArgsConstructor
+public class MotorModelosPeticao {
+    
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<Long, ModeloCompilado> compilados = new ConcurrentHashMap<>();
+    private Timer tempoRenderizacao;
+    
+    @PostConstruct
+    public void inicializar() {
+        tempoRenderizacao = Timer.builder("smartlegal.modelos.renderizacao")
+            .description("Tempo de preenchimento de uma petição a partir de um modelo")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Plano do modelo, lido de novo apenas se o texto mudou desde a última leitura
+     */
+    public ModeloCompilado compilar(ModeloPeticao modelo) {
+        if (modelo.getId() == null) {
+            return ModeloCompilado.compilar(modelo.getConteudo());
+        }
+        
+        return compilados.compute(modelo.getId(), (id, atual) ->
+            atual != null && atual.getFonte().equals(modelo.getConteudo())
+                ? atual
+                : ModeloCompilado.compilar(modelo.getConteudo()));
+    }
+    
+    /**
+     * Valida o texto de um modelo antes de gravá-lo
+     */
+    public void validar(String conteudo) {
+        ModeloCompilado.compilar(conteudo);
+    }
+    
+    public String renderizar(ModeloCompilado modelo, DadosModelo dados) {
+        long inicio = System.nanoTime();
+        String texto = modelo.renderizar(dados);
+        tempoRenderizacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return texto;
+    }
+    
+    /**
+     * Remove o plano de um modelo desativado
+     */
+    public void descartar(Long idModelo) {
+        compilados.remove(idModelo);
+    }
+}
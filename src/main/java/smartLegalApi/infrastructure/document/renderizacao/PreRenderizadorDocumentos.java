@@ -0,0 +1,241 @@
+package smartLegalApi.infrastructure.document.renderizacao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smartLegalApi.application.peticao.event.PeticaoAprovadaEvent;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+import smartLegalApi.infrastructure.document.service.DocumentoWordService;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pré-renderização especulativa do documento de protocolo
+ *
+ * Na aprovação, o documento é gerado em segundo plano e gravado com o nome
+ * peticao_<id>_<chave>.docx, em que a chave é o hash do que o documento mostra (tipo, título,
+ * conteúdo). No protocolo, se a chave da petição for a mesma, o arquivo é reaproveitado; se o
+ * conteúdo mudou depois da aprovação, o documento é gerado de novo. A taxa de acerto fica nas
+ * métricas (smartlegal.documentos.pre_renderizacao.consultas e .taxa_acerto).
+ *
+ * Especulativa: com o executor cheio a aprovação simplesmente não pré-renderiza, e o rodapé
+ * do documento reaproveitado traz a hora da aprovação em vez da do protocolo.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PreRenderizadorDocumentos {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final DocumentoWordService documentoWordService;
+    private final DocumentoProperties documentoProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /** Pré-renderizações em andamento por arquivo, para o protocolo aguardar em vez de gerar de novo */
+    private final Map<Path, CompletableFuture<Void>> emAndamento = new ConcurrentHashMap<>();
+    
+    private ThreadPoolExecutor executor;
+    private Timer tempoPreRenderizacao;
+    private Counter acertos;
+    private Counter falhas;
+    
+    @PostConstruct
+    public void inicializar() {
+        DocumentoProperties.PreRenderizacao config = documentoProperties.getPreRenderizacao();
+        
+        executor = new ThreadPoolExecutor(
+            config.getWorkers(),
+            config.getWorkers(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(config.getCapacidade()),
+            new CustomizableThreadFactory("pre-renderizacao-documento-")
+        );
+        
+        tempoPreRenderizacao = Timer.builder("smartlegal.documentos.pre_renderizacao")
+            .description("Tempo de geração do documento pré-renderizado na aprovação")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        acertos = meterRegistry.counter("smartlegal.documentos.pre_renderizacao.consultas", "resultado", "acerto");
+        falhas = meterRegistry.counter("smartlegal.documentos.pre_renderizacao.consultas", "resultado", "falha");
+        Gauge.builder("smartlegal.documentos.pre_renderizacao.taxa_acerto", this, PreRenderizadorDocumentos::taxaAcerto)
+            .description("Fração dos protocolos que reaproveitaram o documento pré-renderizado")
+            .register(meterRegistry);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoAprovarPeticao(PeticaoAprovadaEvent evento) {
+        if (!documentoProperties.getPreRenderizacao().getHabilitada()) {
+            return;
+        }
+        
+        try {
+            executor.execute(() -> preRenderizar(evento.idPeticao()));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("smartlegal.documentos.pre_renderizacao.descartadas").increment();
+            log.debug("Executor de pré-renderização saturado. Petição {} será renderizada no protocolo", evento.idPeticao());
+        }
+    }
+    
+    void preRenderizar(Long idPeticao) {
+        Peticao peticao = peticaoRepository.findById(idPeticao).orElse(null);
+        if (peticao == null || peticao.getStatus() != StatusPeticao.APROVADA) {
+            return;
+        }
+        
+        Path arquivo = arquivo(peticao);
+        CompletableFuture<Void> pronto = new CompletableFuture<>();
+        if (Files.exists(arquivo) || emAndamento.putIfAbsent(arquivo, pronto) != null) {
+            return;
+        }
+        
+        try {
+            descartarAnteriores(peticao.getId(), arquivo);
+            tempoPreRenderizacao.recordCallable(() -> {
+                documentoWordService.gravarDocumento(peticao, arquivo);
+                return null;
+            });
+            log.info("Documento da petição ID: {} pré-renderizado: {}", idPeticao, arquivo);
+        } catch (Exception e) {
+            log.warn("Erro ao pré-renderizar documento da petição ID: {}", idPeticao, e);
+        } finally {
+            emAndamento.remove(arquivo);
+            pronto.complete(null);
+        }
+    }
+    
+    /**
+     * Documento para o protocolo da petição: o pré-renderizado, se foi gerado do mesmo conteúdo,
+     * ou um gerado agora. Pré-renderizações anteriores da petição são descartadas
+     */
+    public String obterDocumento(Peticao peticao) {
+        Path arquivo = arquivo(peticao);
+        aguardar(arquivo);
+        
+        String caminhoDocumento = null;
+        if (Files.isRegularFile(arquivo)) {
+            try {
+                caminhoDocumento = documentoWordService.adotarDocumento(peticao, arquivo);
+            } catch (RuntimeException e) {
+                log.warn("Erro ao reaproveitar documento pré-renderizado {}", arquivo, e);
+            }
+        }
+        descartarAnteriores(peticao.getId(), null);
+        
+        if (caminhoDocumento != null) {
+            acertos.increment();
+            return caminhoDocumento;
+        }
+        falhas.increment();
+        return documentoWordService.gerarDocumento(peticao);
+    }
+    
+    /**
+     * Exclui pré-renderizações de petições aprovadas há mais tempo que a expiração e nunca protocoladas
+     */
+    @Scheduled(
+        fixedDelayString = "${documentos.pre-renderizacao.limpeza-ms:3600000}",
+        initialDelayString = "${documentos.pre-renderizacao.limpeza-ms:3600000}"
+    )
+    public void limparExpirados() {
+        Path diretorio = diretorio();
+        if (!Files.isDirectory(diretorio)) {
+            return;
+        }
+        
+        Instant limite = Instant.now().minus(documentoProperties.getPreRenderizacao().getExpiracaoHoras(), ChronoUnit.HOURS);
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "peticao_*")) {
+            for (Path arquivo : arquivos) {
+                if (!emAndamento.containsKey(arquivo) && Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite)) {
+                    Files.deleteIfExists(arquivo);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Erro na limpeza de documentos pré-renderizados", e);
+        }
+    }
+    
+    private void aguardar(Path arquivo) {
+        CompletableFuture<Void> pronto = emAndamento.get(arquivo);
+        if (pronto == null) {
+            return;
+        }
+        
+        try {
+            pronto.get(documentoProperties.getPreRenderizacao().getEsperaMaximaMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.info("Pré-renderização de {} ainda em andamento. Gerando o documento no protocolo", arquivo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Falha já registrada pela pré-renderização
+        }
+    }
+    
+    /**
+     * Exclui as pré-renderizações da petição, exceto a informada
+     */
+    private void descartarAnteriores(Long idPeticao, Path manter) {
+        Path diretorio = diretorio();
+        if (!Files.isDirectory(diretorio)) {
+            return;
+        }
+        
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "peticao_" + idPeticao + "_*.docx")) {
+            for (Path arquivo : arquivos) {
+                if (!arquivo.equals(manter) && !emAndamento.containsKey(arquivo)) {
+                    Files.deleteIfExists(arquivo);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Erro ao descartar pré-renderizações da petição ID: {}", idPeticao, e);
+        }
+    }
+    
+    private Path arquivo(Peticao peticao) {
+        return diretorio().resolve("peticao_" + peticao.getId() + "_" + documentoWordService.chaveDocumento(peticao) + ".docx");
+    }
+    
+    private Path diretorio() {
+        return Paths.get(documentoProperties.getPreRenderizacao().getDiretorio()).toAbsolutePath().normalize();
+    }
+    
+    private double taxaAcerto() {
+        double total = acertos.count() + falhas.count();
+        return total == 0 ? 0 : acertos.count() / total;
+    }
+    
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package smartLegalApi.infrastructure.document.renderizacao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smartLegalApi.application.peticao.event.ProtocoloPeticaoSolicitadoEvent;
+import smartLegalApi.application.peticao.usecase.ConcluirProtocoloPeticaoUseCase;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+import smartLegalApi.infrastructure.document.service.DocumentoWordService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gera em segundo plano os documentos das petições com protocolo solicitado
+ *
+ * A solicitação gravada na petição é a fonte da verdade; o executor em memória apenas despacha.
+ * O documento é gerado fora de transação (sem segurar conexão com o banco enquanto o POI monta
+ * e grava o arquivo) e o protocolo é concluído em uma transação curta. A fila do executor é
+ * limitada: rejeições ficam pendentes no banco e são retomadas pela varredura periódica, que
+ * também cobre reinícios da aplicação. Falhas na geração contam tentativas na petição; esgotadas
+ * (documentos.renderizacao.maximo-tentativas), a solicitação é cancelada, para que a petição não
+ * volte à varredura nem ocupe a capacidade de protocolos pendentes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RenderizadorDocumentosProtocolo {
+    
+    private final PeticaoRepository peticaoRepository;
+    private final DocumentoWordService documentoWordService;
+    private final PreRenderizadorDocumentos preRenderizador;
+    private final ConcluirProtocoloPeticaoUseCase concluirProtocoloUseCase;
+    private final DocumentoProperties documentoProperties;
+    private final MeterRegistry meterRegistry;
+    
+    /** Petições já entregues ao executor e ainda não finalizadas, para evitar despacho duplicado */
+    private final Set<Long> despachadas = ConcurrentHashMap.newKeySet();
+    
+    private ThreadPoolExecutor executor;
+    private Timer tempoEspera;
+    private Timer tempoRenderizacao;
+    private Counter rejeicoes;
+    
+    @PostConstruct
+    public void inicializar() {
+        DocumentoProperties.Renderizacao config = documentoProperties.getRenderizacao();
+        
+        executor = new ThreadPoolExecutor(
+            config.getWorkers(),
+            config.getWorkers(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(config.getCapacidade()),
+            new CustomizableThreadFactory("renderizacao-documento-")
+        );
+        
+        Gauge.builder("smartlegal.documentos.renderizacao.fila", executor, e -> e.getQueue().size())
+            .description("Documentos de protocolo aguardando uma thread de geração")
+            .register(meterRegistry);
+        Gauge.builder("smartlegal.documentos.renderizacao.em_execucao", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Documentos de protocolo em geração")
+            .register(meterRegistry);
+        
+        tempoEspera = Timer.builder("smartlegal.documentos.renderizacao.espera")
+            .description("Tempo entre a solicitação do protocolo e o início da geração do documento")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        tempoRenderizacao = Timer.builder("smartlegal.documentos.renderizacao")
+            .description("Tempo para obter o documento de protocolo (pré-renderizado ou gerado na hora)")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        rejeicoes = Counter.builder("smartlegal.documentos.renderizacao.rejeitadas")
+            .description("Protocolos recusados pelo executor cheio (retomados pela varredura)")
+            .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void recuperarAoIniciar() {
+        varrerPendentes();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoSolicitarProtocolo(ProtocoloPeticaoSolicitadoEvent evento) {
+        despachar(evento.idPeticao());
+    }
+    
+    /**
+     * Redespacha protocolos pendentes que não estão no executor (fila cheia, falha ou reinício)
+     */
+    @Scheduled(
+        fixedDelayString = "${documentos.renderizacao.varredura-ms:30000}",
+        initialDelayString = "${documentos.renderizacao.varredura-ms:30000}"
+    )
+    public void varrerPendentes() {
+        try {
+            for (Peticao peticao : peticaoRepository.findProtocoloPendente()) {
+                if (!despachar(peticao.getId())) {
+                    break; // Executor saturado; tenta de novo na próxima varredura
+                }
+            }
+        } catch (Exception e) {
+            log.error("Erro na varredura de protocolos pendentes", e);
+        }
+    }
+    
+    /**
+     * Entrega a petição ao executor; retorna false se o executor estiver saturado
+     */
+    boolean despachar(Long idPeticao) {
+        if (!despachadas.add(idPeticao)) {
+            return true;
+        }
+        
+        try {
+            executor.execute(() -> processar(idPeticao));
+            return true;
+        } catch (RejectedExecutionException e) {
+            despachadas.remove(idPeticao);
+            rejeicoes.increment();
+            log.warn("Executor de documentos saturado. Protocolo da petição {} aguardará a próxima varredura", idPeticao);
+            return false;
+        }
+    }
+    
+    void processar(Long idPeticao) {
+        String resultado = "erro";
+        try {
+            resultado = renderizarEProtocolar(idPeticao);
+        } catch (Exception e) {
+            // Permanece pendente e é despachado de novo pela varredura, até esgotar as tentativas
+            log.error("Erro ao gerar documento de protocolo da petição ID: {}", idPeticao, e);
+            resultado = registrarFalha(idPeticao);
+        } finally {
+            meterRegistry.counter("smartlegal.documentos.protocolo", "resultado", resultado).increment();
+            despachadas.remove(idPeticao);
+        }
+        
+        if ("refeito".equals(resultado)) {
+            despachar(idPeticao);
+        }
+    }
+    
+    private String registrarFalha(Long idPeticao) {
+        try {
+            return concluirProtocoloUseCase.registrarFalha(
+                idPeticao, documentoProperties.getRenderizacao().getMaximoTentativas()) ? "esgotado" : "erro";
+        } catch (Exception e) {
+            log.error("Erro ao registrar falha do protocolo da petição ID: {}", idPeticao, e);
+            return "erro";
+        }
+    }
+    
+    private String renderizarEProtocolar(Long idPeticao) {
+        Peticao peticao = peticaoRepository.findById(idPeticao).orElse(null);
+        if (peticao == null || !peticao.isProtocoloPendente()) {
+            return "descartado";
+        }
+        tempoEspera.record(Duration.between(peticao.getDataSolicitacaoProtocolo(), LocalDateTime.now()));
+        
+        String caminhoDocumento = tempoRenderizacao.record(() -> preRenderizador.obterDocumento(peticao));
+        
+        boolean concluido = false;
+        try {
+            concluido = concluirProtocoloUseCase.executar(peticao, caminhoDocumento);
+        } finally {
+            if (!concluido) {
+                documentoWordService.excluirDocumento(caminhoDocumento);
+            }
+        }
+        
+        if (concluido) {
+            return "concluido";
+        }
+        return peticaoRepository.findById(idPeticao).map(Peticao::isProtocoloPendente).orElse(false)
+            ? "refeito"
+            : "descartado";
+    }
+    
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Protocolos interrompidos aqui continuam pendentes e são retomados no próximo início
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package smartLegalApi.infrastructure.document.service;
+
+import org.apache.poi.xwpf.usermodel.XWPFAbstractNum;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFNumbering;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTAbstractNum;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTInd;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTLvl;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTNumLvl;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STJc;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STNumberFormat;
+
+import java.math.BigInteger;
+
+/**
+ * Converte o conteúdo da petição, com o markdown que a IA costuma produzir, em parágrafos do
+ * documento Word, em uma única passada pelo texto: cada linha é lida direto do conteúdo e os
+ * parágrafos e runs são criados à medida que o texto é percorrido, sem dividir em blocos antes.
+ *
+ *   # Seção / ## Subseção      – parágrafos com os estilos de seção
+ *   1. item / 1) item          – lista numerada do Word, que recomeça em 1 a cada lista
+ *   - item / * item / + item   – lista com marcadores
+ *   (item recuado)             – segundo nível da lista (a), b) ou ◦)
+ *   **negrito**, *itálico*     – também __negrito__ e _itálico_
+ *   ---                        – separador
+ *
+ * Linhas em branco separam parágrafos; a quebra de linha simples vira quebra de linha no
+ * parágrafo (endereçamento, assinatura). Ênfase sem fechamento vale até o fim do parágrafo.
+ * Uma barra invertida antes de *, _, # ou - mantém o caractere como texto.
+ */
+final class ConversorMarkdownWord {
+    
+    private static final String ESCAPAVEIS = "*_#-+\\";
+    private static final int NIVEIS = 2;
+    
+    private final XWPFDocument document;
+    private final StringBuilder texto = new StringBuilder();
+    
+    private XWPFParagraph paragrafo;
+    private XWPFRun ultimoRun;
+    private boolean negrito;
+    private boolean italico;
+    
+    /** Lista aberta em cada nível (numId), e se é numerada */
+    private final BigInteger[] listas = new BigInteger[NIVEIS];
+    private final boolean[] numeradas = new boolean[NIVEIS];
+    private BigInteger abstratoNumerado;
+    private BigInteger abstratoMarcadores;
+    
+    ConversorMarkdownWord(XWPFDocument document) {
+        this.document = document;
+    }
+    
+    void converter(String conteudo) {
+        int n = conteudo.length();
+        int inicio = 0;
+        while (inicio < n) {
+            int fim = conteudo.indexOf('\n', inicio);
+            if (fim < 0) {
+                fim = n;
+            }
+            linha(conteudo, inicio, fim);
+            inicio = fim + 1;
+        }
+        encerrarParagrafo();
+    }
+    
+    private void linha(String conteudo, int inicio, int fim) {
+        while (fim > inicio && Character.isWhitespace(conteudo.charAt(fim - 1))) {
+            fim--;
+        }
+        int indentacao = 0;
+        int i = inicio;
+        for (; i < fim && (conteudo.charAt(i) == ' ' || conteudo.charAt(i) == '\t'); i++) {
+            indentacao += conteudo.charAt(i) == '\t' ? 4 : 1;
+        }
+        
+        if (i == fim) {
+            encerrarParagrafo();
+            return;
+        }
+        
+        char c = conteudo.charAt(i);
+        if (c == '#') {
+            int nivel = 1;
+            while (i + nivel < fim && conteudo.charAt(i + nivel) == '#') {
+                nivel++;
+            }
+            if (nivel <= 6 && i + nivel < fim && conteudo.charAt(i + nivel) == ' ') {
+                encerrarParagrafo();
+                encerrarListas();
+                novoParagrafo(nivel == 1 ? ModelosDocumentoWord.ESTILO_SECAO : ModelosDocumentoWord.ESTILO_SUBSECAO);
+                inline(conteudo, i + nivel + 1, fim);
+                encerrarParagrafo();
+                return;
+            }
+        }
+        
+        if (isSeparador(conteudo, i, fim)) {
+            encerrarParagrafo();
+            encerrarListas();
+            novoParagrafo(ModelosDocumentoWord.ESTILO_SEPARADOR);
+            texto.append("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            encerrarParagrafo();
+            return;
+        }
+        
+        if ((c == '-' || c == '*' || c == '+') && i + 1 < fim && conteudo.charAt(i + 1) == ' ') {
+            item(false, indentacao, conteudo, i + 2, fim);
+            return;
+        }
+        
+        int digitos = 0;
+        while (i + digitos < fim && digitos < 9 && isDigito(conteudo.charAt(i + digitos))) {
+            digitos++;
+        }
+        if (digitos > 0 && i + digitos + 1 < fim
+            && (conteudo.charAt(i + digitos) == '.' || conteudo.charAt(i + digitos) == ')')
+            && conteudo.charAt(i + digitos + 1) == ' ') {
+            item(true, indentacao, conteudo, i + digitos + 2, fim);
+            return;
+        }
+        
+        if (paragrafo != null) {
+            quebrarLinha();
+        } else {
+            encerrarListas();
+            novoParagrafo(ModelosDocumentoWord.ESTILO_CORPO);
+        }
+        inline(conteudo, i, fim);
+    }
+    
+    private void item(boolean numerado, int indentacao, String conteudo, int inicio, int fim) {
+        encerrarParagrafo();
+        
+        int nivel = indentacao >= 2 && listas[0] != null ? 1 : 0;
+        if (nivel == 0) {
+            listas[1] = null;
+        }
+        if (listas[nivel] == null || numeradas[nivel] != numerado) {
+            listas[nivel] = novaLista(numerado);
+            numeradas[nivel] = numerado;
+        }
+        
+        novoParagrafo(ModelosDocumentoWord.ESTILO_ITEM_LISTA);
+        paragrafo.setNumID(listas[nivel]);
+        paragrafo.setNumILvl(BigInteger.valueOf(nivel));
+        inline(conteudo, inicio, fim);
+    }
+    
+    /**
+     * Negrito e itálico: o marcador abre antes de um caractere visível e fecha depois de um
+     * ("2 * 3" fica como texto); _ no meio de palavra também fica como texto
+     */
+    private void inline(String conteudo, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            char c = conteudo.charAt(i);
+            if (c == '\\' && i + 1 < fim && ESCAPAVEIS.indexOf(conteudo.charAt(i + 1)) >= 0) {
+                texto.append(conteudo.charAt(++i));
+                continue;
+            }
+            
+            if (c == '*' || c == '_') {
+                boolean duplo = i + 1 < fim && conteudo.charAt(i + 1) == c;
+                int tamanho = duplo ? 2 : 1;
+                char antes = i > inicio ? conteudo.charAt(i - 1) : ' ';
+                char depois = i + tamanho < fim ? conteudo.charAt(i + tamanho) : ' ';
+                boolean aberto = duplo ? negrito : italico;
+                boolean marcador = aberto
+                    ? !Character.isWhitespace(antes) && (c == '*' || !Character.isLetterOrDigit(depois))
+                    : !Character.isWhitespace(depois) && (c == '*' || !Character.isLetterOrDigit(antes));
+                if (marcador) {
+                    descarregar();
+                    if (duplo) {
+                        negrito = !negrito;
+                    } else {
+                        italico = !italico;
+                    }
+                    i += tamanho - 1;
+                    continue;
+                }
+            }
+            
+            texto.append(c);
+        }
+    }
+    
+    private void novoParagrafo(String estilo) {
+        paragrafo = document.createParagraph();
+        paragrafo.setStyle(estilo);
+    }
+    
+    private void quebrarLinha() {
+        descarregar();
+        if (ultimoRun == null) {
+            ultimoRun = paragrafo.createRun();
+        }
+        ultimoRun.addBreak();
+    }
+    
+    /**
+     * Cria o run com o texto acumulado e a ênfase atual
+     */
+    private void descarregar() {
+        if (texto.isEmpty()) {
+            return;
+        }
+        ultimoRun = paragrafo.createRun();
+        if (negrito) {
+            ultimoRun.setBold(true);
+        }
+        if (italico) {
+            ultimoRun.setItalic(true);
+        }
+        ultimoRun.setText(texto.toString());
+        texto.setLength(0);
+    }
+    
+    private void encerrarParagrafo() {
+        if (paragrafo != null) {
+            descarregar();
+        }
+        paragrafo = null;
+        ultimoRun = null;
+        negrito = false;
+        italico = false;
+    }
+    
+    private void encerrarListas() {
+        listas[0] = null;
+        listas[1] = null;
+    }
+    
+    /**
+     * Nova instância da numeração, recomeçando em 1 em todos os níveis
+     */
+    private BigInteger novaLista(boolean numerada) {
+        XWPFNumbering numbering = document.createNumbering();
+        if (numerada && abstratoNumerado == null) {
+            abstratoNumerado = numbering.addAbstractNum(new XWPFAbstractNum(definirNumeracao(numbering, true)));
+        } else if (!numerada && abstratoMarcadores == null) {
+            abstratoMarcadores = numbering.addAbstractNum(new XWPFAbstractNum(definirNumeracao(numbering, false)));
+        }
+        
+        BigInteger numId = numbering.addNum(numerada ? abstratoNumerado : abstratoMarcadores);
+        for (int nivel = 0; nivel < NIVEIS; nivel++) {
+            CTNumLvl reinicio = numbering.getNum(numId).getCTNum().addNewLvlOverride();
+            reinicio.setIlvl(BigInteger.valueOf(nivel));
+            reinicio.addNewStartOverride().setVal(BigInteger.ONE);
+        }
+        return numId;
+    }
+    
+    /**
+     * Numeração de dois níveis, com id após os que o modelo já define
+     */
+    private static CTAbstractNum definirNumeracao(XWPFNumbering numbering, boolean numerada) {
+        BigInteger id = BigInteger.ZERO;
+        for (XWPFAbstractNum existente : numbering.getAbstractNums()) {
+            id = id.max(existente.getCTAbstractNum().getAbstractNumId().add(BigInteger.ONE));
+        }
+        
+        CTAbstractNum abstrato = CTAbstractNum.Factory.newInstance();
+        abstrato.setAbstractNumId(id);
+        for (int nivel = 0; nivel < NIVEIS; nivel++) {
+            CTLvl lvl = abstrato.addNewLvl();
+            lvl.setIlvl(BigInteger.valueOf(nivel));
+            lvl.addNewStart().setVal(BigInteger.ONE);
+            if (numerada) {
+                lvl.addNewNumFmt().setVal(nivel == 0 ? STNumberFormat.DECIMAL : STNumberFormat.LOWER_LETTER);
+                lvl.addNewLvlText().setVal(nivel == 0 ? "%1." : "%2)");
+            } else {
+                lvl.addNewNumFmt().setVal(STNumberFormat.BULLET);
+                lvl.addNewLvlText().setVal(nivel == 0 ? "•" : "◦");
+            }
+            lvl.addNewLvlJc().setVal(STJc.LEFT);
+            
+            CTInd recuo = lvl.addNewPPr().addNewInd();
+            recuo.setLeft(BigInteger.valueOf(720L * (nivel + 1)));
+            recuo.setHanging(BigInteger.valueOf(360));
+        }
+        return abstrato;
+    }
+    
+    private static boolean isSeparador(String conteudo, int inicio, int fim) {
+        char marcador = conteudo.charAt(inicio);
+        if (marcador != '-' && marcador != '*' && marcador != '_') {
+            return false;
+        }
+        int marcadores = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = conteudo.charAt(i);
+            if (c == marcador) {
+                marcadores++;
+            } else if (c != ' ') {
+                return false;
+            }
+        }
+        return marcadores >= 3;
+    }
+    
+    private static boolean isDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,18 @@
+package smartLegalApi.infrastructure.document.service;
+
+import smartLegalApi.domain.peticao.entity.Peticao;
+
+import java.nio.file.Path;
+
+/**
+ * Documento Word de uma petição pronto para download (ver DocumentoWordService#abrirDocumento)
+ *
+ * @param arquivo arquivo gravado no protocolo, ou nulo se o documento é gerado na resposta
+ * @param tamanho tamanho do arquivo em bytes, ou -1 se o documento é gerado na resposta
+ */
+public record DocumentoPeticao(Peticao peticao, String nomeArquivo, String etag, Path arquivo, long tamanho) {
+    
+    public boolean isArquivo() {
+        return arquivo != null;
+    }
+}
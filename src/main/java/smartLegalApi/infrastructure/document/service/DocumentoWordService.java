@@ -1,73 +1,58 @@
 package smartLegalApi.infrastructure.document.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.xwpf.usermodel.*;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.springframework.stereotype.Service;
 import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
 
 /**
- * Serviço para geração de documentos Word (.docx)
+ * Serviço para geração de documentos Word (.docx), a partir do modelo do tipo de petição
+ * e com a formatação dada pelos estilos nomeados do modelo
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class DocumentoWordService {
     
-    private static final String UPLOAD_DIR = "./uploads/peticoes";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final Pattern NOME_ARQUIVO_INVALIDO = Pattern.compile("[\\\\/:*?\"<>|\\p{Cntrl}]");
+    
+    private final ModelosDocumentoWord modelosDocumentoWord;
+    private final ArmazenamentoArquivos armazenamentoArquivos;
     
     /**
-     * Gera documento Word a partir da petição
+     * Gera documento Word a partir da petição e o grava no armazenamento de arquivos
      */
     public String gerarDocumento(Peticao peticao) {
         log.info("Gerando documento Word para petição ID: {}", peticao.getId());
         
         try {
-            // Cria o diretório se não existir
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            
-            // Nome do arquivo
-            String fileName = String.format(
-                "peticao_%d_%s.docx",
-                peticao.getId(),
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))
-            );
-            
-            String filePath = uploadPath.resolve(fileName).toString();
-            
-            // Cria o documento
-            try (XWPFDocument document = new XWPFDocument()) {
-                
-                // Título
-                criarTitulo(document, peticao.getTitulo());
-                
-                // Informações da petição
-                criarInformacoes(document, peticao);
-                
-                // Separador
-                criarSeparador(document);
-                
-                // Conteúdo da petição
-                criarConteudo(document, peticao.getConteudo());
-                
-                // Rodapé com data
-                criarRodape(document);
-                
-                // Salva o documento
-                try (FileOutputStream out = new FileOutputStream(filePath)) {
-                    document.write(out);
-                }
-            }
+            String filePath = armazenamentoArquivos.gravar(out -> escreverDocumento(peticao, out)).caminho().toString();
             
             log.info("Documento gerado com sucesso: {}", filePath);
             return filePath;
@@ -78,18 +63,179 @@ public class DocumentoWordService {
         }
     }
     
+    /**
+     * Grava o documento em um arquivo temporário no mesmo diretório e o renomeia para o destino,
+     * para que um arquivo incompleto nunca seja visto com o nome final
+     */
+    public void gravarDocumento(Peticao peticao, Path destino) throws IOException {
+        Files.createDirectories(destino.toAbsolutePath().getParent());
+        Path temporario = Files.createTempFile(destino.toAbsolutePath().getParent(), "peticao_", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporario)) {
+                escreverDocumento(peticao, out);
+            }
+            mover(temporario, destino);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+    
+    /**
+     * Move um documento já gerado (pré-renderizado) para o armazenamento de arquivos, como se
+     * tivesse sido gerado por {@link #gerarDocumento}
+     */
+    public String adotarDocumento(Peticao peticao, Path arquivo) {
+        try {
+            String destino = armazenamentoArquivos.importar(arquivo).caminho().toString();
+            
+            log.info("Documento pré-renderizado da petição ID: {} adotado: {}", peticao.getId(), destino);
+            return destino;
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao adotar documento: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Chave do documento pelo que muda entre a aprovação e o protocolo (tipo, título, conteúdo e
+     * a marca de geração com IA); documentos de chaves iguais diferem apenas na hora da geração
+     */
+    public String chaveDocumento(Peticao peticao) {
+        MessageDigest digest = sha256();
+        for (Object campo : new Object[] {
+            peticao.getTipo(), peticao.getTitulo(), peticao.getConteudoGeradoIA() != null, peticao.getConteudo()
+        }) {
+            digest.update(String.valueOf(campo).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    /**
+     * Monta o documento Word da petição e o escreve no stream informado (arquivo ou resposta
+     * HTTP), sem arquivo temporário. O stream não é fechado
+     */
+    public void escreverDocumento(Peticao peticao, OutputStream out) throws IOException {
+        try (XWPFDocument document = modelosDocumentoWord.novoDocumento(peticao.getTipo())) {
+            
+            // Título
+            criarTitulo(document, peticao.getTitulo());
+            
+            // Informações da petição
+            criarInformacoes(document, peticao);
+            
+            // Separador
+            criarSeparador(document);
+            
+            // Conteúdo da petição
+            criarConteudo(document, peticao.getConteudo());
+            
+            // Rodapé com data
+            criarRodape(document);
+            
+            document.write(out);
+        }
+    }
+    
+    /**
+     * Documento da petição para download: o arquivo gravado no protocolo, com ETag forte pelo
+     * hash do conteúdo, ou, se ainda não houver arquivo, o documento a ser gerado na resposta,
+     * com ETag fraca pelo hash dos dados que o compõem (o rodapé traz a hora da geração)
+     */
+    public DocumentoPeticao abrirDocumento(Peticao peticao) {
+        String nomeArquivo = nomeArquivo(peticao);
+        
+        if (peticao.getCaminhoDocumento() != null) {
+            Path arquivo = Paths.get(peticao.getCaminhoDocumento());
+            if (Files.isRegularFile(arquivo)) {
+                try {
+                    // No armazenamento, o nome do arquivo já é o hash do conteúdo
+                    String hash = armazenamentoArquivos.hash(peticao.getCaminhoDocumento()).orElse(null);
+                    if (hash == null) {
+                        hash = hashArquivo(arquivo);
+                    }
+                    return new DocumentoPeticao(peticao, nomeArquivo, "\"" + hash + "\"", arquivo, Files.size(arquivo));
+                } catch (IOException e) {
+                    throw new RuntimeException("Erro ao ler documento: " + e.getMessage(), e);
+                }
+            }
+            log.warn("Documento da petição ID: {} não encontrado em {}. Gerando na resposta",
+                peticao.getId(), peticao.getCaminhoDocumento());
+        }
+        
+        return new DocumentoPeticao(peticao, nomeArquivo, "W/\"" + hashDados(peticao) + "\"", null, -1);
+    }
+    
+    /**
+     * Copia um trecho do arquivo para o stream com FileChannel.transferTo, sem carregá-lo em memória
+     */
+    public void copiarArquivo(Path arquivo, long inicio, long tamanho, OutputStream out) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            WritableByteChannel destino = Channels.newChannel(out);
+            long posicao = inicio;
+            long restante = tamanho;
+            while (restante > 0) {
+                long copiados = canal.transferTo(posicao, restante, destino);
+                if (copiados <= 0) {
+                    throw new IOException("Arquivo terminou antes do esperado: " + arquivo);
+                }
+                posicao += copiados;
+                restante -= copiados;
+            }
+        }
+    }
+    
+    private static void mover(Path origem, Path destino) throws IOException {
+        try {
+            Files.move(origem, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Diretórios em sistemas de arquivos diferentes
+            Files.move(origem, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private String nomeArquivo(Peticao peticao) {
+        String titulo = peticao.getTitulo() == null
+            ? ""
+            : NOME_ARQUIVO_INVALIDO.matcher(peticao.getTitulo()).replaceAll("").trim();
+        return (titulo.isEmpty() ? "peticao_" + peticao.getId() : titulo) + ".docx";
+    }
+    
+    private static String hashArquivo(Path arquivo) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(arquivo), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    /**
+     * Hash de tudo o que aparece no documento, exceto a hora da geração
+     */
+    private static String hashDados(Peticao peticao) {
+        MessageDigest digest = sha256();
+        for (Object campo : new Object[] {
+            peticao.getId(), peticao.getTitulo(), peticao.getTipo(), peticao.getStatus(),
+            peticao.getDataCriacao(), peticao.getConteudoGeradoIA() != null, peticao.getConteudo()
+        }) {
+            digest.update(String.valueOf(campo).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+    
     /**
      * Cria o título do documento
      */
     private void criarTitulo(XWPFDocument document, String titulo) {
-        XWPFParagraph paragraph = document.createParagraph();
-        paragraph.setAlignment(ParagraphAlignment.CENTER);
-        
-        XWPFRun run = paragraph.createRun();
-        run.setText(titulo.toUpperCase());
-        run.setBold(true);
-        run.setFontSize(16);
-        run.setFontFamily("Arial");
+        criarParagrafo(document, ModelosDocumentoWord.ESTILO_TITULO, titulo.toUpperCase());
         
         // Espaço após o título
         document.createParagraph();
@@ -100,10 +246,9 @@ public class DocumentoWordService {
      */
     private void criarInformacoes(XWPFDocument document, Peticao peticao) {
         XWPFParagraph paragraph = document.createParagraph();
+        paragraph.setStyle(ModelosDocumentoWord.ESTILO_INFORMACOES);
         
         XWPFRun run = paragraph.createRun();
-        run.setFontSize(10);
-        run.setFontFamily("Arial");
         run.setText("Tipo: " + peticao.getTipo().getDescricao());
         run.addBreak();
         run.setText("Status: " + peticao.getStatus().getDescricao());
@@ -112,8 +257,9 @@ public class DocumentoWordService {
         
         if (peticao.getConteudoGeradoIA() != null) {
             run.addBreak();
-            run.setText("✨ Gerado com IA");
-            run.setItalic(true);
+            XWPFRun ia = paragraph.createRun();
+            ia.setText("✨ Gerado com IA");
+            ia.setItalic(true);
         }
     }
     
@@ -121,12 +267,7 @@ public class DocumentoWordService {
      * Cria separador visual
      */
     private void criarSeparador(XWPFDocument document) {
-        XWPFParagraph separator = document.createParagraph();
-        separator.setAlignment(ParagraphAlignment.CENTER);
-        
-        XWPFRun run = separator.createRun();
-        run.setText("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        run.setColor("CCCCCC");
+        criarParagrafo(document, ModelosDocumentoWord.ESTILO_SEPARADOR, "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         
         document.createParagraph();
     }
@@ -136,30 +277,12 @@ public class DocumentoWordService {
      */
     private void criarConteudo(XWPFDocument document, String conteudo) {
         if (conteudo == null || conteudo.isBlank()) {
-            XWPFParagraph paragraph = document.createParagraph();
-            XWPFRun run = paragraph.createRun();
-            run.setText("[Conteúdo não disponível]");
-            run.setItalic(true);
-            run.setColor("999999");
+            criarParagrafo(document, ModelosDocumentoWord.ESTILO_SEM_CONTEUDO, "[Conteúdo não disponível]");
             return;
         }
         
-        // Divide o conteúdo em parágrafos
-        String[] paragrafos = conteudo.split("\n\n");
-        
-        for (String paragrafoTexto : paragrafos) {
-            if (paragrafoTexto.trim().isEmpty()) continue;
-            
-            XWPFParagraph paragraph = document.createParagraph();
-            paragraph.setAlignment(ParagraphAlignment.BOTH);
-            paragraph.setSpacingBefore(200);
-            paragraph.setSpacingAfter(200);
-            
-            XWPFRun run = paragraph.createRun();
-            run.setFontSize(12);
-            run.setFontFamily("Times New Roman");
-            run.setText(paragrafoTexto.trim());
-        }
+        // Seções, listas e ênfase do markdown viram estilos e numeração do Word
+        new ConversorMarkdownWord(document).converter(conteudo);
     }
     
     /**
@@ -169,21 +292,26 @@ public class DocumentoWordService {
         document.createParagraph();
         document.createParagraph();
         
+        criarParagrafo(document, ModelosDocumentoWord.ESTILO_RODAPE,
+            "Documento gerado em: " + LocalDateTime.now().format(DATE_FORMATTER));
+    }
+    
+    private static void criarParagrafo(XWPFDocument document, String estilo, String texto) {
         XWPFParagraph paragraph = document.createParagraph();
-        paragraph.setAlignment(ParagraphAlignment.RIGHT);
-        
-        XWPFRun run = paragraph.createRun();
-        run.setFontSize(10);
-        run.setFontFamily("Arial");
-        run.setText("Documento gerado em: " + LocalDateTime.now().format(DATE_FORMATTER));
-        run.setItalic(true);
-        run.setColor("666666");
+        paragraph.setStyle(estilo);
+        paragraph.createRun().setText(texto);
     }
     
     /**
-     * Exclui documento do sistema de arquivos
+     * Exclui documento do sistema de arquivos: no armazenamento, remove a referência da petição
+     * (o arquivo sai na coleta, se nada mais o referenciar); fora dele, exclui o arquivo
      */
     public void excluirDocumento(String caminhoDocumento) {
+        if (armazenamentoArquivos.liberar(caminhoDocumento)) {
+            log.info("Documento liberado: {}", caminhoDocumento);
+            return;
+        }
+        
         try {
             Path path = Paths.get(caminhoDocumento);
             if (Files.exists(path)) {
@@ -0,0 +1,180 @@
+package smartLegalApi.infrastructure.document.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFStyle;
+import org.apache.poi.xwpf.usermodel.XWPFStyles;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTFonts;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPPrGeneral;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTRPr;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTSpacing;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTStyle;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTStyles;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STJc;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STStyleType;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Modelos Word por tipo de petição, lidos uma vez na inicialização.
+ *
+ * Cada arquivo de modelo é aberto, completado com os estilos nomeados que o documento da
+ * petição usa (os que o arquivo já define são mantidos, permitindo ajustar fonte e espaçamento
+ * no próprio Word) e guardado serializado; um novo documento é uma cópia do pacote, com timbre,
+ * estilos e numeração prontos, em vez de formatar run a run.
+ *
+ * Tipos sem arquivo usam o modelo padrão, que só tem estilos: o documento é criado vazio e
+ * recebe uma cópia da parte de estilos em cache, sem abrir e descompactar um pacote a cada vez.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ModelosDocumentoWord {
+    
+    public static final String ESTILO_TITULO = "TituloPeticao";
+    public static final String ESTILO_INFORMACOES = "InformacoesPeticao";
+    public static final String ESTILO_SEPARADOR = "SeparadorPeticao";
+    public static final String ESTILO_CORPO = "CorpoPeticao";
+    public static final String ESTILO_SECAO = "SecaoPeticao";
+    public static final String ESTILO_SUBSECAO = "SubsecaoPeticao";
+    public static final String ESTILO_ITEM_LISTA = "ItemListaPeticao";
+    public static final String ESTILO_SEM_CONTEUDO = "SemConteudoPeticao";
+    public static final String ESTILO_RODAPE = "RodapePeticao";
+    
+    private final DocumentoProperties documentoProperties;
+    
+    /** Pacote serializado do modelo de cada tipo com arquivo próprio */
+    private final Map<TipoPeticao, byte[]> pacotes = new EnumMap<>(TipoPeticao.class);
+    private CTStyles estilosPadrao;
+    
+    @PostConstruct
+    public void inicializar() {
+        estilosPadrao = estilosPadrao();
+        
+        try {
+            DefaultResourceLoader loader = new DefaultResourceLoader();
+            String local = documentoProperties.getModelos().getLocal();
+            for (TipoPeticao tipo : TipoPeticao.values()) {
+                Resource recurso = loader.getResource(local + tipo.name().toLowerCase() + ".docx");
+                if (!recurso.exists()) {
+                    continue;
+                }
+                
+                try (InputStream in = recurso.getInputStream(); XWPFDocument modelo = new XWPFDocument(in)) {
+                    completarEstilos(modelo);
+                    pacotes.put(tipo, serializar(modelo));
+                }
+                log.info("Modelo Word de {} carregado de {}", tipo, recurso.getDescription());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao carregar os modelos Word: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Novo documento a partir do modelo do tipo de petição
+     */
+    public XWPFDocument novoDocumento(TipoPeticao tipo) throws IOException {
+        byte[] pacote = tipo != null ? pacotes.get(tipo) : null;
+        if (pacote != null) {
+            return new XWPFDocument(new ByteArrayInputStream(pacote));
+        }
+        
+        XWPFDocument documento = new XWPFDocument();
+        documento.createStyles().setStyles((CTStyles) estilosPadrao.copy());
+        return documento;
+    }
+    
+    /**
+     * Estilos do documento da petição no modelo padrão
+     */
+    private static CTStyles estilosPadrao() {
+        CTStyles estilos = CTStyles.Factory.newInstance();
+        
+        adicionarEstilo(estilos, ESTILO_TITULO, "Título da Petição", ParagraphAlignment.CENTER, 0,
+            "Arial", 16, true, false, null);
+        adicionarEstilo(estilos, ESTILO_INFORMACOES, "Informações da Petição", ParagraphAlignment.LEFT, 0,
+            "Arial", 10, false, false, null);
+        adicionarEstilo(estilos, ESTILO_SEPARADOR, "Separador da Petição", ParagraphAlignment.CENTER, 0,
+            "Arial", 11, false, false, "CCCCCC");
+        adicionarEstilo(estilos, ESTILO_CORPO, "Corpo da Petição", ParagraphAlignment.BOTH, 200,
+            "Times New Roman", 12, false, false, null);
+        adicionarEstilo(estilos, ESTILO_SECAO, "Seção da Petição", ParagraphAlignment.LEFT, 240,
+            "Times New Roman", 12, true, false, null);
+        adicionarEstilo(estilos, ESTILO_SUBSECAO, "Subseção da Petição", ParagraphAlignment.LEFT, 200,
+            "Times New Roman", 12, true, true, null);
+        adicionarEstilo(estilos, ESTILO_ITEM_LISTA, "Item de Lista da Petição", ParagraphAlignment.BOTH, 60,
+            "Times New Roman", 12, false, false, null);
+        adicionarEstilo(estilos, ESTILO_SEM_CONTEUDO, "Petição sem Conteúdo", ParagraphAlignment.LEFT, 0,
+            "Times New Roman", 12, false, true, "999999");
+        adicionarEstilo(estilos, ESTILO_RODAPE, "Rodapé da Petição", ParagraphAlignment.RIGHT, 0,
+            "Arial", 10, false, true, "666666");
+        return estilos;
+    }
+    
+    private static void adicionarEstilo(CTStyles estilos, String id, String nome, ParagraphAlignment alinhamento,
+                                        int espacamento, String fonte, int tamanho, boolean negrito,
+                                        boolean italico, String cor) {
+        CTStyle estilo = estilos.addNewStyle();
+        estilo.setStyleId(id);
+        estilo.setType(STStyleType.PARAGRAPH);
+        estilo.addNewName().setVal(nome);
+        estilo.addNewQFormat();
+        
+        CTPPrGeneral paragrafo = estilo.addNewPPr();
+        paragrafo.addNewJc().setVal(STJc.Enum.forInt(alinhamento.getValue()));
+        if (espacamento > 0) {
+            CTSpacing spacing = paragrafo.addNewSpacing();
+            spacing.setBefore(BigInteger.valueOf(espacamento));
+            spacing.setAfter(BigInteger.valueOf(espacamento));
+        }
+        
+        CTRPr texto = estilo.addNewRPr();
+        CTFonts fontes = texto.addNewRFonts();
+        fontes.setAscii(fonte);
+        fontes.setHAnsi(fonte);
+        fontes.setCs(fonte);
+        texto.addNewSz().setVal(BigInteger.valueOf(tamanho * 2L));
+        if (negrito) {
+            texto.addNewB();
+        }
+        if (italico) {
+            texto.addNewI();
+        }
+        if (cor != null) {
+            texto.addNewColor().setVal(cor);
+        }
+    }
+    
+    /**
+     * Acrescenta ao modelo os estilos do documento da petição que ele não define
+     */
+    private void completarEstilos(XWPFDocument modelo) {
+        XWPFStyles estilos = modelo.getStyles() != null ? modelo.getStyles() : modelo.createStyles();
+        for (CTStyle estilo : estilosPadrao.getStyleArray()) {
+            if (!estilos.styleExist(estilo.getStyleId())) {
+                estilos.addStyle(new XWPFStyle((CTStyle) estilo.copy(), estilos));
+            }
+        }
+    }
+    
+    private static byte[] serializar(XWPFDocument documento) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        documento.write(out);
+        return out.toByteArray();
+    }
+}
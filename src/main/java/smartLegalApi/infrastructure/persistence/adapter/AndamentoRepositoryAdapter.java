@@ -54,6 +54,13 @@ public class AndamentoRepositoryAdapter implements AndamentoRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Andamento> findByProcessoAposId(Long idProcesso, Long idAndamento) {
+        return jpaRepository.findByIdProcessoAndIdGreaterThanOrderByIdAsc(idProcesso, idAndamento).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -1,6 +1,7 @@
 package smartLegalApi.infrastructure.persistence.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import smartLegalApi.domain.cliente.entity.Cliente;
 import smartLegalApi.domain.cliente.repository.ClienteRepository;
@@ -9,6 +10,7 @@ import smartLegalApi.infrastructure.persistence.mapper.ClienteJpaMapper;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -62,6 +64,19 @@ public class ClienteRepositoryAdapter implements ClienteRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public void percorrerNomes(int tamanhoPagina, Consumer<String> consumidor) {
+        Long ultimoId = 0L;
+        List<ClienteJpaRepository.NomeCliente> pagina;
+        do {
+            pagina = jpaRepository.findNomesAposId(ultimoId, PageRequest.of(0, tamanhoPagina));
+            for (ClienteJpaRepository.NomeCliente nome : pagina) {
+                consumidor.accept(nome.getNomeCompleto());
+                ultimoId = nome.getId();
+            }
+        } while (pagina.size() == tamanhoPagina);
+    }
+    
     @Override
     public List<Cliente> findAll() {
         return jpaRepository.findAll()
@@ -0,0 +1,101 @@
+package smartLegalApi.infrastructure.persistence.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.infrastructure.persistence.jpa.repository.JobGeracaoIAJpaRepository;
+import smartLegalApi.infrastructure.persistence.mapper.JobGeracaoIAJpaMapper;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter do repositório de Jobs de geração com IA
+ */
+@Component
+@RequiredArgsConstructor
+public class JobGeracaoIARepositoryAdapter implements JobGeracaoIARepository {
+    
+    private static final Set<StatusJobGeracao> STATUS_ATIVOS =
+        EnumSet.of(StatusJobGeracao.PENDENTE, StatusJobGeracao.EXECUTANDO);
+    
+    private final JobGeracaoIAJpaRepository jpaRepository;
+    private final JobGeracaoIAJpaMapper mapper;
+    
+    @Override
+    public JobGeracaoIA save(JobGeracaoIA job) {
+        var jpaEntity = mapper.toJpaEntity(job);
+        var saved = jpaRepository.save(jpaEntity);
+        return mapper.toDomain(saved);
+    }
+    
+    @Override
+    public JobGeracaoIA update(JobGeracaoIA job) {
+        var jpaEntity = mapper.toJpaEntity(job);
+        var updated = jpaRepository.save(jpaEntity);
+        return mapper.toDomain(updated);
+    }
+    
+    @Override
+    public Optional<JobGeracaoIA> findById(Long id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+    
+    @Override
+    public Optional<JobGeracaoIA> findByIdComTrava(Long id) {
+        return jpaRepository.findComTravaById(id).map(mapper::toDomain);
+    }
+    
+    @Override
+    public List<JobGeracaoIA> findByStatus(StatusJobGeracao status) {
+        return jpaRepository.findByStatusOrderByDataCriacaoAsc(status).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<JobGeracaoIA> findExecutandoComHeartbeatAnterior(LocalDateTime limite) {
+        return jpaRepository.findByStatusAndDataHeartbeatBeforeOrderByDataCriacaoAsc(StatusJobGeracao.EXECUTANDO, limite).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public int renovarHeartbeat(Collection<Long> ids, String instancia, LocalDateTime agora) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.renovarHeartbeat(ids, instancia, StatusJobGeracao.EXECUTANDO, agora);
+    }
+    
+    @Override
+    public List<JobGeracaoIA> findByLote(String idLote) {
+        return jpaRepository.findByIdLoteOrderByIdAsc(idLote).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<JobGeracaoIA> findByLoteAndStatus(String idLote, StatusJobGeracao status) {
+        return jpaRepository.findByIdLoteAndStatusOrderByIdAsc(idLote, status).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public long countAtivos() {
+        return jpaRepository.countByStatusIn(STATUS_ATIVOS);
+    }
+    
+    @Override
+    public boolean existsAtivoPorPeticao(Long idPeticao) {
+        return jpaRepository.existsByIdPeticaoAndStatusIn(idPeticao, STATUS_ATIVOS);
+    }
+}
@@ -0,0 +1,57 @@
+package smartLegalApi.infrastructure.persistence.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.repository.ModeloPeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.persistence.jpa.repository.ModeloPeticaoJpaRepository;
+import smartLegalApi.infrastructure.persistence.mapper.ModeloPeticaoJpaMapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter do repositório de Modelo de Petição
+ */
+@Component
+@RequiredArgsConstructor
+public class ModeloPeticaoRepositoryAdapter implements ModeloPeticaoRepository {
+    
+    private final ModeloPeticaoJpaRepository jpaRepository;
+    private final ModeloPeticaoJpaMapper mapper;
+    
+    @Override
+    public ModeloPeticao save(ModeloPeticao modelo) {
+        var jpaEntity = mapper.toJpaEntity(modelo);
+        var saved = jpaRepository.save(jpaEntity);
+        return mapper.toDomain(saved);
+    }
+    
+    @Override
+    public ModeloPeticao update(ModeloPeticao modelo) {
+        var jpaEntity = mapper.toJpaEntity(modelo);
+        var updated = jpaRepository.save(jpaEntity);
+        return mapper.toDomain(updated);
+    }
+    
+    @Override
+    public Optional<ModeloPeticao> findById(Long id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+    
+    @Override
+    public List<ModeloPeticao> findAtivos() {
+        return jpaRepository.findByAtivoTrueOrderByTipoAscNomeAsc().stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<ModeloPeticao> findAtivosByTipo(TipoPeticao tipo) {
+        return jpaRepository.findByTipoAndAtivoTrueOrderByNomeAsc(tipo).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+}
@@ -9,6 +9,7 @@ import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
 import smartLegalApi.infrastructure.persistence.jpa.repository.PeticaoJpaRepository;
 import smartLegalApi.infrastructure.persistence.mapper.PeticaoJpaMapper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -42,6 +43,18 @@ public class PeticaoRepositoryAdapter implements PeticaoRepository {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
     
+    @Override
+    public Optional<Peticao> findByIdComTrava(Long id) {
+        return jpaRepository.findComTravaById(id).map(mapper::toDomain);
+    }
+    
+    @Override
+    public List<Peticao> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     public List<Peticao> findAll() {
         return jpaRepository.findAll().stream()
@@ -70,6 +83,13 @@ public class PeticaoRepositoryAdapter implements PeticaoRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Peticao> findByStatus(StatusPeticao status) {
+        return jpaRepository.findByStatus(status).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     public List<Peticao> findByProcessoAndTipo(Long idProcesso, TipoPeticao tipo) {
         return jpaRepository.findByIdProcessoAndTipo(idProcesso, tipo).stream()
@@ -77,6 +97,19 @@ public class PeticaoRepositoryAdapter implements PeticaoRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Peticao> findProtocoloPendente() {
+        return jpaRepository.findByStatusAndDataSolicitacaoProtocoloIsNotNullOrderByDataSolicitacaoProtocolo(
+                StatusPeticao.APROVADA).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public long countProtocoloPendente() {
+        return jpaRepository.countByStatusAndDataSolicitacaoProtocoloIsNotNull(StatusPeticao.APROVADA);
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -0,0 +1,84 @@
+package smartLegalApi.infrastructure.persistence.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
+import smartLegalApi.infrastructure.persistence.jpa.repository.ResumoProcessoJpaRepository;
+import smartLegalApi.infrastructure.persistence.mapper.ResumoProcessoJpaMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter do repositório de Resumo do Processo
+ */
+@Component
+@RequiredArgsConstructor
+public class ResumoProcessoRepositoryAdapter implements ResumoProcessoRepository {
+    
+    private final ResumoProcessoJpaRepository jpaRepository;
+    private final ResumoProcessoJpaMapper mapper;
+    
+    @Override
+    public ResumoProcesso save(ResumoProcesso resumo) {
+        var jpaEntity = mapper.toJpaEntity(resumo);
+        var saved = jpaRepository.save(jpaEntity);
+        return mapper.toDomain(saved);
+    }
+    
+    @Override
+    public boolean criarSeAusente(ResumoProcesso resumo) {
+        return jpaRepository.inserirSeAusente(
+            resumo.getIdProcesso(),
+            resumo.getIdUltimoAndamento(),
+            resumo.getAndamentosResumidos(),
+            resumo.getDesatualizado(),
+            resumo.getReconstruir(),
+            resumo.getVersao(),
+            resumo.getDataCriacao()
+        ) > 0;
+    }
+    
+    @Override
+    public Optional<ResumoProcesso> findByProcesso(Long idProcesso) {
+        return jpaRepository.findByIdProcesso(idProcesso).map(mapper::toDomain);
+    }
+    
+    @Override
+    public Optional<ResumoProcesso> findByProcessoComTrava(Long idProcesso) {
+        return jpaRepository.findComTravaByIdProcesso(idProcesso).map(mapper::toDomain);
+    }
+    
+    @Override
+    public List<ResumoProcesso> findDesatualizados() {
+        return jpaRepository.findByDesatualizadoTrue().stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public boolean marcarDesatualizado(Long idProcesso) {
+        return jpaRepository.marcarDesatualizado(idProcesso) > 0;
+    }
+    
+    @Override
+    public boolean marcarAlteracao(Long idProcesso, Long idAndamento) {
+        jpaRepository.marcarReconstrucao(idProcesso, idAndamento);
+        return jpaRepository.marcarDesatualizado(idProcesso) > 0;
+    }
+    
+    @Override
+    public boolean concluirAtualizacao(ResumoProcesso resumo, Long versaoLida) {
+        return jpaRepository.concluirAtualizacao(
+            resumo.getIdProcesso(),
+            resumo.getTexto(),
+            resumo.getIdUltimoAndamento(),
+            resumo.getAndamentosResumidos(),
+            versaoLida,
+            LocalDateTime.now()
+        ) > 0;
+    }
+}
@@ -0,0 +1,40 @@
+package smartLegalApi.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para as referências aos arquivos do armazenamento endereçado pelo conteúdo
+ * A chave é o SHA-256 (hex) do conteúdo do arquivo
+ */
+@Entity
+@Table(name = "arquivos_armazenados", indexes = {
+    @Index(name = "idx_arquivos_sem_referencias", columnList = "referencias, data_atualizacao")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArquivoArmazenadoJpaEntity {
+    
+    @Id
+    @Column(length = 64)
+    private String hash;
+    
+    @Column(name = "tamanho_bytes", nullable = false)
+    private Long tamanhoBytes;
+    
+    @Column(nullable = false)
+    private Integer referencias;
+    
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+}
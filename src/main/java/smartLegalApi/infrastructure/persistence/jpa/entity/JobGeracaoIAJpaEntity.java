@@ -0,0 +1,76 @@
+package smartLegalApi.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para Job de geração com IA
+ */
+@Entity
+@Table(name = "jobs_geracao_ia", indexes = {
+    @Index(name = "idx_job_geracao_status", columnList = "status, data_criacao"),
+    @Index(name = "idx_job_geracao_peticao", columnList = "id_peticao"),
+    @Index(name = "idx_job_geracao_lote", columnList = "id_lote"),
+    @Index(name = "idx_job_geracao_heartbeat", columnList = "status, data_heartbeat")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobGeracaoIAJpaEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "id_lote", length = 36)
+    private String idLote;
+    
+    @Column(name = "id_peticao", nullable = false)
+    private Long idPeticao;
+    
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String contexto;
+    
+    @Column(name = "detalhes_adicionais", columnDefinition = "TEXT")
+    private String detalhesAdicionais;
+    
+    @Column(name = "ignorar_cache", nullable = false)
+    private Boolean ignorarCache;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "nivel_latencia", nullable = false, length = 20)
+    private NivelLatencia nivelLatencia;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusJobGeracao status;
+    
+    @Column(nullable = false)
+    private Integer tentativas;
+    
+    @Column(length = 64)
+    private String instancia;
+    
+    @Column(name = "mensagem_erro", length = 500)
+    private String mensagemErro;
+    
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_inicio")
+    private LocalDateTime dataInicio;
+    
+    @Column(name = "data_heartbeat")
+    private LocalDateTime dataHeartbeat;
+    
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+}
@@ -0,0 +1,47 @@
+package smartLegalApi.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para modelo de petição
+ */
+@Entity
+@Table(name = "modelos_peticao", indexes = {
+    @Index(name = "idx_modelo_peticao_tipo", columnList = "tipo, ativo")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModeloPeticaoJpaEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private TipoPeticao tipo;
+    
+    @Column(nullable = false, length = 150)
+    private String nome;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String conteudo;
+    
+    @Column(nullable = false)
+    private Boolean ativo;
+    
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+}
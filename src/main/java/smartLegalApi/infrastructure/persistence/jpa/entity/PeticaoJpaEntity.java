@@ -62,6 +62,9 @@ public class PeticaoJpaEntity {
     @Column(name = "caminho_documento", length = 255)
     private String caminhoDocumento;
     
+    @Column(name = "citacoes_invalidas")
+    private Integer citacoesInvalidas;
+    
     @CreationTimestamp
     @Column(name = "data_criacao", nullable = false, updatable = false)
     private LocalDateTime dataCriacao;
@@ -70,6 +73,13 @@ public class PeticaoJpaEntity {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
     
+    @Column(name = "data_solicitacao_protocolo")
+    private LocalDateTime dataSolicitacaoProtocolo;
+    
+    @Column(name = "tentativas_protocolo", nullable = false)
+    @Builder.Default
+    private Integer tentativasProtocolo = 0;
+    
     @Column(name = "data_protocolo")
     private LocalDateTime dataProtocolo;
 }
@@ -0,0 +1,40 @@
+package smartLegalApi.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para o cache persistente de respostas da IA
+ * A chave é o SHA-256 (hex) de modelo, temperatura, maxTokens e prompt
+ */
+@Entity
+@Table(name = "cache_respostas_ia", indexes = {
+    @Index(name = "idx_cache_ia_expiracao", columnList = "data_expiracao")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RespostaIACacheJpaEntity {
+    
+    @Id
+    @Column(length = 64)
+    private String chave;
+    
+    @Column(nullable = false, length = 100)
+    private String modelo;
+    
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String conteudo;
+    
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_expiracao", nullable = false)
+    private LocalDateTime dataExpiracao;
+}
@@ -0,0 +1,54 @@
+package smartLegalApi.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para o resumo do processo gerado com IA
+ */
+@Entity
+@Table(name = "resumo_processo", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_resumo_processo", columnNames = {"id_processo"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoProcessoJpaEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "id_processo", nullable = false)
+    private Long idProcesso;
+    
+    @Column(columnDefinition = "TEXT")
+    private String texto;
+    
+    @Column(name = "id_ultimo_andamento", nullable = false)
+    private Long idUltimoAndamento;
+    
+    @Column(name = "andamentos_resumidos", nullable = false)
+    private Integer andamentosResumidos;
+    
+    @Column(nullable = false)
+    private Boolean desatualizado;
+    
+    @Column(nullable = false)
+    private Boolean reconstruir;
+    
+    @Column(nullable = false)
+    private Long versao;
+    
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+}
@@ -0,0 +1,46 @@
+package smartLegalApi.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para o consumo diário da IA por advogado
+ */
+@Entity
+@Table(name = "uso_ia_advogado", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_uso_ia_advogado_data", columnNames = {"id_advogado", "data"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsoIAAdvogadoJpaEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "id_advogado", nullable = false)
+    private Long idAdvogado;
+    
+    @Column(nullable = false)
+    private LocalDate data;
+    
+    @Column(nullable = false)
+    private Long requisicoes;
+    
+    @Column(name = "tokens_entrada", nullable = false)
+    private Long tokensEntrada;
+    
+    @Column(name = "tokens_saida", nullable = false)
+    private Long tokensSaida;
+    
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+}
@@ -17,5 +17,7 @@ public interface AndamentoJpaRepository extends JpaRepository<AndamentoJpaEntity
     
     @Query("SELECT a FROM AndamentoJpaEntity a WHERE a.idProcesso = :idProcesso ORDER BY a.dataAndamento DESC")
     List<AndamentoJpaEntity> findByProcessoOrdenadoPorData(Long idProcesso);
+    
+    List<AndamentoJpaEntity> findByIdProcessoAndIdGreaterThanOrderByIdAsc(Long idProcesso, Long id);
 }
 
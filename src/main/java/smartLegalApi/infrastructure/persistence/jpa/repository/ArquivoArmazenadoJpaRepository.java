@@ -0,0 +1,65 @@
+package smartLegalApi.infrastructure.persistence.jpa.repository;
+
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.infrastructure.persistence.jpa.entity.ArquivoArmazenadoJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para a contagem de referências dos arquivos armazenados
+ */
+@Repository
+public interface ArquivoArmazenadoJpaRepository extends JpaRepository<ArquivoArmazenadoJpaEntity, String> {
+    
+    /**
+     * Cria o registro com uma referência ou soma uma ao existente, em um único comando
+     * (sem corrida entre consulta e inserção). Sempre em transação própria: chamado sob a trava
+     * do hash, não pode deixar a linha bloqueada (nem sujeita a rollback) depois dela
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO arquivos_armazenados (hash, tamanho_bytes, referencias, data_criacao, data_atualizacao) " +
+                   "VALUES (:hash, :tamanho, 1, :agora, :agora) " +
+                   "ON DUPLICATE KEY UPDATE referencias = referencias + 1, data_atualizacao = :agora",
+           nativeQuery = true)
+    int adicionarReferencia(@Param("hash") String hash,
+                            @Param("tamanho") long tamanho,
+                            @Param("agora") LocalDateTime agora);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE ArquivoArmazenadoJpaEntity a SET a.referencias = a.referencias - 1, a.dataAtualizacao = :agora " +
+           "WHERE a.hash = :hash AND a.referencias > 0")
+    int removerReferencia(@Param("hash") String hash, @Param("agora") LocalDateTime agora);
+    
+    @Query("SELECT a.hash FROM ArquivoArmazenadoJpaEntity a WHERE a.referencias = 0 AND a.dataAtualizacao < :limite")
+    List<String> findHashesSemReferencias(@Param("limite") LocalDateTime limite, Pageable pageable);
+    
+    /**
+     * Registro do hash, se continuar sem referências, travado até o fim da transação
+     * (SELECT ... FOR UPDATE): adicionarReferencia, em qualquer instância, espera o commit
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ArquivoArmazenadoJpaEntity a WHERE a.hash = :hash AND a.referencias = 0")
+    Optional<ArquivoArmazenadoJpaEntity> findSemReferenciasComTrava(@Param("hash") String hash);
+    
+    /**
+     * Exclui o registro somente se continuar sem referências; retorna 0 se ganhou uma nesse meio tempo.
+     * Na transação da coleta, que já trava a linha com findSemReferenciasComTrava
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArquivoArmazenadoJpaEntity a WHERE a.hash = :hash AND a.referencias = 0")
+    int deleteSemReferencias(@Param("hash") String hash);
+}
@@ -1,7 +1,9 @@
 package smartLegalApi.infrastructure.persistence.jpa.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import smartLegalApi.infrastructure.persistence.jpa.entity.ClienteJpaEntity;
 
@@ -24,5 +26,17 @@ public interface ClienteJpaRepository extends JpaRepository<ClienteJpaEntity, Lo
     
     @Query("SELECT c FROM ClienteJpaEntity c WHERE c.ativo = true ORDER BY c.nomeCompleto ASC")
     List<ClienteJpaEntity> findAllAtivosOrdenados();
+    
+    /**
+     * Página de nomes a partir do ID informado (paginação por chave, sem OFFSET)
+     */
+    @Query("SELECT c.id AS id, c.nomeCompleto AS nomeCompleto FROM ClienteJpaEntity c " +
+           "WHERE c.id > :idApos ORDER BY c.id ASC")
+    List<NomeCliente> findNomesAposId(@Param("idApos") Long idApos, Pageable pageable);
+    
+    interface NomeCliente {
+        Long getId();
+        String getNomeCompleto();
+    }
 }
 
@@ -0,0 +1,55 @@
+package smartLegalApi.infrastructure.persistence.jpa.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.infrastructure.persistence.jpa.entity.JobGeracaoIAJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para Job de geração com IA
+ */
+@Repository
+public interface JobGeracaoIAJpaRepository extends JpaRepository<JobGeracaoIAJpaEntity, Long> {
+    
+    List<JobGeracaoIAJpaEntity> findByStatusOrderByDataCriacaoAsc(StatusJobGeracao status);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM JobGeracaoIAJpaEntity j WHERE j.id = :id")
+    Optional<JobGeracaoIAJpaEntity> findComTravaById(@Param("id") Long id);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<JobGeracaoIAJpaEntity> findByStatusAndDataHeartbeatBeforeOrderByDataCriacaoAsc(
+        StatusJobGeracao status, LocalDateTime limite);
+    
+    /**
+     * Só renova jobs ainda em execução pela própria instância: um job cancelado, finalizado
+     * ou recuperado por outra instância não volta a ter o lease estendido
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobGeracaoIAJpaEntity j SET j.dataHeartbeat = :agora " +
+           "WHERE j.id IN :ids AND j.instancia = :instancia AND j.status = :status")
+    int renovarHeartbeat(@Param("ids") Collection<Long> ids,
+                         @Param("instancia") String instancia,
+                         @Param("status") StatusJobGeracao status,
+                         @Param("agora") LocalDateTime agora);
+    
+    List<JobGeracaoIAJpaEntity> findByIdLoteOrderByIdAsc(String idLote);
+    
+    List<JobGeracaoIAJpaEntity> findByIdLoteAndStatusOrderByIdAsc(String idLote, StatusJobGeracao status);
+    
+    long countByStatusIn(Collection<StatusJobGeracao> status);
+    
+    boolean existsByIdPeticaoAndStatusIn(Long idPeticao, Collection<StatusJobGeracao> status);
+}
@@ -0,0 +1,19 @@
+package smartLegalApi.infrastructure.persistence.jpa.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.persistence.jpa.entity.ModeloPeticaoJpaEntity;
+
+import java.util.List;
+
+/**
+ * Repository JPA para ModeloPeticaoJpaEntity
+ */
+@Repository
+public interface ModeloPeticaoJpaRepository extends JpaRepository<ModeloPeticaoJpaEntity, Long> {
+    
+    List<ModeloPeticaoJpaEntity> findByAtivoTrueOrderByTipoAscNomeAsc();
+    
+    List<ModeloPeticaoJpaEntity> findByTipoAndAtivoTrueOrderByNomeAsc(TipoPeticao tipo);
+}
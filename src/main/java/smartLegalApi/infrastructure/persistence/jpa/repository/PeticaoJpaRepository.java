@@ -1,6 +1,8 @@
 package smartLegalApi.infrastructure.persistence.jpa.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
@@ -8,6 +10,7 @@ import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
 import smartLegalApi.infrastructure.persistence.jpa.entity.PeticaoJpaEntity;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositório JPA para Petição
@@ -15,14 +18,25 @@ import java.util.List;
 @Repository
 public interface PeticaoJpaRepository extends JpaRepository<PeticaoJpaEntity, Long> {
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PeticaoJpaEntity p WHERE p.id = :id")
+    Optional<PeticaoJpaEntity> findComTravaById(Long id);
+    
     List<PeticaoJpaEntity> findByIdProcesso(Long idProcesso);
     
     List<PeticaoJpaEntity> findByIdAdvogado(Long idAdvogado);
     
     List<PeticaoJpaEntity> findByIdAdvogadoAndStatus(Long idAdvogado, StatusPeticao status);
     
+    List<PeticaoJpaEntity> findByStatus(StatusPeticao status);
+    
     List<PeticaoJpaEntity> findByIdProcessoAndTipo(Long idProcesso, TipoPeticao tipo);
     
+    List<PeticaoJpaEntity> findByStatusAndDataSolicitacaoProtocoloIsNotNullOrderByDataSolicitacaoProtocolo(
+        StatusPeticao status);
+    
+    long countByStatusAndDataSolicitacaoProtocoloIsNotNull(StatusPeticao status);
+    
     @Query("SELECT p FROM PeticaoJpaEntity p WHERE p.idAdvogado = :idAdvogado ORDER BY p.dataCriacao DESC")
     List<PeticaoJpaEntity> findByAdvogadoOrdenadoPorData(Long idAdvogado);
     
@@ -0,0 +1,26 @@
+package smartLegalApi.infrastructure.persistence.jpa.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.infrastructure.persistence.jpa.entity.RespostaIACacheJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para o cache persistente de respostas da IA
+ */
+@Repository
+public interface RespostaIACacheJpaRepository extends JpaRepository<RespostaIACacheJpaEntity, String> {
+    
+    Optional<RespostaIACacheJpaEntity> findByChaveAndDataExpiracaoAfter(String chave, LocalDateTime agora);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RespostaIACacheJpaEntity c WHERE c.dataExpiracao <= :agora")
+    int deleteExpirados(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,74 @@
+package smartLegalApi.infrastructure.persistence.jpa.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.infrastructure.persistence.jpa.entity.ResumoProcessoJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para o resumo do processo
+ */
+@Repository
+public interface ResumoProcessoJpaRepository extends JpaRepository<ResumoProcessoJpaEntity, Long> {
+    
+    Optional<ResumoProcessoJpaEntity> findByIdProcesso(Long idProcesso);
+    
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT r FROM ResumoProcessoJpaEntity r WHERE r.idProcesso = :idProcesso")
+    Optional<ResumoProcessoJpaEntity> findComTravaByIdProcesso(@Param("idProcesso") Long idProcesso);
+    
+    /**
+     * Insere o resumo; se uk_resumo_processo já existir, não faz nada e retorna 0
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO resumo_processo (id_processo, id_ultimo_andamento, andamentos_resumidos, " +
+                   "desatualizado, reconstruir, versao, data_criacao) " +
+                   "VALUES (:idProcesso, :idUltimoAndamento, :andamentosResumidos, :desatualizado, :reconstruir, :versao, :dataCriacao)",
+           nativeQuery = true)
+    int inserirSeAusente(@Param("idProcesso") Long idProcesso,
+                         @Param("idUltimoAndamento") Long idUltimoAndamento,
+                         @Param("andamentosResumidos") Integer andamentosResumidos,
+                         @Param("desatualizado") Boolean desatualizado,
+                         @Param("reconstruir") Boolean reconstruir,
+                         @Param("versao") Long versao,
+                         @Param("dataCriacao") LocalDateTime dataCriacao);
+    
+    List<ResumoProcessoJpaEntity> findByDesatualizadoTrue();
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE ResumoProcessoJpaEntity r SET r.desatualizado = true, r.versao = r.versao + 1 " +
+           "WHERE r.idProcesso = :idProcesso")
+    int marcarDesatualizado(@Param("idProcesso") Long idProcesso);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE ResumoProcessoJpaEntity r SET r.reconstruir = true " +
+           "WHERE r.idProcesso = :idProcesso AND r.idUltimoAndamento >= :idAndamento")
+    int marcarReconstrucao(@Param("idProcesso") Long idProcesso, @Param("idAndamento") Long idAndamento);
+    
+    /**
+     * Grava o resumo gerado somente se a versão não mudou desde a leitura
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ResumoProcessoJpaEntity r SET r.texto = :texto, r.idUltimoAndamento = :idUltimoAndamento, " +
+           "r.andamentosResumidos = :andamentosResumidos, r.desatualizado = false, r.reconstruir = false, " +
+           "r.dataAtualizacao = :agora WHERE r.idProcesso = :idProcesso AND r.versao = :versao")
+    int concluirAtualizacao(@Param("idProcesso") Long idProcesso,
+                            @Param("texto") String texto,
+                            @Param("idUltimoAndamento") Long idUltimoAndamento,
+                            @Param("andamentosResumidos") Integer andamentosResumidos,
+                            @Param("versao") Long versao,
+                            @Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,43 @@
+package smartLegalApi.infrastructure.persistence.jpa.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smartLegalApi.infrastructure.persistence.jpa.entity.UsoIAAdvogadoJpaEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para o consumo diário da IA por advogado
+ */
+@Repository
+public interface UsoIAAdvogadoJpaRepository extends JpaRepository<UsoIAAdvogadoJpaEntity, Long> {
+    
+    Optional<UsoIAAdvogadoJpaEntity> findByIdAdvogadoAndData(Long idAdvogado, LocalDate data);
+    
+    /**
+     * Soma o consumo ao registro do dia; retorna 0 se o registro ainda não existe
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UsoIAAdvogadoJpaEntity u SET u.requisicoes = u.requisicoes + :requisicoes, " +
+           "u.tokensEntrada = u.tokensEntrada + :tokensEntrada, u.tokensSaida = u.tokensSaida + :tokensSaida, " +
+           "u.dataAtualizacao = :agora WHERE u.idAdvogado = :idAdvogado AND u.data = :data")
+    int incrementar(@Param("idAdvogado") Long idAdvogado,
+                    @Param("data") LocalDate data,
+                    @Param("requisicoes") long requisicoes,
+                    @Param("tokensEntrada") long tokensEntrada,
+                    @Param("tokensSaida") long tokensSaida,
+                    @Param("agora") LocalDateTime agora);
+    
+    @Query("SELECT COALESCE(SUM(u.tokensEntrada + u.tokensSaida), 0) FROM UsoIAAdvogadoJpaEntity u " +
+           "WHERE u.idAdvogado = :idAdvogado AND u.data >= :inicio AND u.data < :fim")
+    long somarTokens(@Param("idAdvogado") Long idAdvogado,
+                     @Param("inicio") LocalDate inicio,
+                     @Param("fim") LocalDate fim);
+}
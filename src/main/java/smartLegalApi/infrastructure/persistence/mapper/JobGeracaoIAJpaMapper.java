@@ -0,0 +1,56 @@
+package smartLegalApi.infrastructure.persistence.mapper;
+
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.infrastructure.persistence.jpa.entity.JobGeracaoIAJpaEntity;
+
+/**
+ * Mapper entre Job de geração de domínio e JPA
+ */
+@Component
+public class JobGeracaoIAJpaMapper {
+    
+    public JobGeracaoIAJpaEntity toJpaEntity(JobGeracaoIA job) {
+        if (job == null) return null;
+        
+        return JobGeracaoIAJpaEntity.builder()
+            .id(job.getId())
+            .idLote(job.getIdLote())
+            .idPeticao(job.getIdPeticao())
+            .contexto(job.getContexto())
+            .detalhesAdicionais(job.getDetalhesAdicionais())
+            .ignorarCache(job.isIgnorarCache())
+            .nivelLatencia(job.getNivelLatencia())
+            .status(job.getStatus())
+            .tentativas(job.getTentativas())
+            .instancia(job.getInstancia())
+            .mensagemErro(job.getMensagemErro())
+            .dataCriacao(job.getDataCriacao())
+            .dataInicio(job.getDataInicio())
+            .dataHeartbeat(job.getDataHeartbeat())
+            .dataConclusao(job.getDataConclusao())
+            .build();
+    }
+    
+    public JobGeracaoIA toDomain(JobGeracaoIAJpaEntity jpaEntity) {
+        if (jpaEntity == null) return null;
+        
+        return JobGeracaoIA.builder()
+            .id(jpaEntity.getId())
+            .idLote(jpaEntity.getIdLote())
+            .idPeticao(jpaEntity.getIdPeticao())
+            .contexto(jpaEntity.getContexto())
+            .detalhesAdicionais(jpaEntity.getDetalhesAdicionais())
+            .ignorarCache(jpaEntity.getIgnorarCache())
+            .nivelLatencia(jpaEntity.getNivelLatencia())
+            .status(jpaEntity.getStatus())
+            .tentativas(jpaEntity.getTentativas())
+            .instancia(jpaEntity.getInstancia())
+            .mensagemErro(jpaEntity.getMensagemErro())
+            .dataCriacao(jpaEntity.getDataCriacao())
+            .dataInicio(jpaEntity.getDataInicio())
+            .dataHeartbeat(jpaEntity.getDataHeartbeat())
+            .dataConclusao(jpaEntity.getDataConclusao())
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+package smartLegalApi.infrastructure.persistence.mapper;
+
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.infrastructure.persistence.jpa.entity.ModeloPeticaoJpaEntity;
+
+/**
+ * Mapper entre Modelo de Petição de domínio e JPA
+ */
+@Component
+public class ModeloPeticaoJpaMapper {
+    
+    public ModeloPeticaoJpaEntity toJpaEntity(ModeloPeticao modelo) {
+        if (modelo == null) return null;
+        
+        return ModeloPeticaoJpaEntity.builder()
+            .id(modelo.getId())
+            .tipo(modelo.getTipo())
+            .nome(modelo.getNome())
+            .conteudo(modelo.getConteudo())
+            .ativo(modelo.getAtivo())
+            .dataCriacao(modelo.getDataCriacao())
+            .dataAtualizacao(modelo.getDataAtualizacao())
+            .build();
+    }
+    
+    public ModeloPeticao toDomain(ModeloPeticaoJpaEntity jpaEntity) {
+        if (jpaEntity == null) return null;
+        
+        return ModeloPeticao.builder()
+            .id(jpaEntity.getId())
+            .tipo(jpaEntity.getTipo())
+            .nome(jpaEntity.getNome())
+            .conteudo(jpaEntity.getConteudo())
+            .ativo(jpaEntity.getAtivo())
+            .dataCriacao(jpaEntity.getDataCriacao())
+            .dataAtualizacao(jpaEntity.getDataAtualizacao())
+            .build();
+    }
+}
@@ -24,8 +24,11 @@ public class PeticaoJpaMapper {
             .promptUtilizado(peticao.getPromptUtilizado())
             .status(peticao.getStatus())
             .caminhoDocumento(peticao.getCaminhoDocumento())
+            .citacoesInvalidas(peticao.getCitacoesInvalidas())
             .dataCriacao(peticao.getDataCriacao())
             .dataAtualizacao(peticao.getDataAtualizacao())
+            .dataSolicitacaoProtocolo(peticao.getDataSolicitacaoProtocolo())
+            .tentativasProtocolo(peticao.getTentativasProtocolo() != null ? peticao.getTentativasProtocolo() : 0)
             .dataProtocolo(peticao.getDataProtocolo())
             .build();
     }
@@ -44,8 +47,11 @@ public class PeticaoJpaMapper {
             .promptUtilizado(jpaEntity.getPromptUtilizado())
             .status(jpaEntity.getStatus())
             .caminhoDocumento(jpaEntity.getCaminhoDocumento())
+            .citacoesInvalidas(jpaEntity.getCitacoesInvalidas())
             .dataCriacao(jpaEntity.getDataCriacao())
             .dataAtualizacao(jpaEntity.getDataAtualizacao())
+            .dataSolicitacaoProtocolo(jpaEntity.getDataSolicitacaoProtocolo())
+            .tentativasProtocolo(jpaEntity.getTentativasProtocolo())
             .dataProtocolo(jpaEntity.getDataProtocolo())
             .build();
     }
@@ -0,0 +1,46 @@
+package smartLegalApi.infrastructure.persistence.mapper;
+
+import org.springframework.stereotype.Component;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+import smartLegalApi.infrastructure.persistence.jpa.entity.ResumoProcessoJpaEntity;
+
+/**
+ * Mapper entre Resumo do Processo de domínio e JPA
+ */
+@Component
+public class ResumoProcessoJpaMapper {
+    
+    public ResumoProcessoJpaEntity toJpaEntity(ResumoProcesso resumo) {
+        if (resumo == null) return null;
+        
+        return ResumoProcessoJpaEntity.builder()
+            .id(resumo.getId())
+            .idProcesso(resumo.getIdProcesso())
+            .texto(resumo.getTexto())
+            .idUltimoAndamento(resumo.getIdUltimoAndamento())
+            .andamentosResumidos(resumo.getAndamentosResumidos())
+            .desatualizado(resumo.getDesatualizado())
+            .reconstruir(resumo.getReconstruir())
+            .versao(resumo.getVersao())
+            .dataCriacao(resumo.getDataCriacao())
+            .dataAtualizacao(resumo.getDataAtualizacao())
+            .build();
+    }
+    
+    public ResumoProcesso toDomain(ResumoProcessoJpaEntity jpaEntity) {
+        if (jpaEntity == null) return null;
+        
+        return ResumoProcesso.builder()
+            .id(jpaEntity.getId())
+            .idProcesso(jpaEntity.getIdProcesso())
+            .texto(jpaEntity.getTexto())
+            .idUltimoAndamento(jpaEntity.getIdUltimoAndamento())
+            .andamentosResumidos(jpaEntity.getAndamentosResumidos())
+            .desatualizado(jpaEntity.getDesatualizado())
+            .reconstruir(jpaEntity.getReconstruir())
+            .versao(jpaEntity.getVersao())
+            .dataCriacao(jpaEntity.getDataCriacao())
+            .dataAtualizacao(jpaEntity.getDataAtualizacao())
+            .build();
+    }
+}
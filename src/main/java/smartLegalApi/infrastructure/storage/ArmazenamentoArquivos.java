@@ -0,0 +1,317 @@
+package smartLegalApi.infrastructure.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import smartLegalApi.infrastructure.persistence.jpa.repository.ArquivoArmazenadoJpaRepository;
+import smartLegalApi.infrastructure.storage.config.ArmazenamentoProperties;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Armazenamento de arquivos endereçado pelo conteúdo, compartilhado pelos documentos de
+ * petição gerados e pelos anexos dos processos
+ *
+ * Cada conteúdo é gravado uma única vez em <raiz>/ab/cd/<sha-256>: dois níveis de diretórios
+ * pelos primeiros bytes do hash (65.536 diretórios) mantêm poucas centenas de arquivos por
+ * diretório mesmo com milhões de arquivos. A gravação vai para um temporário em <raiz>/tmp, é
+ * sincronizada no disco (fsync) e renomeada atomicamente: um arquivo no caminho final está
+ * sempre completo, e uma queda no meio da gravação deixa apenas o temporário, excluído pela coleta.
+ *
+ * A tabela arquivos_armazenados conta as referências de cada hash. A referência é registrada
+ * antes da renomeação, em transação própria (REQUIRES_NEW), confirmada antes de a trava do hash
+ * ser solta: a coleta nunca espera por uma linha bloqueada por quem grava, e um rollback de quem
+ * grava não desfaz a referência de um arquivo já renomeado. Se a renomeação falhar, a referência
+ * é devolvida; quem grava e não chega a usar o arquivo a devolve com liberar. Arquivos sem
+ * referências são excluídos pela coleta periódica depois da carência. A trava por hash ordena
+ * registro, renomeação e coleta nesta instância; entre instâncias, a coleta exclui o arquivo com a
+ * linha do hash travada no banco, e quem registra uma referência nesse momento espera o commit e
+ * encontra o arquivo já excluído, gravando-o de novo.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArmazenamentoArquivos {
+    
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int TRAVAS = 64;
+    private static final int COLETA_LOTE = 500;
+    
+    private final ArmazenamentoProperties properties;
+    private final ArquivoArmazenadoJpaRepository arquivoRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final Object[] travas = novasTravas();
+    
+    /**
+     * Escreve o conteúdo do arquivo; o stream não deve ser fechado
+     */
+    @FunctionalInterface
+    public interface Escritor {
+        void escrever(OutputStream out) throws IOException;
+    }
+    
+    @PostConstruct
+    public void inicializar() throws IOException {
+        Files.createDirectories(temporarios());
+    }
+    
+    /**
+     * Grava o conteúdo escrito pelo escritor e registra uma referência a ele. Conteúdo já
+     * armazenado não é gravado de novo
+     */
+    public ArquivoArmazenado gravar(Escritor escritor) throws IOException {
+        Path temporario = Files.createTempFile(temporarios(), "gravacao_", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long tamanho;
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(canal), 64 * 1024), digest);
+                escritor.escrever(out);
+                out.flush();
+                canal.force(true);
+                tamanho = canal.size();
+            }
+            return armazenar(temporario, HexFormat.of().formatHex(digest.digest()), tamanho);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+    
+    public ArquivoArmazenado gravar(InputStream in) throws IOException {
+        return gravar(in::transferTo);
+    }
+    
+    /**
+     * Move para o armazenamento um arquivo já gravado por inteiro (sem copiá-lo, se estiver no
+     * mesmo sistema de arquivos) e registra uma referência a ele. O arquivo informado deixa de existir
+     */
+    public ArquivoArmazenado importar(Path arquivo) throws IOException {
+        Path temporario = temporarios().resolve("importacao_" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.move(arquivo, temporario, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Outro sistema de arquivos: copia pela gravação normal
+            ArquivoArmazenado armazenado;
+            try (InputStream in = Files.newInputStream(arquivo)) {
+                armazenado = gravar(in);
+            }
+            Files.deleteIfExists(arquivo);
+            return armazenado;
+        }
+        
+        try {
+            MessageDigest digest = sha256();
+            long tamanho;
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.READ)) {
+                new DigestInputStream(Channels.newInputStream(canal), digest).transferTo(OutputStream.nullOutputStream());
+                canal.force(true);
+                tamanho = canal.size();
+            }
+            return armazenar(temporario, HexFormat.of().formatHex(digest.digest()), tamanho);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+    
+    /**
+     * Remove uma referência ao arquivo do caminho informado. Retorna false, sem fazer nada, se o
+     * caminho não for do armazenamento (arquivos gravados antes dele)
+     */
+    public boolean liberar(String caminho) {
+        Optional<String> hash = hash(caminho);
+        if (hash.isEmpty()) {
+            return false;
+        }
+        
+        if (arquivoRepository.removerReferencia(hash.get(), LocalDateTime.now()) == 0) {
+            log.warn("Arquivo {} liberado sem referências registradas", caminho);
+        }
+        return true;
+    }
+    
+    /**
+     * Hash do conteúdo, se o caminho for de um arquivo do armazenamento
+     */
+    public Optional<String> hash(String caminho) {
+        if (caminho == null || caminho.isBlank()) {
+            return Optional.empty();
+        }
+        
+        Path arquivo = Paths.get(caminho).toAbsolutePath().normalize();
+        Path raiz = raiz().toAbsolutePath().normalize();
+        if (!arquivo.startsWith(raiz) || raiz.relativize(arquivo).getNameCount() != 3) {
+            return Optional.empty();
+        }
+        
+        String nome = arquivo.getFileName().toString();
+        return HASH.matcher(nome).matches() && caminho(nome).toAbsolutePath().normalize().equals(arquivo)
+            ? Optional.of(nome)
+            : Optional.empty();
+    }
+    
+    /**
+     * Caminho do arquivo de um hash: <raiz>/ab/cd/<hash>
+     */
+    public Path caminho(String hash) {
+        return raiz().resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+    
+    /**
+     * Exclui arquivos sem referências há mais que a carência e temporários abandonados
+     */
+    @Scheduled(
+        fixedDelayString = "${armazenamento.coleta-ms:600000}",
+        initialDelayString = "${armazenamento.coleta-ms:600000}"
+    )
+    public void coletar() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(properties.getCarenciaMinutos());
+        try {
+            List<String> hashes = arquivoRepository.findHashesSemReferencias(limite, PageRequest.of(0, COLETA_LOTE));
+            int excluidos = 0;
+            for (String hash : hashes) {
+                synchronized (trava(hash)) {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> excluirSemReferencias(hash)))) {
+                        excluidos++;
+                    }
+                }
+            }
+            if (excluidos > 0) {
+                meterRegistry.counter("smartlegal.armazenamento.coletados").increment(excluidos);
+                log.info("{} arquivo(s) sem referências excluído(s) do armazenamento", excluidos);
+            }
+        } catch (Exception e) {
+            log.error("Erro na coleta de arquivos sem referências", e);
+        }
+        
+        excluirTemporariosAbandonados();
+    }
+    
+    /**
+     * Exclui o arquivo e o registro do hash se ele continuar sem referências, com a linha travada
+     * da verificação ao commit. Se a exclusão do arquivo falhar, o registro fica para a próxima coleta
+     */
+    private boolean excluirSemReferencias(String hash) {
+        if (arquivoRepository.findSemReferenciasComTrava(hash).isEmpty()) {
+            return false;
+        }
+        
+        try {
+            Files.deleteIfExists(caminho(hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return arquivoRepository.deleteSemReferencias(hash) > 0;
+    }
+    
+    private ArquivoArmazenado armazenar(Path temporario, String hash, long tamanho) throws IOException {
+        Path destino = caminho(hash);
+        String resultado;
+        
+        synchronized (trava(hash)) {
+            arquivoRepository.adicionarReferencia(hash, tamanho, LocalDateTime.now());
+            
+            if (Files.exists(destino)) {
+                resultado = "deduplicado";
+            } else {
+                try {
+                    Files.createDirectories(destino.getParent());
+                    Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    arquivoRepository.removerReferencia(hash, LocalDateTime.now());
+                    throw e;
+                }
+                sincronizarDiretorio(destino.getParent());
+                resultado = "novo";
+            }
+        }
+        
+        meterRegistry.counter("smartlegal.armazenamento.gravacoes", "resultado", resultado).increment();
+        log.debug("Arquivo {} armazenado ({}, {} bytes)", hash, resultado, tamanho);
+        return new ArquivoArmazenado(hash, tamanho, destino);
+    }
+    
+    /**
+     * Torna a renomeação durável: sem isso, uma queda logo depois pode perder a entrada do diretório
+     */
+    private static void sincronizarDiretorio(Path diretorio) {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // Sistemas que não abrem diretórios (Windows): a renomeação continua atômica
+        }
+    }
+    
+    private void excluirTemporariosAbandonados() {
+        Instant limite = Instant.now().minus(properties.getCarenciaMinutos(), ChronoUnit.MINUTES);
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(temporarios(), "*.tmp")) {
+            for (Path arquivo : arquivos) {
+                if (Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite)) {
+                    Files.deleteIfExists(arquivo);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Erro ao excluir temporários abandonados do armazenamento", e);
+        }
+    }
+    
+    private Path raiz() {
+        return Paths.get(properties.getRaiz());
+    }
+    
+    private Path temporarios() {
+        return raiz().resolve("tmp");
+    }
+    
+    private Object trava(String hash) {
+        return travas[Integer.parseInt(hash.substring(0, 2), 16) % TRAVAS];
+    }
+    
+    private static Object[] novasTravas() {
+        Object[] travas = new Object[TRAVAS];
+        for (int i = 0; i < TRAVAS; i++) {
+            travas[i] = new Object();
+        }
+        return travas;
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package smartLegalApi.infrastructure.storage;
+
+import java.nio.file.Path;
+
+/**
+ * Arquivo gravado no armazenamento: hash SHA-256 (hex) do conteúdo, tamanho e caminho
+ */
+public record ArquivoArmazenado(String hash, long tamanho, Path caminho) {
+}
@@ -0,0 +1,31 @@
+package smartLegalApi.infrastructure.storage.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades de configuração do armazenamento de arquivos (documentos gerados e anexos)
+ */
+@Component
+@ConfigurationProperties(prefix = "armazenamento")
+@Data
+public class ArmazenamentoProperties {
+    
+    /**
+     * Diretório raiz dos arquivos, organizados em <raiz>/ab/cd/<sha-256>; temporários em <raiz>/tmp.
+     * Deve estar em um único sistema de arquivos, para que a renomeação seja atômica
+     */
+    private String raiz = "./uploads/arquivos";
+    
+    /**
+     * Tempo, em minutos, que um arquivo sem referências (ou um temporário abandonado) é mantido
+     * antes de ser excluído. Cobre gravações em andamento que ainda não registraram a referência
+     */
+    private Integer carenciaMinutos = 10;
+    
+    /**
+     * Intervalo da coleta de arquivos sem referências, em milissegundos
+     */
+    private Long coletaMs = 600000L;
+}
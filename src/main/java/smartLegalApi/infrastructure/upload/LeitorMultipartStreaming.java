@@ -0,0 +1,104 @@
+package smartLegalApi.infrastructure.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Leitura em streaming de um corpo multipart/form-data, com a API de streaming do commons-fileupload2.
+ *
+ * As partes são percorridas na ordem em que chegam: os campos simples anteriores ao arquivo são
+ * coletados (até 1 KB cada) e o conteúdo do arquivo é entregue ao receptor como InputStream lido
+ * direto da requisição, sem gravação em disco nem em memória. Os limites de spring.servlet.multipart
+ * (max-file-size e max-request-size) continuam valendo.
+ *
+ * Só pode ser usado nas rotas em que o DispatcherServlet não lê o corpo antes (ver UploadConfig).
+ */
+@Component
+@RequiredArgsConstructor
+public class LeitorMultipartStreaming {
+    
+    private static final int PARTES_MAXIMAS = 10;
+    private static final int TAMANHO_MAXIMO_CAMPO = 1024;
+    
+    private final MultipartProperties multipartProperties;
+    
+    /**
+     * Recebe o arquivo enviado e os campos que vieram antes dele
+     */
+    @FunctionalInterface
+    public interface ReceptorArquivo<T> {
+        T receber(Map<String, String> campos, ParteArquivo arquivo) throws IOException;
+    }
+    
+    /**
+     * Parte de arquivo em leitura; o conteúdo só é válido dentro do receptor
+     */
+    public record ParteArquivo(String nomeOriginal, String tipoConteudo, InputStream conteudo) {
+    }
+    
+    /**
+     * Entrega ao receptor a parte de arquivo com o nome informado; vazio se ela não foi enviada.
+     * Limites de tamanho excedidos durante a leitura viram MaxUploadSizeExceededException
+     */
+    public <T> Optional<T> lerArquivo(HttpServletRequest request, String nomeParte,
+                                      ReceptorArquivo<T> receptor) throws IOException {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setFileSizeMax(multipartProperties.getMaxFileSize().toBytes());
+        upload.setSizeMax(multipartProperties.getMaxRequestSize().toBytes());
+        upload.setFileCountMax(PARTES_MAXIMAS);
+        
+        Map<String, String> campos = new HashMap<>();
+        try {
+            FileItemInputIterator partes = upload.getItemIterator(request);
+            while (partes.hasNext()) {
+                FileItemInput parte = partes.next();
+                if (parte.isFormField()) {
+                    try (InputStream in = parte.getInputStream()) {
+                        campos.put(parte.getFieldName(),
+                            new String(in.readNBytes(TAMANHO_MAXIMO_CAMPO), StandardCharsets.UTF_8));
+                    }
+                } else if (nomeParte.equals(parte.getFieldName())) {
+                    try (InputStream conteudo = parte.getInputStream()) {
+                        return Optional.ofNullable(receptor.receber(campos,
+                            new ParteArquivo(parte.getName(), parte.getContentType(), conteudo)));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (excedeuLimite(e)) {
+                throw new MaxUploadSizeExceededException(upload.getFileSizeMax(), e);
+            }
+            throw e;
+        }
+        
+        return Optional.empty();
+    }
+    
+    /**
+     * Limites excedidos durante a leitura podem chegar embrulhados em outras IOException
+     */
+    private static boolean excedeuLimite(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof FileUploadSizeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
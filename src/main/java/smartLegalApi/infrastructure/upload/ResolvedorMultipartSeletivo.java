@@ -0,0 +1,33 @@
+package smartLegalApi.infrastructure.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+import java.util.List;
+
+/**
+ * MultipartResolver padrão do servlet, exceto nas rotas de envio em streaming: nelas a requisição
+ * não é tratada como multipart pelo DispatcherServlet, e o corpo chega intacto ao controller
+ * para ser lido pelo LeitorMultipartStreaming. As demais rotas mantêm o comportamento padrão
+ */
+public class ResolvedorMultipartSeletivo extends StandardServletMultipartResolver {
+    
+    private final List<String> rotasStreaming;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    
+    public ResolvedorMultipartSeletivo(List<String> rotasStreaming) {
+        this.rotasStreaming = List.copyOf(rotasStreaming);
+    }
+    
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return super.isMultipart(request) && !isRotaStreaming(request);
+    }
+    
+    private boolean isRotaStreaming(HttpServletRequest request) {
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        return rotasStreaming.stream().anyMatch(rota -> pathMatcher.match(rota, caminho));
+    }
+}
@@ -0,0 +1,32 @@
+package smartLegalApi.infrastructure.upload.config;
+
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import smartLegalApi.infrastructure.upload.ResolvedorMultipartSeletivo;
+
+import java.util.List;
+
+/**
+ * Configuração do tratamento de multipart.
+ *
+ * Substitui o MultipartResolver do Spring Boot por um que deixa de fora apenas as rotas de envio
+ * em streaming; nas demais, o multipart continua sendo resolvido como antes (sem resolve-lazily)
+ */
+@Configuration
+public class UploadConfig {
+    
+    /**
+     * Rotas cujo corpo multipart é lido pelo LeitorMultipartStreaming
+     */
+    static final List<String> ROTAS_STREAMING = List.of("/api/processos/*/documentos");
+    
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        ResolvedorMultipartSeletivo resolver = new ResolvedorMultipartSeletivo(ROTAS_STREAMING);
+        resolver.setResolveLazily(multipartProperties.isResolveLazily());
+        return resolver;
+    }
+}
@@ -2,9 +2,11 @@ package smartLegalApi.presentation.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import smartLegalApi.application.processo.dto.request.AnexarDocumentoRequest;
@@ -12,9 +14,13 @@ import smartLegalApi.application.processo.dto.response.DocumentoResponse;
 import smartLegalApi.application.processo.mapper.ProcessoDtoMapper;
 import smartLegalApi.application.processo.usecase.AnexarDocumentoUseCase;
 import smartLegalApi.application.processo.usecase.DeletarDocumentoUseCase;
+import smartLegalApi.application.processo.usecase.EnviarDocumentoUseCase;
 import smartLegalApi.application.processo.usecase.ListarDocumentosUseCase;
 import smartLegalApi.domain.processo.entity.Documento;
+import smartLegalApi.domain.shared.exception.DomainException;
+import smartLegalApi.infrastructure.upload.LeitorMultipartStreaming;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,12 +34,42 @@ import java.util.stream.Collectors;
 public class DocumentoController {
     
     private final AnexarDocumentoUseCase anexarDocumentoUseCase;
+    private final EnviarDocumentoUseCase enviarDocumentoUseCase;
     private final ListarDocumentosUseCase listarDocumentosUseCase;
     private final DeletarDocumentoUseCase deletarDocumentoUseCase;
     private final ProcessoDtoMapper mapper;
+    private final LeitorMultipartStreaming leitorMultipart;
     
-    @PostMapping
-    @Operation(summary = "Anexar documento ao processo")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Enviar arquivo e anexar ao processo",
+        description = "Recebe o arquivo em multipart (parte 'arquivo') e o grava no armazenamento conforme chega, " +
+            "sem cópia intermediária; tamanho e hash SHA-256 são calculados no servidor. Os campos opcionais " +
+            "'nomeDocumento' e 'hashArquivo' devem vir antes da parte 'arquivo'. Se 'hashArquivo' não conferir, " +
+            "o envio é recusado (422). Sem 'nomeDocumento', usa o nome original do arquivo"
+    )
+    public ResponseEntity<DocumentoResponse> enviar(
+        @PathVariable Long idProcesso,
+        HttpServletRequest request
+    ) throws IOException {
+        // O corpo é lido aqui, parte a parte; o DispatcherServlet não o lê antes nesta rota (UploadConfig)
+        Documento documento = leitorMultipart.lerArquivo(request, "arquivo", (campos, arquivo) -> {
+                String nomeDocumento = campos.get("nomeDocumento");
+                String nome = nomeDocumento != null && !nomeDocumento.isBlank() ? nomeDocumento : arquivo.nomeOriginal();
+                return enviarDocumentoUseCase.executar(
+                    idProcesso, nome, arquivo.tipoConteudo(), arquivo.conteudo(), campos.get("hashArquivo"));
+            })
+            .orElseThrow(() -> new DomainException("Parte 'arquivo' não enviada"));
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(documento));
+    }
+    
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Anexar documento já presente no servidor ao processo",
+        description = "Somente metadados: caminho, tamanho e hash informados pelo cliente não são verificados. " +
+            "Para enviar o arquivo, use o envio multipart"
+    )
     public ResponseEntity<DocumentoResponse> anexar(
         @PathVariable Long idProcesso,
         @Valid @RequestBody AnexarDocumentoRequest request
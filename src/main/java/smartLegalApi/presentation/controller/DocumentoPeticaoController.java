@@ -0,0 +1,131 @@
+package smartLegalApi.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import smartLegalApi.application.peticao.usecase.BaixarDocumentoPeticaoUseCase;
+import smartLegalApi.infrastructure.document.service.DocumentoPeticao;
+import smartLegalApi.infrastructure.document.service.DocumentoWordService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Controller REST para o Documento Word da Petição
+ * 
+ * O documento é escrito direto no stream da resposta, sem arquivo temporário nem cópia
+ * completa em memória. O arquivo de petições protocoladas aceita download parcial (Range);
+ * o documento gerado na resposta não, pois os bytes mudam a cada geração.
+ */
+@RestController
+@RequestMapping("/api/peticoes/{id}/documento")
+@RequiredArgsConstructor
+@Tag(name = "Petições", description = "Gerenciamento de petições judiciais com IA")
+public class DocumentoPeticaoController {
+    
+    private static final MediaType DOCX =
+        MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+    
+    private final BaixarDocumentoPeticaoUseCase baixarDocumentoPeticaoUseCase;
+    private final DocumentoWordService documentoWordService;
+    
+    @GetMapping
+    @Operation(
+        summary = "Baixar documento Word da petição",
+        description = "Petições protocoladas retornam o arquivo do protocolo, com suporte a Range; as demais " +
+            "têm o documento gerado na resposta. Responde 304 para If-None-Match com o ETag atual"
+    )
+    public ResponseEntity<StreamingResponseBody> baixar(@PathVariable Long id, @RequestHeader HttpHeaders requisicao) {
+        DocumentoPeticao documento = baixarDocumentoPeticaoUseCase.executar(id);
+        
+        if (correspondeAlgum(requisicao.getIfNoneMatch(), documento.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(documento.etag()).build();
+        }
+        
+        HttpHeaders cabecalhos = new HttpHeaders();
+        cabecalhos.setContentType(DOCX);
+        cabecalhos.setETag(documento.etag());
+        cabecalhos.setContentDisposition(ContentDisposition.attachment()
+            .filename(documento.nomeArquivo(), StandardCharsets.UTF_8)
+            .build());
+        
+        if (!documento.isArquivo()) {
+            cabecalhos.set(HttpHeaders.ACCEPT_RANGES, "none");
+            return ResponseEntity.ok()
+                .headers(cabecalhos)
+                .body(out -> documentoWordService.escreverDocumento(documento.peticao(), out));
+        }
+        
+        long tamanho = documento.tamanho();
+        cabecalhos.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        
+        HttpRange range = intervaloSolicitado(requisicao, documento.etag());
+        if (range == null) {
+            cabecalhos.setContentLength(tamanho);
+            return ResponseEntity.ok()
+                .headers(cabecalhos)
+                .body(out -> documentoWordService.copiarArquivo(documento.arquivo(), 0, tamanho, out));
+        }
+        
+        if (!isSatisfazivel(range, tamanho)) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanho)
+                .build();
+        }
+        
+        long inicio = range.getRangeStart(tamanho);
+        long fim = range.getRangeEnd(tamanho);
+        cabecalhos.set(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fim + "/" + tamanho);
+        cabecalhos.setContentLength(fim - inicio + 1);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .headers(cabecalhos)
+            .body(out -> documentoWordService.copiarArquivo(documento.arquivo(), inicio, fim - inicio + 1, out));
+    }
+    
+    /**
+     * Intervalo único pedido em Range, ou nulo para enviar o arquivo inteiro: sem Range, com
+     * vários intervalos, com Range inválido ou com If-Range de outra versão do arquivo
+     */
+    private HttpRange intervaloSolicitado(HttpHeaders requisicao, String etag) {
+        List<HttpRange> ranges;
+        try {
+            ranges = requisicao.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        
+        String ifRange = requisicao.getFirst(HttpHeaders.IF_RANGE);
+        if (ranges.size() != 1 || (ifRange != null && !ifRange.equals(etag))) {
+            return null;
+        }
+        return ranges.get(0);
+    }
+    
+    private static boolean isSatisfazivel(HttpRange range, long tamanho) {
+        try {
+            return range.getRangeStart(tamanho) <= range.getRangeEnd(tamanho);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Comparação fraca de ETags, como pede If-None-Match
+     */
+    private static boolean correspondeAlgum(List<String> etags, String etag) {
+        String atual = semPrefixoFraco(etag);
+        return etags.stream().anyMatch(candidata -> "*".equals(candidata) || semPrefixoFraco(candidata).equals(atual));
+    }
+    
+    private static String semPrefixoFraco(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,102 @@
+package smartLegalApi.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import smartLegalApi.application.peticao.dto.request.GerarLoteComIARequest;
+import smartLegalApi.application.peticao.dto.response.JobGeracaoIAResponse;
+import smartLegalApi.application.peticao.dto.response.LoteGeracaoIAResponse;
+import smartLegalApi.application.peticao.dto.response.UsoIAResponse;
+import smartLegalApi.application.peticao.mapper.PeticaoDtoMapper;
+import smartLegalApi.application.peticao.usecase.*;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.LoteGeracaoIA;
+import smartLegalApi.infrastructure.ai.uso.ConsumoIA;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Controller REST para acompanhamento dos jobs de geração com IA
+ */
+@RestController
+@RequestMapping("/api/peticoes/geracoes")
+@RequiredArgsConstructor
+@Tag(name = "Gerações com IA", description = "Acompanhamento da fila de geração de petições")
+public class GeracaoIAController {
+    
+    private final BuscarJobGeracaoIAUseCase buscarJobGeracaoIAUseCase;
+    private final CancelarJobGeracaoIAUseCase cancelarJobGeracaoIAUseCase;
+    private final EnfileirarLoteGeracaoIAUseCase enfileirarLoteGeracaoIAUseCase;
+    private final BuscarLoteGeracaoIAUseCase buscarLoteGeracaoIAUseCase;
+    private final CancelarLoteGeracaoIAUseCase cancelarLoteGeracaoIAUseCase;
+    private final ConsultarUsoIAUseCase consultarUsoIAUseCase;
+    private final PeticaoDtoMapper mapper;
+    
+    @GetMapping("/{idJob}")
+    @Operation(summary = "Consultar status de um job de geração")
+    public ResponseEntity<JobGeracaoIAResponse> buscarPorId(@PathVariable Long idJob) {
+        JobGeracaoIA job = buscarJobGeracaoIAUseCase.executar(idJob);
+        return ResponseEntity.ok(mapper.toResponse(job));
+    }
+    
+    @PostMapping("/{idJob}/cancelar")
+    @Operation(
+        summary = "Cancelar job de geração",
+        description = "Jobs pendentes não são executados; jobs em execução têm o resultado da IA descartado"
+    )
+    public ResponseEntity<JobGeracaoIAResponse> cancelar(@PathVariable Long idJob) {
+        JobGeracaoIA job = cancelarJobGeracaoIAUseCase.executar(idJob);
+        return ResponseEntity.ok(mapper.toResponse(job));
+    }
+    
+    @PostMapping("/lotes")
+    @Operation(
+        summary = "Gerar lote de petições com IA",
+        description = "Enfileira a geração de várias petições e retorna 202 com o lote; petições inválidas " +
+            "são listadas em 'rejeitados' sem impedir as demais. Acompanhe em GET /api/peticoes/geracoes/lotes/{idLote}"
+    )
+    public ResponseEntity<LoteGeracaoIAResponse> gerarLote(@Valid @RequestBody GerarLoteComIARequest request) {
+        List<EnfileirarLoteGeracaoIAUseCase.ItemLote> itens = request.getItens().stream()
+            .map(item -> new EnfileirarLoteGeracaoIAUseCase.ItemLote(
+                item.getIdPeticao(),
+                item.getContexto(),
+                item.getDetalhesAdicionais()
+            ))
+            .collect(Collectors.toList());
+        
+        LoteGeracaoIA lote = enfileirarLoteGeracaoIAUseCase.executar(itens, Boolean.TRUE.equals(request.getIgnorarCache()));
+        
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/peticoes/geracoes/lotes/" + lote.getId()))
+            .body(mapper.toResponse(lote));
+    }
+    
+    @GetMapping("/lotes/{idLote}")
+    @Operation(summary = "Consultar progresso de um lote de geração")
+    public ResponseEntity<LoteGeracaoIAResponse> buscarLote(@PathVariable String idLote) {
+        LoteGeracaoIA lote = buscarLoteGeracaoIAUseCase.executar(idLote);
+        return ResponseEntity.ok(mapper.toResponse(lote));
+    }
+    
+    @PostMapping("/lotes/{idLote}/cancelar")
+    @Operation(summary = "Cancelar os jobs ainda ativos de um lote de geração")
+    public ResponseEntity<LoteGeracaoIAResponse> cancelarLote(@PathVariable String idLote) {
+        LoteGeracaoIA lote = cancelarLoteGeracaoIAUseCase.executar(idLote);
+        return ResponseEntity.ok(mapper.toResponse(lote));
+    }
+    
+    @GetMapping("/uso/{idAdvogado}")
+    @Operation(
+        summary = "Consultar consumo da IA de um advogado",
+        description = "Chamadas e tokens do dia e do mês corrente, com as cotas configuradas"
+    )
+    public ResponseEntity<UsoIAResponse> consultarUso(@PathVariable Long idAdvogado) {
+        ConsumoIA consumo = consultarUsoIAUseCase.executar(idAdvogado);
+        return ResponseEntity.ok(mapper.toResponse(consumo));
+    }
+}
@@ -0,0 +1,83 @@
+package smartLegalApi.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import smartLegalApi.application.peticao.dto.request.ModeloPeticaoRequest;
+import smartLegalApi.application.peticao.dto.response.ModeloPeticaoResponse;
+import smartLegalApi.application.peticao.mapper.PeticaoDtoMapper;
+import smartLegalApi.application.peticao.usecase.*;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.modelo.CampoModelo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Controller REST para Modelo de Petição
+ */
+@RestController
+@RequestMapping("/api/modelos-peticao")
+@RequiredArgsConstructor
+@Tag(name = "Modelos de Petição", description = "Modelos para preencher petições padronizadas sem IA")
+public class ModeloPeticaoController {
+    
+    private final CriarModeloPeticaoUseCase criarModeloPeticaoUseCase;
+    private final ListarModelosPeticaoUseCase listarModelosPeticaoUseCase;
+    private final AtualizarModeloPeticaoUseCase atualizarModeloPeticaoUseCase;
+    private final DesativarModeloPeticaoUseCase desativarModeloPeticaoUseCase;
+    private final PeticaoDtoMapper mapper;
+    
+    @PostMapping
+    @Operation(summary = "Criar modelo de petição")
+    public ResponseEntity<ModeloPeticaoResponse> criar(@Valid @RequestBody ModeloPeticaoRequest request) {
+        ModeloPeticao modelo = criarModeloPeticaoUseCase.executar(
+            request.getTipo(),
+            request.getNome(),
+            request.getConteudo()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(modelo));
+    }
+    
+    @GetMapping
+    @Operation(summary = "Listar modelos ativos, opcionalmente de um tipo de petição")
+    public ResponseEntity<List<ModeloPeticaoResponse>> listar(@RequestParam(required = false) TipoPeticao tipo) {
+        List<ModeloPeticaoResponse> response = listarModelosPeticaoUseCase.executar(tipo).stream()
+            .map(mapper::toResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/campos")
+    @Operation(summary = "Listar os campos disponíveis nos modelos, escritos como {{processo.numero}}")
+    public ResponseEntity<List<String>> listarCampos() {
+        return ResponseEntity.ok(Arrays.stream(CampoModelo.values())
+            .map(CampoModelo::getChave)
+            .collect(Collectors.toList()));
+    }
+    
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar nome e conteúdo do modelo")
+    public ResponseEntity<ModeloPeticaoResponse> atualizar(
+        @PathVariable Long id,
+        @Valid @RequestBody ModeloPeticaoRequest request
+    ) {
+        ModeloPeticao modelo = atualizarModeloPeticaoUseCase.executar(id, request.getNome(), request.getConteudo());
+        return ResponseEntity.ok(mapper.toResponse(modelo));
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Desativar modelo")
+    public ResponseEntity<Void> desativar(@PathVariable Long id) {
+        desativarModeloPeticaoUseCase.executar(id);
+        return ResponseEntity.noContent().build();
+    }
+}
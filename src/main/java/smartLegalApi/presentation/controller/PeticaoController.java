@@ -4,19 +4,33 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import smartLegalApi.application.peticao.dto.request.AtualizarConteudoRequest;
 import smartLegalApi.application.peticao.dto.request.CriarPeticaoRequest;
 import smartLegalApi.application.peticao.dto.request.GerarComIARequest;
+import smartLegalApi.application.peticao.dto.request.RegenerarSecaoRequest;
+import smartLegalApi.application.peticao.dto.response.CitacaoLegalResponse;
+import smartLegalApi.application.peticao.dto.response.JobGeracaoIAResponse;
 import smartLegalApi.application.peticao.dto.response.PeticaoResponse;
+import smartLegalApi.application.peticao.dto.response.SecaoPeticaoResponse;
 import smartLegalApi.application.peticao.mapper.PeticaoDtoMapper;
 import smartLegalApi.application.peticao.usecase.*;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
 import smartLegalApi.domain.peticao.entity.Peticao;
 import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -29,15 +43,23 @@ import java.util.stream.Collectors;
 public class PeticaoController {
     
     private final CriarPeticaoUseCase criarPeticaoUseCase;
+    private final PreencherPeticaoComModeloUseCase preencherPeticaoComModeloUseCase;
     private final GerarPeticaoComIAUseCase gerarPeticaoComIAUseCase;
+    private final EnfileirarGeracaoIAUseCase enfileirarGeracaoIAUseCase;
     private final BuscarPeticaoPorIdUseCase buscarPeticaoPorIdUseCase;
     private final ListarPeticoesPorProcessoUseCase listarPeticoesPorProcessoUseCase;
     private final ListarPeticoesPorAdvogadoUseCase listarPeticoesPorAdvogadoUseCase;
     private final AtualizarConteudoPeticaoUseCase atualizarConteudoPeticaoUseCase;
+    private final RegenerarSecaoPeticaoUseCase regenerarSecaoPeticaoUseCase;
+    private final VerificarCitacoesPeticaoUseCase verificarCitacoesPeticaoUseCase;
     private final AprovarPeticaoUseCase aprovarPeticaoUseCase;
     private final ProtocolarPeticaoUseCase protocolarPeticaoUseCase;
     private final DeletarPeticaoUseCase deletarPeticaoUseCase;
     private final PeticaoDtoMapper mapper;
+    private final GeminiProperties geminiProperties;
+    
+    @Qualifier("geracaoIAStreamExecutor")
+    private final TaskExecutor geracaoIAStreamExecutor;
     
     @PostMapping
     @Operation(summary = "Criar nova petição em rascunho")
@@ -46,28 +68,106 @@ public class PeticaoController {
             request.getIdProcesso(),
             request.getIdAdvogado(),
             request.getTipo(),
-            request.getTitulo()
+            request.getTitulo(),
+            request.getIdModelo()
         );
         
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(peticao));
     }
     
+    @PostMapping("/{id}/modelo/{idModelo}")
+    @Operation(
+        summary = "Preencher petição com modelo",
+        description = "Alternativa à geração com IA: preenche a petição com um modelo do mesmo tipo " +
+            "(GET /api/modelos-peticao) e a envia para revisão"
+    )
+    public ResponseEntity<PeticaoResponse> preencherComModelo(@PathVariable Long id, @PathVariable Long idModelo) {
+        Peticao peticao = preencherPeticaoComModeloUseCase.executar(id, idModelo);
+        return ResponseEntity.ok(mapper.toResponse(peticao));
+    }
+    
     @PostMapping("/{id}/gerar-ia")
     @Operation(
         summary = "Gerar petição com IA (Gemini)",
-        description = "Utiliza IA para gerar o conteúdo completo da petição baseado no contexto fornecido"
+        description = "Enfileira a geração do conteúdo da petição e retorna 202 com o job; " +
+            "acompanhe o andamento em GET /api/peticoes/geracoes/{idJob}"
+    )
+    public ResponseEntity<JobGeracaoIAResponse> gerarComIA(
+        @PathVariable Long id,
+        @Valid @RequestBody GerarComIARequest request
+    ) {
+        JobGeracaoIA job = enfileirarGeracaoIAUseCase.executar(
+            id,
+            request.getContexto(),
+            request.getDetalhesAdicionais(),
+            Boolean.TRUE.equals(request.getIgnorarCache()),
+            request.getNivelLatencia()
+        );
+        
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/peticoes/geracoes/" + job.getId()))
+            .body(mapper.toResponse(job));
+    }
+    
+    @PostMapping(value = "/{id}/gerar-ia/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Gerar petição com IA em streaming (SSE)",
+        description = "Envia o texto gerado em eventos 'trecho' à medida que chega da IA; " +
+            "ao final envia o evento 'concluido' com a petição persistida ou 'erro' em caso de falha"
     )
-    public ResponseEntity<PeticaoResponse> gerarComIA(
+    public SseEmitter gerarComIAStream(
         @PathVariable Long id,
         @Valid @RequestBody GerarComIARequest request
     ) {
-        Peticao peticao = gerarPeticaoComIAUseCase.executar(
+        // Validação e transição para GERANDO antes de abrir o stream: recusas viram respostas HTTP
+        Peticao iniciada = gerarPeticaoComIAUseCase.iniciarGeracaoStreaming(
             id,
             request.getContexto(),
             request.getDetalhesAdicionais()
         );
         
-        return ResponseEntity.ok(mapper.toResponse(peticao));
+        SseEmitter emitter = new SseEmitter(geminiProperties.getStreamTimeoutMs());
+        AtomicBoolean clienteConectado = new AtomicBoolean(true);
+        emitter.onTimeout(() -> clienteConectado.set(false));
+        emitter.onError(e -> clienteConectado.set(false));
+        
+        try {
+            geracaoIAStreamExecutor.execute(() -> {
+                try {
+                    Peticao peticao = gerarPeticaoComIAUseCase.executarComStreaming(
+                        iniciada,
+                        trecho -> enviarEvento(emitter, clienteConectado, "trecho", trecho)
+                    );
+                    
+                    enviarEvento(emitter, clienteConectado, "concluido", mapper.toResponse(peticao));
+                    emitter.complete();
+                } catch (Exception e) {
+                    enviarEvento(emitter, clienteConectado, "erro", e.getMessage());
+                    emitter.complete();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // Sem vaga no executor de streaming: a petição não chegou a ser gerada (503 no handler)
+            gerarPeticaoComIAUseCase.reverterGeracao(id);
+            throw e;
+        }
+        
+        return emitter;
+    }
+    
+    /**
+     * Envia um evento SSE; se o cliente desconectou, a geração continua e o resultado ainda é persistido
+     */
+    private void enviarEvento(SseEmitter emitter, AtomicBoolean clienteConectado, String nome, Object dados) {
+        if (!clienteConectado.get()) {
+            return;
+        }
+        
+        try {
+            emitter.send(SseEmitter.event().name(nome).data(dados));
+        } catch (IOException | IllegalStateException e) {
+            clienteConectado.set(false);
+        }
     }
     
     @GetMapping("/{id}")
@@ -112,6 +212,50 @@ public class PeticaoController {
         return ResponseEntity.ok(mapper.toResponse(peticao));
     }
     
+    @GetMapping("/{id}/secoes")
+    @Operation(summary = "Listar seções do conteúdo da petição (delimitadas pelos títulos)")
+    public ResponseEntity<List<SecaoPeticaoResponse>> listarSecoes(@PathVariable Long id) {
+        Peticao peticao = buscarPeticaoPorIdUseCase.executar(id);
+        List<SecaoPeticaoResponse> response = peticao.listarSecoes().stream()
+            .map(mapper::toResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/{id}/secoes/{indice}/regenerar")
+    @Operation(
+        summary = "Regenerar uma seção da petição com IA",
+        description = "Reescreve apenas a seção indicada, com as demais como contexto resumido, " +
+            "e a substitui no conteúdo e no conteúdo gerado pela IA"
+    )
+    public ResponseEntity<PeticaoResponse> regenerarSecao(
+        @PathVariable Long id,
+        @PathVariable int indice,
+        @Valid @RequestBody(required = false) RegenerarSecaoRequest request
+    ) {
+        Peticao peticao = regenerarSecaoPeticaoUseCase.executar(
+            id,
+            indice,
+            request != null ? request.getInstrucoes() : null
+        );
+        return ResponseEntity.ok(mapper.toResponse(peticao));
+    }
+    
+    @GetMapping("/{id}/citacoes")
+    @Operation(
+        summary = "Verificar as citações de lei da petição",
+        description = "Lista os artigos citados no conteúdo com a situação no índice de legislação " +
+            "(VALIDA, INEXISTENTE, REVOGADA) e o endereço do artigo no texto oficial"
+    )
+    public ResponseEntity<List<CitacaoLegalResponse>> verificarCitacoes(@PathVariable Long id) {
+        List<CitacaoLegalResponse> response = verificarCitacoesPeticaoUseCase.executar(id).stream()
+            .map(mapper::toResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @PatchMapping("/{id}/aprovar")
     @Operation(summary = "Aprovar petição para protocolo")
     public ResponseEntity<PeticaoResponse> aprovar(@PathVariable Long id) {
@@ -122,11 +266,13 @@ public class PeticaoController {
     @PostMapping("/{id}/protocolar")
     @Operation(
         summary = "Protocolar petição",
-        description = "Gera documento Word e marca petição como protocolada"
+        description = "Registra a solicitação de protocolo; o documento Word é gerado em segundo plano e a " +
+            "petição passa a PROTOCOLADA ao final (acompanhe pelo status). " +
+            "Retorna 503 com Retry-After se a fila de geração estiver cheia"
     )
     public ResponseEntity<PeticaoResponse> protocolar(@PathVariable Long id) {
         Peticao peticao = protocolarPeticaoUseCase.executar(id);
-        return ResponseEntity.ok(mapper.toResponse(peticao));
+        return ResponseEntity.accepted().body(mapper.toResponse(peticao));
     }
     
     @DeleteMapping("/{id}")
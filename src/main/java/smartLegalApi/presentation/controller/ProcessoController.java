@@ -10,9 +10,11 @@ import org.springframework.web.bind.annotation.*;
 import smartLegalApi.application.processo.dto.request.AtualizarProcessoRequest;
 import smartLegalApi.application.processo.dto.request.CriarProcessoRequest;
 import smartLegalApi.application.processo.dto.response.ProcessoResponse;
+import smartLegalApi.application.processo.dto.response.ResumoProcessoResponse;
 import smartLegalApi.application.processo.mapper.ProcessoDtoMapper;
 import smartLegalApi.application.processo.usecase.*;
 import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
 import smartLegalApi.domain.processo.valueobject.StatusProcesso;
 
 import java.util.List;
@@ -35,6 +37,7 @@ public class ProcessoController {
     private final AtualizarProcessoUseCase atualizarProcessoUseCase;
     private final EncerrarProcessoUseCase encerrarProcessoUseCase;
     private final DeletarProcessoUseCase deletarProcessoUseCase;
+    private final BuscarResumoProcessoUseCase buscarResumoProcessoUseCase;
     private final ProcessoDtoMapper mapper;
     
     @PostMapping
@@ -90,6 +93,16 @@ public class ProcessoController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/{id}/resumo")
+    @Operation(summary = "Buscar resumo do processo gerado com IA",
+        description = "Retorna 202 enquanto o primeiro resumo é gerado; depois, o último resumo gravado, "
+            + "com a indicação de que há andamentos ainda não incorporados")
+    public ResponseEntity<ResumoProcessoResponse> buscarResumo(@PathVariable Long id) {
+        ResumoProcesso resumo = buscarResumoProcessoUseCase.executar(id);
+        HttpStatus status = resumo.getTexto() == null ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(mapper.toResponse(resumo));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar processo")
     public ResponseEntity<ProcessoResponse> atualizar(
@@ -4,7 +4,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -12,6 +15,11 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import smartLegalApi.domain.peticao.exception.CotaIAExcedidaException;
+import smartLegalApi.domain.peticao.exception.FilaGeracaoIACheiaException;
+import smartLegalApi.domain.peticao.exception.FilaProtocoloCheiaException;
+import smartLegalApi.domain.peticao.exception.ServicoIAIndisponivelException;
 import smartLegalApi.domain.shared.exception.BusinessRuleException;
 import smartLegalApi.domain.shared.exception.DomainException;
 import smartLegalApi.domain.shared.exception.NotFoundException;
@@ -27,7 +35,7 @@ import java.nio.file.AccessDeniedException;
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
-
+    
     /**
      * Trata exceções de entidade não encontrada
      */
@@ -45,9 +53,121 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
         
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error);
     }
-
+    
+    /**
+     * Trata fila de geração com IA cheia (backpressure)
+     */
+    @ExceptionHandler(FilaGeracaoIACheiaException.class)
+    public ResponseEntity<ErrorResponse> handleFilaGeracaoIACheiaException(
+            FilaGeracaoIACheiaException ex, 
+            HttpServletRequest request) {
+        
+        log.warn("Fila de geração com IA cheia: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "30")
+            .body(error);
+    }
+    
+    /**
+     * Trata executor de geração em streaming sem vaga (backpressure)
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(
+            TaskRejectedException ex, 
+            HttpServletRequest request) {
+        
+        log.warn("Executor de geração com IA sem vaga: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "Capacidade de geração com IA esgotada. Tente novamente em instantes",
+            request.getRequestURI()
+        );
+        
+        // Recusada antes de abrir o stream SSE: o corpo é JSON mesmo com Accept: text/event-stream
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "30")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(error);
+    }
+    
+    /**
+     * Trata fila de geração de documentos de protocolo cheia (backpressure)
+     */
+    @ExceptionHandler(FilaProtocoloCheiaException.class)
+    public ResponseEntity<ErrorResponse> handleFilaProtocoloCheiaException(
+            FilaProtocoloCheiaException ex, 
+            HttpServletRequest request) {
+        
+        log.warn("Fila de protocolo cheia: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "10")
+            .body(error);
+    }
+    
+    /**
+     * Trata provedor de IA indisponível (circuito aberto)
+     */
+    @ExceptionHandler(ServicoIAIndisponivelException.class)
+    public ResponseEntity<ErrorResponse> handleServicoIAIndisponivelException(
+            ServicoIAIndisponivelException ex, 
+            HttpServletRequest request) {
+        
+        log.warn("Serviço de IA indisponível: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosParaNovaTentativa()))
+            .body(error);
+    }
+    
+    /**
+     * Trata cota de uso da IA esgotada
+     */
+    @ExceptionHandler(CotaIAExcedidaException.class)
+    public ResponseEntity<ErrorResponse> handleCotaIAExcedidaException(
+            CotaIAExcedidaException ex, 
+            HttpServletRequest request) {
+        
+        log.warn("Cota de uso da IA esgotada: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosParaNovaTentativa()))
+            .body(error);
+    }
+    
     /**
      * Trata exceções de regra de negócio
      */
@@ -65,9 +185,9 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
         
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).contentType(MediaType.APPLICATION_JSON).body(error);
     }
-
+    
     /**
      * Trata exceções de domínio genéricas
      */
@@ -85,9 +205,9 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
         
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(error);
     }
-
+    
     /**
      * Trata erros de validação do Bean Validation (@Valid)
      */
@@ -115,7 +235,7 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-
+    
     /**
      * Trata violações de constraint (validação em nível de entidade)
      */
@@ -143,7 +263,7 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-
+    
     /**
      * Trata erros de conversão de tipo
      */
@@ -168,7 +288,7 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-
+    
     /**
      * Trata erros de JSON malformado
      */
@@ -188,7 +308,27 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-
+    
+    /**
+     * Trata arquivos enviados acima do limite de upload
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex, 
+            HttpServletRequest request) {
+        
+        log.warn("Arquivo acima do limite de upload: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.PAYLOAD_TOO_LARGE.value(),
+            "Payload Too Large",
+            "O arquivo enviado excede o tamanho máximo permitido",
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+    }
+    
     /**
      * Trata erros de acesso negado
      */
@@ -208,7 +348,7 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
-
+    
     /**
      * Trata exceções genéricas não capturadas
      */
@@ -0,0 +1,23 @@
+-- ============================================================
+-- Migration V10: Fila persistente de jobs de geração com IA
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS jobs_geracao_ia (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_peticao BIGINT NOT NULL,
+    contexto TEXT NOT NULL COMMENT 'Contexto informado pelo advogado',
+    detalhes_adicionais TEXT,
+    status VARCHAR(20) NOT NULL COMMENT 'PENDENTE, EXECUTANDO, CONCLUIDO, FALHOU, CANCELADO',
+    tentativas INT NOT NULL DEFAULT 0,
+    mensagem_erro VARCHAR(500),
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_inicio TIMESTAMP NULL,
+    data_conclusao TIMESTAMP NULL,
+    
+    CONSTRAINT fk_job_geracao_peticao
+        FOREIGN KEY (id_peticao) REFERENCES peticoes(id)
+        ON DELETE CASCADE ON UPDATE CASCADE,
+    
+    INDEX idx_job_geracao_status (status, data_criacao),
+    INDEX idx_job_geracao_peticao (id_peticao)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Fila persistente de gerações de petição com IA';
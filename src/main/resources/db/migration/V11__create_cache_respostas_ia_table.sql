@@ -0,0 +1,17 @@
+-- ============================================================
+-- Migration V11: Cache persistente de respostas da IA
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS cache_respostas_ia (
+    chave CHAR(64) PRIMARY KEY COMMENT 'SHA-256 de modelo, temperatura, max tokens e prompt',
+    modelo VARCHAR(100) NOT NULL,
+    conteudo LONGTEXT NOT NULL,
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_expiracao TIMESTAMP NOT NULL,
+    
+    INDEX idx_cache_ia_expiracao (data_expiracao)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Respostas do Gemini reutilizáveis por prompt idêntico';
+
+-- Geração que pediu rascunho novo, ignorando o cache
+ALTER TABLE jobs_geracao_ia
+    ADD COLUMN ignorar_cache BOOLEAN NOT NULL DEFAULT FALSE AFTER detalhes_adicionais;
@@ -0,0 +1,8 @@
+-- ============================================================
+-- Migration V12: Lotes de geração com IA
+-- ============================================================
+
+-- Jobs enviados juntos compartilham o mesmo ID de lote (UUID)
+ALTER TABLE jobs_geracao_ia
+    ADD COLUMN id_lote VARCHAR(36) NULL AFTER id,
+    ADD INDEX idx_job_geracao_lote (id_lote);
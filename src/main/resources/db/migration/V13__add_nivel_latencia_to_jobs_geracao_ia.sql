@@ -0,0 +1,7 @@
+-- ============================================================
+-- Migration V13: Nível de latência solicitado na geração com IA
+-- ============================================================
+
+-- RAPIDA, PADRAO ou QUALIDADE; orienta o roteamento entre modelos
+ALTER TABLE jobs_geracao_ia
+    ADD COLUMN nivel_latencia VARCHAR(20) NOT NULL DEFAULT 'PADRAO' AFTER ignorar_cache;
@@ -0,0 +1,19 @@
+-- ============================================================
+-- Migration V14: Consumo diário da IA por advogado
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS uso_ia_advogado (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_advogado BIGINT NOT NULL,
+    data DATE NOT NULL,
+    requisicoes BIGINT NOT NULL DEFAULT 0 COMMENT 'Chamadas ao provedor (respostas em cache não contam)',
+    tokens_entrada BIGINT NOT NULL DEFAULT 0,
+    tokens_saida BIGINT NOT NULL DEFAULT 0,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    CONSTRAINT fk_uso_ia_advogado
+        FOREIGN KEY (id_advogado) REFERENCES advogado(id)
+        ON DELETE CASCADE ON UPDATE CASCADE,
+    
+    UNIQUE INDEX uk_uso_ia_advogado_data (id_advogado, data)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Tokens e chamadas à IA acumulados por advogado e dia';
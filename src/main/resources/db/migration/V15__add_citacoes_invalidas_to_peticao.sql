@@ -0,0 +1,7 @@
+-- ============================================================
+-- Migration V15: Verificação das citações de lei da petição
+-- ============================================================
+
+-- Citações com artigo inexistente ou revogado no conteúdo; NULL se não verificado
+ALTER TABLE peticoes
+    ADD COLUMN citacoes_invalidas INT NULL;
@@ -0,0 +1,23 @@
+-- ============================================================
+-- Migration V16: Resumo incremental do processo gerado com IA
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS resumo_processo (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_processo BIGINT NOT NULL,
+    texto TEXT NULL,
+    id_ultimo_andamento BIGINT NOT NULL DEFAULT 0 COMMENT 'Último andamento incorporado ao texto',
+    andamentos_resumidos INT NOT NULL DEFAULT 0,
+    desatualizado BOOLEAN NOT NULL DEFAULT TRUE,
+    reconstruir BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'Andamento já incorporado foi alterado ou excluído',
+    versao BIGINT NOT NULL DEFAULT 0 COMMENT 'Incrementada a cada marcação como desatualizado',
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao TIMESTAMP NULL,
+    
+    CONSTRAINT fk_resumo_processo
+        FOREIGN KEY (id_processo) REFERENCES processos(id)
+        ON DELETE CASCADE ON UPDATE CASCADE,
+    
+    UNIQUE INDEX uk_resumo_processo (id_processo),
+    INDEX idx_resumo_processo_desatualizado (desatualizado)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Resumo dos andamentos do processo, atualizado em segundo plano';
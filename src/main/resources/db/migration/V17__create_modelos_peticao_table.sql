@@ -0,0 +1,45 @@
+-- ============================================================
+-- Migration V17: Modelos de petição preenchidos sem IA
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS modelos_peticao (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tipo VARCHAR(50) NOT NULL COMMENT 'INICIAL, CONTESTACAO, MANIFESTACAO, etc',
+    nome VARCHAR(150) NOT NULL,
+    conteudo TEXT NOT NULL COMMENT 'Texto com campos {{processo.numero}}, {{cliente.nome}}, {{advogado.oab}}, ...',
+    ativo BOOLEAN NOT NULL DEFAULT TRUE,
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao TIMESTAMP NULL,
+    
+    INDEX idx_modelo_peticao_tipo (tipo, ativo)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Modelos de petição por tipo';
+
+INSERT INTO modelos_peticao (tipo, nome, conteudo) VALUES
+('MANIFESTACAO', 'Juntada de documentos',
+'EXCELENTÍSSIMO(A) SENHOR(A) DOUTOR(A) JUIZ(A) DE DIREITO
+
+Processo nº {{processo.numero}}
+
+{{cliente.nome}}, já qualificado(a) nos autos do processo em epígrafe, por seu advogado que esta subscreve, vem, respeitosamente, à presença de Vossa Excelência, requerer a juntada dos documentos anexos, para que produzam seus efeitos legais.
+
+Termos em que,
+pede deferimento.
+
+{{data.extenso}}.
+
+{{advogado.nome}}
+OAB {{advogado.oab}}'),
+('MANIFESTACAO', 'Ciência de decisão',
+'EXCELENTÍSSIMO(A) SENHOR(A) DOUTOR(A) JUIZ(A) DE DIREITO
+
+Processo nº {{processo.numero}}
+
+{{cliente.nome}}, já qualificado(a) nos autos do processo em epígrafe, por seu advogado que esta subscreve, vem, respeitosamente, à presença de Vossa Excelência, manifestar ciência da r. decisão proferida, nada tendo a requerer no momento.
+
+Termos em que,
+pede deferimento.
+
+{{data.extenso}}.
+
+{{advogado.nome}}
+OAB {{advogado.oab}}');
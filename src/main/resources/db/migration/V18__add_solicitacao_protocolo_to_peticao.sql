@@ -0,0 +1,9 @@
+-- ============================================================
+-- Migration V18: Protocolo da petição em segundo plano
+-- ============================================================
+
+-- Solicitação de protocolo; o documento é gerado depois e o protocolo concluído em
+-- data_protocolo. NULL se o protocolo não foi solicitado
+ALTER TABLE peticoes
+    ADD COLUMN data_solicitacao_protocolo DATETIME NULL,
+    ADD INDEX idx_peticoes_solicitacao_protocolo (status, data_solicitacao_protocolo);
@@ -0,0 +1,13 @@
+-- ============================================================
+-- Migration V19: Referências aos arquivos do armazenamento por conteúdo
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS arquivos_armazenados (
+    hash CHAR(64) PRIMARY KEY COMMENT 'SHA-256 do conteúdo; o arquivo fica em <raiz>/ab/cd/<hash>',
+    tamanho_bytes BIGINT NOT NULL,
+    referencias INT NOT NULL DEFAULT 0 COMMENT 'Documentos de petição e anexos que apontam para o arquivo',
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_arquivos_sem_referencias (referencias, data_atualizacao)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Contagem de referências dos arquivos gravados uma única vez por conteúdo';
@@ -0,0 +1,8 @@
+-- ============================================================
+-- Migration V20: Tentativas de geração do documento de protocolo
+-- ============================================================
+
+-- Falhas na geração do documento desde a solicitação do protocolo; esgotadas as tentativas,
+-- data_solicitacao_protocolo volta a NULL e a petição sai da fila de protocolo
+ALTER TABLE peticoes
+    ADD COLUMN tentativas_protocolo INT NOT NULL DEFAULT 0;
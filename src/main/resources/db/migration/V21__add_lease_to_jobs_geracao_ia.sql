@@ -0,0 +1,13 @@
+-- ============================================================
+-- Migration V21: Lease dos jobs de geração com IA
+-- ============================================================
+
+-- Instância que executa o job e último sinal de vida dela; a recuperação só devolve para a fila
+-- jobs em execução cujo sinal de vida ficou mais antigo que gemini.fila.lease-ms
+ALTER TABLE jobs_geracao_ia
+    ADD COLUMN instancia VARCHAR(64) NULL AFTER tentativas,
+    ADD COLUMN data_heartbeat TIMESTAMP NULL AFTER data_inicio;
+
+UPDATE jobs_geracao_ia SET data_heartbeat = data_inicio WHERE status = 'EXECUTANDO';
+
+CREATE INDEX idx_job_geracao_heartbeat ON jobs_geracao_ia (status, data_heartbeat);
@@ -0,0 +1,429 @@
+package smartLegalApi.application.peticao.usecase;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import smartLegalApi.application.peticao.event.JobGeracaoIAEnfileiradoEvent;
+import smartLegalApi.application.peticao.event.LoteGeracaoIAEnfileiradoEvent;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.domain.peticao.entity.JobGeracaoIA;
+import smartLegalApi.domain.peticao.entity.LoteGeracaoIA;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.domain.peticao.exception.FilaGeracaoIACheiaException;
+import smartLegalApi.domain.peticao.repository.JobGeracaoIARepository;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusJobGeracao;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.domain.shared.exception.DomainException;
+import smartLegalApi.infrastructure.ai.cache.CacheRespostaIAService;
+import smartLegalApi.infrastructure.ai.citacoes.VerificadorCitacoes;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.contexto.MontadorContextoPeticao;
+import smartLegalApi.infrastructure.ai.referencias.IndiceReferenciasPeticao;
+import smartLegalApi.infrastructure.ai.secoes.GeradorPeticaoPorSecoes;
+import smartLegalApi.infrastructure.ai.service.AiTextGenerator;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para os Use Cases da fila de geração com IA
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Geração com IA (fila) Use Cases - Testes")
+class GeracaoIAUseCasesTest {
+    
+    @Mock
+    private PeticaoRepository peticaoRepository;
+    
+    @Mock
+    private JobGeracaoIARepository jobRepository;
+    
+    @Mock
+    private AiTextGenerator aiTextGenerator;
+    
+    @Mock
+    private CacheRespostaIAService cacheRespostaIAService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private ContabilizadorUsoIA contabilizadorUso;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private GeminiProperties geminiProperties;
+    private Peticao peticao;
+    private JobGeracaoIA job;
+    
+    @BeforeEach
+    void setUp() {
+        geminiProperties = new GeminiProperties();
+        geminiProperties.getFila().setCapacidade(2);
+        
+        peticao = Peticao.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança")
+            .status(StatusPeticao.RASCUNHO)
+            .dataCriacao(LocalDateTime.now())
+            .build();
+        
+        job = JobGeracaoIA.criar(1L, "Contexto do caso", null, false);
+        job.setId(10L);
+    }
+    
+    private GerarPeticaoComIAUseCase gerarUseCase() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EstimadorTokens estimadorTokens = new EstimadorTokens(geminiProperties, meterRegistry);
+        estimadorTokens.inicializar();
+        MontadorContextoPeticao montadorContexto = new MontadorContextoPeticao(
+            mock(ProcessoRepository.class), mock(ClienteRepository.class), mock(AndamentoRepository.class),
+            mock(IndiceReferenciasPeticao.class),
+            new PeticaoPromptService(), estimadorTokens, geminiProperties, meterRegistry);
+        VerificadorCitacoes verificadorCitacoes = new VerificadorCitacoes(geminiProperties, meterRegistry);
+        verificadorCitacoes.inicializar();
+        return new GerarPeticaoComIAUseCase(
+            peticaoRepository, jobRepository, aiTextGenerator, montadorContexto, contabilizadorUso, verificadorCitacoes);
+    }
+    
+    private ProcessarJobGeracaoIAUseCase processarUseCase() {
+        GeradorPeticaoPorSecoes geradorPorSecoes =
+            new GeradorPeticaoPorSecoes(new PeticaoPromptService(), geminiProperties, Runnable::run, new SimpleMeterRegistry());
+        return new ProcessarJobGeracaoIAUseCase(jobRepository, gerarUseCase(), cacheRespostaIAService,
+            geradorPorSecoes, new TransactionTemplate(transactionManager));
+    }
+    
+    // =================================================================
+    // 1. ENFILEIRAR
+    // =================================================================
+    
+    @Test
+    @DisplayName("[Enfileirar] Deve gravar job pendente e publicar evento")
+    void enfileirar_deveGravarJobEPublicarEvento() {
+        // Arrange
+        EnfileirarGeracaoIAUseCase useCase =
+            new EnfileirarGeracaoIAUseCase(peticaoRepository, jobRepository, geminiProperties, eventPublisher, contabilizadorUso);
+        
+        when(peticaoRepository.findByIdComTrava(1L)).thenReturn(Optional.of(peticao));
+        when(jobRepository.existsAtivoPorPeticao(1L)).thenReturn(false);
+        when(jobRepository.countAtivos()).thenReturn(0L);
+        when(jobRepository.save(any(JobGeracaoIA.class))).thenReturn(job);
+        
+        // Act
+        JobGeracaoIA result = useCase.executar(1L, "Contexto do caso", null, false);
+        
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(StatusJobGeracao.PENDENTE);
+        verify(eventPublisher).publishEvent(new JobGeracaoIAEnfileiradoEvent(10L));
+    }
+    
+    @Test
+    @DisplayName("[Enfileirar] Deve rejeitar quando a fila está cheia")
+    void enfileirar_deveRejeitarComFilaCheia() {
+        // Arrange
+        EnfileirarGeracaoIAUseCase useCase =
+            new EnfileirarGeracaoIAUseCase(peticaoRepository, jobRepository, geminiProperties, eventPublisher, contabilizadorUso);
+        
+        when(peticaoRepository.findByIdComTrava(1L)).thenReturn(Optional.of(peticao));
+        when(jobRepository.existsAtivoPorPeticao(1L)).thenReturn(false);
+        when(jobRepository.countAtivos()).thenReturn(2L);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(1L, "Contexto do caso", null, false))
+            .isInstanceOf(FilaGeracaoIACheiaException.class);
+        verify(jobRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("[Enfileirar] Deve rejeitar segunda geração para a mesma petição")
+    void enfileirar_deveRejeitarJobDuplicado() {
+        // Arrange
+        EnfileirarGeracaoIAUseCase useCase =
+            new EnfileirarGeracaoIAUseCase(peticaoRepository, jobRepository, geminiProperties, eventPublisher, contabilizadorUso);
+        
+        when(peticaoRepository.findByIdComTrava(1L)).thenReturn(Optional.of(peticao));
+        when(jobRepository.existsAtivoPorPeticao(1L)).thenReturn(true);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(1L, "Contexto do caso", null, false))
+            .isInstanceOf(BusinessRuleException.class);
+    }
+    
+    @Test
+    @DisplayName("[Enfileirar Lote] Deve enfileirar petições válidas e rejeitar as demais")
+    void enfileirarLote_deveTolerarFalhasParciais() {
+        // Arrange
+        EnfileirarGeracaoIAUseCase enfileirarUseCase =
+            new EnfileirarGeracaoIAUseCase(peticaoRepository, jobRepository, geminiProperties, eventPublisher, contabilizadorUso);
+        EnfileirarLoteGeracaoIAUseCase useCase =
+            new EnfileirarLoteGeracaoIAUseCase(enfileirarUseCase, jobRepository, geminiProperties, eventPublisher);
+        
+        when(peticaoRepository.findByIdComTrava(1L)).thenReturn(Optional.of(peticao));
+        when(peticaoRepository.findByIdComTrava(2L)).thenReturn(Optional.empty());
+        when(jobRepository.existsAtivoPorPeticao(1L)).thenReturn(false);
+        when(jobRepository.countAtivos()).thenReturn(0L);
+        when(jobRepository.save(any(JobGeracaoIA.class))).thenAnswer(inv -> inv.getArgument(0));
+        
+        List<EnfileirarLoteGeracaoIAUseCase.ItemLote> itens = List.of(
+            new EnfileirarLoteGeracaoIAUseCase.ItemLote(1L, "Contexto do caso", null),
+            new EnfileirarLoteGeracaoIAUseCase.ItemLote(2L, "Contexto do caso", null),
+            new EnfileirarLoteGeracaoIAUseCase.ItemLote(1L, "Contexto repetido", null)
+        );
+        
+        // Act
+        LoteGeracaoIA lote = useCase.executar(itens, false);
+        
+        // Assert
+        assertThat(lote.getJobs()).hasSize(1);
+        assertThat(lote.getJobs().get(0).getIdLote()).isEqualTo(lote.getId());
+        assertThat(lote.getRejeitados()).containsOnlyKeys(2L, 1L);
+        assertThat(lote.getRejeitados().get(2L)).contains("não encontrada");
+        verify(eventPublisher).publishEvent(new LoteGeracaoIAEnfileiradoEvent(lote.getId()));
+    }
+    
+    // =================================================================
+    // 2. PROCESSAR
+    // =================================================================
+    
+    @Test
+    @DisplayName("[Processar] Deve gerar conteúdo e concluir o job")
+    void processar_deveConcluirJob() {
+        // Arrange
+        when(jobRepository.findByIdComTrava(10L)).thenReturn(Optional.of(job));
+        when(jobRepository.update(any(JobGeracaoIA.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        when(peticaoRepository.update(any(Peticao.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(cacheRespostaIAService.gerarConteudo(anyString(), any(PerfilGeracao.class), eq(false))).thenReturn("Conteúdo gerado com base no art. 319 do CPC e no art. 9999 do CPC");
+        
+        // Act
+        Optional<JobGeracaoIA> result = processarUseCase().executar(10L, "instancia-a");
+        
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().getStatus()).isEqualTo(StatusJobGeracao.CONCLUIDO);
+        assertThat(result.get().getTentativas()).isEqualTo(1);
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.REVISAO);
+        assertThat(peticao.getConteudo()).isEqualTo("Conteúdo gerado com base no art. 319 do CPC e no art. 9999 do CPC");
+        assertThat(peticao.getCitacoesInvalidas()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Processar] Deve descartar resultado se o job foi cancelado durante a execução")
+    void processar_deveDescartarResultadoDeJobCancelado() {
+        // Arrange
+        when(jobRepository.findByIdComTrava(10L)).thenReturn(Optional.of(job));
+        when(jobRepository.update(any(JobGeracaoIA.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        when(peticaoRepository.update(any(Peticao.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(cacheRespostaIAService.gerarConteudo(anyString(), any(PerfilGeracao.class), eq(false))).thenAnswer(inv -> {
+            job.cancelar();
+            return "Conteúdo descartado";
+        });
+        
+        // Act
+        Optional<JobGeracaoIA> result = processarUseCase().executar(10L, "instancia-a");
+        
+        // Assert
+        assertThat(result.get().getStatus()).isEqualTo(StatusJobGeracao.CANCELADO);
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.REVISAO);
+        assertThat(peticao.getConteudo()).isNull();
+    }
+    
+    @Test
+    @DisplayName("[Processar] Deve marcar job como falho e reverter a petição em erro da IA")
+    void processar_deveFalharJobEmErro() {
+        // Arrange
+        when(jobRepository.findByIdComTrava(10L)).thenReturn(Optional.of(job));
+        when(jobRepository.update(any(JobGeracaoIA.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        when(peticaoRepository.update(any(Peticao.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(cacheRespostaIAService.gerarConteudo(anyString(), any(PerfilGeracao.class), eq(false))).thenThrow(new ErroGeracaoIAException("Erro ao chamar API Gemini: 500"));
+        
+        // Act
+        Optional<JobGeracaoIA> result = processarUseCase().executar(10L, "instancia-a");
+        
+        // Assert
+        assertThat(result.get().getStatus()).isEqualTo(StatusJobGeracao.FALHOU);
+        assertThat(result.get().getMensagemErro()).contains("500");
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.REVISAO);
+    }
+    
+    @Test
+    @DisplayName("[Processar] Deve descartar resultado de job recuperado por outra instância")
+    void processar_deveDescartarResultadoDeJobRecuperado() {
+        // Arrange
+        when(jobRepository.findByIdComTrava(10L)).thenReturn(Optional.of(job));
+        when(jobRepository.update(any(JobGeracaoIA.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        when(peticaoRepository.update(any(Peticao.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(cacheRespostaIAService.gerarConteudo(anyString(), any(PerfilGeracao.class), eq(false))).thenAnswer(inv -> {
+            job.reenfileirar();
+            job.iniciar("instancia-b");
+            return "Conteúdo descartado";
+        });
+        
+        // Act
+        Optional<JobGeracaoIA> result = processarUseCase().executar(10L, "instancia-a");
+        
+        // Assert
+        assertThat(result.get().getInstancia()).isEqualTo("instancia-b");
+        assertThat(result.get().getStatus()).isEqualTo(StatusJobGeracao.EXECUTANDO);
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.GERANDO);
+        assertThat(peticao.getConteudo()).isNull();
+    }
+    
+    @Test
+    @DisplayName("[Processar] Deve ignorar job que não está mais pendente")
+    void processar_deveIgnorarJobNaoPendente() {
+        // Arrange
+        job.cancelar();
+        when(jobRepository.findByIdComTrava(10L)).thenReturn(Optional.of(job));
+        
+        // Act
+        Optional<JobGeracaoIA> result = processarUseCase().executar(10L, "instancia-a");
+        
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(cacheRespostaIAService);
+    }
+    
+    // =================================================================
+    // 3. RECUPERAR
+    // =================================================================
+    
+    @Test
+    @DisplayName("[Recuperar] Deve reenfileirar jobs com lease expirado e liberar a petição")
+    void recuperar_deveReenfileirarJobsComLeaseExpirado() {
+        // Arrange
+        RecuperarJobsGeracaoIAUseCase useCase = new RecuperarJobsGeracaoIAUseCase(jobRepository, peticaoRepository, geminiProperties);
+        job.iniciar("instancia-a");
+        job.setDataHeartbeat(LocalDateTime.now().minusMinutes(5));
+        peticao.iniciarGeracao("prompt");
+        
+        when(jobRepository.findExecutandoComHeartbeatAnterior(any(LocalDateTime.class))).thenReturn(List.of(job));
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        
+        // Act
+        int recuperados = useCase.executar();
+        
+        // Assert
+        assertThat(recuperados).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(StatusJobGeracao.PENDENTE);
+        assertThat(job.getInstancia()).isNull();
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.REVISAO);
+        verify(jobRepository).update(job);
+        verify(peticaoRepository).update(peticao);
+    }
+    
+    @Test
+    @DisplayName("[Recuperar] Não deve liberar petição em streaming dentro do tempo máximo")
+    void recuperar_naoDeveLiberarPeticaoEmStreaming() {
+        // Arrange
+        RecuperarJobsGeracaoIAUseCase useCase = new RecuperarJobsGeracaoIAUseCase(jobRepository, peticaoRepository, geminiProperties);
+        Peticao abandonada = Peticao.builder()
+            .id(2L)
+            .status(StatusPeticao.GERANDO)
+            .dataAtualizacao(LocalDateTime.now().minusHours(1))
+            .build();
+        peticao.iniciarGeracao("prompt");
+        
+        when(jobRepository.findExecutandoComHeartbeatAnterior(any(LocalDateTime.class))).thenReturn(List.of());
+        when(peticaoRepository.findByStatus(StatusPeticao.GERANDO)).thenReturn(List.of(peticao, abandonada));
+        
+        // Act
+        int recuperados = useCase.executar();
+        
+        // Assert
+        assertThat(recuperados).isZero();
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.GERANDO);
+        assertThat(abandonada.getStatus()).isEqualTo(StatusPeticao.REVISAO);
+        verify(peticaoRepository).update(abandonada);
+        verify(peticaoRepository, never()).update(peticao);
+    }
+    
+    // =================================================================
+    // 4. STREAMING
+    // =================================================================
+    
+    @Test
+    @DisplayName("[Streaming] Deve recusar petição com job de geração ativo antes de abrir o stream")
+    void streaming_deveRecusarPeticaoComJobAtivo() {
+        // Arrange
+        when(peticaoRepository.findByIdComTrava(1L)).thenReturn(Optional.of(peticao));
+        when(jobRepository.existsAtivoPorPeticao(1L)).thenReturn(true);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> gerarUseCase().iniciarGeracaoStreaming(1L, "Contexto do caso", null))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("geração em andamento");
+        assertThat(peticao.getStatus()).isEqualTo(StatusPeticao.RASCUNHO);
+        verify(peticaoRepository, never()).update(any(Peticao.class));
+    }
+    
+    // =================================================================
+    // 5. REGENERAR SEÇÃO
+    // =================================================================
+    
+    @Test
+    @DisplayName("[Regenerar seção] Deve recusar a substituição se o corpo da seção foi editado durante a geração")
+    void regenerarSecao_deveRecusarSeSecaoFoiEditada() {
+        // Arrange
+        String conteudo = "I - DOS FATOS\n\nO réu não pagou as parcelas.\n\nII - DOS PEDIDOS\n\nRequer a condenação.";
+        Peticao lida = Peticao.builder()
+            .id(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .status(StatusPeticao.REVISAO)
+            .conteudo(conteudo)
+            .conteudoGeradoIA(conteudo)
+            .build();
+        Peticao editada = Peticao.builder()
+            .id(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .status(StatusPeticao.REVISAO)
+            .conteudoGeradoIA(conteudo)
+            .conteudo(conteudo.replace("não pagou as parcelas", "pagou só a primeira parcela"))
+            .build();
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(lida));
+        when(peticaoRepository.findByIdComTrava(1L)).thenReturn(Optional.of(editada));
+        when(cacheRespostaIAService.gerarConteudo(anyString(), any(PerfilGeracao.class), eq(true))).thenReturn("Novo texto dos fatos.");
+        VerificadorCitacoes verificadorCitacoes = new VerificadorCitacoes(geminiProperties, new SimpleMeterRegistry());
+        RegenerarSecaoPeticaoUseCase useCase = new RegenerarSecaoPeticaoUseCase(peticaoRepository, cacheRespostaIAService,
+            new PeticaoPromptService(), verificadorCitacoes, new TransactionTemplate(transactionManager));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(1L, 0, null))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("alterado");
+        assertThat(editada.getConteudo()).contains("pagou só a primeira parcela");
+        verify(peticaoRepository, never()).update(any(Peticao.class));
+    }
+}
@@ -0,0 +1,159 @@
+package smartLegalApi.application.peticao.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import smartLegalApi.application.peticao.event.ProtocoloPeticaoSolicitadoEvent;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.FilaProtocoloCheiaException;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para os Use Cases do protocolo com geração do documento em segundo plano
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Protocolo de Petição Use Cases - Testes")
+class ProtocoloPeticaoUseCasesTest {
+    
+    @Mock
+    private PeticaoRepository peticaoRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private DocumentoProperties documentoProperties;
+    private ProtocolarPeticaoUseCase protocolarUseCase;
+    private ConcluirProtocoloPeticaoUseCase concluirUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        documentoProperties = new DocumentoProperties();
+        documentoProperties.getRenderizacao().setCapacidade(2);
+        
+        protocolarUseCase = new ProtocolarPeticaoUseCase(peticaoRepository, documentoProperties, eventPublisher);
+        concluirUseCase = new ConcluirProtocoloPeticaoUseCase(peticaoRepository, eventPublisher);
+        
+        lenient().when(peticaoRepository.update(any(Peticao.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+    
+    private Peticao peticaoAprovada() {
+        return Peticao.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança")
+            .conteudo("Conteúdo aprovado")
+            .status(StatusPeticao.APROVADA)
+            .dataCriacao(LocalDateTime.now())
+            .build();
+    }
+    
+    @Test
+    @DisplayName("Deve registrar a solicitação e publicar o evento sem gerar o documento")
+    void protocolar_deveRegistrarSolicitacao() {
+        // Arrange
+        Peticao peticao = peticaoAprovada();
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        when(peticaoRepository.countProtocoloPendente()).thenReturn(0L);
+        
+        // Act
+        Peticao resultado = protocolarUseCase.executar(1L);
+        
+        // Assert
+        assertThat(resultado.getStatus()).isEqualTo(StatusPeticao.APROVADA);
+        assertThat(resultado.isProtocoloPendente()).isTrue();
+        assertThat(resultado.getCaminhoDocumento()).isNull();
+        verify(eventPublisher).publishEvent(new ProtocoloPeticaoSolicitadoEvent(1L));
+    }
+    
+    @Test
+    @DisplayName("Deve recusar a solicitação quando a fila de geração estiver cheia")
+    void protocolar_deveRecusarComFilaCheia() {
+        // Arrange
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticaoAprovada()));
+        when(peticaoRepository.countProtocoloPendente()).thenReturn(2L);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> protocolarUseCase.executar(1L))
+            .isInstanceOf(FilaProtocoloCheiaException.class);
+        verify(peticaoRepository, never()).update(any());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    @DisplayName("Deve concluir o protocolo com o documento gerado do conteúdo atual")
+    void concluir_deveProtocolar() {
+        // Arrange
+        Peticao renderizada = peticaoAprovada();
+        renderizada.solicitarProtocolo();
+        Peticao atual = peticaoAprovada();
+        atual.solicitarProtocolo();
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(atual));
+        
+        // Act
+        boolean concluido = concluirUseCase.executar(renderizada, "/documentos/peticao.docx");
+        
+        // Assert
+        assertThat(concluido).isTrue();
+        assertThat(atual.getStatus()).isEqualTo(StatusPeticao.PROTOCOLADA);
+        assertThat(atual.getCaminhoDocumento()).isEqualTo("/documentos/peticao.docx");
+        assertThat(atual.getDataProtocolo()).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("Não deve concluir o protocolo se o conteúdo mudou durante a geração")
+    void concluir_deveDescartarDocumentoDesatualizado() {
+        // Arrange
+        Peticao renderizada = peticaoAprovada();
+        renderizada.solicitarProtocolo();
+        Peticao atual = peticaoAprovada();
+        atual.solicitarProtocolo();
+        atual.atualizarConteudo("Conteúdo corrigido");
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(atual));
+        
+        // Act
+        boolean concluido = concluirUseCase.executar(renderizada, "/documentos/peticao.docx");
+        
+        // Assert
+        assertThat(concluido).isFalse();
+        assertThat(atual.getStatus()).isEqualTo(StatusPeticao.APROVADA);
+        verify(peticaoRepository, never()).update(any());
+    }
+    
+    @Test
+    @DisplayName("Deve cancelar a solicitação de protocolo ao esgotar as tentativas de geração")
+    void registrarFalha_deveCancelarAoEsgotarTentativas() {
+        // Arrange
+        Peticao atual = peticaoAprovada();
+        atual.solicitarProtocolo();
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(atual));
+        
+        // Act
+        boolean primeira = concluirUseCase.registrarFalha(1L, 2);
+        boolean segunda = concluirUseCase.registrarFalha(1L, 2);
+        
+        // Assert
+        assertThat(primeira).isFalse();
+        assertThat(segunda).isTrue();
+        assertThat(atual.isProtocoloPendente()).isFalse();
+        assertThat(atual.getStatus()).isEqualTo(StatusPeticao.APROVADA);
+        assertThat(atual.getTentativasProtocolo()).isEqualTo(2);
+        assertThat(concluirUseCase.registrarFalha(1L, 2)).isFalse();
+    }
+}
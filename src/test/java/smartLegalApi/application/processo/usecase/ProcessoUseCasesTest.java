@@ -10,17 +10,26 @@ import smartLegalApi.domain.advogado.entity.Advogado;
 import smartLegalApi.domain.advogado.repository.AdvogadoRepository;
 import smartLegalApi.domain.cliente.entity.Cliente;
 import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.domain.processo.entity.Documento;
 import smartLegalApi.domain.processo.entity.Processo;
 import smartLegalApi.domain.processo.exception.NumeroProcessoJaCadastradoException;
 import smartLegalApi.domain.processo.exception.ProcessoNaoEncontradoException;
+import smartLegalApi.domain.processo.repository.DocumentoRepository;
 import smartLegalApi.domain.processo.repository.ProcessoRepository;
 import smartLegalApi.domain.processo.valueobject.NumeroProcesso;
 import smartLegalApi.domain.processo.valueobject.StatusProcesso;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
 import smartLegalApi.domain.shared.exception.NotFoundException;
 import smartLegalApi.domain.shared.valueobject.CPF;
 import smartLegalApi.domain.shared.valueobject.Email;
 import smartLegalApi.domain.shared.valueobject.OAB;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
+import smartLegalApi.infrastructure.storage.ArquivoArmazenado;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -49,6 +58,12 @@ class ProcessoUseCasesTest {
     @Mock
     private ClienteRepository clienteRepository;
     
+    @Mock
+    private DocumentoRepository documentoRepository;
+    
+    @Mock
+    private ArmazenamentoArquivos armazenamentoArquivos;
+    
     private Processo processoMock;
     private Advogado advogadoMock;
     private Cliente clienteMock;
@@ -300,8 +315,10 @@ class ProcessoUseCasesTest {
     @DisplayName("[DeletarProcesso] Deve deletar com sucesso")
     void deletarProcesso_deveDeletarComSucesso() {
         // Arrange
-        DeletarProcessoUseCase useCase = new DeletarProcessoUseCase(processoRepository);
+        DeletarProcessoUseCase useCase = new DeletarProcessoUseCase(processoRepository, documentoRepository, armazenamentoArquivos);
         when(processoRepository.findById(1L)).thenReturn(Optional.of(processoMock));
+        when(documentoRepository.findByProcesso(1L)).thenReturn(List.of(
+            Documento.criar(1L, "Contrato.pdf", "./uploads/arquivos/ab/cd/abcd", "application/pdf", 10L, "abcd")));
         doNothing().when(processoRepository).deleteById(1L);
         
         // Act
@@ -309,6 +326,65 @@ class ProcessoUseCasesTest {
         
         // Assert
         verify(processoRepository).deleteById(1L);
+        verify(armazenamentoArquivos).liberar("./uploads/arquivos/ab/cd/abcd");
+    }
+    
+    @Test
+    @DisplayName("[AnexarDocumento] Deve recusar caminho do armazenamento informado pelo cliente")
+    void anexarDocumento_deveRecusarCaminhoDoArmazenamento() {
+        // Arrange
+        AnexarDocumentoUseCase useCase = new AnexarDocumentoUseCase(documentoRepository, processoRepository, armazenamentoArquivos);
+        when(armazenamentoArquivos.hash("./uploads/arquivos/ab/cd/abcd")).thenReturn(Optional.of("abcd"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(1L, "Contrato.pdf", "./uploads/arquivos/ab/cd/abcd",
+            "application/pdf", 10L, "abcd"))
+            .isInstanceOf(BusinessRuleException.class);
+        
+        verify(documentoRepository, never()).save(any());
+    }
+    
+    // =================================================================
+    // 9. ENVIAR DOCUMENTO USE CASE
+    // =================================================================
+    
+    @Test
+    @DisplayName("[EnviarDocumento] Deve anexar com tamanho e hash calculados no servidor")
+    void enviarDocumento_deveAnexarComMetadadosCalculados() throws Exception {
+        // Arrange
+        AnexarDocumentoUseCase anexarDocumentoUseCase = mock(AnexarDocumentoUseCase.class);
+        EnviarDocumentoUseCase useCase = new EnviarDocumentoUseCase(processoRepository, armazenamentoArquivos, anexarDocumentoUseCase);
+        ArquivoArmazenado arquivo = new ArquivoArmazenado("abcd", 17L, Path.of("./uploads/arquivos/ab/cd/abcd"));
+        InputStream conteudo = new ByteArrayInputStream("contrato assinado".getBytes(StandardCharsets.UTF_8));
+        when(processoRepository.findById(1L)).thenReturn(Optional.of(processoMock));
+        when(armazenamentoArquivos.gravar(conteudo)).thenReturn(arquivo);
+        
+        // Act
+        useCase.executar(1L, "Contrato.docx",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", conteudo, "ABCD");
+        
+        // Assert
+        verify(anexarDocumentoUseCase).executar(1L, "Contrato.docx", "docx", arquivo);
+        verify(armazenamentoArquivos, never()).liberar(anyString());
+    }
+    
+    @Test
+    @DisplayName("[EnviarDocumento] Deve recusar e liberar o arquivo quando o hash informado não confere")
+    void enviarDocumento_deveRecusarHashDivergente() throws Exception {
+        // Arrange
+        AnexarDocumentoUseCase anexarDocumentoUseCase = mock(AnexarDocumentoUseCase.class);
+        EnviarDocumentoUseCase useCase = new EnviarDocumentoUseCase(processoRepository, armazenamentoArquivos, anexarDocumentoUseCase);
+        ArquivoArmazenado arquivo = new ArquivoArmazenado("abcd", 17L, Path.of("./uploads/arquivos/ab/cd/abcd"));
+        when(processoRepository.findById(1L)).thenReturn(Optional.of(processoMock));
+        when(armazenamentoArquivos.gravar(any(InputStream.class))).thenReturn(arquivo);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(1L, "Contrato.pdf", "application/pdf",
+            new ByteArrayInputStream(new byte[0]), "ffff"))
+            .isInstanceOf(BusinessRuleException.class);
+        
+        verify(armazenamentoArquivos).liberar(arquivo.caminho().toString());
+        verifyNoInteractions(anexarDocumentoUseCase);
     }
     
 }
@@ -0,0 +1,284 @@
+package smartLegalApi.application.processo.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import smartLegalApi.application.processo.event.ResumoProcessoDesatualizadoEvent;
+import smartLegalApi.domain.processo.entity.Andamento;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.entity.ResumoProcesso;
+import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.processo.repository.ResumoProcessoRepository;
+import smartLegalApi.domain.processo.valueobject.NumeroProcesso;
+import smartLegalApi.domain.processo.valueobject.StatusProcesso;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.AiTextGenerator;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.service.ResumoProcessoPromptService;
+import smartLegalApi.infrastructure.ai.service.TokensConsumidos;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do resumo incremental do processo
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Resumo do Processo Use Cases - Testes")
+class ResumoProcessoUseCasesTest {
+    
+    @Mock
+    private ResumoProcessoRepository resumoProcessoRepository;
+    
+    @Mock
+    private ProcessoRepository processoRepository;
+    
+    @Mock
+    private AndamentoRepository andamentoRepository;
+    
+    @Mock
+    private AiTextGenerator aiTextGenerator;
+    
+    @Mock
+    private ContabilizadorUsoIA contabilizadorUso;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private GeminiProperties geminiProperties;
+    private AtualizarResumoProcessoUseCase atualizarResumoUseCase;
+    private Processo processoMock;
+    
+    @BeforeEach
+    void setUp() {
+        geminiProperties = new GeminiProperties();
+        atualizarResumoUseCase = new AtualizarResumoProcessoUseCase(
+            resumoProcessoRepository,
+            processoRepository,
+            andamentoRepository,
+            new ResumoProcessoPromptService(geminiProperties),
+            aiTextGenerator,
+            contabilizadorUso,
+            geminiProperties
+        );
+        
+        processoMock = Processo.builder()
+            .id(1L)
+            .numeroProcesso(new NumeroProcesso("0000000-00.0000.0.00.0000"))
+            .titulo("Ação de Cobrança")
+            .status(StatusProcesso.ATIVO)
+            .dataAbertura(LocalDate.now())
+            .idAdvogado(7L)
+            .idCliente(1L)
+            .build();
+        
+        lenient().when(processoRepository.findById(1L)).thenReturn(Optional.of(processoMock));
+        lenient().when(contabilizadorUso.executar(any(PerfilGeracao.class), anyString(), any()))
+            .thenAnswer(invocacao -> invocacao.<Function<TokensConsumidos, String>>getArgument(2).apply(new TokensConsumidos()));
+        lenient().when(resumoProcessoRepository.concluirAtualizacao(any(ResumoProcesso.class), anyLong()))
+            .thenReturn(true);
+    }
+    
+    // =================================================================
+    // 1. ATUALIZAR RESUMO DO PROCESSO USE CASE
+    // =================================================================
+    
+    @Test
+    @DisplayName("[AtualizarResumo] Deve resumir apenas os andamentos novos junto com o resumo anterior")
+    void atualizarResumo_deveIncorporarApenasAndamentosNovos() {
+        // Arrange
+        ResumoProcesso resumo = resumo("Sentença de procedência publicada.", 10L, 5, false, 3L);
+        when(resumoProcessoRepository.findByProcesso(1L)).thenReturn(Optional.of(resumo));
+        when(andamentoRepository.findByProcessoAposId(1L, 10L))
+            .thenReturn(List.of(andamento(11L, "Apelação interposta pelo réu"), andamento(12L, "Contrarrazões apresentadas")));
+        when(aiTextGenerator.gerarConteudo(anyString(), any(PerfilGeracao.class), any(TokensConsumidos.class))).thenReturn("Resumo com a apelação.");
+        
+        // Act
+        boolean concluida = atualizarResumoUseCase.executar(1L);
+        
+        // Assert
+        assertThat(concluida).isTrue();
+        
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<PerfilGeracao> perfil = ArgumentCaptor.forClass(PerfilGeracao.class);
+        verify(aiTextGenerator).gerarConteudo(prompt.capture(), perfil.capture(), any(TokensConsumidos.class));
+        assertThat(prompt.getValue())
+            .contains("Sentença de procedência publicada.", "Apelação interposta pelo réu", "Contrarrazões apresentadas");
+        assertThat(perfil.getValue().idAdvogado()).isEqualTo(7L);
+        
+        ArgumentCaptor<ResumoProcesso> gravado = ArgumentCaptor.forClass(ResumoProcesso.class);
+        verify(resumoProcessoRepository).concluirAtualizacao(gravado.capture(), eq(3L));
+        assertThat(gravado.getValue().getTexto()).isEqualTo("Resumo com a apelação.");
+        assertThat(gravado.getValue().getIdUltimoAndamento()).isEqualTo(12L);
+        assertThat(gravado.getValue().getAndamentosResumidos()).isEqualTo(7);
+    }
+    
+    @Test
+    @DisplayName("[AtualizarResumo] Deve reconstruir desde o primeiro andamento, em blocos, após alteração")
+    void atualizarResumo_deveReconstruirEmBlocos() {
+        // Arrange
+        geminiProperties.getResumo().setAndamentosPorChamada(2);
+        ResumoProcesso resumo = resumo("Resumo com andamento alterado.", 3L, 3, true, 8L);
+        when(resumoProcessoRepository.findByProcesso(1L)).thenReturn(Optional.of(resumo));
+        when(andamentoRepository.findByProcessoAposId(1L, 0L))
+            .thenReturn(List.of(andamento(1L, "Petição inicial"), andamento(2L, "Citação"), andamento(3L, "Contestação")));
+        when(aiTextGenerator.gerarConteudo(anyString(), any(PerfilGeracao.class), any(TokensConsumidos.class)))
+            .thenReturn("Resumo parcial.", "Resumo completo.");
+        
+        // Act
+        atualizarResumoUseCase.executar(1L);
+        
+        // Assert
+        ArgumentCaptor<String> prompts = ArgumentCaptor.forClass(String.class);
+        verify(aiTextGenerator, times(2)).gerarConteudo(prompts.capture(), any(PerfilGeracao.class), any(TokensConsumidos.class));
+        assertThat(prompts.getAllValues().get(0))
+            .contains("Petição inicial", "Citação")
+            .doesNotContain("Resumo com andamento alterado.", "Contestação");
+        assertThat(prompts.getAllValues().get(1)).contains("Resumo parcial.", "Contestação");
+        
+        ArgumentCaptor<ResumoProcesso> gravado = ArgumentCaptor.forClass(ResumoProcesso.class);
+        verify(resumoProcessoRepository).concluirAtualizacao(gravado.capture(), eq(8L));
+        assertThat(gravado.getValue().getTexto()).isEqualTo("Resumo completo.");
+        assertThat(gravado.getValue().getAndamentosResumidos()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("[AtualizarResumo] Deve indicar que precisa refazer se o resumo foi marcado durante a geração")
+    void atualizarResumo_marcadoDuranteGeracao() {
+        // Arrange
+        ResumoProcesso resumo = resumo("Resumo anterior.", 10L, 5, false, 3L);
+        when(resumoProcessoRepository.findByProcesso(1L)).thenReturn(Optional.of(resumo));
+        when(andamentoRepository.findByProcessoAposId(1L, 10L)).thenReturn(List.of(andamento(11L, "Despacho")));
+        when(aiTextGenerator.gerarConteudo(anyString(), any(PerfilGeracao.class), any(TokensConsumidos.class))).thenReturn("Resumo novo.");
+        when(resumoProcessoRepository.concluirAtualizacao(any(ResumoProcesso.class), eq(3L))).thenReturn(false);
+        
+        // Act & Assert
+        assertThat(atualizarResumoUseCase.executar(1L)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("[AtualizarResumo] Não deve chamar a IA para resumo atualizado ou processo sem andamentos")
+    void atualizarResumo_semChamadaIA() {
+        // Arrange
+        ResumoProcesso novo = ResumoProcesso.criar(1L);
+        novo.setVersao(1L);
+        when(resumoProcessoRepository.findByProcesso(1L)).thenReturn(Optional.of(novo));
+        when(andamentoRepository.findByProcessoAposId(1L, 0L)).thenReturn(List.of());
+        
+        ResumoProcesso atualizado = resumo("Resumo.", 4L, 4, false, 2L);
+        atualizado.setDesatualizado(false);
+        when(resumoProcessoRepository.findByProcesso(2L)).thenReturn(Optional.of(atualizado));
+        
+        // Act
+        boolean semAndamentos = atualizarResumoUseCase.executar(1L);
+        boolean jaAtualizado = atualizarResumoUseCase.executar(2L);
+        
+        // Assert
+        assertThat(semAndamentos).isTrue();
+        assertThat(jaAtualizado).isTrue();
+        verifyNoInteractions(aiTextGenerator);
+        assertThat(novo.getTexto()).isEqualTo(AtualizarResumoProcessoUseCase.SEM_ANDAMENTOS);
+        verify(resumoProcessoRepository).concluirAtualizacao(novo, 1L);
+    }
+    
+    // =================================================================
+    // 2. MARCAÇÃO PELOS ANDAMENTOS
+    // =================================================================
+    
+    @Test
+    @DisplayName("[AdicionarAndamento] Deve marcar o resumo como desatualizado e agendar a atualização")
+    void adicionarAndamento_deveMarcarResumo() {
+        // Arrange
+        AdicionarAndamentoUseCase useCase = new AdicionarAndamentoUseCase(
+            andamentoRepository, processoRepository, resumoProcessoRepository, eventPublisher);
+        when(andamentoRepository.save(any(Andamento.class))).thenReturn(andamento(13L, "Audiência designada"));
+        when(resumoProcessoRepository.marcarDesatualizado(1L)).thenReturn(true);
+        
+        // Act
+        useCase.executar(1L, LocalDateTime.now(), "Audiência designada", "AUDIENCIA");
+        
+        // Assert
+        verify(eventPublisher).publishEvent(new ResumoProcessoDesatualizadoEvent(1L));
+    }
+    
+    @Test
+    @DisplayName("[AtualizarAndamento] Deve marcar o resumo para reconstrução pelo andamento alterado")
+    void atualizarAndamento_deveMarcarAlteracao() {
+        // Arrange
+        AtualizarAndamentoUseCase useCase = new AtualizarAndamentoUseCase(
+            andamentoRepository, resumoProcessoRepository, eventPublisher);
+        Andamento andamento = andamento(5L, "Citação");
+        when(andamentoRepository.findById(5L)).thenReturn(Optional.of(andamento));
+        when(andamentoRepository.update(any(Andamento.class))).thenReturn(andamento);
+        when(resumoProcessoRepository.marcarAlteracao(1L, 5L)).thenReturn(false);
+        
+        // Act
+        useCase.executar(5L, null, "Citação por edital", null);
+        
+        // Assert
+        verify(resumoProcessoRepository).marcarAlteracao(1L, 5L);
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    private ResumoProcesso resumo(String texto, Long idUltimoAndamento, int resumidos, boolean reconstruir, Long versao) {
+        return ResumoProcesso.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .texto(texto)
+            .idUltimoAndamento(idUltimoAndamento)
+            .andamentosResumidos(resumidos)
+            .desatualizado(true)
+            .reconstruir(reconstruir)
+            .versao(versao)
+            .build();
+    }
+    
+    private Andamento andamento(Long id, String descricao) {
+        return Andamento.builder()
+            .id(id)
+            .idProcesso(1L)
+            .dataAndamento(LocalDateTime.of(2024, 3, 1, 10, 0).plusDays(id))
+            .descricao(descricao)
+            .build();
+    }
+    
+    // =================================================================
+    // 3. BUSCAR RESUMO DO PROCESSO USE CASE
+    // =================================================================
+    
+    @Test
+    @DisplayName("[Buscar] Deve devolver o resumo criado por consulta simultânea sem disparar nova geração")
+    void buscarResumo_criadoPorConsultaSimultanea() {
+        // Arrange
+        BuscarResumoProcessoUseCase useCase =
+            new BuscarResumoProcessoUseCase(resumoProcessoRepository, processoRepository, eventPublisher);
+        ResumoProcesso existente = ResumoProcesso.criar(1L);
+        existente.setId(5L);
+        when(resumoProcessoRepository.findByProcesso(1L)).thenReturn(Optional.empty());
+        when(resumoProcessoRepository.criarSeAusente(any(ResumoProcesso.class))).thenReturn(false);
+        when(resumoProcessoRepository.findByProcessoComTrava(1L)).thenReturn(Optional.of(existente));
+        
+        // Act
+        ResumoProcesso resultado = useCase.executar(1L);
+        
+        // Assert
+        assertThat(resultado.getId()).isEqualTo(5L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
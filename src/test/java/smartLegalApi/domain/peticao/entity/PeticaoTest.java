@@ -0,0 +1,115 @@
+package smartLegalApi.domain.peticao.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.domain.peticao.valueobject.SecaoPeticao;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.domain.shared.exception.DomainException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para entidade Petição (Domain) - seções do conteúdo
+ */
+@DisplayName("Petição (Entity) - Testes")
+class PeticaoTest {
+    
+    private static final String CONTEUDO = """
+        EXCELENTÍSSIMO SENHOR DOUTOR JUIZ DE DIREITO
+        
+        FULANO DE TAL, já qualificado, vem propor a presente ação.
+        
+        I - DOS FATOS
+        
+        O réu não pagou as parcelas.
+        
+        ## Do Direito
+        
+        Aplica-se o art. 389 do Código Civil.
+        
+        **DOS PEDIDOS**
+        
+        Requer a condenação do réu.
+        """;
+    
+    private Peticao peticao;
+    
+    @BeforeEach
+    void setUp() {
+        peticao = Peticao.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança")
+            .status(StatusPeticao.REVISAO)
+            .conteudo(CONTEUDO)
+            .conteudoGeradoIA(CONTEUDO)
+            .build();
+    }
+    
+    @Test
+    @DisplayName("Deve dividir o conteúdo pelos títulos em maiúsculas e em markdown")
+    void deveListarSecoes() {
+        // Act
+        List<SecaoPeticao> secoes = peticao.listarSecoes();
+        
+        // Assert
+        assertThat(secoes).extracting(SecaoPeticao::titulo).containsExactly(
+            "EXCELENTÍSSIMO SENHOR DOUTOR JUIZ DE DIREITO", "I - DOS FATOS", "Do Direito", "DOS PEDIDOS");
+        assertThat(secoes.get(1).texto()).isEqualTo("I - DOS FATOS\n\nO réu não pagou as parcelas.");
+    }
+    
+    @Test
+    @DisplayName("Deve substituir apenas a seção regenerada no conteúdo e no conteúdo da IA")
+    void deveSubstituirSecao() {
+        // Act
+        peticao.substituirSecao(2, peticao.listarSecoes().get(2), "## Do Direito\n\nAplicam-se os arts. 389 e 395 do Código Civil.\n");
+        
+        // Assert
+        assertThat(peticao.getConteudo())
+            .contains("O réu não pagou as parcelas.\n\n## Do Direito\n\nAplicam-se os arts. 389 e 395 do Código Civil.\n\n**DOS PEDIDOS**")
+            .doesNotContain("Aplica-se o art. 389");
+        assertThat(peticao.getConteudoGeradoIA()).isEqualTo(peticao.getConteudo());
+    }
+    
+    @Test
+    @DisplayName("Deve manter o título original quando o texto regenerado não tem título")
+    void deveManterTituloOriginal() {
+        // Act
+        peticao.substituirSecao(1, peticao.listarSecoes().get(1), "O réu deixou de pagar três parcelas.");
+        
+        // Assert
+        assertThat(peticao.listarSecoes().get(1).texto()).isEqualTo("I - DOS FATOS\n\nO réu deixou de pagar três parcelas.");
+    }
+    
+    @Test
+    @DisplayName("Deve recusar a substituição se o corpo da seção foi editado durante a geração")
+    void deveRecusarSeSecaoMudou() {
+        // Arrange
+        SecaoPeticao lida = peticao.listarSecoes().get(1);
+        peticao.atualizarConteudo(CONTEUDO.replace("O réu não pagou as parcelas.", "O réu pagou só a primeira parcela."));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> peticao.substituirSecao(1, lida, "Novo texto"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("alterado");
+    }
+    
+    @Test
+    @DisplayName("Não deve regenerar seção de petição fora de revisão")
+    void naoDeveRegenerarForaDeRevisao() {
+        // Arrange
+        peticao.setStatus(StatusPeticao.APROVADA);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> peticao.secaoParaRegenerar(0))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("revisão");
+    }
+}
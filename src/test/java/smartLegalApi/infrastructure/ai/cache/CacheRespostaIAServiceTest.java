@@ -0,0 +1,146 @@
+package smartLegalApi.infrastructure.ai.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.service.AiTextGenerator;
+import smartLegalApi.infrastructure.ai.service.TokensConsumidos;
+import smartLegalApi.infrastructure.ai.uso.ContabilizadorUsoIA;
+import smartLegalApi.infrastructure.persistence.jpa.entity.RespostaIACacheJpaEntity;
+import smartLegalApi.infrastructure.persistence.jpa.repository.RespostaIACacheJpaRepository;
+import smartLegalApi.infrastructure.persistence.jpa.repository.UsoIAAdvogadoJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do cache de respostas da IA
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheRespostaIAService - Testes")
+class CacheRespostaIAServiceTest {
+    
+    @Mock
+    private AiTextGenerator aiTextGenerator;
+    
+    @Mock
+    private RespostaIACacheJpaRepository cacheRepository;
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheRespostaIAService cacheService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        EstimadorTokens estimadorTokens = new EstimadorTokens(properties, meterRegistry);
+        ContabilizadorUsoIA contabilizadorUso = new ContabilizadorUsoIA(
+            mock(UsoIAAdvogadoJpaRepository.class), estimadorTokens, properties, meterRegistry);
+        cacheService = new CacheRespostaIAService(
+            aiTextGenerator, contabilizadorUso, cacheRepository, properties, meterRegistry);
+        cacheService.inicializar();
+    }
+    
+    private double consultas(String resultado) {
+        return meterRegistry.counter("smartlegal.ia.cache.consultas", "resultado", resultado).count();
+    }
+    
+    @Test
+    @DisplayName("Deve chamar a IA uma única vez para o mesmo prompt")
+    void deveReutilizarRespostaEmMemoria() {
+        // Arrange
+        when(cacheRepository.findByChaveAndDataExpiracaoAfter(anyString(), any())).thenReturn(Optional.empty());
+        when(aiTextGenerator.gerarConteudo(eq("prompt"), isNull(), any(TokensConsumidos.class))).thenReturn("Conteúdo gerado");
+        
+        // Act
+        String primeira = cacheService.gerarConteudo("prompt", false);
+        String segunda = cacheService.gerarConteudo("prompt", false);
+        
+        // Assert
+        assertThat(primeira).isEqualTo("Conteúdo gerado");
+        assertThat(segunda).isEqualTo("Conteúdo gerado");
+        verify(aiTextGenerator, times(1)).gerarConteudo(eq("prompt"), isNull(), any(TokensConsumidos.class));
+        verify(cacheRepository).save(any(RespostaIACacheJpaEntity.class));
+        assertThat(consultas("miss")).isEqualTo(1);
+        assertThat(consultas("memoria")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve usar o nível persistente quando a memória não tem a resposta")
+    void deveUsarRespostaPersistida() {
+        // Arrange
+        RespostaIACacheJpaEntity persistida = RespostaIACacheJpaEntity.builder()
+            .conteudo("Conteúdo persistido")
+            .dataExpiracao(LocalDateTime.now().plusHours(1))
+            .build();
+        when(cacheRepository.findByChaveAndDataExpiracaoAfter(anyString(), any())).thenReturn(Optional.of(persistida));
+        
+        // Act
+        String resultado = cacheService.gerarConteudo("prompt", false);
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Conteúdo persistido");
+        verify(aiTextGenerator, never()).gerarConteudo(anyString(), any(), any(TokensConsumidos.class));
+        assertThat(consultas("banco")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve chamar a IA quando o advogado pede um rascunho novo")
+    void deveIgnorarCacheQuandoSolicitado() {
+        // Arrange
+        when(aiTextGenerator.gerarConteudo(eq("prompt"), isNull(), any(TokensConsumidos.class))).thenReturn("Primeiro", "Segundo");
+        when(cacheRepository.findByChaveAndDataExpiracaoAfter(anyString(), any())).thenReturn(Optional.empty());
+        cacheService.gerarConteudo("prompt", false);
+        
+        // Act
+        String resultado = cacheService.gerarConteudo("prompt", true);
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Segundo");
+        assertThat(cacheService.gerarConteudo("prompt", false)).isEqualTo("Segundo");
+        assertThat(consultas("ignorado")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve gerar chaves diferentes quando a configuração do modelo muda")
+    void deveIncluirConfiguracaoNaChave() {
+        // Arrange
+        String chaveOriginal = cacheService.calcularChave("prompt", null);
+        
+        // Act
+        properties.setTemperature(0.2);
+        String chaveNovaTemperatura = cacheService.calcularChave("prompt", null);
+        
+        // Assert
+        assertThat(chaveOriginal).hasSize(64).isNotEqualTo(chaveNovaTemperatura);
+    }
+    
+    @Test
+    @DisplayName("Deve gerar normalmente quando o banco de cache está indisponível")
+    void deveTolerarFalhaDoNivelPersistente() {
+        // Arrange
+        when(cacheRepository.findByChaveAndDataExpiracaoAfter(anyString(), any()))
+            .thenThrow(new DataAccessResourceFailureException("indisponível"));
+        when(cacheRepository.save(any())).thenThrow(new DataAccessResourceFailureException("indisponível"));
+        when(aiTextGenerator.gerarConteudo(eq("prompt"), isNull(), any(TokensConsumidos.class))).thenReturn("Conteúdo gerado");
+        
+        // Act
+        String resultado = cacheService.gerarConteudo("prompt", false);
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Conteúdo gerado");
+    }
+}
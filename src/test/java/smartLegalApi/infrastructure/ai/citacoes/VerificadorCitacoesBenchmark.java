@@ -0,0 +1,101 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark da verificação de citações em uma petição de ~20 páginas (~60 mil caracteres, com
+ * uma citação a cada ~400 caracteres): varredura única pelo autômato vs. uma expressão regular
+ * "art. N ... nome da lei" por forma de citação.
+ *
+ * Não roda com os testes. Para executar (após mvn test-compile):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main VerificadorCitacoesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerificadorCitacoesBenchmark {
+    
+    private static final int CARACTERES_POR_PAGINA = 3000;
+    private static final String[] CITACOES = {
+        "art. %d do CPC", "arts. %d e 927 do Código Civil", "Art. %dº, inciso XXXV, da Constituição Federal",
+        "CLT, art. %d", "artigo %d do Código de Defesa do Consumidor", "art. %d da Lei nº 8.245/91"
+    };
+    private static final String TEXTO_JURIDICO = "Cumpre destacar que a parte autora, em trâmite perante a "
+        + "2ª Vara Cível, demonstrou de forma inequívoca os fatos constitutivos do seu direito, conforme os "
+        + "documentos acostados aos autos, não havendo controvérsia quanto à relação jurídica entre as partes. ";
+    
+    @Param({"20"})
+    private int paginas;
+    
+    private VerificadorCitacoes verificador;
+    private List<Pattern> expressoes;
+    private String peticao;
+    
+    @Setup
+    public void preparar() {
+        verificador = new VerificadorCitacoes(new GeminiProperties(), new SimpleMeterRegistry());
+        verificador.inicializar();
+        
+        expressoes = new ArrayList<>();
+        for (Lei lei : VerificadorCitacoes.lerLeis(new GeminiProperties().getCitacoes().getArquivos())) {
+            for (String nome : lei.getNomes()) {
+                expressoes.add(Pattern.compile("(?:arts?\\.|artigos?)\\s*(\\d[\\d.]*)[^\\n]{0,80}?\\b"
+                    + Pattern.quote(nome) + "\\b", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+            }
+        }
+        
+        Random random = new Random(42);
+        StringBuilder texto = new StringBuilder();
+        while (texto.length() < paginas * CARACTERES_POR_PAGINA) {
+            texto.append(TEXTO_JURIDICO);
+            texto.append("Com fundamento no ")
+                .append(String.format(CITACOES[random.nextInt(CITACOES.length)], 1 + random.nextInt(1200)))
+                .append(", requer-se o acolhimento do pedido. ");
+            if (random.nextInt(8) == 0) {
+                texto.append("\n\nDOS FUNDAMENTOS\n\n");
+            }
+        }
+        peticao = texto.toString();
+    }
+    
+    @Benchmark
+    public List<CitacaoLegal> varreduraUnica() {
+        return verificador.verificar(peticao);
+    }
+    
+    @Benchmark
+    public int expressoesPorLei() {
+        int encontradas = 0;
+        for (Pattern expressao : expressoes) {
+            Matcher matcher = expressao.matcher(peticao);
+            while (matcher.find()) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(VerificadorCitacoesBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
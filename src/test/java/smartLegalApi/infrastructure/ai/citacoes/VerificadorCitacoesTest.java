@@ -0,0 +1,125 @@
+package smartLegalApi.infrastructure.ai.citacoes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes da verificação de citações de lei contra o índice de legislação em resources/legislacao
+ */
+@DisplayName("VerificadorCitacoes - Testes")
+class VerificadorCitacoesTest {
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private VerificadorCitacoes verificador;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        verificador = new VerificadorCitacoes(properties, meterRegistry);
+        verificador.inicializar();
+    }
+    
+    @Test
+    @DisplayName("Deve reconhecer as formas usuais de citação e ligar cada artigo à sua lei")
+    void verificar_deveReconhecerFormasDeCitacao() {
+        // Arrange
+        String texto = "Nos termos do art. 319 do CPC e dos arts. 186 e 927 do Código Civil, "
+            + "bem como do Art. 5º, inciso XXXV, da Constituição Federal. Ainda, CLT, art. 611-A, "
+            + "e o artigo 1.048 do Código de Processo Civil. O art. 51 da Lei nº 8.245/91 também se aplica.";
+        
+        // Act
+        List<CitacaoLegal> citacoes = verificador.verificar(texto);
+        
+        // Assert
+        assertThat(citacoes)
+            .extracting(CitacaoLegal::lei, CitacaoLegal::artigo, CitacaoLegal::situacao)
+            .containsExactly(
+                tuple("CPC", "319", SituacaoCitacao.VALIDA),
+                tuple("CC", "186", SituacaoCitacao.VALIDA),
+                tuple("CC", "927", SituacaoCitacao.VALIDA),
+                tuple("CF", "5º", SituacaoCitacao.VALIDA),
+                tuple("CLT", "611-A", SituacaoCitacao.VALIDA),
+                tuple("CPC", "1.048", SituacaoCitacao.VALIDA),
+                tuple("Lei 8.245/1991", "51", SituacaoCitacao.VALIDA)
+            );
+        assertThat(texto.substring(citacoes.get(5).inicio(), citacoes.get(5).fim())).isEqualTo("1.048");
+        assertThat(citacoes.get(0).url()).endsWith("l13105.htm#art319");
+        assertThat(citacoes.get(4).url()).endsWith("#art611a");
+    }
+    
+    @Test
+    @DisplayName("Deve marcar artigos inexistentes e revogados, sem link para os inexistentes")
+    void verificar_deveMarcarArtigosInvalidos() {
+        // Arrange
+        String texto = "Conforme o art. 1.500 do CPC, o art. 217 do Código Penal e o art. 611-Z da CLT.";
+        
+        // Act
+        List<CitacaoLegal> citacoes = verificador.verificar(texto);
+        
+        // Assert
+        assertThat(citacoes)
+            .extracting(CitacaoLegal::lei, CitacaoLegal::artigo, CitacaoLegal::situacao)
+            .containsExactly(
+                tuple("CPC", "1.500", SituacaoCitacao.INEXISTENTE),
+                tuple("CP", "217", SituacaoCitacao.REVOGADA),
+                tuple("CLT", "611-Z", SituacaoCitacao.INEXISTENTE)
+            );
+        assertThat(citacoes.get(0).url()).isNull();
+        assertThat(citacoes.get(1).url()).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar artigos sem lei reconhecida e siglas em minúsculas")
+    void verificar_deveIgnorarCitacoesSemLei() {
+        // Arrange
+        String texto = "O art. 10 desta Lei dispõe sobre o tema (cf. doutrina majoritária). "
+            + "A arte de advogar não se confunde com o artigo científico. "
+            + "Também o art. 3º, cujo teor é longo e trata de matéria que não guarda relação alguma com o que segue, "
+            + "e somente depois se menciona o CPC.";
+        
+        // Act
+        List<CitacaoLegal> citacoes = verificador.verificar(texto);
+        
+        // Assert
+        assertThat(citacoes).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve contar as citações inválidas do conteúdo gerado e registrar por situação")
+    void verificarConteudoGerado_deveContarInvalidas() {
+        // Arrange
+        String texto = "Com fundamento no art. 319 do CPC e no art. 9999 do CPC.";
+        
+        // Act
+        Integer invalidas = verificador.verificarConteudoGerado(texto);
+        
+        // Assert
+        assertThat(invalidas).isEqualTo(1);
+        assertThat(meterRegistry.counter("smartlegal.ia.citacoes", "situacao", "valida").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("smartlegal.ia.citacoes", "situacao", "inexistente").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("smartlegal.ia.citacoes.verificacao").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Desabilitado, não deve verificar nem registrar o resultado")
+    void verificar_desabilitado() {
+        // Arrange
+        properties.getCitacoes().setHabilitado(false);
+        VerificadorCitacoes desabilitado = new VerificadorCitacoes(properties, new SimpleMeterRegistry());
+        desabilitado.inicializar();
+        
+        // Act & Assert
+        assertThat(desabilitado.verificar("art. 319 do CPC")).isEmpty();
+        assertThat(desabilitado.verificarConteudoGerado("art. 319 do CPC")).isNull();
+    }
+}
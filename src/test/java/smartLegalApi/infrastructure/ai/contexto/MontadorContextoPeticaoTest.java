@@ -0,0 +1,197 @@
+package smartLegalApi.infrastructure.ai.contexto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smartLegalApi.domain.cliente.entity.Cliente;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.domain.cliente.valueobject.CpfCnpj;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.domain.processo.entity.Andamento;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.repository.AndamentoRepository;
+import smartLegalApi.domain.processo.repository.ProcessoRepository;
+import smartLegalApi.domain.processo.valueobject.NumeroProcesso;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.referencias.IndiceReferenciasPeticao;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MontadorContextoPeticao - Testes")
+class MontadorContextoPeticaoTest {
+    
+    @Mock
+    private ProcessoRepository processoRepository;
+    
+    @Mock
+    private ClienteRepository clienteRepository;
+    
+    @Mock
+    private AndamentoRepository andamentoRepository;
+    
+    @Mock
+    private PeticaoRepository peticaoRepository;
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private EstimadorTokens estimadorTokens;
+    private IndiceReferenciasPeticao indiceReferencias;
+    private MontadorContextoPeticao montador;
+    private Peticao peticao;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        estimadorTokens = new EstimadorTokens(properties, meterRegistry);
+        estimadorTokens.inicializar();
+        indiceReferencias = new IndiceReferenciasPeticao(peticaoRepository, properties, meterRegistry);
+        indiceReferencias.inicializar();
+        montador = new MontadorContextoPeticao(processoRepository, clienteRepository, andamentoRepository,
+            indiceReferencias, new PeticaoPromptService(), estimadorTokens, properties, meterRegistry);
+        
+        peticao = Peticao.builder()
+            .id(1L)
+            .idProcesso(5L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .build();
+        
+        Processo processo = Processo.builder()
+            .id(5L)
+            .numeroProcesso(new NumeroProcesso("0001234-56.2024.8.26.0100"))
+            .titulo("Ação de Cobrança")
+            .descricao("Cobrança de honorários em atraso")
+            .dataAbertura(LocalDate.of(2024, 3, 1))
+            .idCliente(7L)
+            .build();
+        lenient().when(processoRepository.findById(5L)).thenReturn(Optional.of(processo));
+        
+        Cliente cliente = Cliente.builder()
+            .id(7L)
+            .nomeCompleto("Maria da Silva")
+            .cpfCnpj(new CpfCnpj("52998224725"))
+            .build();
+        lenient().when(clienteRepository.findById(7L)).thenReturn(Optional.of(cliente));
+    }
+    
+    private List<Andamento> andamentos(int quantidade) {
+        List<Andamento> andamentos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            andamentos.add(Andamento.builder()
+                .idProcesso(5L)
+                .dataAndamento(LocalDateTime.of(2024, 12, 1, 0, 0).minusDays(i))
+                .tipo("DESPACHO")
+                .descricao("Andamento número " + i + " com a descrição do que ocorreu no processo")
+                .build());
+        }
+        return andamentos;
+    }
+    
+    @Test
+    @DisplayName("Deve incluir dados do processo, cliente e andamentos quando cabem no orçamento")
+    void deveIncluirDadosDoProcesso() {
+        // Arrange
+        when(andamentoRepository.findByProcessoOrdenadoPorData(5L)).thenReturn(andamentos(3));
+        
+        // Act
+        String prompt = montador.montarPrompt(peticao, "Cliente não recebeu os honorários", "Urgente");
+        
+        // Assert
+        assertThat(prompt)
+            .contains("0001234-56.2024.8.26.0100")
+            .contains("Maria da Silva")
+            .contains("Andamento número 0")
+            .contains("Andamento número 2")
+            .contains("Cliente não recebeu os honorários")
+            .contains("Urgente");
+        assertThat(prompt).doesNotContain("529.982.247-25").doesNotContain("52998224725");
+        assertThat(prompt.indexOf("DADOS DO PROCESSO")).isLessThan(prompt.indexOf("CONTEXTO DO CASO"));
+        assertThat(prompt.indexOf("Andamento número 0")).isLessThan(prompt.indexOf("Andamento número 2"));
+    }
+    
+    @Test
+    @DisplayName("Deve incluir trecho de petição aprovada do mesmo tipo antes dos dados do caso")
+    void deveIncluirReferenciasDePeticoesAprovadas() {
+        // Arrange
+        Peticao aprovada = Peticao.builder()
+            .id(2L)
+            .idProcesso(9L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .status(StatusPeticao.APROVADA)
+            .conteudo("DOS FATOS\n" + "O contratante deixou de pagar os honorários advocatícios pactuados. ".repeat(5))
+            .build();
+        when(peticaoRepository.findAllById(List.of(2L))).thenReturn(List.of(aprovada));
+        indiceReferencias.atualizar(aprovada);
+        
+        // Act
+        String prompt = montador.montarPrompt(peticao, "Cliente não pagou os honorários", null);
+        
+        // Assert
+        assertThat(prompt).contains(MontadorContextoPeticao.TITULO_REFERENCIAS)
+            .contains("--- Trecho 1 ---\nDOS FATOS\nO contratante deixou de pagar");
+        assertThat(prompt.indexOf("O contratante")).isLessThan(prompt.indexOf("DADOS DO PROCESSO"));
+    }
+    
+    @Test
+    @DisplayName("Deve respeitar o orçamento descartando os andamentos mais antigos e recortando o contexto")
+    void deveRespeitarOrcamento() {
+        // Arrange
+        properties.getContexto().setOrcamentoTokens(1000);
+        properties.getContexto().setMaximoAndamentos(50);
+        when(andamentoRepository.findByProcessoOrdenadoPorData(5L)).thenReturn(andamentos(50));
+        String contextoLongo = "O réu deixou de pagar as parcelas acordadas. ".repeat(300);
+        
+        // Act
+        String prompt = montador.montarPrompt(peticao, contextoLongo, null);
+        
+        // Assert
+        assertThat(estimadorTokens.estimar(prompt)).isLessThanOrEqualTo(1000);
+        assertThat(prompt).contains("O réu deixou de pagar").contains("[...]");
+        assertThat(prompt).doesNotContain("Andamento número 49");
+        assertThat(meterRegistry.get("smartlegal.ia.contexto.secoes_cortadas")
+            .tag("secao", "contexto").tag("resultado", "recortada").counter().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve falhar quando as instruções fixas não deixam espaço para o contexto do usuário")
+    void deveFalharSemEspacoParaContexto() {
+        // Arrange
+        properties.getContexto().setOrcamentoTokens(100);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> montador.montarPrompt(peticao, "Cliente não recebeu os honorários", null))
+            .isInstanceOf(ErroGeracaoIAException.class)
+            .hasMessageContaining("insuficiente para o contexto informado");
+    }
+    
+    @Test
+    @DisplayName("Deve recortar em limite de frase")
+    void deveRecortarEmLimiteDeFrase() {
+        // Act
+        String recorte = montador.recortar("Primeira frase completa. Segunda frase que não cabe inteira", 13);
+        
+        // Assert
+        assertThat(recorte).isEqualTo("Primeira frase completa. [...]");
+    }
+}
@@ -0,0 +1,140 @@
+package smartLegalApi.infrastructure.ai.local;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.privacidade.AnonimizadorPrompt;
+import smartLegalApi.infrastructure.ai.resilience.DisjuntorIA;
+import smartLegalApi.infrastructure.ai.resilience.ExecutorResilienteIA;
+import smartLegalApi.infrastructure.ai.resilience.FalhaChamadaIAException;
+import smartLegalApi.infrastructure.ai.resilience.HedgeRequisicoesIA;
+import smartLegalApi.infrastructure.ai.resilience.LimitadorConcorrenciaAdaptativo;
+import smartLegalApi.infrastructure.ai.roteamento.RoteadorModelosIA;
+import smartLegalApi.infrastructure.ai.service.GeminiService;
+import smartLegalApi.infrastructure.ai.service.TokensConsumidos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes do ApiGeminiLocal através do GeminiService, pelo mesmo caminho da produção
+ */
+@DisplayName("Testes do ApiGeminiLocal")
+class ApiGeminiLocalTest {
+    
+    private GeminiProperties properties;
+    private ApiGeminiLocal apiLocal;
+    private GeminiService geminiService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.setApiKey("chave-teste");
+        properties.setModel("gemini-teste");
+        properties.setApiUrl("http://gemini.local/v1beta/models");
+        properties.getLocal().setLatenciaMedianaMs(0L);
+        properties.getLocal().setTamanhoSaida(2000);
+        properties.getLocal().setTrechosStream(7);
+        
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EstimadorTokens estimadorTokens = new EstimadorTokens(properties, meterRegistry);
+        estimadorTokens.inicializar();
+        LimitadorConcorrenciaAdaptativo limitador = new LimitadorConcorrenciaAdaptativo(properties, meterRegistry);
+        limitador.inicializar();
+        DisjuntorIA disjuntor = new DisjuntorIA(properties, meterRegistry);
+        disjuntor.inicializar();
+        AnonimizadorPrompt anonimizador = new AnonimizadorPrompt(mock(ClienteRepository.class), properties, meterRegistry);
+        anonimizador.inicializar();
+        
+        apiLocal = new ApiGeminiLocal(properties);
+        geminiService = new GeminiService(
+            properties,
+            new ExecutorResilienteIA(limitador, disjuntor, properties, meterRegistry),
+            new HedgeRequisicoesIA(limitador, properties, meterRegistry),
+            estimadorTokens,
+            new RoteadorModelosIA(properties, meterRegistry),
+            anonimizador,
+            Optional.of(apiLocal)
+        );
+        geminiService.inicializar();
+    }
+    
+    @Test
+    @DisplayName("Deve gerar o mesmo texto para o mesmo prompt, no tamanho configurado, com contagem de tokens")
+    void deveGerarTextoDeterministico() {
+        // Arrange
+        TokensConsumidos tokens = new TokensConsumidos();
+        
+        // Act
+        String primeiro = geminiService.gerarConteudo("prompt A", null, tokens);
+        String segundo = geminiService.gerarConteudo("prompt A");
+        String outro = geminiService.gerarConteudo("prompt B");
+        
+        // Assert
+        assertThat(primeiro).hasSize(2000).isEqualTo(segundo);
+        assertThat(outro).isNotEqualTo(primeiro);
+        assertThat(tokens.isInformado()).isTrue();
+        assertThat(tokens.getSaida()).isEqualTo(500);
+        assertThat(geminiService.getIdentificador()).startsWith("local:");
+    }
+    
+    @Test
+    @DisplayName("Deve enviar trechos SSE que, concatenados, formam o texto completo")
+    void deveEnviarTrechosNoStreaming() {
+        // Arrange
+        List<String> trechos = new ArrayList<>();
+        TokensConsumidos tokens = new TokensConsumidos();
+        
+        // Act
+        String texto = geminiService.gerarConteudoStream("prompt", null, trechos::add, tokens);
+        
+        // Assert
+        assertThat(trechos).hasSize(7);
+        assertThat(String.join("", trechos)).isEqualTo(texto).hasSize(2000);
+        assertThat(tokens.getSaida()).isEqualTo(500);
+    }
+    
+    @Test
+    @DisplayName("Deve simular falhas como respostas 429/503, tratadas pela camada de resiliência")
+    void deveSimularErroDeSobrecarga() {
+        // Arrange
+        properties.getLocal().setTaxaErro(1.0);
+        properties.getRetentativa().setMaxTentativas(1);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudo("prompt"))
+            .isInstanceOfSatisfying(FalhaChamadaIAException.class, falha -> {
+                assertThat(falha.getStatus()).isIn(429, 503);
+                assertThat(falha.isRetentavel()).isTrue();
+                assertThat(falha.isSobrecarga()).isTrue();
+            });
+    }
+    
+    @Test
+    @DisplayName("Deve sortear latências em torno da mediana configurada")
+    void deveSortearLatenciaLogNormal() {
+        // Arrange
+        properties.getLocal().setLatenciaMedianaMs(1000L);
+        properties.getLocal().setLatenciaP99Ms(5000L);
+        
+        // Act
+        long abaixoDaMediana = 0;
+        for (int i = 0; i < 2000; i++) {
+            if (apiLocal.sortearLatenciaMs(properties.getLocal()) < 1000) {
+                abaixoDaMediana++;
+            }
+        }
+        
+        // Assert
+        assertThat(abaixoDaMediana).isBetween(850L, 1150L);
+    }
+}
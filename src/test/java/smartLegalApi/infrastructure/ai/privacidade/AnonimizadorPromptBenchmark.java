@@ -0,0 +1,131 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark da anonimização de um prompt de ~50 KB: varredura única (autômato de nomes + validação
+ * de documentos) vs. a abordagem ingênua, com uma expressão regular por tipo de dado e uma busca
+ * por nome de cliente.
+ * 
+ * O prompt mistura texto jurídico, CPFs, CNPJs, telefones, emails e nomes de clientes, como o
+ * contexto de uma petição com partes, andamentos e documentos do processo.
+ * 
+ * Não roda com os testes. Para executar (após mvn test-compile):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main AnonimizadorPromptBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnonimizadorPromptBenchmark {
+    
+    private static final int TAMANHO_PROMPT = 50 * 1024;
+    private static final String[] PRENOMES = {
+        "Maria", "José", "Ana", "João", "Antônio", "Francisca", "Carlos", "Paulo", "Lúcia", "Luiz"
+    };
+    private static final String[] SOBRENOMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira",
+        "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Araújo", "Melo"
+    };
+    private static final String[] DOCUMENTOS = {
+        "529.982.247-25", "11.222.333/0001-81", "(11) 98888-7777", "contato@escritorio.adv.br", "52998224725"
+    };
+    private static final String TEXTO_JURIDICO = "nos autos do processo 1234567-89.2024.8.26.0100, "
+        + "em trâmite perante a 2ª Vara Cível, vem respeitosamente à presença de Vossa Excelência "
+        + "expor e requerer o que segue, com fundamento no art. 319 do Código de Processo Civil. ";
+    
+    private static final Pattern DOCUMENTO = Pattern.compile(
+        "\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}|\\d{2}\\.?\\d{3}\\.?\\d{3}/?\\d{4}-?\\d{2}"
+            + "|\\(?\\d{2}\\)?\\s?\\d{4,5}-?\\d{4}|[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+");
+    
+    /** Clientes cadastrados (nomes procurados no prompt) */
+    @Param({"100", "1000", "10000"})
+    private int clientes;
+    
+    private AutomatoNomes automato;
+    private List<String> nomesNormalizados;
+    private String prompt;
+    private PromptAnonimizado anonimizado;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Set<String> distintos = new LinkedHashSet<>();
+        while (distintos.size() < clientes) {
+            distintos.add(PRENOMES[random.nextInt(PRENOMES.length)] + " "
+                + PRENOMES[random.nextInt(PRENOMES.length)] + " "
+                + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                + SOBRENOMES[random.nextInt(SOBRENOMES.length)]);
+        }
+        List<String> nomes = new ArrayList<>(distintos);
+        automato = AutomatoNomes.construir(nomes, 5);
+        nomesNormalizados = new ArrayList<>(clientes);
+        for (String nome : nomes) {
+            nomesNormalizados.add(AutomatoNomes.normalizar(nome));
+        }
+        
+        StringBuilder sb = new StringBuilder(TAMANHO_PROMPT + 512);
+        while (sb.length() < TAMANHO_PROMPT) {
+            sb.append(nomes.get(random.nextInt(nomes.size())).toUpperCase()).append(", inscrito sob ")
+                .append(DOCUMENTOS[random.nextInt(DOCUMENTOS.length)]).append(", ")
+                .append(TEXTO_JURIDICO);
+        }
+        prompt = sb.toString();
+        anonimizado = DetectorDadosPessoais.anonimizar(prompt, automato);
+    }
+    
+    @Benchmark
+    public int varreduraUnica() {
+        return DetectorDadosPessoais.anonimizar(prompt, automato).getTexto().length();
+    }
+    
+    @Benchmark
+    public int restaurar() {
+        return anonimizado.restaurar(anonimizado.getTexto()).length();
+    }
+    
+    /**
+     * Uma expressão regular para os documentos e uma busca por nome sobre o texto normalizado;
+     * só localiza as ocorrências (sem validar nem substituir), o que favorece a abordagem ingênua
+     */
+    @Benchmark
+    public int ingenua() {
+        int ocorrencias = 0;
+        Matcher matcher = DOCUMENTO.matcher(prompt);
+        while (matcher.find()) {
+            ocorrencias++;
+        }
+        String normalizado = AutomatoNomes.normalizar(prompt);
+        for (String nome : nomesNormalizados) {
+            int indice = normalizado.indexOf(nome);
+            while (indice >= 0) {
+                ocorrencias++;
+                indice = normalizado.indexOf(nome, indice + nome.length());
+            }
+        }
+        return ocorrencias;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(AnonimizadorPromptBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
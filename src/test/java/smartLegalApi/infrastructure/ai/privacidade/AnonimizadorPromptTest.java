@@ -0,0 +1,134 @@
+package smartLegalApi.infrastructure.ai.privacidade;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Testes da troca de dados pessoais por marcadores e da restauração no texto gerado
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnonimizadorPrompt - Testes")
+class AnonimizadorPromptTest {
+    
+    @Mock
+    private ClienteRepository clienteRepository;
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AnonimizadorPrompt anonimizador;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        anonimizador = new AnonimizadorPrompt(clienteRepository, properties, meterRegistry);
+        anonimizador.inicializar();
+        
+        lenient().doAnswer(invocacao -> {
+            Consumer<String> consumidor = invocacao.getArgument(1);
+            List.of("José da Silva", "José da Silva Santos", "Ana").forEach(consumidor);
+            return null;
+        }).when(clienteRepository).percorrerNomes(anyInt(), any());
+        anonimizador.atualizarNomes();
+    }
+    
+    @Test
+    @DisplayName("Deve trocar CPF, CNPJ, email e telefone válidos, com o mesmo marcador para valores repetidos")
+    void anonimizar_deveTrocarDocumentosEContatos() {
+        // Arrange
+        String prompt = "CPF 529.982.247-25 (ou 52998224725), CNPJ 11.222.333/0001-81, "
+            + "email Joao.Silva@Exemplo.com.br, telefone (11) 98888-7777.";
+        
+        // Act
+        PromptAnonimizado resultado = anonimizador.anonimizar(prompt);
+        
+        // Assert
+        assertThat(resultado.getTexto()).isEqualTo(
+            "CPF [CPF_1] (ou [CPF_1]), CNPJ [CNPJ_1], email [EMAIL_1], telefone [TELEFONE_1].");
+        assertThat(resultado.getSubstituicoes()).containsEntry(TipoDadoPessoal.CPF, 2);
+        assertThat(meterRegistry.counter("smartlegal.ia.anonimizacao.substituicoes", "tipo", "CPF").count())
+            .isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Não deve trocar números que não passam na validação (processo, datas, CPF inválido)")
+    void anonimizar_naoDeveTrocarNumerosInvalidos() {
+        // Arrange
+        String prompt = "Processo 1234567-89.2024.8.26.0100, em 18/10/2026, CPF 111.111.111-11, valor R$ 10.000,00.";
+        
+        // Act
+        PromptAnonimizado resultado = anonimizador.anonimizar(prompt);
+        
+        // Assert
+        assertThat(resultado.getTexto()).isEqualTo(prompt);
+        assertThat(resultado.isAlterado()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve trocar nomes de clientes sem diferenciar maiúsculas e acentos, preferindo o nome mais longo")
+    void anonimizar_deveTrocarNomesDeClientes() {
+        // Arrange
+        String prompt = "JOSE DA SILVA SANTOS, representado por José da Silva; Joséda Silva não; Ana não (curto).";
+        
+        // Act
+        PromptAnonimizado resultado = anonimizador.anonimizar(prompt);
+        
+        // Assert
+        assertThat(resultado.getTexto())
+            .isEqualTo("[NOME_1], representado por [NOME_2]; Joséda Silva não; Ana não (curto).");
+        assertThat(resultado.restaurar("[NOME_2] e [NOME_1]"))
+            .isEqualTo("José da Silva e JOSE DA SILVA SANTOS");
+    }
+    
+    @Test
+    @DisplayName("Deve restaurar marcadores divididos entre trechos do streaming")
+    void restaurador_deveJuntarMarcadorDividido() {
+        // Arrange
+        PromptAnonimizado resultado = anonimizador.anonimizar("Autor: José da Silva, CPF 529.982.247-25");
+        List<String> recebidos = new ArrayList<>();
+        PromptAnonimizado.RestauradorStream restaurador = resultado.restaurador(recebidos::add);
+        
+        // Act
+        restaurador.accept("Excelentíssimo. [NO");
+        restaurador.accept("ME_1], CPF [CPF");
+        restaurador.accept("_1], [texto entre colchetes]");
+        restaurador.accept(" fim [");
+        restaurador.finalizar();
+        
+        // Assert
+        assertThat(String.join("", recebidos))
+            .isEqualTo("Excelentíssimo. José da Silva, CPF 529.982.247-25, [texto entre colchetes] fim [");
+        assertThat(recebidos.get(0)).isEqualTo("Excelentíssimo. ");
+    }
+    
+    @Test
+    @DisplayName("Deve devolver o prompt sem alteração quando desabilitado")
+    void anonimizar_naoDeveAlterarQuandoDesabilitado() {
+        // Arrange
+        properties.getAnonimizacao().setHabilitado(false);
+        String prompt = "CPF 529.982.247-25";
+        
+        // Act
+        PromptAnonimizado resultado = anonimizador.anonimizar(prompt);
+        
+        // Assert
+        assertThat(resultado.getTexto()).isEqualTo(prompt);
+        assertThat(resultado.restaurar("[CPF_1]")).isEqualTo("[CPF_1]");
+    }
+}
@@ -0,0 +1,95 @@
+package smartLegalApi.infrastructure.ai.referencias;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da busca no índice de referências com dezenas de milhares de petições de um mesmo tipo.
+ * 
+ * Cada petição sintética tem ~12 mil caracteres em 8 passagens; as palavras seguem uma
+ * distribuição próxima da de Zipf sobre um vocabulário de 20 mil termos, de modo que os termos
+ * comuns têm listas de ocorrências longas, como no texto jurídico real. A consulta tem 60 palavras
+ * (contexto do caso + dados do processo).
+ * 
+ * Não roda com os testes. Para executar (após mvn test-compile):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main IndiceBM25Benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndiceBM25Benchmark {
+    
+    private static final int VOCABULARIO = 20000;
+    private static final int PASSAGENS_POR_PETICAO = 8;
+    private static final int PALAVRAS_POR_PASSAGEM = 200;
+    private static final int PALAVRAS_CONSULTA = 60;
+    private static final int CONSULTAS = 64;
+    
+    @Param({"10000", "50000"})
+    private int peticoes;
+    
+    private IndiceBM25 indice;
+    private List<List<String>> consultas;
+    private String[] palavras;
+    private Random random;
+    private int proxima;
+    
+    @Setup
+    public void setup() {
+        random = new Random(42);
+        palavras = new String[VOCABULARIO];
+        for (int i = 0; i < VOCABULARIO; i++) {
+            palavras[i] = "termo" + Integer.toString(i, 36);
+        }
+        
+        indice = new IndiceBM25(1.2f, 0.75f);
+        for (long id = 1; id <= peticoes; id++) {
+            List<IndiceBM25.Passagem> passagens = new ArrayList<>(PASSAGENS_POR_PETICAO);
+            for (int p = 0; p < PASSAGENS_POR_PETICAO; p++) {
+                passagens.add(new IndiceBM25.Passagem(p * 1500, (p + 1) * 1500, sortear(PALAVRAS_POR_PASSAGEM)));
+            }
+            indice.adicionar(id, passagens);
+        }
+        
+        consultas = new ArrayList<>(CONSULTAS);
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas.add(sortear(PALAVRAS_CONSULTA));
+        }
+    }
+    
+    /**
+     * Palavras com frequência aproximadamente proporcional a 1/posição no vocabulário
+     */
+    private List<String> sortear(int quantidade) {
+        List<String> termos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            termos.add(palavras[(int) Math.pow(VOCABULARIO, random.nextDouble()) - 1]);
+        }
+        return termos;
+    }
+    
+    @Benchmark
+    public int buscar() {
+        List<String> consulta = consultas.get(proxima++ & (CONSULTAS - 1));
+        return indice.buscar(consulta, 3, -1L).size();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(IndiceBM25Benchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,191 @@
+package smartLegalApi.infrastructure.ai.referencias;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smartLegalApi.application.peticao.event.PeticaoExcluidaEvent;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes do índice BM25 de petições aprovadas e protocoladas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndiceReferenciasPeticao - Testes")
+class IndiceReferenciasPeticaoTest {
+    
+    @Mock
+    private PeticaoRepository peticaoRepository;
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private IndiceReferenciasPeticao indice;
+    private final Map<Long, Peticao> banco = new HashMap<>();
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.getReferencias().setTamanhoMinimoPassagem(20);
+        meterRegistry = new SimpleMeterRegistry();
+        indice = new IndiceReferenciasPeticao(peticaoRepository, properties, meterRegistry);
+        indice.inicializar();
+        
+        lenient().when(peticaoRepository.findAllById(anyCollection()))
+            .thenAnswer(invocacao -> invocacao.<Collection<Long>>getArgument(0).stream()
+                .map(banco::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+    
+    private Peticao peticao(Long id, TipoPeticao tipo, StatusPeticao status, String conteudo) {
+        Peticao peticao = Peticao.builder()
+            .id(id)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(tipo)
+            .status(status)
+            .conteudo(conteudo)
+            .build();
+        banco.put(id, peticao);
+        indice.atualizar(peticao);
+        return peticao;
+    }
+    
+    private List<Long> idsEncontrados(TipoPeticao tipo, String consulta, Long ignorada) {
+        return indice.buscar(tipo, consulta, ignorada).stream()
+            .map(PassagemReferencia::idPeticao)
+            .collect(Collectors.toList());
+    }
+    
+    @Test
+    @DisplayName("Deve trazer a passagem mais relevante entre as petições aprovadas do mesmo tipo")
+    void buscar_deveOrdenarPorRelevancia() {
+        // Arrange
+        peticao(1L, TipoPeticao.INICIAL, StatusPeticao.APROVADA,
+            "DOS FATOS\nO locatário deixou de pagar os aluguéis vencidos desde janeiro.\n\n"
+                + "DO DIREITO\nA Lei do Inquilinato autoriza o despejo por falta de pagamento.");
+        peticao(2L, TipoPeticao.INICIAL, StatusPeticao.PROTOCOLADA,
+            "DOS FATOS\nO consumidor teve o nome negativado indevidamente pelo banco réu.");
+        peticao(3L, TipoPeticao.CONTESTACAO, StatusPeticao.APROVADA,
+            "DOS FATOS\nNão houve falta de pagamento dos aluguéis; o despejo é indevido.");
+        peticao(4L, TipoPeticao.INICIAL, StatusPeticao.REVISAO,
+            "DOS FATOS\nDespejo por falta de pagamento de aluguéis atrasados.");
+        
+        // Act
+        List<PassagemReferencia> passagens = indice.buscar(TipoPeticao.INICIAL, "ação de despejo por falta de pagamento", null);
+        
+        // Assert
+        assertThat(passagens).hasSize(1);
+        assertThat(passagens.get(0).idPeticao()).isEqualTo(1L);
+        assertThat(passagens.get(0).texto())
+            .isEqualTo("DO DIREITO\nA Lei do Inquilinato autoriza o despejo por falta de pagamento.");
+        assertThat(idsEncontrados(TipoPeticao.INICIAL, "nome negativado indevidamente", null)).containsExactly(2L);
+        assertThat(idsEncontrados(TipoPeticao.CONTESTACAO, "despejo", null)).containsExactly(3L);
+    }
+    
+    @Test
+    @DisplayName("Deve trazer no máximo uma passagem por petição e ignorar a petição em geração")
+    void buscar_deveLimitarUmaPassagemPorPeticao() {
+        // Arrange
+        peticao(1L, TipoPeticao.INICIAL, StatusPeticao.APROVADA,
+            "DOS FATOS\nCobrança de honorários advocatícios.\n\nDOS PEDIDOS\nPagamento dos honorários advocatícios.");
+        peticao(2L, TipoPeticao.INICIAL, StatusPeticao.APROVADA,
+            "DOS FATOS\nHonorários contratuais não pagos pelo cliente.");
+        
+        // Act
+        List<Long> todas = idsEncontrados(TipoPeticao.INICIAL, "honorários advocatícios", null);
+        List<Long> semAPropria = idsEncontrados(TipoPeticao.INICIAL, "honorários advocatícios", 1L);
+        
+        // Assert
+        assertThat(todas).containsExactly(1L, 2L);
+        assertThat(semAPropria).containsExactly(2L);
+        // Uma consulta ao banco por busca, não uma por passagem
+        verify(peticaoRepository, times(2)).findAllById(anyCollection());
+        verify(peticaoRepository, never()).findById(anyLong());
+    }
+    
+    @Test
+    @DisplayName("Deve refletir edição, volta de status e exclusão da petição")
+    void atualizar_deveManterIndiceIncremental() {
+        // Arrange
+        Peticao peticao = peticao(1L, TipoPeticao.INICIAL, StatusPeticao.APROVADA,
+            "DOS FATOS\nAcidente de trânsito com danos materiais ao veículo.");
+        peticao(2L, TipoPeticao.INICIAL, StatusPeticao.APROVADA,
+            "DOS FATOS\nRescisão indireta do contrato de trabalho.");
+        
+        // Act & Assert
+        peticao.atualizarConteudo("DOS FATOS\nCobrança de duplicata mercantil protestada.");
+        indice.atualizar(peticao);
+        assertThat(idsEncontrados(TipoPeticao.INICIAL, "acidente de trânsito", null)).isEmpty();
+        assertThat(idsEncontrados(TipoPeticao.INICIAL, "duplicata protestada", null)).containsExactly(1L);
+        
+        indice.aoExcluir(new PeticaoExcluidaEvent(2L));
+        assertThat(idsEncontrados(TipoPeticao.INICIAL, "rescisão indireta", null)).isEmpty();
+        
+        peticao.setStatus(StatusPeticao.REVISAO);
+        indice.atualizar(peticao);
+        assertThat(idsEncontrados(TipoPeticao.INICIAL, "duplicata protestada", null)).isEmpty();
+        assertThat(meterRegistry.get("smartlegal.ia.referencias.passagens").gauge().value()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve manter os resultados corretos após compactar as passagens excluídas")
+    void atualizar_deveCompactarSemPerderPassagens() {
+        // Arrange
+        for (long id = 1; id <= 300; id++) {
+            peticao(id, TipoPeticao.RECURSO, StatusPeticao.APROVADA,
+                "DAS RAZÕES\nRecurso número r" + id + " contra sentença de improcedência.");
+        }
+        
+        // Act
+        for (long id = 1; id <= 200; id++) {
+            indice.aoExcluir(new PeticaoExcluidaEvent(id));
+        }
+        
+        // Assert
+        assertThat(indice.getTotalPassagens()).isEqualTo(100);
+        assertThat(idsEncontrados(TipoPeticao.RECURSO, "r150", null)).isEmpty();
+        assertThat(idsEncontrados(TipoPeticao.RECURSO, "r250", null)).containsExactly(250L);
+        assertThat(indice.buscar(TipoPeticao.RECURSO, "r300", null).get(0).texto())
+            .isEqualTo("DAS RAZÕES\nRecurso número r300 contra sentença de improcedência.");
+    }
+    
+    @Test
+    @DisplayName("Deve quebrar seções longas em passagens terminadas em parágrafo")
+    void dividir_deveQuebrarSecoesLongas() {
+        // Arrange
+        properties.getReferencias().setTamanhoPassagem(100);
+        String paragrafo = "Parágrafo com fundamentação jurídica suficiente para ocupar espaço.";
+        String conteudo = "DO DIREITO\n" + paragrafo + "\n" + paragrafo + "\n" + paragrafo;
+        
+        // Act
+        List<IndiceBM25.Passagem> passagens = indice.dividir(conteudo);
+        
+        // Assert
+        assertThat(passagens).hasSize(3);
+        assertThat(passagens).allSatisfy(passagem -> assertThat(passagem.fim() - passagem.inicio()).isLessThanOrEqualTo(100));
+        assertThat(conteudo.substring(passagens.get(1).inicio(), passagens.get(1).fim())).isEqualTo(paragrafo);
+    }
+}
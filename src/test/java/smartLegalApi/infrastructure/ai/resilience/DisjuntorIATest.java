@@ -0,0 +1,120 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.domain.peticao.exception.ServicoIAIndisponivelException;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do circuit breaker das chamadas à IA
+ */
+@DisplayName("DisjuntorIA - Testes")
+class DisjuntorIATest {
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private DisjuntorIA disjuntor;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.getCircuito().setJanela(10);
+        properties.getCircuito().setMinimoChamadas(4);
+        properties.getCircuito().setTaxaFalhaPercentual(50);
+        properties.getCircuito().setLimiteLentidaoMs(1000L);
+        properties.getCircuito().setChamadasTeste(1);
+        
+        meterRegistry = new SimpleMeterRegistry();
+        disjuntor = new DisjuntorIA(properties, meterRegistry);
+        disjuntor.inicializar();
+    }
+    
+    private void registrarChamadas(int sucessos, int falhas) {
+        for (int i = 0; i < sucessos; i++) {
+            disjuntor.verificarPermissao();
+            disjuntor.registrarSucesso(Duration.ofMillis(10));
+        }
+        for (int i = 0; i < falhas; i++) {
+            disjuntor.verificarPermissao();
+            disjuntor.registrarFalha();
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve abrir ao atingir a taxa de falha e falhar imediatamente")
+    void deveAbrirComTaxaDeFalha() {
+        // Act
+        registrarChamadas(2, 2);
+        
+        // Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorIA.Estado.ABERTO);
+        assertThatThrownBy(() -> disjuntor.verificarPermissao())
+            .isInstanceOf(ServicoIAIndisponivelException.class);
+        assertThat(meterRegistry.counter("smartlegal.ia.circuito.rejeicoes").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Não deve abrir antes do mínimo de chamadas")
+    void naoDeveAbrirAntesDoMinimo() {
+        // Act
+        registrarChamadas(0, 3);
+        
+        // Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorIA.Estado.FECHADO);
+    }
+    
+    @Test
+    @DisplayName("Deve abrir quando as chamadas ficam lentas")
+    void deveAbrirComLentidao() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            disjuntor.verificarPermissao();
+            disjuntor.registrarSucesso(Duration.ofSeconds(2));
+        }
+        
+        // Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorIA.Estado.ABERTO);
+    }
+    
+    @Test
+    @DisplayName("Deve fechar após chamada de teste bem-sucedida no estado semi-aberto")
+    void deveFecharAposTesteComSucesso() {
+        // Arrange
+        properties.getCircuito().setTempoAbertoMs(0L);
+        registrarChamadas(0, 4);
+        
+        // Act
+        disjuntor.verificarPermissao();
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorIA.Estado.SEMI_ABERTO);
+        assertThatThrownBy(() -> disjuntor.verificarPermissao())
+            .isInstanceOf(ServicoIAIndisponivelException.class);
+        disjuntor.registrarSucesso(Duration.ofMillis(10));
+        
+        // Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorIA.Estado.FECHADO);
+        assertThat(meterRegistry.counter("smartlegal.ia.circuito.transicoes", "de", "SEMI_ABERTO", "para", "FECHADO").count())
+            .isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve reabrir quando a chamada de teste falha")
+    void deveReabrirAposTesteComFalha() {
+        // Arrange
+        properties.getCircuito().setTempoAbertoMs(0L);
+        registrarChamadas(0, 4);
+        
+        // Act
+        disjuntor.verificarPermissao();
+        disjuntor.registrarFalha();
+        
+        // Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorIA.Estado.ABERTO);
+    }
+}
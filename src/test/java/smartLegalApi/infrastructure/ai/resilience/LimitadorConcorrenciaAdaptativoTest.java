@@ -0,0 +1,100 @@
+package smartLegalApi.infrastructure.ai.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do limite adaptativo (AIMD) de chamadas à IA
+ */
+@DisplayName("LimitadorConcorrenciaAdaptativo - Testes")
+class LimitadorConcorrenciaAdaptativoTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private LimitadorConcorrenciaAdaptativo limitador;
+    
+    @BeforeEach
+    void setUp() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.getConcorrencia().setLimiteInicial(4);
+        properties.getConcorrencia().setLimiteMinimo(1);
+        properties.getConcorrencia().setLimiteMaximo(8);
+        
+        meterRegistry = new SimpleMeterRegistry();
+        limitador = new LimitadorConcorrenciaAdaptativo(properties, meterRegistry);
+        limitador.inicializar();
+    }
+    
+    @Test
+    @DisplayName("Deve recusar chamadas acima do limite após a espera")
+    void deveRecusarAcimaDoLimite() throws InterruptedException {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            assertThat(limitador.adquirir(Duration.ZERO)).isTrue();
+        }
+        
+        // Act
+        boolean adquiriu = limitador.adquirir(Duration.ofMillis(10));
+        
+        // Assert
+        assertThat(adquiriu).isFalse();
+        assertThat(limitador.getEmVoo()).isEqualTo(4);
+        assertThat(meterRegistry.counter("smartlegal.ia.concorrencia.rejeicoes").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve reduzir o limite pela metade em sobrecarga, sem passar do mínimo")
+    void deveReduzirLimiteEmSobrecarga() throws InterruptedException {
+        // Act
+        limitador.adquirir(Duration.ZERO);
+        limitador.liberar(LimitadorConcorrenciaAdaptativo.Resultado.SOBRECARGA);
+        int aposPrimeira = limitador.getLimite();
+        
+        for (int i = 0; i < 5; i++) {
+            limitador.adquirir(Duration.ZERO);
+            limitador.liberar(LimitadorConcorrenciaAdaptativo.Resultado.SOBRECARGA);
+        }
+        
+        // Assert
+        assertThat(aposPrimeira).isEqualTo(2);
+        assertThat(limitador.getLimite()).isEqualTo(1);
+        assertThat(limitador.getEmVoo()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve crescer aditivamente com sucessos enquanto o limite está em uso")
+    void deveCrescerComSucessos() throws InterruptedException {
+        // Act: ciclos com o limite totalmente ocupado
+        for (int ciclo = 0; ciclo < 8; ciclo++) {
+            int limite = limitador.getLimite();
+            for (int i = 0; i < limite; i++) {
+                limitador.adquirir(Duration.ZERO);
+            }
+            for (int i = 0; i < limite; i++) {
+                limitador.liberar(LimitadorConcorrenciaAdaptativo.Resultado.SUCESSO);
+            }
+        }
+        
+        // Assert
+        assertThat(limitador.getLimite()).isGreaterThan(4).isLessThanOrEqualTo(8);
+    }
+    
+    @Test
+    @DisplayName("Não deve crescer com tráfego baixo")
+    void naoDeveCrescerComTrafegoBaixo() throws InterruptedException {
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limitador.adquirir(Duration.ZERO);
+            limitador.liberar(LimitadorConcorrenciaAdaptativo.Resultado.SUCESSO);
+        }
+        
+        // Assert
+        assertThat(limitador.getLimite()).isEqualTo(4);
+    }
+}
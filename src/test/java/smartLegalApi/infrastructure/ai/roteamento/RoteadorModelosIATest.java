@@ -0,0 +1,119 @@
+package smartLegalApi.infrastructure.ai.roteamento;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da escolha de modelo pelo RoteadorModelosIA
+ */
+@DisplayName("RoteadorModelosIA - Testes")
+class RoteadorModelosIATest {
+    
+    private static final String RAPIDO = "modelo-rapido";
+    private static final String QUALIDADE = "modelo-qualidade";
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RoteadorModelosIA roteador;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.setModel("modelo-unico");
+        properties.getRoteamento().setHabilitado(true);
+        properties.getRoteamento().setModeloRapido(RAPIDO);
+        properties.getRoteamento().setModeloQualidade(QUALIDADE);
+        properties.getRoteamento().setLimiteTokensRapido(1000);
+        properties.getRoteamento().setAmostrasMinimas(5);
+        properties.getRoteamento().setJanela(10);
+        properties.getRoteamento().setLatenciaMaximaMs(1000L);
+        
+        meterRegistry = new SimpleMeterRegistry();
+        roteador = new RoteadorModelosIA(properties, meterRegistry);
+    }
+    
+    @Test
+    @DisplayName("Deve usar o modelo configurado quando o roteamento está desabilitado")
+    void escolher_deveUsarModeloUnicoQuandoDesabilitado() {
+        // Arrange
+        properties.getRoteamento().setHabilitado(false);
+        
+        // Act & Assert
+        assertThat(roteador.escolher(PerfilGeracao.padrao(TipoPeticao.INICIAL), 100))
+            .containsExactly("modelo-unico");
+    }
+    
+    @Test
+    @DisplayName("Deve respeitar o nível de latência pedido")
+    void escolher_deveRespeitarNivel() {
+        // Act & Assert
+        assertThat(roteador.escolher(new PerfilGeracao(TipoPeticao.INICIAL, NivelLatencia.RAPIDA), 5000))
+            .containsExactly(RAPIDO, QUALIDADE);
+        assertThat(roteador.escolher(new PerfilGeracao(TipoPeticao.MANIFESTACAO, NivelLatencia.QUALIDADE), 10))
+            .containsExactly(QUALIDADE, RAPIDO);
+    }
+    
+    @Test
+    @DisplayName("No nível padrão, deve escolher pelo tipo e pelo tamanho do prompt")
+    void escolher_deveDecidirPorTipoETamanho() {
+        // Act & Assert
+        assertThat(roteador.escolher(PerfilGeracao.padrao(TipoPeticao.CONTESTACAO), 10)).first().isEqualTo(QUALIDADE);
+        assertThat(roteador.escolher(PerfilGeracao.padrao(TipoPeticao.MANIFESTACAO), 10)).first().isEqualTo(RAPIDO);
+        assertThat(roteador.escolher(PerfilGeracao.padrao(TipoPeticao.MANIFESTACAO), 5000)).first().isEqualTo(QUALIDADE);
+        assertThat(meterRegistry.counter("smartlegal.ia.roteamento.decisoes", "modelo", QUALIDADE, "motivo", "tipo")
+            .count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve desviar do modelo com taxa de erro alta")
+    void escolher_deveDesviarDeModeloComErros() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            roteador.registrar(RAPIDO, Duration.ofMillis(100), false);
+        }
+        
+        // Act & Assert
+        assertThat(roteador.escolher(new PerfilGeracao(TipoPeticao.MANIFESTACAO, NivelLatencia.RAPIDA), 10))
+            .containsExactly(QUALIDADE, RAPIDO);
+        assertThat(meterRegistry.counter("smartlegal.ia.roteamento.decisoes", "modelo", QUALIDADE, "motivo", "saude")
+            .count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve desviar do modelo com p95 acima do limite, mas não se o outro também estiver degradado")
+    void escolher_deveDesviarPorLatencia() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            roteador.registrar(QUALIDADE, Duration.ofMillis(5000), true);
+        }
+        
+        // Act & Assert
+        assertThat(roteador.escolher(PerfilGeracao.padrao(TipoPeticao.INICIAL), 10)).first().isEqualTo(RAPIDO);
+        
+        for (int i = 0; i < 5; i++) {
+            roteador.registrar(RAPIDO, Duration.ofMillis(5000), true);
+        }
+        assertThat(roteador.escolher(PerfilGeracao.padrao(TipoPeticao.INICIAL), 10)).first().isEqualTo(QUALIDADE);
+    }
+    
+    @Test
+    @DisplayName("Deve registrar a latência em histograma por modelo")
+    void registrar_deveExportarHistograma() {
+        // Act
+        roteador.registrar(RAPIDO, Duration.ofMillis(250), true);
+        
+        // Assert
+        assertThat(meterRegistry.get("smartlegal.ia.modelo.latencia").tag("modelo", RAPIDO).timer().count())
+            .isEqualTo(1);
+    }
+}
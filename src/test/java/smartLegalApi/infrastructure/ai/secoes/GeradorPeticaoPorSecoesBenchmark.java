@@ -0,0 +1,98 @@
+package smartLegalApi.infrastructure.ai.secoes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de latência: petição INICIAL gerada em uma única chamada vs. por seções em paralelo.
+ * 
+ * O provedor simulado segue o perfil de um LLM: tempo até o primeiro token mais um custo
+ * proporcional ao tamanho da saída (escala reduzida: 10 ms + 50 ms por 1000 caracteres, na
+ * proporção de ~1 s + 60 s para uma petição de 12 mil caracteres). Cada seção produz a sua fração
+ * da petição com 15% de sobra (títulos e transições).
+ * 
+ * Não roda com os testes. Para executar (após mvn test-compile):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main GeradorPeticaoPorSecoesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeradorPeticaoPorSecoesBenchmark {
+    
+    private static final long PRIMEIRO_TOKEN_MS = 10;
+    private static final double MS_POR_MIL_CARACTERES = 50;
+    private static final int TAMANHO_PETICAO = 12000;
+    private static final double SOBRA_POR_SECAO = 1.15;
+    
+    /** Seções simultâneas por petição (a INICIAL tem 9 seções) */
+    @Param({"4", "9"})
+    private int paralelismo;
+    
+    private ThreadPoolTaskExecutor executor;
+    private GeradorPeticaoPorSecoes gerador;
+    private String promptBase;
+    private int tamanhoSecao;
+    
+    @Setup
+    public void setup() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.getSecoes().setHabilitado(true);
+        properties.getSecoes().setParalelismo(paralelismo);
+        
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.initialize();
+        
+        PeticaoPromptService promptService = new PeticaoPromptService();
+        gerador = new GeradorPeticaoPorSecoes(promptService, properties, executor, new SimpleMeterRegistry());
+        promptBase = promptService.construirPrompt(TipoPeticao.INICIAL, "Cobrança de honorários em atraso", null);
+        tamanhoSecao = (int) (TAMANHO_PETICAO * SOBRA_POR_SECAO / promptService.planoSecoes(TipoPeticao.INICIAL).size());
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+    
+    @Benchmark
+    public int chamadaUnica() {
+        return simularChamada(promptBase, TAMANHO_PETICAO).length();
+    }
+    
+    @Benchmark
+    public int porSecoes() {
+        return gerador.gerar(TipoPeticao.INICIAL, promptBase, prompt -> simularChamada(prompt, tamanhoSecao)).length();
+    }
+    
+    private String simularChamada(String prompt, int caracteres) {
+        long duracaoMs = PRIMEIRO_TOKEN_MS + Math.round(caracteres * MS_POR_MIL_CARACTERES / 1000);
+        try {
+            Thread.sleep(duracaoMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Texto distinto por prompt, para a consolidação não tratar as seções como repetidas
+        return prompt.hashCode() + " " + "x".repeat(caracteres);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(GeradorPeticaoPorSecoesBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,147 @@
+package smartLegalApi.infrastructure.ai.secoes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.service.PeticaoPromptService;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GeradorPeticaoPorSecoes - Testes")
+class GeradorPeticaoPorSecoesTest {
+    
+    private static final Pattern PARTE = Pattern.compile("Redija APENAS a parte (\\d+)");
+    
+    private GeminiProperties properties;
+    private PeticaoPromptService promptService;
+    private ThreadPoolTaskExecutor executor;
+    private GeradorPeticaoPorSecoes gerador;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.getSecoes().setHabilitado(true);
+        properties.getSecoes().setParalelismo(3);
+        promptService = new PeticaoPromptService();
+        
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        
+        gerador = new GeradorPeticaoPorSecoes(promptService, properties, executor, new SimpleMeterRegistry());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+    
+    private static int parte(String prompt) {
+        Matcher matcher = PARTE.matcher(prompt);
+        assertThat(matcher.find()).isTrue();
+        return Integer.parseInt(matcher.group(1));
+    }
+    
+    @Test
+    @DisplayName("Deve derivar o plano de seções das instruções do tipo")
+    void deveDerivarPlanoDasInstrucoes() {
+        // Act
+        List<String> plano = promptService.planoSecoes(TipoPeticao.CONTESTACAO);
+        
+        // Assert
+        assertThat(plano).hasSize(7);
+        assertThat(plano.get(0)).isEqualTo("Preliminares");
+        assertThat(plano.get(6)).isEqualTo("Juntada de documentos");
+        assertThat(gerador.isAplicavel(TipoPeticao.CONTESTACAO)).isTrue();
+        assertThat(gerador.isAplicavel(TipoPeticao.HABEAS_CORPUS)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Prompt da seção deve levar só o contexto do caso e a instrução da parte")
+    void promptSecaoDeveLevarSoContextoEParte() {
+        // Arrange
+        String promptBase = promptService.construirPrompt(TipoPeticao.INICIAL, "Cobrança de aluguéis atrasados", null);
+        List<String> plano = promptService.planoSecoes(TipoPeticao.INICIAL);
+        
+        // Act
+        String prompt = promptService.construirPromptSecao(TipoPeticao.INICIAL, promptBase, plano, 2);
+        
+        // Assert
+        assertThat(prompt).contains("CONTEXTO DO CASO:\nCobrança de aluguéis atrasados");
+        assertThat(prompt).contains("Redija APENAS a parte 3 (Exposição dos fatos de forma clara e cronológica)");
+        assertThat(prompt).doesNotContain("INSTRUÇÕES ESPECÍFICAS", "INSTRUÇÕES DE FORMATAÇÃO", "redija a petição completa");
+    }
+    
+    @Test
+    @DisplayName("Deve gerar as seções em paralelo e uni-las na ordem do plano")
+    void deveUnirSecoesNaOrdem() {
+        // Arrange
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger maximoSimultaneo = new AtomicInteger();
+        
+        // Act
+        String resultado = gerador.gerar(TipoPeticao.INICIAL, "Prompt base", prompt -> {
+            int simultaneas = emAndamento.incrementAndGet();
+            maximoSimultaneo.accumulateAndGet(simultaneas, Math::max);
+            try {
+                int parte = parte(prompt);
+                // Seções iniciais mais lentas: a ordem de conclusão difere da ordem do plano
+                Thread.sleep(60L - parte * 5L);
+                return "SEÇÃO " + parte;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                emAndamento.decrementAndGet();
+            }
+        });
+        
+        // Assert
+        assertThat(resultado).startsWith("SEÇÃO 1\n\nSEÇÃO 2\n\n").endsWith("SEÇÃO 9");
+        assertThat(maximoSimultaneo.get()).isBetween(2, 3);
+    }
+    
+    @Test
+    @DisplayName("Deve remover endereçamentos, fechos e parágrafos repetidos pelas seções")
+    void deveConsolidarSemRepeticoes() {
+        // Arrange
+        String qualificacao = "FULANO DE TAL, brasileiro, casado, inscrito no CPF sob o nº 000.000.000-00, residente na Rua X";
+        List<String> textos = List.of(
+            "EXCELENTÍSSIMO SENHOR DOUTOR JUIZ\n\n" + qualificacao,
+            "EXCELENTÍSSIMO SENHOR DOUTOR JUIZ\n\nDOS FATOS\n\n" + qualificacao + "\n\nO réu não pagou.\n\nNestes termos,\npede deferimento.",
+            "DOS PEDIDOS\n\nRequer a procedência.\n\nNestes termos,\npede deferimento."
+        );
+        
+        // Act
+        String resultado = gerador.consolidar(textos);
+        
+        // Assert
+        assertThat(resultado).isEqualTo("EXCELENTÍSSIMO SENHOR DOUTOR JUIZ\n\n" + qualificacao
+            + "\n\nDOS FATOS\n\nO réu não pagou.\n\nDOS PEDIDOS\n\nRequer a procedência.\n\nNestes termos,\npede deferimento.");
+    }
+    
+    @Test
+    @DisplayName("Deve falhar a geração quando uma seção falha")
+    void deveFalharQuandoSecaoFalha() {
+        // Act & Assert
+        assertThatThrownBy(() -> gerador.gerar(TipoPeticao.RECURSO, "Prompt base", prompt -> {
+            if (parte(prompt) == 2) {
+                throw new ErroGeracaoIAException("Falha na seção");
+            }
+            return "ok";
+        }))
+            .isInstanceOf(ErroGeracaoIAException.class)
+            .hasMessage("Falha na seção");
+    }
+}
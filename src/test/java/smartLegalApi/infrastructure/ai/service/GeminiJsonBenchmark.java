@@ -0,0 +1,109 @@
+package smartLegalApi.infrastructure.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de alocação: JSON da API Gemini em streaming (GeminiJson) vs. a abordagem anterior
+ * (HashMap + writeValueAsString na requisição, body.string() + readTree na resposta).
+ * 
+ * Não roda com os testes. Para executar (após mvn test-compile):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main GeminiJsonBenchmark -prof gc
+ * Compare a métrica gc.alloc.rate.norm (bytes alocados por operação).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeminiJsonBenchmark {
+    
+    /** Tamanho aproximado da saída em caracteres (~4096 tokens) */
+    @Param({"16000"})
+    private int tamanhoTexto;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private String prompt;
+    private byte[] resposta;
+    
+    @Setup
+    public void setup() throws IOException {
+        StringBuilder texto = new StringBuilder();
+        while (texto.length() < tamanhoTexto) {
+            texto.append("EXCELENTÍSSIMO SENHOR DOUTOR JUIZ DE DIREITO DA VARA CÍVEL. ");
+        }
+        prompt = texto.substring(0, tamanhoTexto / 4);
+        
+        Map<String, Object> part = Map.of("text", texto.toString());
+        Map<String, Object> candidate = Map.of(
+            "content", Map.of("parts", new Object[]{part}, "role", "model"),
+            "finishReason", "STOP"
+        );
+        resposta = objectMapper.writeValueAsBytes(Map.of(
+            "candidates", new Object[]{candidate},
+            "usageMetadata", Map.of("totalTokenCount", 4096)
+        ));
+    }
+    
+    @Benchmark
+    public long requisicaoAnterior() throws IOException {
+        Map<String, Object> part = new HashMap<>();
+        part.put("text", prompt);
+        Map<String, Object> content = new HashMap<>();
+        content.put("parts", new Object[]{part});
+        Map<String, Object> generationConfig = new HashMap<>();
+        generationConfig.put("temperature", 0.7);
+        generationConfig.put("maxOutputTokens", 4096);
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("contents", new Object[]{content});
+        requestBody.put("generationConfig", generationConfig);
+        
+        String json = objectMapper.writeValueAsString(requestBody);
+        
+        Buffer sink = new Buffer();
+        sink.writeUtf8(json);
+        return sink.size();
+    }
+    
+    @Benchmark
+    public long requisicaoStreaming() throws IOException {
+        Buffer sink = new Buffer();
+        GeminiJson.corpoRequisicao(prompt, 0.7, 4096).writeTo(sink);
+        return sink.size();
+    }
+    
+    @Benchmark
+    public String respostaAnterior() throws IOException {
+        String responseBody = new Buffer().write(resposta).readUtf8();
+        JsonNode root = objectMapper.readTree(responseBody);
+        return root.get("candidates").get(0).get("content").get("parts").get(0).get("text").asText();
+    }
+    
+    @Benchmark
+    public String respostaStreaming() throws IOException {
+        return GeminiJson.extrairResposta(new Buffer().write(resposta).inputStream()).texto();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(GeminiJsonBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
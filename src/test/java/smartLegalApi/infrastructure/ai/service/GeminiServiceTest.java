@@ -0,0 +1,401 @@
+package smartLegalApi.infrastructure.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.domain.cliente.repository.ClienteRepository;
+import smartLegalApi.domain.peticao.exception.ErroGeracaoIAException;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.privacidade.AnonimizadorPrompt;
+import smartLegalApi.infrastructure.ai.resilience.DisjuntorIA;
+import smartLegalApi.infrastructure.ai.resilience.ExecutorResilienteIA;
+import smartLegalApi.infrastructure.ai.resilience.HedgeRequisicoesIA;
+import smartLegalApi.infrastructure.ai.resilience.LimitadorConcorrenciaAdaptativo;
+import smartLegalApi.infrastructure.ai.roteamento.RoteadorModelosIA;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do GeminiService contra um servidor HTTP local (sem acesso à API real)
+ */
+@DisplayName("GeminiService - Testes")
+class GeminiServiceTest {
+    
+    private MockWebServer servidor;
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private EstimadorTokens estimadorTokens;
+    private ClienteRepository clienteRepository;
+    private AnonimizadorPrompt anonimizador;
+    private GeminiService geminiService;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = new MockWebServer();
+        servidor.start();
+        
+        properties = new GeminiProperties();
+        properties.setApiKey("chave-teste");
+        properties.setModel("gemini-teste");
+        properties.setApiUrl(servidor.url("/v1beta/models").toString().replaceAll("/$", ""));
+        properties.getRetentativa().setEsperaInicialMs(1L);
+        
+        meterRegistry = new SimpleMeterRegistry();
+        clienteRepository = mock(ClienteRepository.class);
+        estimadorTokens = new EstimadorTokens(properties, meterRegistry);
+        estimadorTokens.inicializar();
+        LimitadorConcorrenciaAdaptativo limitador = new LimitadorConcorrenciaAdaptativo(properties, meterRegistry);
+        limitador.inicializar();
+        DisjuntorIA disjuntor = new DisjuntorIA(properties, meterRegistry);
+        disjuntor.inicializar();
+        anonimizador = new AnonimizadorPrompt(clienteRepository, properties, meterRegistry);
+        anonimizador.inicializar();
+        
+        geminiService = new GeminiService(
+            properties,
+            new ExecutorResilienteIA(limitador, disjuntor, properties, meterRegistry),
+            new HedgeRequisicoesIA(limitador, properties, meterRegistry),
+            estimadorTokens,
+            new RoteadorModelosIA(properties, meterRegistry),
+            anonimizador,
+            Optional.empty()
+        );
+        geminiService.inicializar();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        servidor.shutdown();
+    }
+    
+    private static String chunk(String texto) {
+        return "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + texto + "\"}],\"role\":\"model\"}}]}";
+    }
+    
+    @Test
+    @DisplayName("[Stream] Deve repassar cada trecho e retornar o texto completo")
+    void gerarConteudoStream_deveRepassarTrechos() throws InterruptedException {
+        // Arrange
+        String corpo = "data: " + chunk("EXCELENTÍSSIMO ") + "\r\n\r\n"
+            + "data: " + chunk("SENHOR JUIZ") + "\r\n\r\n"
+            + "data: {\"candidates\":[{\"finishReason\":\"STOP\"}],\"usageMetadata\":{\"totalTokenCount\":12}}\r\n\r\n";
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setChunkedBody(corpo, 16));
+        
+        List<String> trechos = new ArrayList<>();
+        
+        // Act
+        String resultado = geminiService.gerarConteudoStream("prompt", trechos::add);
+        
+        // Assert
+        assertThat(trechos).containsExactly("EXCELENTÍSSIMO ", "SENHOR JUIZ");
+        assertThat(resultado).isEqualTo("EXCELENTÍSSIMO SENHOR JUIZ");
+        
+        RecordedRequest request = servidor.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/v1beta/models/gemini-teste:streamGenerateContent?alt=sse&key=chave-teste");
+    }
+    
+    @Test
+    @DisplayName("[Stream] Deve processar último evento sem linha em branco final")
+    void gerarConteudoStream_deveProcessarUltimoEventoSemSeparador() {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody("data: " + chunk("Único trecho")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudoStream("prompt", t -> { });
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Único trecho");
+    }
+    
+    @Test
+    @DisplayName("[Stream] Deve lançar exceção quando a API retorna erro")
+    void gerarConteudoStream_deveLancarExcecaoEmErroHttp() {
+        // Arrange
+        servidor.enqueue(new MockResponse().setResponseCode(500).setBody("{\"error\":\"interno\"}"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudoStream("prompt", t -> { }))
+            .isInstanceOf(ErroGeracaoIAException.class)
+            .hasMessageContaining("500");
+    }
+    
+    @Test
+    @DisplayName("[Stream] Deve lançar exceção quando o stream não contém texto")
+    void gerarConteudoStream_deveLancarExcecaoSemTexto() {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody("data: {\"candidates\":[{\"finishReason\":\"SAFETY\"}]}\n\n"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudoStream("prompt", t -> { }))
+            .isInstanceOf(ErroGeracaoIAException.class);
+    }
+    
+    @Test
+    @DisplayName("[Unário] Deve extrair o texto de generateContent")
+    void gerarConteudo_deveExtrairTexto() {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("Petição completa")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo("prompt");
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Petição completa");
+    }
+    
+    @Test
+    @DisplayName("[Unário] Deve enviar o JSON esperado e ignorar campos fora do caminho do texto")
+    void gerarConteudo_deveEnviarJsonEIgnorarOutrosCampos() throws InterruptedException {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"promptFeedback\":{\"safetyRatings\":[{\"text\":\"x\"}]},"
+                + "\"candidates\":[{\"index\":0,\"safetyRatings\":[],"
+                + "\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"Texto com \\\"aspas\\\" e \\u00e7\"}]}}],"
+                + "\"usageMetadata\":{\"totalTokenCount\":7}}"));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo("Prompt com \"aspas\"\nem duas linhas");
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Texto com \"aspas\" e ç");
+        
+        RecordedRequest request = servidor.takeRequest();
+        assertThat(request.getHeader("Content-Type")).startsWith("application/json");
+        assertThat(request.getBody().readUtf8()).isEqualTo(
+            "{\"contents\":[{\"parts\":[{\"text\":\"Prompt com \\\"aspas\\\"\\nem duas linhas\"}]}],"
+                + "\"generationConfig\":{\"temperature\":0.7,\"maxOutputTokens\":4096}}");
+    }
+    
+    @Test
+    @DisplayName("[Unário] Deve lançar exceção quando a resposta não contém texto")
+    void gerarConteudo_deveLancarExcecaoSemTexto() {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"candidates\":[{\"finishReason\":\"SAFETY\"}]}"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudo("prompt"))
+            .isInstanceOf(ErroGeracaoIAException.class)
+            .hasMessageContaining("não contém texto");
+    }
+    
+    @Test
+    @DisplayName("[Tokens] Deve informar os tokens cobrados mesmo quando a resposta não contém texto")
+    void gerarConteudo_deveInformarTokensDeRespostaSemTexto() {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"candidates\":[{\"finishReason\":\"SAFETY\"}],"
+                + "\"usageMetadata\":{\"promptTokenCount\":40,\"totalTokenCount\":40}}"));
+        TokensConsumidos tokens = new TokensConsumidos();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudo("prompt", null, tokens))
+            .isInstanceOf(ErroGeracaoIAException.class);
+        assertThat(tokens.isInformado()).isTrue();
+        assertThat(tokens.getEntrada()).isEqualTo(40);
+        assertThat(tokens.getSaida()).isZero();
+    }
+    
+    @Test
+    @DisplayName("[Unário] Deve repetir a chamada após 429 respeitando o Retry-After")
+    void gerarConteudo_deveRepetirAposLimiteDeTaxa() {
+        // Arrange
+        servidor.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        servidor.enqueue(new MockResponse().setResponseCode(503));
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("Petição após retentativa")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo("prompt");
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Petição após retentativa");
+        assertThat(servidor.getRequestCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("smartlegal.ia.retentativas", "status", "429").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Unário] Não deve repetir erros do cliente (4xx)")
+    void gerarConteudo_naoDeveRepetirErroDoCliente() {
+        // Arrange
+        servidor.enqueue(new MockResponse().setResponseCode(400).setBody("{\"error\":\"prompt inválido\"}"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudo("prompt"))
+            .isInstanceOf(ErroGeracaoIAException.class)
+            .hasMessageContaining("400");
+        assertThat(servidor.getRequestCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Unário] Deve desistir quando o Retry-After excede a espera máxima")
+    void gerarConteudo_deveDesistirComRetryAfterLongo() {
+        // Arrange
+        servidor.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "3600"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudo("prompt"))
+            .isInstanceOf(ErroGeracaoIAException.class)
+            .hasMessageContaining("429");
+        assertThat(servidor.getRequestCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Tokens] Deve registrar a contagem real de tokens do usageMetadata")
+    void gerarConteudo_deveRegistrarTokensReais() {
+        // Arrange
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Petição\"}]}}],"
+                + "\"usageMetadata\":{\"promptTokenCount\":40,\"candidatesTokenCount\":3,\"totalTokenCount\":43}}"));
+        
+        // Act
+        geminiService.gerarConteudo("um prompt curto de exemplo para estimar");
+        
+        // Assert
+        assertThat(meterRegistry.get("smartlegal.ia.tokens.prompt").tag("origem", "real").summary().totalAmount())
+            .isEqualTo(40);
+        assertThat(estimadorTokens.getFatorCorrecao()).isGreaterThan(1.0);
+    }
+    
+    @Test
+    @DisplayName("[Hedge] Deve usar a resposta da segunda chamada quando a primeira demora")
+    void gerarConteudo_deveVencerComHedge() {
+        // Arrange
+        properties.getHedge().setHabilitado(true);
+        properties.getHedge().setAtrasoInicialMs(100L);
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("Resposta lenta"))
+            .setHeadersDelay(3, TimeUnit.SECONDS));
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("Resposta do hedge")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo("prompt");
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Resposta do hedge");
+        assertThat(servidor.getRequestCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("smartlegal.ia.hedge.vencedor", "origem", "hedge").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Hedge] Não deve disparar segunda chamada quando a primeira responde a tempo")
+    void gerarConteudo_naoDeveDispararHedgeComRespostaRapida() {
+        // Arrange
+        properties.getHedge().setHabilitado(true);
+        properties.getHedge().setAtrasoInicialMs(5000L);
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("Resposta rápida")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo("prompt");
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Resposta rápida");
+        assertThat(servidor.getRequestCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("smartlegal.ia.hedge.disparos").count()).isZero();
+    }
+    
+    @Test
+    @DisplayName("[Roteamento] Deve usar o modelo rápido e cair para o de qualidade quando ele falha")
+    void gerarConteudo_deveCairParaModeloAlternativo() throws InterruptedException {
+        // Arrange
+        properties.getRoteamento().setHabilitado(true);
+        properties.getRoteamento().setModeloRapido("modelo-rapido");
+        properties.getRoteamento().setModeloQualidade("modelo-qualidade");
+        properties.getRetentativa().setMaxTentativas(1);
+        servidor.enqueue(new MockResponse().setResponseCode(500));
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("Petição do modelo de qualidade")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo(
+            "prompt", new PerfilGeracao(TipoPeticao.MANIFESTACAO, NivelLatencia.RAPIDA));
+        
+        // Assert
+        assertThat(resultado).isEqualTo("Petição do modelo de qualidade");
+        assertThat(servidor.takeRequest().getPath()).startsWith("/v1beta/models/modelo-rapido:generateContent");
+        assertThat(servidor.takeRequest().getPath()).startsWith("/v1beta/models/modelo-qualidade:generateContent");
+        assertThat(meterRegistry.counter("smartlegal.ia.roteamento.fallback",
+            "de", "modelo-rapido", "para", "modelo-qualidade").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Roteamento] Não deve trocar de modelo no streaming depois do primeiro trecho")
+    void gerarConteudoStream_naoDeveTrocarModeloAposPrimeiroTrecho() {
+        // Arrange
+        properties.getRoteamento().setHabilitado(true);
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody("data: " + chunk("Início") + "\n\ndata: {inválido"));
+        
+        List<String> trechos = new ArrayList<>();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> geminiService.gerarConteudoStream(
+            "prompt", new PerfilGeracao(TipoPeticao.MANIFESTACAO, NivelLatencia.RAPIDA), trechos::add))
+            .isInstanceOf(ErroGeracaoIAException.class);
+        assertThat(trechos).containsExactly("Início");
+        assertThat(servidor.getRequestCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("[Anonimização] Não deve enviar dados pessoais e deve restaurá-los no texto gerado")
+    void gerarConteudo_deveAnonimizarERestaurar() throws InterruptedException {
+        // Arrange
+        doAnswer(invocacao -> {
+            invocacao.<Consumer<String>>getArgument(1).accept("Maria Aparecida Souza");
+            return null;
+        }).when(clienteRepository).percorrerNomes(anyInt(), any());
+        anonimizador.atualizarNomes();
+        servidor.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(chunk("[NOME_1], CPF [CPF_1], vem propor a presente ação")));
+        
+        // Act
+        String resultado = geminiService.gerarConteudo("Autora: MARIA APARECIDA SOUZA, CPF 529.982.247-25");
+        
+        // Assert
+        String enviado = servidor.takeRequest().getBody().readUtf8();
+        assertThat(enviado).contains("Autora: [NOME_1], CPF [CPF_1]").doesNotContain("529.982.247-25");
+        assertThat(resultado).isEqualTo("MARIA APARECIDA SOUZA, CPF 529.982.247-25, vem propor a presente ação");
+    }
+}
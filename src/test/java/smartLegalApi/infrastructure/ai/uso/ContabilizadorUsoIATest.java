@@ -0,0 +1,201 @@
+package smartLegalApi.infrastructure.ai.uso;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import smartLegalApi.domain.peticao.exception.CotaIAExcedidaException;
+import smartLegalApi.domain.peticao.valueobject.NivelLatencia;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.ai.config.GeminiProperties;
+import smartLegalApi.infrastructure.ai.contexto.EstimadorTokens;
+import smartLegalApi.infrastructure.ai.service.PerfilGeracao;
+import smartLegalApi.infrastructure.ai.service.TokensConsumidos;
+import smartLegalApi.infrastructure.persistence.jpa.entity.UsoIAAdvogadoJpaEntity;
+import smartLegalApi.infrastructure.persistence.jpa.repository.UsoIAAdvogadoJpaRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes da contabilização de consumo e das cotas da IA por advogado
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContabilizadorUsoIA - Testes")
+class ContabilizadorUsoIATest {
+    
+    private static final Long ID_ADVOGADO = 7L;
+    
+    @Mock
+    private UsoIAAdvogadoJpaRepository usoRepository;
+    
+    private GeminiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ContabilizadorUsoIA contabilizador;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        EstimadorTokens estimadorTokens = new EstimadorTokens(properties, meterRegistry);
+        estimadorTokens.inicializar();
+        contabilizador = new ContabilizadorUsoIA(usoRepository, estimadorTokens, properties, meterRegistry);
+        
+        lenient().when(usoRepository.somarTokens(eq(ID_ADVOGADO), any(), any())).thenReturn(0L);
+        lenient().when(usoRepository.findByIdAdvogadoAndData(eq(ID_ADVOGADO), any())).thenReturn(Optional.empty());
+    }
+    
+    @Test
+    @DisplayName("Deve somar o consumo gravado ao ainda pendente")
+    void consultar_deveSomarGravadoEPendente() {
+        // Arrange
+        when(usoRepository.somarTokens(eq(ID_ADVOGADO), any(), any())).thenReturn(1000L);
+        when(usoRepository.findByIdAdvogadoAndData(eq(ID_ADVOGADO), any())).thenReturn(Optional.of(
+            UsoIAAdvogadoJpaEntity.builder()
+                .idAdvogado(ID_ADVOGADO)
+                .data(LocalDate.now())
+                .requisicoes(2L)
+                .tokensEntrada(60L)
+                .tokensSaida(40L)
+                .dataAtualizacao(LocalDateTime.now())
+                .build()));
+        
+        // Act
+        contabilizador.registrar(ID_ADVOGADO, 30, 20);
+        ConsumoIA consumo = contabilizador.consultar(ID_ADVOGADO);
+        
+        // Assert
+        assertThat(consumo.requisicoesDia()).isEqualTo(3);
+        assertThat(consumo.tokensDia()).isEqualTo(150);
+        assertThat(consumo.tokensMes()).isEqualTo(1150);
+    }
+    
+    @Test
+    @DisplayName("Deve recusar a chamada quando a cota diária de tokens foi atingida")
+    void executar_deveRecusarComCotaDiariaAtingida() {
+        // Arrange
+        properties.getUso().setCotaTokensDiaria(100L);
+        contabilizador.registrar(ID_ADVOGADO, 80, 20);
+        PerfilGeracao perfil = new PerfilGeracao(TipoPeticao.INICIAL, NivelLatencia.PADRAO, ID_ADVOGADO);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> contabilizador.executar(perfil, "prompt", tokens -> "resposta"))
+            .isInstanceOf(CotaIAExcedidaException.class)
+            .hasMessageContaining("diária")
+            .satisfies(e -> assertThat(((CotaIAExcedidaException) e).getSegundosParaNovaTentativa()).isPositive());
+        assertThat(meterRegistry.counter("smartlegal.ia.uso.cota_excedida", "periodo", "diária").count())
+            .isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve contabilizar a chamada executada dentro da cota")
+    void executar_deveContabilizarChamada() {
+        // Arrange
+        properties.getUso().setCotaRequisicoesDiaria(5L);
+        PerfilGeracao perfil = new PerfilGeracao(TipoPeticao.INICIAL, NivelLatencia.PADRAO, ID_ADVOGADO);
+        
+        // Act
+        String resposta = contabilizador.executar(perfil, "um prompt de exemplo", tokens -> "uma resposta de exemplo");
+        
+        // Assert
+        assertThat(resposta).isEqualTo("uma resposta de exemplo");
+        ConsumoIA consumo = contabilizador.consultar(ID_ADVOGADO);
+        assertThat(consumo.requisicoesDia()).isEqualTo(1);
+        assertThat(consumo.tokensDia()).isPositive();
+    }
+    
+    @Test
+    @DisplayName("Deve contabilizar os tokens informados pelo provedor em vez da estimativa")
+    void executar_deveUsarContagemDoProvedor() {
+        // Arrange
+        PerfilGeracao perfil = new PerfilGeracao(TipoPeticao.INICIAL, NivelLatencia.PADRAO, ID_ADVOGADO);
+        
+        // Act
+        contabilizador.executar(perfil, "um prompt de exemplo", tokens -> {
+            tokens.registrar(1200, 800);
+            return "uma resposta de exemplo";
+        });
+        
+        // Assert
+        assertThat(contabilizador.consultar(ID_ADVOGADO).tokensDia()).isEqualTo(2000);
+        assertThat(meterRegistry.counter("smartlegal.ia.uso.tokens", "tipo", "saida").count()).isEqualTo(800);
+    }
+    
+    @Test
+    @DisplayName("Deve contabilizar chamadas que falharam depois de cobradas pelo provedor")
+    void executar_deveContabilizarFalhaCobrada() {
+        // Arrange
+        PerfilGeracao perfil = new PerfilGeracao(TipoPeticao.INICIAL, NivelLatencia.PADRAO, ID_ADVOGADO);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> contabilizador.executar(perfil, "prompt", tokens -> {
+            tokens.registrar(500, 0);
+            throw new IllegalStateException("Resposta da API não contém texto");
+        })).isInstanceOf(IllegalStateException.class);
+        
+        ConsumoIA consumo = contabilizador.consultar(ID_ADVOGADO);
+        assertThat(consumo.requisicoesDia()).isEqualTo(1);
+        assertThat(consumo.tokensDia()).isEqualTo(500);
+    }
+    
+    @Test
+    @DisplayName("Não deve contabilizar chamadas sem advogado identificado")
+    void executar_naoDeveContabilizarSemAdvogado() {
+        // Act
+        String resposta = contabilizador.executar(PerfilGeracao.padrao(TipoPeticao.INICIAL), "prompt", tokens -> "resposta");
+        
+        // Assert
+        assertThat(resposta).isEqualTo("resposta");
+        verifyNoInteractions(usoRepository);
+    }
+    
+    @Test
+    @DisplayName("Deve gravar os pendentes em lote, criando o registro do dia quando não existe")
+    void descarregar_deveGravarPendentes() {
+        // Arrange
+        when(usoRepository.incrementar(eq(ID_ADVOGADO), any(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0);
+        contabilizador.registrar(ID_ADVOGADO, 30, 20);
+        contabilizador.registrar(ID_ADVOGADO, 10, 5);
+        
+        // Act
+        contabilizador.descarregar();
+        contabilizador.descarregar();
+        
+        // Assert
+        ArgumentCaptor<UsoIAAdvogadoJpaEntity> captor = ArgumentCaptor.forClass(UsoIAAdvogadoJpaEntity.class);
+        verify(usoRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getRequisicoes()).isEqualTo(2);
+        assertThat(captor.getValue().getTokensEntrada()).isEqualTo(40);
+        assertThat(captor.getValue().getTokensSaida()).isEqualTo(25);
+        assertThat(contabilizador.consultar(ID_ADVOGADO).tokensDia()).isEqualTo(65);
+    }
+    
+    @Test
+    @DisplayName("Deve manter os pendentes para a próxima descarga quando a gravação falha")
+    void descarregar_deveDevolverPendentesEmFalha() {
+        // Arrange
+        when(usoRepository.incrementar(eq(ID_ADVOGADO), any(), anyLong(), anyLong(), anyLong(), any()))
+            .thenThrow(new DataAccessResourceFailureException("banco indisponível"))
+            .thenReturn(1);
+        contabilizador.registrar(ID_ADVOGADO, 30, 20);
+        
+        // Act
+        contabilizador.descarregar();
+        contabilizador.descarregar();
+        
+        // Assert
+        verify(usoRepository, times(2)).incrementar(eq(ID_ADVOGADO), any(), eq(1L), eq(30L), eq(20L), any());
+        assertThat(contabilizador.consultar(ID_ADVOGADO).tokensDia()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,87 @@
+package smartLegalApi.infrastructure.document.modelo;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import smartLegalApi.domain.advogado.entity.Advogado;
+import smartLegalApi.domain.cliente.entity.Cliente;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.valueobject.NumeroProcesso;
+import smartLegalApi.domain.processo.valueobject.StatusProcesso;
+import smartLegalApi.domain.shared.valueobject.OAB;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do preenchimento de um modelo de ~3 páginas com ~40 campos: plano compilado
+ * vs. ler o modelo e substituir cada campo no texto a cada petição.
+ *
+ * Não roda com os testes. Para executar (após mvn test-compile):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main ModeloPeticaoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModeloPeticaoBenchmark {
+    
+    private static final String PARAGRAFO = "{{cliente.nome}}, já qualificado(a) nos autos do processo nº "
+        + "{{processo.numero}}, por seu advogado {{advogado.nome}} (OAB {{advogado.oab}}), vem, respeitosamente, "
+        + "à presença de Vossa Excelência, expor e requerer o que segue, nos termos da legislação aplicável "
+        + "e conforme os documentos que instruem a presente manifestação.\n\n";
+    
+    private String fonte;
+    private ModeloCompilado compilado;
+    private DadosModelo dados;
+    
+    @Setup
+    public void preparar() {
+        fonte = PARAGRAFO.repeat(10) + "{{data.extenso}}.\n\n{{advogado.nome}}\nOAB {{advogado.oab}}";
+        compilado = ModeloCompilado.compilar(fonte);
+        
+        dados = new DadosModelo(
+            Peticao.criar(1L, 1L, TipoPeticao.MANIFESTACAO, "Juntada de documentos"),
+            Processo.builder()
+                .numeroProcesso(new NumeroProcesso("0000000-00.0000.0.00.0000"))
+                .titulo("Ação de Cobrança")
+                .status(StatusProcesso.ATIVO)
+                .build(),
+            Cliente.builder().nomeCompleto("Maria da Silva").build(),
+            Advogado.builder().nome("Dr. João").oab(new OAB("SP123456")).build(),
+            LocalDate.of(2024, 3, 5)
+        );
+    }
+    
+    @Benchmark
+    public String planoCompilado() {
+        return compilado.renderizar(dados);
+    }
+    
+    @Benchmark
+    public String substituicaoPorCampo() {
+        String texto = fonte;
+        for (CampoModelo campo : CampoModelo.values()) {
+            String chave = "{{" + campo.getChave() + "}}";
+            if (texto.contains(chave)) {
+                String valor = campo.ler(dados);
+                texto = texto.replace(chave, valor != null ? valor : "[" + campo.getChave() + " não informado]");
+            }
+        }
+        return texto;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ModeloPeticaoBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,123 @@
+package smartLegalApi.infrastructure.document.modelo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smartLegalApi.domain.advogado.entity.Advogado;
+import smartLegalApi.domain.cliente.entity.Cliente;
+import smartLegalApi.domain.cliente.valueobject.CpfCnpj;
+import smartLegalApi.domain.peticao.entity.ModeloPeticao;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.domain.processo.entity.Processo;
+import smartLegalApi.domain.processo.valueobject.NumeroProcesso;
+import smartLegalApi.domain.processo.valueobject.StatusProcesso;
+import smartLegalApi.domain.shared.exception.BusinessRuleException;
+import smartLegalApi.domain.shared.valueobject.OAB;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do preenchimento de petições a partir de modelos
+ */
+@DisplayName("MotorModelosPeticao - Testes")
+class MotorModelosPeticaoTest {
+    
+    private MotorModelosPeticao motor;
+    private DadosModelo dados;
+    
+    @BeforeEach
+    void setUp() {
+        motor = new MotorModelosPeticao(new SimpleMeterRegistry());
+        motor.inicializar();
+        
+        Peticao peticao = Peticao.criar(1L, 1L, TipoPeticao.MANIFESTACAO, "Juntada de documentos");
+        Processo processo = Processo.builder()
+            .id(1L)
+            .numeroProcesso(new NumeroProcesso("0000000-00.0000.0.00.0000"))
+            .titulo("Ação de Cobrança")
+            .status(StatusProcesso.ATIVO)
+            .idCliente(1L)
+            .build();
+        Cliente cliente = Cliente.builder()
+            .id(1L)
+            .nomeCompleto("Maria da Silva")
+            .cpfCnpj(new CpfCnpj("11144477735"))
+            .build();
+        Advogado advogado = Advogado.builder()
+            .id(1L)
+            .nome("Dr. João")
+            .oab(new OAB("SP123456"))
+            .build();
+        dados = new DadosModelo(peticao, processo, cliente, advogado, LocalDate.of(2024, 3, 5));
+    }
+    
+    @Test
+    @DisplayName("Deve preencher os campos do processo, do cliente e do advogado")
+    void renderizar_devePreencherCampos() {
+        // Arrange
+        ModeloCompilado modelo = ModeloCompilado.compilar(
+            "Processo nº {{processo.numero}}\n\n{{ cliente.nome }} ({{cliente.cpfCnpj}}), por seu advogado "
+                + "{{advogado.nome}}, OAB {{advogado.oab}}.\n\n{{data.extenso}}.");
+        
+        // Act
+        String texto = motor.renderizar(modelo, dados);
+        
+        // Assert
+        assertThat(texto).isEqualTo("Processo nº 0000000-00.0000.0.00.0000\n\nMaria da Silva (111.444.777-35), "
+            + "por seu advogado Dr. João, OAB " + new OAB("SP123456").formatado() + ".\n\n5 de março de 2024.");
+        assertThat(modelo.usa(CampoModelo.Origem.CLIENTE)).isTrue();
+        assertThat(modelo.usa(CampoModelo.Origem.PETICAO)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve marcar campos sem valor para ficarem visíveis na revisão")
+    void renderizar_deveMarcarCamposSemValor() {
+        // Arrange
+        ModeloCompilado modelo = ModeloCompilado.compilar("E-mail: {{cliente.email}}. Advogado: {{advogado.nome}}");
+        DadosModelo semAdvogado = new DadosModelo(dados.peticao(), dados.processo(), dados.cliente(), null, dados.data());
+        
+        // Act
+        String texto = modelo.renderizar(semAdvogado);
+        
+        // Assert
+        assertThat(texto).isEqualTo("E-mail: [cliente.email não informado]. Advogado: [advogado.nome não informado]");
+    }
+    
+    @Test
+    @DisplayName("Deve recusar modelo com campo desconhecido ou sem fechamento")
+    void compilar_deveRecusarModeloInvalido() {
+        assertThatThrownBy(() -> motor.validar("Linha 1\n{{cliente.cpf}}"))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("{{cliente.cpf}}")
+            .hasMessageContaining("linha 2")
+            .hasMessageContaining("cliente.cpfCnpj");
+        
+        assertThatThrownBy(() -> motor.validar("Processo {{processo.numero"))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("sem fechamento");
+    }
+    
+    @Test
+    @DisplayName("Deve reutilizar o plano do modelo até o texto ser alterado")
+    void compilar_deveReutilizarPlano() {
+        // Arrange
+        ModeloPeticao modelo = ModeloPeticao.criar(TipoPeticao.MANIFESTACAO, "Ciência", "Ciente. {{data.hoje}}");
+        modelo.setId(1L);
+        
+        // Act
+        ModeloCompilado primeiro = motor.compilar(modelo);
+        ModeloCompilado segundo = motor.compilar(modelo);
+        modelo.atualizar("Ciência", "Ciente, nada a requerer. {{data.hoje}}");
+        ModeloCompilado alterado = motor.compilar(modelo);
+        
+        // Assert
+        assertThat(segundo).isSameAs(primeiro);
+        assertThat(alterado).isNotSameAs(primeiro);
+        assertThat(alterado.renderizar(dados)).isEqualTo("Ciente, nada a requerer. 05/03/2024");
+    }
+}
@@ -0,0 +1,123 @@
+package smartLegalApi.infrastructure.document.renderizacao;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.repository.PeticaoRepository;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+import smartLegalApi.infrastructure.document.service.DocumentoWordService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do reaproveitamento do documento pré-renderizado na aprovação
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PreRenderizadorDocumentos - Testes")
+class PreRenderizadorDocumentosTest {
+    
+    @Mock
+    private PeticaoRepository peticaoRepository;
+    
+    @Mock
+    private DocumentoWordService documentoWordService;
+    
+    @TempDir
+    Path diretorio;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PreRenderizadorDocumentos preRenderizador;
+    private Peticao peticao;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        DocumentoProperties properties = new DocumentoProperties();
+        properties.getPreRenderizacao().setDiretorio(diretorio.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        preRenderizador = new PreRenderizadorDocumentos(peticaoRepository, documentoWordService, properties, meterRegistry);
+        preRenderizador.inicializar();
+        
+        peticao = Peticao.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança")
+            .conteudo("Conteúdo aprovado")
+            .status(StatusPeticao.APROVADA)
+            .dataCriacao(LocalDateTime.now())
+            .build();
+        
+        lenient().when(documentoWordService.chaveDocumento(any()))
+            .thenAnswer(inv -> Integer.toHexString(inv.<Peticao>getArgument(0).getConteudo().hashCode()));
+        lenient().doAnswer(inv -> Files.writeString(inv.getArgument(1), "docx"))
+            .when(documentoWordService).gravarDocumento(any(), any());
+        lenient().when(documentoWordService.adotarDocumento(any(), any())).thenReturn("/documentos/adotado.docx");
+        lenient().when(documentoWordService.gerarDocumento(any())).thenReturn("/documentos/gerado.docx");
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        preRenderizador.encerrar();
+    }
+    
+    @Test
+    @DisplayName("Deve reaproveitar o documento pré-renderizado quando o conteúdo não mudou")
+    void obterDocumento_deveReaproveitarPreRenderizado() {
+        // Arrange
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        preRenderizador.preRenderizar(1L);
+        
+        // Act
+        String caminho = preRenderizador.obterDocumento(peticao);
+        
+        // Assert
+        assertThat(caminho).isEqualTo("/documentos/adotado.docx");
+        verify(documentoWordService).adotarDocumento(eq(peticao), any(Path.class));
+        verify(documentoWordService, never()).gerarDocumento(any());
+        assertThat(meterRegistry.get("smartlegal.documentos.pre_renderizacao.taxa_acerto").gauge().value()).isEqualTo(1.0);
+    }
+    
+    @Test
+    @DisplayName("Deve gerar de novo e descartar a pré-renderização quando o conteúdo mudou após a aprovação")
+    void obterDocumento_deveGerarDeNovoQuandoConteudoMudou() throws Exception {
+        // Arrange
+        when(peticaoRepository.findById(1L)).thenReturn(Optional.of(peticao));
+        preRenderizador.preRenderizar(1L);
+        Peticao alterada = Peticao.builder()
+            .id(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança")
+            .conteudo("Conteúdo corrigido")
+            .status(StatusPeticao.APROVADA)
+            .build();
+        
+        // Act
+        String caminho = preRenderizador.obterDocumento(alterada);
+        
+        // Assert
+        assertThat(caminho).isEqualTo("/documentos/gerado.docx");
+        verify(documentoWordService, never()).adotarDocumento(any(), any());
+        try (var arquivos = Files.list(diretorio)) {
+            assertThat(arquivos).isEmpty();
+        }
+        assertThat(meterRegistry.get("smartlegal.documentos.pre_renderizacao.taxa_acerto").gauge().value()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,96 @@
+package smartLegalApi.infrastructure.document.service;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da conversão do conteúdo de uma petição de ~100 páginas (~300 mil caracteres, com
+ * seções, listas e negrito) em parágrafos do Word: conversor de markdown em uma passada vs. a
+ * divisão em blocos por "\n\n" com um run de texto puro por bloco (a conversão anterior).
+ * Com markdown=false o texto só tem parágrafos, e as duas conversões produzem o mesmo
+ * documento: a diferença é só a da leitura do texto.
+ *
+ * Não roda com os testes. Para executar (após mvn test-compile), com -prof gc para a alocação:
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main ConversorMarkdownWordBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversorMarkdownWordBenchmark {
+    
+    private static final int CARACTERES_POR_PAGINA = 3000;
+    private static final String PARAGRAFO = "Cumpre destacar que a parte autora demonstrou de forma **inequívoca** "
+        + "os fatos constitutivos do seu direito, conforme os documentos acostados aos autos, não havendo "
+        + "controvérsia quanto à relação jurídica entre as partes, nos termos do *art. 373, I, do CPC*.\n\n";
+    
+    @Param({"100"})
+    private int paginas;
+    
+    @Param({"true", "false"})
+    private boolean markdown;
+    
+    private String conteudo;
+    
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        StringBuilder texto = new StringBuilder();
+        int secao = 1;
+        while (texto.length() < paginas * CARACTERES_POR_PAGINA) {
+            texto.append(markdown ? "## " + secao + ". " : "").append("DOS FUNDAMENTOS ").append(secao++).append("\n\n");
+            for (int i = 0, n = 2 + random.nextInt(4); i < n; i++) {
+                texto.append(markdown ? PARAGRAFO : PARAGRAFO.replace("*", ""));
+            }
+            if (markdown && random.nextBoolean()) {
+                for (int i = 1; i <= 4; i++) {
+                    texto.append(i).append(". a condenação do réu ao pagamento da parcela ").append(i).append(";\n");
+                }
+                texto.append('\n');
+            }
+        }
+        conteudo = texto.toString();
+    }
+    
+    @Benchmark
+    public int passadaUnica() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            new ConversorMarkdownWord(document).converter(conteudo);
+            return document.getParagraphs().size();
+        }
+    }
+    
+    @Benchmark
+    public int divisaoPorBlocos() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            String[] paragrafos = conteudo.split("\n\n");
+            for (String paragrafoTexto : paragrafos) {
+                if (paragrafoTexto.trim().isEmpty()) continue;
+                
+                XWPFParagraph paragraph = document.createParagraph();
+                paragraph.setStyle(ModelosDocumentoWord.ESTILO_CORPO);
+                paragraph.createRun().setText(paragrafoTexto.trim());
+            }
+            return document.getParagraphs().size();
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ConversorMarkdownWordBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
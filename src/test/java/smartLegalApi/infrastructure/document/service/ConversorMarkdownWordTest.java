@@ -0,0 +1,118 @@
+package smartLegalApi.infrastructure.document.service;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes da conversão do markdown do conteúdo gerado em parágrafos do Word
+ */
+@DisplayName("ConversorMarkdownWord - Testes")
+class ConversorMarkdownWordTest {
+    
+    private XWPFDocument document;
+    
+    @BeforeEach
+    void setUp() {
+        document = new XWPFDocument();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        document.close();
+    }
+    
+    @Test
+    @DisplayName("Deve converter seções e ênfase em estilos e runs, sem deixar os marcadores no texto")
+    void converter_deveConverterSecoesEEnfase() {
+        // Arrange
+        String conteudo = "# DOS FATOS\r\n\r\nO réu **não pagou** as parcelas, conforme *extrato* anexo.\n\n"
+            + "## Do valor devido\n\nO total é de 2 * 3 parcelas, ver arquivo_extrato.pdf e \\*nota\\*.";
+        
+        // Act
+        new ConversorMarkdownWord(document).converter(conteudo);
+        
+        // Assert
+        List<XWPFParagraph> paragrafos = document.getParagraphs();
+        assertThat(paragrafos)
+            .extracting(XWPFParagraph::getStyle, XWPFParagraph::getText)
+            .containsExactly(
+                tuple(ModelosDocumentoWord.ESTILO_SECAO, "DOS FATOS"),
+                tuple(ModelosDocumentoWord.ESTILO_CORPO, "O réu não pagou as parcelas, conforme extrato anexo."),
+                tuple(ModelosDocumentoWord.ESTILO_SUBSECAO, "Do valor devido"),
+                tuple(ModelosDocumentoWord.ESTILO_CORPO, "O total é de 2 * 3 parcelas, ver arquivo_extrato.pdf e *nota*.")
+            );
+        assertThat(paragrafos.get(1).getRuns())
+            .extracting(XWPFRun::text, XWPFRun::isBold, XWPFRun::isItalic)
+            .containsExactly(
+                tuple("O réu ", false, false),
+                tuple("não pagou", true, false),
+                tuple(" as parcelas, conforme ", false, false),
+                tuple("extrato", false, true),
+                tuple(" anexo.", false, false)
+            );
+    }
+    
+    @Test
+    @DisplayName("Deve criar listas numeradas do Word que recomeçam a cada lista, com segundo nível recuado")
+    void converter_deveCriarListasNumeradas() {
+        // Arrange
+        String conteudo = "Requer:\n\n1. a citação do réu;\n   - por correio\n2. a procedência do pedido.\n\n"
+            + "Provas:\n\n1) documental;\n2) testemunhal.\n\n- item com marcador";
+        
+        // Act
+        new ConversorMarkdownWord(document).converter(conteudo);
+        
+        // Assert
+        List<XWPFParagraph> itens = document.getParagraphs().stream()
+            .filter(paragrafo -> ModelosDocumentoWord.ESTILO_ITEM_LISTA.equals(paragrafo.getStyle()))
+            .toList();
+        assertThat(itens)
+            .extracting(XWPFParagraph::getText, XWPFParagraph::getNumIlvl)
+            .containsExactly(
+                tuple("a citação do réu;", BigInteger.ZERO),
+                tuple("por correio", BigInteger.ONE),
+                tuple("a procedência do pedido.", BigInteger.ZERO),
+                tuple("documental;", BigInteger.ZERO),
+                tuple("testemunhal.", BigInteger.ZERO),
+                tuple("item com marcador", BigInteger.ZERO)
+            );
+        
+        // Mesma lista até o parágrafo "Provas:", que a encerra; a lista seguinte recomeça em 1
+        assertThat(itens.get(0).getNumID()).isEqualTo(itens.get(2).getNumID());
+        assertThat(itens.get(3).getNumID()).isEqualTo(itens.get(4).getNumID()).isNotEqualTo(itens.get(0).getNumID());
+        assertThat(itens.get(0).getNumFmt()).isEqualTo("decimal");
+        assertThat(itens.get(1).getNumFmt()).isEqualTo("bullet");
+        assertThat(itens.get(5).getNumFmt()).isEqualTo("bullet");
+        assertThat(document.getNumbering().getNum(itens.get(3).getNumID()).getCTNum().getLvlOverrideArray(0)
+            .getStartOverride().getVal()).isEqualTo(BigInteger.ONE);
+    }
+    
+    @Test
+    @DisplayName("Deve manter as quebras de linha simples dentro do parágrafo")
+    void converter_deveManterQuebrasDeLinha() {
+        // Arrange
+        String conteudo = "Termos em que,\npede deferimento.\n\n**Dr. João**\nOAB/SP 123.456";
+        
+        // Act
+        new ConversorMarkdownWord(document).converter(conteudo);
+        
+        // Assert
+        assertThat(document.getParagraphs()).extracting(XWPFParagraph::getText)
+            .containsExactly("Termos em que,\npede deferimento.", "Dr. João\nOAB/SP 123.456");
+        assertThat(document.getParagraphs().get(1).getRuns())
+            .extracting(XWPFRun::isBold)
+            .containsExactly(true, false);
+    }
+}
@@ -0,0 +1,147 @@
+package smartLegalApi.infrastructure.document.service;
+
+import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da geração do documento Word de uma petição de ~10 páginas (~60 parágrafos):
+ * cópia do modelo em cache com estilos nomeados vs. documento vazio formatado run a run
+ * (a geração anterior aos modelos, reproduzida aqui).
+ *
+ * Não roda com os testes. Para executar (após mvn test-compile), com -prof gc para a alocação
+ * por documento (gc.alloc.rate.norm):
+ *   mvn dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main DocumentoWordBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentoWordBenchmark {
+    
+    private static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final String PARAGRAFO = "Cumpre destacar que a parte autora demonstrou de forma inequívoca "
+        + "os fatos constitutivos do seu direito, conforme os documentos acostados aos autos, não havendo "
+        + "controvérsia quanto à relação jurídica entre as partes, nos termos do art. 373, I, do CPC.";
+    
+    @Param({"60"})
+    private int paragrafos;
+    
+    private DocumentoWordService service;
+    private Peticao peticao;
+    private ByteArrayOutputStream out;
+    
+    @Setup
+    public void preparar() {
+        ModelosDocumentoWord modelos = new ModelosDocumentoWord(new DocumentoProperties());
+        modelos.inicializar();
+        // Só escreve em memória: o armazenamento de arquivos não é usado
+        service = new DocumentoWordService(modelos, null);
+        
+        StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < paragrafos; i++) {
+            conteudo.append(PARAGRAFO).append("\n\n");
+        }
+        peticao = Peticao.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança")
+            .conteudo(conteudo.toString())
+            .status(StatusPeticao.REVISAO)
+            .dataCriacao(LocalDateTime.of(2024, 3, 5, 10, 0))
+            .build();
+        out = new ByteArrayOutputStream(64 * 1024);
+    }
+    
+    @Benchmark
+    public int modeloEmCache() throws IOException {
+        out.reset();
+        service.escreverDocumento(peticao, out);
+        return out.size();
+    }
+    
+    @Benchmark
+    public int formatacaoPorRun() throws IOException {
+        out.reset();
+        try (XWPFDocument document = new XWPFDocument()) {
+            XWPFParagraph titulo = document.createParagraph();
+            titulo.setAlignment(ParagraphAlignment.CENTER);
+            XWPFRun run = titulo.createRun();
+            run.setText(peticao.getTitulo().toUpperCase());
+            run.setBold(true);
+            run.setFontSize(16);
+            run.setFontFamily("Arial");
+            document.createParagraph();
+            
+            run = document.createParagraph().createRun();
+            run.setFontSize(10);
+            run.setFontFamily("Arial");
+            run.setText("Tipo: " + peticao.getTipo().getDescricao());
+            run.addBreak();
+            run.setText("Status: " + peticao.getStatus().getDescricao());
+            run.addBreak();
+            run.setText("Data de Criação: " + peticao.getDataCriacao().format(DATA));
+            
+            XWPFParagraph separador = document.createParagraph();
+            separador.setAlignment(ParagraphAlignment.CENTER);
+            run = separador.createRun();
+            run.setText("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            run.setColor("CCCCCC");
+            document.createParagraph();
+            
+            for (String texto : peticao.getConteudo().split("\n\n")) {
+                if (texto.trim().isEmpty()) continue;
+                XWPFParagraph paragraph = document.createParagraph();
+                paragraph.setAlignment(ParagraphAlignment.BOTH);
+                paragraph.setSpacingBefore(200);
+                paragraph.setSpacingAfter(200);
+                run = paragraph.createRun();
+                run.setFontSize(12);
+                run.setFontFamily("Times New Roman");
+                run.setText(texto.trim());
+            }
+            
+            document.createParagraph();
+            document.createParagraph();
+            XWPFParagraph rodape = document.createParagraph();
+            rodape.setAlignment(ParagraphAlignment.RIGHT);
+            run = rodape.createRun();
+            run.setFontSize(10);
+            run.setFontFamily("Arial");
+            run.setText("Documento gerado em: " + LocalDateTime.now().format(DATA));
+            run.setItalic(true);
+            run.setColor("666666");
+            
+            document.write(out);
+        }
+        return out.size();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(DocumentoWordBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
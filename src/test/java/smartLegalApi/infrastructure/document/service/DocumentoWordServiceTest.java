@@ -0,0 +1,159 @@
+package smartLegalApi.infrastructure.document.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.poi.xwpf.model.XWPFHeaderFooterPolicy;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFHeader;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFStyle;
+import org.apache.poi.xwpf.usermodel.XWPFStyles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTStyle;
+import smartLegalApi.domain.peticao.entity.Peticao;
+import smartLegalApi.domain.peticao.valueobject.StatusPeticao;
+import smartLegalApi.domain.peticao.valueobject.TipoPeticao;
+import smartLegalApi.infrastructure.document.config.DocumentoProperties;
+import smartLegalApi.infrastructure.storage.ArmazenamentoArquivos;
+import smartLegalApi.infrastructure.storage.config.ArmazenamentoProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da escrita e do download do documento Word da petição
+ */
+@DisplayName("DocumentoWordService - Testes")
+class DocumentoWordServiceTest {
+    
+    private ModelosDocumentoWord modelos;
+    private ArmazenamentoArquivos armazenamento;
+    private DocumentoWordService service;
+    private Peticao peticao;
+    
+    @BeforeEach
+    void setUp() {
+        modelos = new ModelosDocumentoWord(new DocumentoProperties());
+        modelos.inicializar();
+        armazenamento = new ArmazenamentoArquivos(new ArmazenamentoProperties(), null, new SimpleMeterRegistry(), null);
+        service = new DocumentoWordService(modelos, armazenamento);
+        peticao = Peticao.builder()
+            .id(1L)
+            .idProcesso(1L)
+            .idAdvogado(1L)
+            .tipo(TipoPeticao.INICIAL)
+            .titulo("Ação de Cobrança: Petição Inicial")
+            .conteudo("DOS FATOS\n\nO réu não pagou as parcelas.")
+            .status(StatusPeticao.REVISAO)
+            .dataCriacao(LocalDateTime.of(2024, 3, 5, 10, 0))
+            .build();
+    }
+    
+    @Test
+    @DisplayName("Deve escrever o documento no stream informado")
+    void escreverDocumento_deveEscreverNoStream() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        // Act
+        service.escreverDocumento(peticao, out);
+        
+        // Assert
+        try (XWPFDocument documento = new XWPFDocument(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(documento.getParagraphs()).extracting(XWPFParagraph::getText)
+                .contains("AÇÃO DE COBRANÇA: PETIÇÃO INICIAL", "O réu não pagou as parcelas.");
+            assertThat(documento.getParagraphs())
+                .filteredOn(paragrafo -> paragrafo.getText().equals("O réu não pagou as parcelas."))
+                .extracting(XWPFParagraph::getStyle)
+                .containsExactly(ModelosDocumentoWord.ESTILO_CORPO);
+            assertThat(documento.getStyles().getStyle(ModelosDocumentoWord.ESTILO_CORPO).getName())
+                .isEqualTo("Corpo da Petição");
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve usar o modelo do tipo de petição, mantendo seu timbre e estilos e completando os ausentes")
+    void escreverDocumento_deveUsarModeloDoTipo(@TempDir Path diretorio) throws Exception {
+        // Arrange
+        try (XWPFDocument modelo = new XWPFDocument();
+             OutputStream out = Files.newOutputStream(diretorio.resolve("inicial.docx"))) {
+            modelo.createHeaderFooterPolicy()
+                .createHeader(XWPFHeaderFooterPolicy.DEFAULT)
+                .createParagraph().createRun().setText("Silva & Souza Advogados");
+            XWPFStyles estilos = modelo.createStyles();
+            CTStyle corpo = CTStyle.Factory.newInstance();
+            corpo.setStyleId(ModelosDocumentoWord.ESTILO_CORPO);
+            corpo.addNewName().setVal("Corpo do Escritório");
+            estilos.addStyle(new XWPFStyle(corpo, estilos));
+            modelo.write(out);
+        }
+        DocumentoProperties properties = new DocumentoProperties();
+        properties.getModelos().setLocal(diretorio.toUri().toString());
+        ModelosDocumentoWord modelosDoEscritorio = new ModelosDocumentoWord(properties);
+        modelosDoEscritorio.inicializar();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        // Act
+        new DocumentoWordService(modelosDoEscritorio, armazenamento).escreverDocumento(peticao, out);
+        
+        // Assert
+        try (XWPFDocument documento = new XWPFDocument(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(documento.getHeaderList()).extracting(XWPFHeader::getText)
+                .anyMatch(texto -> texto.contains("Silva & Souza Advogados"));
+            assertThat(documento.getStyles().getStyle(ModelosDocumentoWord.ESTILO_CORPO).getName())
+                .isEqualTo("Corpo do Escritório");
+            assertThat(documento.getStyles().styleExist(ModelosDocumentoWord.ESTILO_TITULO)).isTrue();
+        }
+        try (XWPFDocument outroTipo = modelosDoEscritorio.novoDocumento(TipoPeticao.CONTESTACAO)) {
+            assertThat(outroTipo.getHeaderList()).isEmpty();
+        }
+    }
+    
+    @Test
+    @DisplayName("Sem arquivo, deve gerar na resposta com ETag fraca que muda com o conteúdo")
+    void abrirDocumento_semArquivo() {
+        // Act
+        DocumentoPeticao documento = service.abrirDocumento(peticao);
+        String etagRepetida = service.abrirDocumento(peticao).etag();
+        peticao.atualizarConteudo("DOS FATOS\n\nO réu pagou apenas uma parcela.");
+        String etagAlterada = service.abrirDocumento(peticao).etag();
+        
+        // Assert
+        assertThat(documento.isArquivo()).isFalse();
+        assertThat(documento.nomeArquivo()).isEqualTo("Ação de Cobrança Petição Inicial.docx");
+        assertThat(documento.etag()).startsWith("W/\"").isEqualTo(etagRepetida);
+        assertThat(etagAlterada).isNotEqualTo(documento.etag());
+    }
+    
+    @Test
+    @DisplayName("Com arquivo protocolado, deve usar ETag forte pelo hash e copiar trechos do arquivo")
+    void abrirDocumento_comArquivo(@TempDir Path diretorio) throws Exception {
+        // Arrange
+        Path arquivo = diretorio.resolve("peticao_1.docx");
+        Files.writeString(arquivo, "0123456789abcdef", StandardCharsets.US_ASCII);
+        peticao.setCaminhoDocumento(arquivo.toString());
+        ByteArrayOutputStream trecho = new ByteArrayOutputStream();
+        
+        // Act
+        DocumentoPeticao documento = service.abrirDocumento(peticao);
+        service.copiarArquivo(documento.arquivo(), 10, 4, trecho);
+        
+        // Assert
+        assertThat(documento.isArquivo()).isTrue();
+        assertThat(documento.tamanho()).isEqualTo(16);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(arquivo)));
+        assertThat(documento.etag()).isEqualTo("\"" + hash + "\"");
+        assertThat(trecho.toString(StandardCharsets.US_ASCII)).isEqualTo("abcd");
+    }
+}
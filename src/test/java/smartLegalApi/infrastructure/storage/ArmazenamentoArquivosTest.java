@@ -0,0 +1,144 @@
+package smartLegalApi.infrastructure.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import smartLegalApi.infrastructure.persistence.jpa.entity.ArquivoArmazenadoJpaEntity;
+import smartLegalApi.infrastructure.persistence.jpa.repository.ArquivoArmazenadoJpaRepository;
+import smartLegalApi.infrastructure.storage.config.ArmazenamentoProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do armazenamento de arquivos endereçado pelo conteúdo
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArmazenamentoArquivos - Testes")
+class ArmazenamentoArquivosTest {
+    
+    @Mock
+    private ArquivoArmazenadoJpaRepository arquivoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @TempDir
+    Path raiz;
+    
+    private ArmazenamentoArquivos armazenamento;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        ArmazenamentoProperties properties = new ArmazenamentoProperties();
+        properties.setRaiz(raiz.toString());
+        armazenamento = new ArmazenamentoArquivos(properties, arquivoRepository, new SimpleMeterRegistry(),
+            new TransactionTemplate(transactionManager));
+        armazenamento.inicializar();
+    }
+    
+    private static String sha256(String conteudo) throws Exception {
+        return HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-256").digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private List<Path> arquivosGravados() throws IOException {
+        try (Stream<Path> arquivos = Files.walk(raiz)) {
+            return arquivos.filter(Files::isRegularFile).toList();
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve gravar uma única vez por conteúdo, no diretório do hash, contando as referências")
+    void gravar_deveDeduplicarPorConteudo() throws Exception {
+        // Arrange
+        String hash = sha256("contrato assinado");
+        
+        // Act
+        ArquivoArmazenado primeiro = armazenamento.gravar(
+            new ByteArrayInputStream("contrato assinado".getBytes(StandardCharsets.UTF_8)));
+        ArquivoArmazenado segundo = armazenamento.gravar(
+            out -> out.write("contrato assinado".getBytes(StandardCharsets.UTF_8)));
+        
+        // Assert
+        assertThat(primeiro.hash()).isEqualTo(hash);
+        assertThat(primeiro.tamanho()).isEqualTo(17);
+        assertThat(primeiro.caminho()).isEqualTo(raiz.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash));
+        assertThat(segundo.caminho()).isEqualTo(primeiro.caminho());
+        assertThat(arquivosGravados()).containsExactly(primeiro.caminho());
+        assertThat(Files.readString(primeiro.caminho())).isEqualTo("contrato assinado");
+        verify(arquivoRepository, times(2)).adicionarReferencia(eq(hash), eq(17L), any());
+    }
+    
+    @Test
+    @DisplayName("Falha no meio da gravação não deve deixar arquivo nem referência")
+    void gravar_falhaNaoDeveDeixarArquivo() {
+        // Act & Assert
+        assertThatThrownBy(() -> armazenamento.gravar(out -> {
+            out.write("metade do conteú".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("conexão encerrada");
+        })).isInstanceOf(IOException.class);
+        
+        verifyNoInteractions(arquivoRepository);
+        assertThat(raiz.resolve("tmp")).isEmptyDirectory();
+    }
+    
+    @Test
+    @DisplayName("Deve liberar a referência apenas de caminhos do armazenamento")
+    void liberar_deveReconhecerCaminhosDoArmazenamento() throws Exception {
+        // Arrange
+        ArquivoArmazenado arquivo = armazenamento.gravar(out -> out.write(1));
+        when(arquivoRepository.removerReferencia(eq(arquivo.hash()), any())).thenReturn(1);
+        
+        // Act & Assert
+        assertThat(armazenamento.liberar(arquivo.caminho().toString())).isTrue();
+        assertThat(armazenamento.liberar(raiz.resolve("peticao_1_20240305_100000.docx").toString())).isFalse();
+        assertThat(armazenamento.hash(raiz.resolve("ab/cd").resolve(arquivo.hash()).toString())).isEmpty();
+        verify(arquivoRepository).removerReferencia(eq(arquivo.hash()), any());
+    }
+    
+    @Test
+    @DisplayName("A coleta deve excluir só arquivos que continuam sem referências")
+    void coletar_deveExcluirArquivosSemReferencias() throws Exception {
+        // Arrange
+        ArquivoArmazenado liberado = armazenamento.gravar(out -> out.write(1));
+        ArquivoArmazenado referenciado = armazenamento.gravar(out -> out.write(2));
+        when(arquivoRepository.findHashesSemReferencias(any(), any()))
+            .thenReturn(List.of(liberado.hash(), referenciado.hash()));
+        when(arquivoRepository.findSemReferenciasComTrava(liberado.hash()))
+            .thenReturn(Optional.of(new ArquivoArmazenadoJpaEntity()));
+        when(arquivoRepository.findSemReferenciasComTrava(referenciado.hash())).thenReturn(Optional.empty());
+        when(arquivoRepository.deleteSemReferencias(liberado.hash())).thenReturn(1);
+        
+        // Act
+        armazenamento.coletar();
+        
+        // Assert
+        assertThat(liberado.caminho()).doesNotExist();
+        assertThat(referenciado.caminho()).exists();
+        verify(arquivoRepository, times(2)).adicionarReferencia(any(), anyLong(), any());
+        verify(arquivoRepository, never()).deleteSemReferencias(referenciado.hash());
+    }
+}
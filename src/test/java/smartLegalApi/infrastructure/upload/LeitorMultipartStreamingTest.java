@@ -0,0 +1,111 @@
+package smartLegalApi.infrastructure.upload;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do LeitorMultipartStreaming e do ResolvedorMultipartSeletivo
+ */
+@DisplayName("Testes do LeitorMultipartStreaming")
+class LeitorMultipartStreamingTest {
+    
+    private static final String FRONTEIRA = "fronteira123";
+    
+    private MultipartProperties multipartProperties;
+    private LeitorMultipartStreaming leitor;
+    
+    @BeforeEach
+    void setUp() {
+        multipartProperties = new MultipartProperties();
+        leitor = new LeitorMultipartStreaming(multipartProperties);
+    }
+    
+    @Test
+    @DisplayName("Deve entregar o arquivo em streaming com os campos enviados antes dele")
+    void deveEntregarArquivoComCampos() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = requisicao(
+            campo("nomeDocumento", "Contrato") + campo("hashArquivo", "abc") + arquivo("arquivo", "conteudo do arquivo"));
+        
+        // Act
+        Optional<String> resultado = leitor.lerArquivo(request, "arquivo", (campos, arquivo) ->
+            campos.get("nomeDocumento") + "|" + campos.get("hashArquivo") + "|" + arquivo.nomeOriginal() + "|"
+                + arquivo.tipoConteudo() + "|" + new String(arquivo.conteudo().readAllBytes(), StandardCharsets.UTF_8));
+        
+        // Assert
+        assertThat(resultado).contains("Contrato|abc|contrato.pdf|application/pdf|conteudo do arquivo");
+    }
+    
+    @Test
+    @DisplayName("Deve retornar vazio quando a parte do arquivo não foi enviada")
+    void deveRetornarVazioSemArquivo() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = requisicao(campo("nomeDocumento", "Contrato"));
+        
+        // Act
+        Optional<String> resultado = leitor.lerArquivo(request, "arquivo", (campos, arquivo) -> "lido");
+        
+        // Assert
+        assertThat(resultado).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve converter o limite de tamanho excedido em MaxUploadSizeExceededException")
+    void deveRecusarArquivoAcimaDoLimite() {
+        // Arrange
+        multipartProperties.setMaxFileSize(DataSize.ofBytes(10));
+        MockHttpServletRequest request = requisicao(arquivo("arquivo", "conteudo maior que o limite"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> leitor.lerArquivo(request, "arquivo",
+            (campos, arquivo) -> arquivo.conteudo().readAllBytes().length))
+            .isInstanceOf(MaxUploadSizeExceededException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve deixar de resolver o multipart apenas nas rotas de streaming")
+    void deveIgnorarSomenteRotasDeStreaming() {
+        // Arrange
+        ResolvedorMultipartSeletivo resolver = new ResolvedorMultipartSeletivo(List.of("/api/processos/*/documentos"));
+        MockHttpServletRequest envio = requisicao("");
+        envio.setRequestURI("/api/processos/7/documentos");
+        MockHttpServletRequest outraRota = requisicao("");
+        outraRota.setRequestURI("/api/clientes/7/foto");
+        
+        // Act & Assert
+        assertThat(resolver.isMultipart(envio)).isFalse();
+        assertThat(resolver.isMultipart(outraRota)).isTrue();
+    }
+    
+    private static MockHttpServletRequest requisicao(String partes) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/processos/7/documentos");
+        request.setContentType("multipart/form-data; boundary=" + FRONTEIRA);
+        request.setContent((partes + "--" + FRONTEIRA + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+    
+    private static String campo(String nome, String valor) {
+        return "--" + FRONTEIRA + "\r\n"
+            + "Content-Disposition: form-data; name=\"" + nome + "\"\r\n\r\n"
+            + valor + "\r\n";
+    }
+    
+    private static String arquivo(String nome, String conteudo) {
+        return "--" + FRONTEIRA + "\r\n"
+            + "Content-Disposition: form-data; name=\"" + nome + "\"; filename=\"contrato.pdf\"\r\n"
+            + "Content-Type: application/pdf\r\n\r\n"
+            + conteudo + "\r\n";
+    }
+}